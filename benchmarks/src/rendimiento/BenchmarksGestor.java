@@ -0,0 +1,147 @@
+package rendimiento;
+
+import controlador.CronometrajeEnVivo;
+import controlador.GestorFormula1;
+import controlador.PredictorCampeonato;
+import controlador.ResultadoCarrera;
+import controlador.SimuladorCarrera;
+import controlador.ValidadorFormula1;
+import modelo.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Benchmarks de los caminos críticos de {@link GestorFormula1} y
+ * {@link ValidadorFormula1}.
+ * <p>
+ * Uso:
+ * </p>
+ *
+ * <pre>
+ * java -cp bin:benchmarks/bin rendimiento.BenchmarksGestor [temporadas] [carreras] [parrilla] [filtro]
+ * </pre>
+ * <p>
+ * Por defecto mide un campeonato de 5 temporadas × 22 carreras × 20 pilotos.
+ * El filtro opcional ejecuta sólo los casos cuyo nombre lo contiene.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BenchmarksGestor {
+
+    private static final int CALENTAMIENTO = 5;
+    private static final int MEDICION = 10;
+
+    /** Carreras finalizadas por iteración en el caso de finalizarCarrera */
+    private static final int CARRERAS_POR_ITERACION = 20;
+
+    /** Temporadas simuladas por operación en el caso de la predicción */
+    private static final int TEMPORADAS_PREDICCION = 10_000;
+
+    private BenchmarksGestor() {
+        // Clase con punto de entrada
+    }
+
+    public static void main(String[] args) throws IOException {
+        int temporadas = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int carreras = args.length > 1 ? Integer.parseInt(args[1]) : 22;
+        int parrilla = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        String filtro = args.length > 3 ? args[3] : null;
+
+        long inicio = System.nanoTime();
+        DatosSinteticos datos = DatosSinteticos.construir(temporadas, carreras, parrilla);
+        System.out.printf("Datos: %s, construidos en %d ms%n%n", datos, (System.nanoTime() - inicio) / 1_000_000);
+
+        GestorFormula1 gestor = datos.getGestor();
+        List<Piloto> pilotos = datos.getPilotos();
+        Piloto piloto = pilotos.get(0);
+        Piloto ultimoPiloto = pilotos.get(pilotos.size() - 1);
+        Auto autoUltimoPiloto = datos.getAutoPiloto(ultimoPiloto);
+        GranPremio carreraAbierta = datos.prepararCarreraConLugarLibre();
+        int temporadaMedia = datos.getTemporadas() / 2;
+
+        EjecutorBenchmarks ejecutor = new EjecutorBenchmarks(CALENTAMIENTO, MEDICION);
+
+        Deque<GranPremio> pendientes = new ArrayDeque<>();
+        ejecutor.agregar("GestorFormula1.finalizarCarrera",
+                () -> pendientes.addAll(datos.prepararCarrerasPendientes(CARRERAS_POR_ITERACION)),
+                CARRERAS_POR_ITERACION,
+                () -> {
+                    GranPremio granPremio = pendientes.poll();
+                    gestor.finalizarCarrera(granPremio);
+                    return granPremio;
+                });
+        // Cada operación finaliza un lote de CARRERAS_POR_ITERACION carreras
+        List<ResultadoCarrera> lote = new ArrayList<>();
+        ejecutor.agregar("GestorFormula1.establecerResultadosCarreras (lote)",
+                () -> {
+                    lote.clear();
+                    for (GranPremio granPremio : datos.prepararCarrerasPendientes(CARRERAS_POR_ITERACION)) {
+                        ResultadoCarrera resultado = new ResultadoCarrera(granPremio);
+                        for (Participacion participacion : granPremio.getParticipaciones()) {
+                            resultado.agregarPosicion(participacion.getPiloto().getNumero(),
+                                    participacion.getPosicionFinal());
+                        }
+                        lote.add(resultado);
+                    }
+                },
+                1,
+                () -> gestor.establecerResultadosCarreras(lote));
+        ejecutor.agregar("GestorFormula1.getRankingPilotos", 100, gestor::getRankingPilotos);
+        ejecutor.agregar("GestorFormula1.getResultadosEnRango (1 temporada)", 100,
+                () -> gestor.getResultadosEnRango(datos.getInicioTemporada(temporadaMedia),
+                        datos.getInicioTemporada(temporadaMedia + 1)));
+        ejecutor.agregar("GestorFormula1.getPodiosPiloto", 10_000, () -> gestor.getPodiosPiloto(piloto));
+        ejecutor.agregar("ValidadorFormula1.validarNuevaParticipacion", 10_000,
+                () -> ValidadorFormula1.validarNuevaParticipacion(ultimoPiloto, autoUltimoPiloto, carreraAbierta,
+                        gestor));
+        ejecutor.agregar("GestorFormula1.actualizarEscuderiasSegunContratos", 100, () -> {
+            gestor.actualizarEscuderiasSegunContratos();
+            return gestor;
+        });
+
+        SimuladorCarrera simulador = new SimuladorCarrera(1);
+        simulador.preparar(datos.prepararCarrerasPendientes(1).get(0));
+        ejecutor.agregar("SimuladorCarrera.simular", 1_000, () -> {
+            simulador.simular();
+            return simulador;
+        });
+
+        // Cada operación simula TEMPORADAS_PREDICCION temporadas de las carreras pendientes
+        PredictorCampeonato predictor = new PredictorCampeonato(gestor);
+        ejecutor.agregar("PredictorCampeonato.predecir (10.000 temporadas)", 1,
+                () -> predictor.predecir(TEMPORADAS_PREDICCION, 1));
+
+        // Cada operación reproduce por el pipeline un feed grabado completo, sin pausas
+        SimuladorCarrera grabacion = new SimuladorCarrera(1);
+        grabacion.preparar(datos.prepararCarrerasPendientes(1).get(0));
+        grabacion.simular();
+        StringBuilder feed = new StringBuilder();
+        int eventosFeed = CronometrajeEnVivo.grabar(grabacion, feed);
+        byte[] bytesFeed = feed.toString().getBytes(StandardCharsets.UTF_8);
+        Deque<GranPremio> carrerasEnVivo = new ArrayDeque<>();
+        ejecutor.agregar("CronometrajeEnVivo (feed de " + eventosFeed + " eventos)",
+                () -> carrerasEnVivo.addAll(datos.prepararCarrerasPendientes(1)),
+                1,
+                () -> {
+                    CronometrajeEnVivo cronometraje = new CronometrajeEnVivo(gestor, carrerasEnVivo.poll(),
+                            grabacion.getVueltas());
+                    cronometraje.iniciar(new ByteArrayInputStream(bytesFeed), 0);
+                    try {
+                        cronometraje.esperar(0);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return cronometraje.getEstado();
+                });
+
+        ejecutor.ejecutar(filtro);
+    }
+}
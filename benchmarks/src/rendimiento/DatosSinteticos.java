@@ -0,0 +1,206 @@
+package rendimiento;
+
+import controlador.GestorFormula1;
+import controlador.Inscripcion;
+import modelo.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conjunto de datos sintético para los benchmarks.
+ * <p>
+ * Construye un campeonato de tamaño configurable (temporadas × carreras por
+ * temporada × pilotos por parrilla) usando sólo la API pública del
+ * {@link GestorFormula1}, de modo que los índices y la clasificación quedan
+ * en el mismo estado que en uso real. Los datos son deterministas: la
+ * posición de cada piloto rota de carrera en carrera, así que dos
+ * construcciones con los mismos parámetros producen el mismo campeonato.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public final class DatosSinteticos {
+
+    /** Máximo de pilotos por parrilla (los números de piloto van de 1 a 99) */
+    public static final int PARRILLA_MAXIMA = 99;
+
+    /** Circuitos distintos del calendario */
+    private static final int CIRCUITOS = 24;
+
+    /** Año de la primera temporada */
+    private static final int AÑO_INICIAL = 2000;
+
+    private final GestorFormula1 gestor;
+    private final int temporadas;
+    private final int carrerasPorTemporada;
+    private final int parrilla;
+    private final List<Piloto> pilotos;
+    private final List<Auto> autosPorPiloto;
+    private final List<Circuito> circuitos;
+    private int carrerasAdicionales;
+
+    private DatosSinteticos(int temporadas, int carrerasPorTemporada, int parrilla) {
+        this.gestor = new GestorFormula1();
+        this.temporadas = temporadas;
+        this.carrerasPorTemporada = carrerasPorTemporada;
+        this.parrilla = parrilla;
+        this.pilotos = new ArrayList<>();
+        this.autosPorPiloto = new ArrayList<>();
+        this.circuitos = new ArrayList<>();
+        this.carrerasAdicionales = 0;
+    }
+
+    /**
+     * Construye un campeonato completo con todas sus carreras finalizadas.
+     *
+     * @param temporadas           Cantidad de temporadas
+     * @param carrerasPorTemporada Carreras de cada temporada
+     * @param parrilla             Pilotos inscritos en cada carrera
+     * @return Conjunto de datos construido
+     * @throws IllegalArgumentException si algún tamaño no es válido
+     */
+    public static DatosSinteticos construir(int temporadas, int carrerasPorTemporada, int parrilla) {
+        if (temporadas < 1 || carrerasPorTemporada < 1) {
+            throw new IllegalArgumentException("Debe haber al menos una temporada y una carrera por temporada");
+        }
+        if (parrilla < 2 || parrilla > PARRILLA_MAXIMA) {
+            throw new IllegalArgumentException("La parrilla debe tener entre 2 y " + PARRILLA_MAXIMA + " pilotos");
+        }
+        DatosSinteticos datos = new DatosSinteticos(temporadas, carrerasPorTemporada, parrilla);
+        datos.registrarEntidades();
+        for (int temporada = 0; temporada < temporadas; temporada++) {
+            for (int carrera = 0; carrera < carrerasPorTemporada; carrera++) {
+                GranPremio granPremio = datos.prepararCarrera("GP " + carrera,
+                        LocalDateTime.of(AÑO_INICIAL + temporada, 3, 1, 14, 0).plusWeeks(carrera),
+                        temporada * carrerasPorTemporada + carrera);
+                datos.gestor.finalizarCarrera(granPremio);
+            }
+        }
+        return datos;
+    }
+
+    private void registrarEntidades() {
+        Pais pais = new Pais("País Sintético", "ZZ");
+        gestor.registrarPais(pais);
+
+        for (int i = 0; i < CIRCUITOS; i++) {
+            Circuito circuito = new Circuito("Circuito " + i, pais, 5.0, 15, "Permanente");
+            gestor.registrarCircuito(circuito);
+            circuitos.add(circuito);
+        }
+
+        // Dos pilotos y dos autos por escudería
+        int cantidadEscuderias = (parrilla + 1) / 2;
+        List<Escuderia> escuderias = new ArrayList<>();
+        for (int i = 0; i < cantidadEscuderias; i++) {
+            Escuderia escuderia = new Escuderia("Escudería " + i, pais);
+            gestor.registrarEscuderia(escuderia);
+            escuderias.add(escuderia);
+        }
+        for (int i = 0; i < parrilla; i++) {
+            Piloto piloto = new Piloto(String.format("%08dX", i), "Piloto", "N" + i, 25, "Sintético", i + 1, 5);
+            gestor.registrarPiloto(piloto);
+            gestor.asignarPilotoAEscuderia(piloto, escuderias.get(i / 2), "2000-01-01", null);
+            pilotos.add(piloto);
+
+            Auto auto = new Auto("Modelo " + (i / 2), "Chasis", "Motor", 2024, "SIN" + i, 798.0, 1000);
+            gestor.registrarAuto(auto);
+            gestor.asignarAutoAEscuderia(auto, escuderias.get(i / 2));
+            autosPorPiloto.add(auto);
+        }
+        gestor.actualizarEscuderiasSegunContratos();
+    }
+
+    /**
+     * Registra una carrera, inscribe a toda la parrilla y asigna posiciones
+     * sin finalizarla.
+     */
+    private GranPremio prepararCarrera(String nombre, LocalDateTime fechaHora, int indice) {
+        GranPremio granPremio = new GranPremio(nombre, fechaHora, circuitos.get(indice % circuitos.size()));
+        gestor.registrarGranPremio(granPremio);
+        List<Inscripcion> inscripciones = new ArrayList<>(parrilla);
+        for (int i = 0; i < parrilla; i++) {
+            inscripciones.add(new Inscripcion(pilotos.get(i), autosPorPiloto.get(i)));
+        }
+        List<String> errores = gestor.inscribirParrilla(granPremio, inscripciones);
+        if (!errores.isEmpty()) {
+            throw new IllegalStateException(errores.get(0));
+        }
+        List<Participacion> participaciones = granPremio.getParticipaciones();
+        for (int i = 0; i < participaciones.size(); i++) {
+            gestor.establecerPosicionFinal(participaciones.get(i), (i + indice) % parrilla + 1);
+        }
+        return granPremio;
+    }
+
+    /**
+     * Prepara carreras con resultados cargados pero sin finalizar, para medir
+     * {@link GestorFormula1#finalizarCarrera(GranPremio)}. Cada llamada crea
+     * carreras nuevas posteriores a todas las existentes.
+     *
+     * @param cantidad Carreras a preparar
+     * @return Carreras listas para finalizar
+     */
+    public List<GranPremio> prepararCarrerasPendientes(int cantidad) {
+        List<GranPremio> pendientes = new ArrayList<>(cantidad);
+        LocalDateTime inicio = LocalDateTime.of(AÑO_INICIAL + temporadas, 1, 1, 14, 0);
+        for (int i = 0; i < cantidad; i++) {
+            int numero = carrerasAdicionales++;
+            pendientes.add(prepararCarrera("GP adicional " + numero, inicio.plusDays(numero), numero));
+        }
+        return pendientes;
+    }
+
+    /**
+     * Crea una carrera sin finalizar con toda la parrilla inscrita menos el
+     * último piloto, para validar su inscripción recorriendo todas las reglas.
+     *
+     * @return Carrera con un lugar libre en la parrilla
+     */
+    public GranPremio prepararCarreraConLugarLibre() {
+        GranPremio granPremio = new GranPremio("GP abierto", LocalDateTime.of(AÑO_INICIAL - 1, 1, 1, 14, 0),
+                circuitos.get(0));
+        gestor.registrarGranPremio(granPremio);
+        for (int i = 0; i < parrilla - 1; i++) {
+            gestor.inscribirPilotoEnCarrera(pilotos.get(i), autosPorPiloto.get(i), granPremio);
+        }
+        return granPremio;
+    }
+
+    public GestorFormula1 getGestor() {
+        return gestor;
+    }
+
+    public List<Piloto> getPilotos() {
+        return pilotos;
+    }
+
+    public Auto getAutoPiloto(Piloto piloto) {
+        return autosPorPiloto.get(pilotos.indexOf(piloto));
+    }
+
+    public int getTemporadas() {
+        return temporadas;
+    }
+
+    /**
+     * @param temporada Índice de temporada (0 es la primera)
+     * @return Inicio del rango de fechas de la temporada
+     */
+    public LocalDateTime getInicioTemporada(int temporada) {
+        return LocalDateTime.of(AÑO_INICIAL + temporada, 1, 1, 0, 0);
+    }
+
+    public int getCantidadResultados() {
+        return temporadas * carrerasPorTemporada * parrilla;
+    }
+
+    @Override
+    public String toString() {
+        return temporadas + " temporadas × " + carrerasPorTemporada + " carreras × " + parrilla + " pilotos ("
+                + getCantidadResultados() + " resultados)";
+    }
+}
@@ -0,0 +1,139 @@
+package rendimiento;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ejecutor mínimo de microbenchmarks.
+ * <p>
+ * Sigue el esquema de JMH en modo tiempo promedio: varias iteraciones de
+ * calentamiento descartadas para que el JIT compile el código medido, y luego
+ * iteraciones de medición de las que se informa el promedio, el mínimo y el
+ * máximo en nanosegundos por operación. Antes de cada iteración se ejecuta la
+ * preparación del caso, que no se mide (equivale a {@code Level.Iteration}).
+ * Los resultados de cada operación se acumulan en un sumidero para que el JIT
+ * no elimine el trabajo como código muerto.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public final class EjecutorBenchmarks {
+
+    /**
+     * Operación medida. El valor devuelto se consume para evitar que el JIT
+     * descarte la llamada.
+     */
+    @FunctionalInterface
+    public interface Operacion {
+        Object ejecutar();
+    }
+
+    /** Caso registrado */
+    private static final class Caso {
+        private final String nombre;
+        private final Runnable preparacion;
+        private final Operacion operacion;
+        private final int operacionesPorIteracion;
+
+        private Caso(String nombre, Runnable preparacion, Operacion operacion, int operacionesPorIteracion) {
+            this.nombre = nombre;
+            this.preparacion = preparacion;
+            this.operacion = operacion;
+            this.operacionesPorIteracion = operacionesPorIteracion;
+        }
+    }
+
+    private final int iteracionesCalentamiento;
+    private final int iteracionesMedicion;
+    private final List<Caso> casos;
+    private int sumidero;
+
+    /**
+     * Crea un ejecutor.
+     *
+     * @param iteracionesCalentamiento Iteraciones descartadas antes de medir
+     * @param iteracionesMedicion      Iteraciones medidas
+     */
+    public EjecutorBenchmarks(int iteracionesCalentamiento, int iteracionesMedicion) {
+        if (iteracionesCalentamiento < 0 || iteracionesMedicion < 1) {
+            throw new IllegalArgumentException("Cantidad de iteraciones inválida");
+        }
+        this.iteracionesCalentamiento = iteracionesCalentamiento;
+        this.iteracionesMedicion = iteracionesMedicion;
+        this.casos = new ArrayList<>();
+    }
+
+    /**
+     * Registra un caso sin preparación por iteración.
+     *
+     * @param nombre                  Nombre del caso
+     * @param operacionesPorIteracion Llamadas a la operación en cada iteración
+     * @param operacion               Operación a medir
+     */
+    public void agregar(String nombre, int operacionesPorIteracion, Operacion operacion) {
+        agregar(nombre, () -> { }, operacionesPorIteracion, operacion);
+    }
+
+    /**
+     * Registra un caso con una preparación que se ejecuta, sin medirse, antes
+     * de cada iteración.
+     *
+     * @param nombre                  Nombre del caso
+     * @param preparacion             Preparación previa a cada iteración
+     * @param operacionesPorIteracion Llamadas a la operación en cada iteración
+     * @param operacion               Operación a medir
+     */
+    public void agregar(String nombre, Runnable preparacion, int operacionesPorIteracion, Operacion operacion) {
+        if (operacionesPorIteracion < 1) {
+            throw new IllegalArgumentException("Cada iteración debe tener al menos una operación");
+        }
+        casos.add(new Caso(nombre, preparacion, operacion, operacionesPorIteracion));
+    }
+
+    /**
+     * Ejecuta los casos cuyo nombre contiene el filtro e imprime una tabla de
+     * resultados.
+     *
+     * @param filtro Texto que debe contener el nombre del caso, o null para
+     *               ejecutar todos
+     */
+    public void ejecutar(String filtro) {
+        System.out.printf(Locale.ROOT, "%-50s %14s %14s %14s%n", "Caso", "ns/op (prom)", "mín", "máx");
+        for (Caso caso : casos) {
+            if (filtro != null && !caso.nombre.contains(filtro)) {
+                continue;
+            }
+            for (int i = 0; i < iteracionesCalentamiento; i++) {
+                medirIteracion(caso);
+            }
+            double suma = 0;
+            double minimo = Double.MAX_VALUE;
+            double maximo = 0;
+            for (int i = 0; i < iteracionesMedicion; i++) {
+                double nanosPorOperacion = medirIteracion(caso);
+                suma += nanosPorOperacion;
+                minimo = Math.min(minimo, nanosPorOperacion);
+                maximo = Math.max(maximo, nanosPorOperacion);
+            }
+            System.out.printf(Locale.ROOT, "%-50s %14.1f %14.1f %14.1f%n", caso.nombre,
+                    suma / iteracionesMedicion, minimo, maximo);
+        }
+        // Evita que el sumidero se considere sin uso
+        if (sumidero == 42) {
+            System.out.println();
+        }
+    }
+
+    private double medirIteracion(Caso caso) {
+        caso.preparacion.run();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < caso.operacionesPorIteracion; i++) {
+            Object resultado = caso.operacion.ejecutar();
+            sumidero += resultado != null ? resultado.hashCode() : 0;
+        }
+        return (double) (System.nanoTime() - inicio) / caso.operacionesPorIteracion;
+    }
+}
@@ -0,0 +1,687 @@
+package consola;
+
+import controlador.CronometrajeEnVivo;
+import controlador.DatosEjemplo;
+import controlador.DiarioOperaciones;
+import controlador.EstadisticasPiloto;
+import controlador.EstadoCronometraje;
+import controlador.GeneradorDatos;
+import controlador.GestorFormula1;
+import controlador.PersistenciaBinaria;
+import controlador.PrediccionCampeonato;
+import controlador.PredictorCampeonato;
+import controlador.ResultadoCarrera;
+import modelo.Escuderia;
+import modelo.GranPremio;
+import modelo.Piloto;
+import modelo.TablaResultados;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Punto de entrada sin interfaz gráfica para los procesos por lotes.
+ * <p>
+ * Ejecuta sobre un {@link GestorFormula1} los comandos recibidos como
+ * argumentos, en el orden en que aparecen. Cada comando lleva una cantidad
+ * fija de parámetros y los archivos {@code -} son la entrada o la salida
+ * estándar:
+ * </p>
+ *
+ * <pre>
+ * java -cp bin consola.ModoLotes abrir formula1.dat formula1.log \
+ *     importar-resultados resultados.csv reporte reporte.csv
+ * </pre>
+ * <p>
+ * Los comandos se ejecutan hasta el primero que falla; los mensajes van a la
+ * salida de errores. El código de salida es 0 si todos terminaron bien, 1 si
+ * alguno falló y 2 si los argumentos son inválidos (en ese caso no se ejecuta
+ * ninguno). Si se abrió un diario, se compacta al terminar.
+ * </p>
+ * <p>
+ * La clase sólo usa el controlador y el modelo, de modo que no se carga
+ * ninguna clase de AWT ni de Swing y el proceso funciona en servidores sin
+ * pantalla. Para trabajos que se lanzan muchas veces, el arranque se puede
+ * acortar con un archivo CDS de la aplicación, con las clases empaquetadas
+ * en un jar: se crea una vez con {@code -XX:ArchiveClassesAtExit=lotes.jsa}
+ * y se usa con {@code -XX:SharedArchiveFile=lotes.jsa}.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ModoLotes {
+
+    /** Código de salida cuando algún comando falla */
+    public static final int SALIDA_ERROR = 1;
+
+    /** Código de salida cuando los argumentos son inválidos */
+    public static final int SALIDA_USO = 2;
+
+    /** Separador de campos de los archivos de resultados y reportes */
+    private static final char SEPARADOR = ';';
+
+    /** Nombre de archivo que indica la entrada o la salida estándar */
+    private static final String ESTANDAR = "-";
+
+    /** Marcas del tercer campo de los archivos de resultados */
+    private static final String ABANDONO = "ABANDONO";
+    private static final String VUELTA_RAPIDA = "VUELTA_RAPIDA";
+
+    private static final String USO = String.join(System.lineSeparator(),
+            "Uso: java -cp bin consola.ModoLotes comando [parámetros] [comando [parámetros] ...]",
+            "",
+            "Datos:",
+            "  abrir <datos> <diario>                 recupera el snapshot y el diario, y anota los cambios",
+            "  cargar <datos>                         carga un snapshot sin diario",
+            "  ejemplo                                agrega los datos de ejemplo",
+            "  generar <semilla> <temporadas> <carreras>  agrega un campeonato sintético",
+            "  guardar <datos>                        guarda un snapshot",
+            "  archivar <año> <archivo>               archiva una temporada finalizada",
+            "Carreras:",
+            "  importar-resultados <archivo>          carga y finaliza las carreras del archivo",
+            "  importar-feed <carrera> <fecha> <archivo>  reproduce un feed de cronometraje",
+            "  finalizar <carrera> <fecha>            finaliza una carrera",
+            "  finalizar-pendientes                   finaliza las carreras ya disputadas",
+            "Reportes:",
+            "  exportar-resultados <archivo>          resultados en el formato de importación",
+            "  clasificacion <archivo>                campeonatos de pilotos y escuderías",
+            "  reporte <archivo>                      clasificación, carreras y estadísticas",
+            "  prediccion <temporadas> <semilla> <archivo>  probabilidades de título",
+            "  verificar                              compara la clasificación con un recálculo",
+            "",
+            "Las fechas van en formato ISO (2025-05-25T15:00). Los archivos de resultados",
+            "tienen una línea por piloto:",
+            "  carrera;fecha;numero;posicion",
+            "  carrera;fecha;numero;ABANDONO;motivo",
+            "  carrera;fecha;numero;VUELTA_RAPIDA");
+
+    private final PrintStream salida;
+    private final PrintStream errores;
+
+    private GestorFormula1 gestor;
+    private DiarioOperaciones diario;
+
+    private ModoLotes(PrintStream salida, PrintStream errores) {
+        this.salida = salida;
+        this.errores = errores;
+    }
+
+    /**
+     * Ejecuta los comandos y termina el proceso con el código de salida.
+     *
+     * @param args Comandos y sus parámetros
+     */
+    public static void main(String[] args) {
+        System.exit(ejecutar(args, System.out, System.err));
+    }
+
+    /**
+     * Ejecuta los comandos sobre un gestor nuevo.
+     *
+     * @param args    Comandos y sus parámetros
+     * @param salida  Salida estándar de los reportes
+     * @param errores Salida de los mensajes de error
+     * @return Código de salida (0, {@link #SALIDA_ERROR} o {@link #SALIDA_USO})
+     */
+    public static int ejecutar(String[] args, PrintStream salida, PrintStream errores) {
+        String error = validarArgumentos(args);
+        if (error != null) {
+            errores.println(error);
+            errores.println();
+            errores.println(USO);
+            return SALIDA_USO;
+        }
+        return new ModoLotes(salida, errores).ejecutarComandos(args);
+    }
+
+    // ==================== ARGUMENTOS ====================
+
+    /**
+     * @return Parámetros del comando, o -1 si el comando no existe
+     */
+    private static int parametros(String comando) {
+        switch (comando) {
+            case "ayuda":
+            case "ejemplo":
+            case "finalizar-pendientes":
+            case "verificar":
+                return 0;
+            case "cargar":
+            case "guardar":
+            case "importar-resultados":
+            case "exportar-resultados":
+            case "clasificacion":
+            case "reporte":
+                return 1;
+            case "abrir":
+            case "archivar":
+            case "finalizar":
+                return 2;
+            case "generar":
+            case "importar-feed":
+            case "prediccion":
+                return 3;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Comprueba los nombres y la cantidad de parámetros de todos los comandos
+     * antes de ejecutar el primero.
+     *
+     * @return Mensaje de error, o null si los argumentos son válidos
+     */
+    private static String validarArgumentos(String[] args) {
+        if (args.length == 0) {
+            return "No se indicó ningún comando";
+        }
+        int i = 0;
+        while (i < args.length) {
+            int cantidad = parametros(args[i]);
+            if (cantidad < 0) {
+                return "Comando desconocido: " + args[i];
+            }
+            if (i + cantidad >= args.length) {
+                return "Faltan parámetros para " + args[i] + " (se esperan " + cantidad + ")";
+            }
+            i += cantidad + 1;
+        }
+        return null;
+    }
+
+    // ==================== EJECUCIÓN ====================
+
+    private int ejecutarComandos(String[] args) {
+        try {
+            int i = 0;
+            while (i < args.length) {
+                String comando = args[i];
+                int cantidad = parametros(comando);
+                String[] parametros = new String[cantidad];
+                System.arraycopy(args, i + 1, parametros, 0, cantidad);
+                i += cantidad + 1;
+
+                List<String> erroresComando;
+                try {
+                    erroresComando = ejecutar(comando, parametros);
+                } catch (IOException | RuntimeException e) {
+                    erroresComando = List.of(e.getMessage() != null ? e.getMessage() : e.toString());
+                }
+                if (!erroresComando.isEmpty()) {
+                    for (String error : erroresComando) {
+                        errores.println(comando + ": " + error);
+                    }
+                    return SALIDA_ERROR;
+                }
+            }
+            return 0;
+        } finally {
+            cerrarDiario();
+        }
+    }
+
+    /**
+     * Ejecuta un comando.
+     *
+     * @return Errores encontrados (vacía si el comando terminó bien)
+     */
+    private List<String> ejecutar(String comando, String[] p) throws IOException {
+        switch (comando) {
+            case "ayuda":
+                salida.println(USO);
+                return List.of();
+            case "abrir":
+                return abrir(Paths.get(p[0]), Paths.get(p[1]));
+            case "cargar":
+                return cargar(Paths.get(p[0]));
+            case "ejemplo":
+                DatosEjemplo.cargarDatos(getGestor());
+                return List.of();
+            case "generar":
+                GeneradorDatos.generar(getGestor(), largo(p[0]), entero(p[1]), entero(p[2]));
+                return List.of();
+            case "guardar":
+                PersistenciaBinaria.guardar(getGestor(), Paths.get(p[0]));
+                return List.of();
+            case "archivar":
+                getGestor().archivarTemporada(entero(p[0]), Paths.get(p[1]));
+                return List.of();
+            case "importar-resultados":
+                return importarResultados(p[0]);
+            case "importar-feed":
+                return importarFeed(buscarGranPremio(p[0], p[1]), p[2]);
+            case "finalizar":
+                getGestor().finalizarCarrera(buscarGranPremio(p[0], p[1]));
+                return List.of();
+            case "finalizar-pendientes":
+                return finalizarPendientes();
+            case "exportar-resultados":
+                escribir(p[0], this::exportarResultados);
+                return List.of();
+            case "clasificacion":
+                escribir(p[0], this::escribirClasificacion);
+                return List.of();
+            case "reporte":
+                escribir(p[0], this::escribirReporte);
+                return List.of();
+            case "prediccion": {
+                PrediccionCampeonato prediccion = new PredictorCampeonato(getGestor())
+                        .predecir(largo(p[0]), largo(p[1]));
+                escribir(p[2], destino -> escribirPrediccion(destino, prediccion));
+                return List.of();
+            }
+            case "verificar":
+                return getGestor().verificarClasificacion();
+            default:
+                throw new IllegalArgumentException("Comando desconocido: " + comando);
+        }
+    }
+
+    /**
+     * @return Gestor actual; si ningún comando cargó datos, uno vacío
+     */
+    private GestorFormula1 getGestor() {
+        if (gestor == null) {
+            gestor = new GestorFormula1();
+        }
+        return gestor;
+    }
+
+    private List<String> abrir(Path datos, Path archivoDiario) throws IOException {
+        if (gestor != null) {
+            return List.of("el diario se debe abrir antes de cargar datos");
+        }
+        GestorFormula1 recuperado = DiarioOperaciones.recuperar(datos, archivoDiario);
+        gestor = recuperado != null ? recuperado : new GestorFormula1();
+        diario = DiarioOperaciones.abrir(gestor, datos, archivoDiario);
+        return List.of();
+    }
+
+    private List<String> cargar(Path datos) throws IOException {
+        if (diario != null) {
+            return List.of("no se puede reemplazar el gestor con un diario abierto");
+        }
+        gestor = PersistenciaBinaria.cargar(datos);
+        return List.of();
+    }
+
+    private void cerrarDiario() {
+        if (diario == null) {
+            return;
+        }
+        try {
+            diario.close();
+        } catch (IOException e) {
+            errores.println("No se pudo cerrar el diario de operaciones: " + e.getMessage());
+        }
+        diario = null;
+    }
+
+    // ==================== CARRERAS ====================
+
+    private GranPremio buscarGranPremio(String nombre, String fechaHora) {
+        GranPremio granPremio = getGestor().buscarGranPremio(nombre, fecha(fechaHora));
+        if (granPremio == null) {
+            throw new IllegalArgumentException("No hay ningún Gran Premio " + nombre + " el " + fechaHora);
+        }
+        return granPremio;
+    }
+
+    /**
+     * Lee un archivo de resultados y finaliza sus carreras en una sola
+     * operación del gestor. Si alguna línea es inválida no se aplica ninguna.
+     */
+    private List<String> importarResultados(String archivo) throws IOException {
+        GestorFormula1 actual = getGestor();
+        List<String> erroresLectura = new ArrayList<>();
+        Map<GranPremio, ResultadoCarrera> resultados = new IdentityHashMap<>();
+        List<ResultadoCarrera> enOrden = new ArrayList<>();
+        try (BufferedReader entrada = abrirEntrada(archivo)) {
+            // Las líneas de una carrera suelen ir juntas: se recuerda la última
+            // para no interpretar la fecha ni buscarla en cada línea
+            String nombreAnterior = null;
+            String fechaAnterior = null;
+            GranPremio anterior = null;
+            String linea;
+            int numeroLinea = 0;
+            while ((linea = entrada.readLine()) != null) {
+                numeroLinea++;
+                if (linea.isEmpty() || linea.charAt(0) == '#') {
+                    continue;
+                }
+                try {
+                    int fin = siguiente(linea, 0);
+                    String nombre = linea.substring(0, fin);
+                    int inicio = fin + 1;
+                    fin = siguiente(linea, inicio);
+                    String fechaHora = linea.substring(inicio, fin);
+                    if (anterior == null || !nombre.equals(nombreAnterior) || !fechaHora.equals(fechaAnterior)) {
+                        anterior = buscarGranPremio(nombre, fechaHora);
+                        nombreAnterior = nombre;
+                        fechaAnterior = fechaHora;
+                    }
+                    ResultadoCarrera resultado = resultados.get(anterior);
+                    if (resultado == null) {
+                        resultado = new ResultadoCarrera(anterior);
+                        resultados.put(anterior, resultado);
+                        enOrden.add(resultado);
+                    }
+
+                    inicio = fin + 1;
+                    fin = siguiente(linea, inicio);
+                    int numero = Integer.parseInt(linea, inicio, fin, 10);
+                    inicio = fin + 1;
+                    fin = linea.indexOf(SEPARADOR, inicio);
+                    int finCampo = fin >= 0 ? fin : linea.length();
+                    if (esCampo(linea, inicio, finCampo, ABANDONO)) {
+                        resultado.agregarAbandono(numero, fin >= 0 ? linea.substring(fin + 1) : "");
+                    } else if (esCampo(linea, inicio, finCampo, VUELTA_RAPIDA)) {
+                        resultado.setVueltaRapida(numero);
+                    } else {
+                        resultado.agregarPosicion(numero, Integer.parseInt(linea, inicio, finCampo, 10));
+                    }
+                } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                    erroresLectura.add("línea " + numeroLinea + ": número inválido: " + linea);
+                } catch (IllegalArgumentException e) {
+                    erroresLectura.add("línea " + numeroLinea + ": " + e.getMessage());
+                }
+            }
+        }
+        if (!erroresLectura.isEmpty()) {
+            return erroresLectura;
+        }
+        List<String> erroresCarga = actual.establecerResultadosCarreras(enOrden);
+        if (erroresCarga.isEmpty()) {
+            salida.println("Carreras finalizadas: " + enOrden.size());
+        }
+        return erroresCarga;
+    }
+
+    private static int siguiente(String linea, int desde) {
+        int posicion = linea.indexOf(SEPARADOR, desde);
+        if (posicion < 0) {
+            throw new IllegalArgumentException("faltan campos: " + linea);
+        }
+        return posicion;
+    }
+
+    private static boolean esCampo(String linea, int inicio, int fin, String campo) {
+        return campo.length() == fin - inicio && linea.startsWith(campo, inicio);
+    }
+
+    /**
+     * Reproduce un feed de cronometraje sin esperas y deja la carrera con sus
+     * posiciones, abandonos y tiempos de vuelta, lista para finalizar.
+     */
+    private List<String> importarFeed(GranPremio granPremio, String archivo) throws IOException {
+        CronometrajeEnVivo cronometraje = new CronometrajeEnVivo(getGestor(), granPremio);
+        cronometraje.iniciar(ESTANDAR.equals(archivo) ? System.in : Files.newInputStream(Paths.get(archivo)), 0);
+        try {
+            cronometraje.esperar(0);
+        } catch (InterruptedException e) {
+            cronometraje.detener();
+            Thread.currentThread().interrupt();
+            return List.of("interrumpido");
+        }
+        EstadoCronometraje estado = cronometraje.getEstado();
+        if (estado.getError() != null) {
+            return List.of(estado.getError());
+        }
+        salida.println("Eventos procesados: " + estado.getEventosProcesados()
+                + ", descartados: " + estado.getEventosDescartados());
+        return List.of();
+    }
+
+    /**
+     * Finaliza las carreras no finalizadas cuya fecha ya pasó. Las que tienen
+     * pilotos sin resultado o posiciones incoherentes quedan pendientes y se
+     * informan.
+     */
+    private List<String> finalizarPendientes() {
+        GestorFormula1 actual = getGestor();
+        LocalDateTime ahora = LocalDateTime.now();
+        List<String> erroresCarreras = new ArrayList<>();
+        int finalizadas = 0;
+        for (GranPremio granPremio : actual.getCalendario()) {
+            if (!granPremio.getFechaHora().isBefore(ahora)) {
+                break;
+            }
+            if (granPremio.isFinalizada()) {
+                continue;
+            }
+            String carrera = granPremio.getNombre() + " (" + granPremio.getFechaHora().toLocalDate() + ")";
+            int sinResultado = actual.consultar(() -> contarSinResultado(granPremio.getTablaResultados()));
+            if (sinResultado > 0) {
+                erroresCarreras.add(carrera + ": faltan los resultados de " + sinResultado + " pilotos");
+                continue;
+            }
+            try {
+                actual.finalizarCarrera(granPremio);
+                finalizadas++;
+            } catch (IllegalStateException e) {
+                erroresCarreras.add(carrera + ": " + e.getMessage());
+            }
+        }
+        salida.println("Carreras finalizadas: " + finalizadas);
+        return erroresCarreras;
+    }
+
+    private static int contarSinResultado(TablaResultados tabla) {
+        int sinResultado = 0;
+        for (int fila = 0; fila < tabla.size(); fila++) {
+            if (!tabla.isAbandono(fila) && tabla.getPosicion(fila) < 1) {
+                sinResultado++;
+            }
+        }
+        return sinResultado;
+    }
+
+    // ==================== REPORTES ====================
+
+    /**
+     * Contenido de un archivo de salida.
+     */
+    private interface Escritura {
+        void escribir(Writer destino) throws IOException;
+    }
+
+    private void escribir(String archivo, Escritura escritura) throws IOException {
+        if (ESTANDAR.equals(archivo)) {
+            // La salida estándar no se cierra: la pueden usar otros comandos
+            Writer destino = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+            escritura.escribir(destino);
+            destino.flush();
+            return;
+        }
+        try (Writer destino = Files.newBufferedWriter(Paths.get(archivo), StandardCharsets.UTF_8)) {
+            escritura.escribir(destino);
+        }
+    }
+
+    /**
+     * Escribe los resultados de las carreras finalizadas en el formato que
+     * lee {@code importar-resultados}.
+     */
+    private void exportarResultados(Writer destino) throws IOException {
+        destino.write("# carrera;fecha;numero;posicion | ABANDONO;motivo | VUELTA_RAPIDA\n");
+        for (GranPremio granPremio : getGestor().getCalendario()) {
+            if (!granPremio.isFinalizada()) {
+                continue;
+            }
+            String carrera = texto(granPremio.getNombre()) + SEPARADOR + granPremio.getFechaHora() + SEPARADOR;
+            TablaResultados tabla = granPremio.getTablaResultados();
+            int filaVueltaRapida = -1;
+            for (int fila = 0; fila < tabla.size(); fila++) {
+                if (tabla.isVueltaRapida(fila)) {
+                    filaVueltaRapida = fila;
+                }
+                // Los pilotos sin resultado no se importan: se omiten
+                if (!tabla.isAbandono(fila) && tabla.getPosicion(fila) < 1) {
+                    continue;
+                }
+                destino.write(carrera);
+                destino.write(Integer.toString(tabla.getPiloto(fila).getNumero()));
+                destino.write(SEPARADOR);
+                if (tabla.isAbandono(fila)) {
+                    destino.write(ABANDONO);
+                    destino.write(SEPARADOR);
+                    // El motivo es el último campo y puede contener separadores
+                    String motivo = tabla.getMotivoAbandono(fila);
+                    destino.write(motivo != null ? motivo.replace('\n', ' ').replace('\r', ' ') : "");
+                } else {
+                    destino.write(Integer.toString(tabla.getPosicion(fila)));
+                }
+                destino.write('\n');
+            }
+            if (filaVueltaRapida >= 0) {
+                destino.write(carrera);
+                destino.write(Integer.toString(tabla.getPiloto(filaVueltaRapida).getNumero()));
+                destino.write(SEPARADOR);
+                destino.write(VUELTA_RAPIDA);
+                destino.write('\n');
+            }
+        }
+    }
+
+    private void escribirClasificacion(Writer destino) throws IOException {
+        GestorFormula1 actual = getGestor();
+        destino.write("# Pilotos\nposicion;numero;piloto;escuderia;puntos\n");
+        int posicion = 1;
+        for (Piloto piloto : actual.getRankingPilotos()) {
+            Escuderia escuderia = piloto.getEscuderia();
+            fila(destino, posicion++, piloto.getNumero(), texto(piloto.getNombreCompleto()),
+                    escuderia != null ? texto(escuderia.getNombre()) : "", piloto.getPuntosTotales());
+        }
+        destino.write("\n# Escuderias\nposicion;escuderia;puntos\n");
+        posicion = 1;
+        for (Escuderia escuderia : actual.getRankingEscuderias()) {
+            fila(destino, posicion++, texto(escuderia.getNombre()), actual.getPuntosEscuderia(escuderia));
+        }
+    }
+
+    /**
+     * Escribe la clasificación, el calendario con ganadores y las
+     * estadísticas de cada piloto. Las carreras de las temporadas archivadas
+     * no se listan, pero cuentan en la clasificación y en las estadísticas.
+     */
+    private void escribirReporte(Writer destino) throws IOException {
+        GestorFormula1 actual = getGestor();
+        escribirClasificacion(destino);
+
+        destino.write("\n# Carreras\nfecha;carrera;circuito;estado;ganador;vuelta_rapida\n");
+        for (GranPremio granPremio : actual.getCalendario()) {
+            String ganador = "";
+            String vueltaRapida = "";
+            if (granPremio.isFinalizada()) {
+                TablaResultados tabla = granPremio.getTablaResultados();
+                for (int f = 0; f < tabla.size(); f++) {
+                    if (!tabla.isAbandono(f) && tabla.getPosicion(f) == 1) {
+                        ganador = texto(tabla.getPiloto(f).getNombreCompleto());
+                    }
+                    if (tabla.isVueltaRapida(f)) {
+                        vueltaRapida = texto(tabla.getPiloto(f).getNombreCompleto());
+                    }
+                }
+            }
+            fila(destino, granPremio.getFechaHora(), texto(granPremio.getNombre()),
+                    texto(granPremio.getCircuito().getNombre()),
+                    granPremio.isFinalizada() ? "finalizada" : "pendiente", ganador, vueltaRapida);
+        }
+
+        destino.write("\n# Estadisticas\n"
+                + "numero;piloto;carreras;victorias;podios;abandonos;mejor_posicion;promedio_posicion\n");
+        for (Piloto piloto : actual.getRankingPilotos()) {
+            EstadisticasPiloto estadisticas = actual.getEstadisticasPiloto(piloto);
+            fila(destino, piloto.getNumero(), texto(piloto.getNombreCompleto()), estadisticas.getCarreras(),
+                    estadisticas.getVictorias(), estadisticas.getPodios(), estadisticas.getAbandonos(),
+                    estadisticas.getMejorPosicion(),
+                    String.format(Locale.ROOT, "%.2f", estadisticas.getPromedioPosicion()));
+        }
+    }
+
+    private void escribirPrediccion(Writer destino, PrediccionCampeonato prediccion) throws IOException {
+        destino.write("# Prediccion: " + prediccion + "\n");
+        destino.write("# Pilotos\nnumero;piloto;probabilidad_titulo;puntos_esperados\n");
+        for (Piloto piloto : prediccion.getPilotos()) {
+            fila(destino, piloto.getNumero(), texto(piloto.getNombreCompleto()),
+                    String.format(Locale.ROOT, "%.4f", prediccion.getProbabilidadTitulo(piloto)),
+                    String.format(Locale.ROOT, "%.1f", prediccion.getPuntosEsperados(piloto)));
+        }
+        destino.write("\n# Escuderias\nescuderia;probabilidad_titulo;puntos_esperados\n");
+        for (Escuderia escuderia : prediccion.getEscuderias()) {
+            fila(destino, texto(escuderia.getNombre()),
+                    String.format(Locale.ROOT, "%.4f", prediccion.getProbabilidadTitulo(escuderia)),
+                    String.format(Locale.ROOT, "%.1f", prediccion.getPuntosEsperados(escuderia)));
+        }
+    }
+
+    private static void fila(Writer destino, Object... campos) throws IOException {
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) {
+                destino.write(SEPARADOR);
+            }
+            destino.write(String.valueOf(campos[i]));
+        }
+        destino.write('\n');
+    }
+
+    /**
+     * Quita de un texto los caracteres que romperían el formato de la línea.
+     */
+    private static String texto(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        return valor.replace(SEPARADOR, ',').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    // ==================== UTILIDADES ====================
+
+    private static BufferedReader abrirEntrada(String archivo) throws IOException {
+        InputStream fuente = ESTANDAR.equals(archivo) ? System.in : Files.newInputStream(Paths.get(archivo));
+        return new BufferedReader(new InputStreamReader(fuente, StandardCharsets.UTF_8));
+    }
+
+    private static int entero(String valor) {
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido: " + valor);
+        }
+    }
+
+    private static long largo(String valor) {
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido: " + valor);
+        }
+    }
+
+    private static LocalDateTime fecha(String valor) {
+        try {
+            return LocalDateTime.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha inválida (se espera 2025-05-25T15:00): " + valor);
+        }
+    }
+}
@@ -0,0 +1,735 @@
+package controlador;
+
+import modelo.*;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Archivo de sólo lectura con los resultados de una temporada cerrada.
+ * <p>
+ * Los resultados de las carreras finalizadas no cambian, por lo que al
+ * archivar una temporada se congelan en un archivo columnar que se mapea en
+ * memoria: cada atributo de las participaciones (posición, puntos, abandono,
+ * vuelta rápida, mejor vuelta, carrera y escudería) ocupa una columna de
+ * valores primitivos contiguos. Las consultas leen directamente del archivo
+ * mapeado sin crear objetos {@link Participacion}, de modo que el heap no
+ * crece con el historial.
+ * </p>
+ * <p>
+ * El archivo termina con los tiempos de cada vuelta: una columna con el
+ * desplazamiento de las vueltas de cada fila y, a continuación, las vueltas
+ * de todas las filas codificadas como diferencias con la vuelta anterior (el
+ * mismo formato del snapshot de {@link PersistenciaBinaria}).
+ * </p>
+ * <p>
+ * Las filas se agrupan por piloto y, dentro de cada piloto, se ordenan por
+ * fecha de carrera; las filas de un piloto forman un rango contiguo
+ * [{@link #getPrimeraFila(int)}, {@link #getFinFilas(int)}).
+ * </p>
+ * <p>
+ * Pilotos y escuderías se guardan por DNI y nombre, y se resuelven contra el
+ * gestor al cargar el archivo. Si un piloto cambia de DNI, el archivo no se
+ * reescribe: el DNI nuevo se registra en memoria con
+ * {@link #renombrarPiloto(String, String)} y el snapshot lo conserva. Lo
+ * mismo ocurre con el nombre de las escuderías
+ * ({@link #renombrarEscuderia(String, String)}) y el nombre y país de los
+ * circuitos ({@link #renombrarCircuito(String, String, String, String)});
+ * los nombres con los que se archivaron se siguen mostrando.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class ArchivoTemporada {
+
+    /** Número mágico que identifica los archivos de temporada ("F1TA") */
+    private static final int MAGICO = 0x46315441;
+
+    /** Versión actual del formato */
+    private static final int VERSION = 1;
+
+    /** Bit de la columna de marcas que indica abandono */
+    private static final byte MARCA_ABANDONO = 1;
+
+    /** Bit de la columna de marcas que indica vuelta rápida */
+    private static final byte MARCA_VUELTA_RAPIDA = 2;
+
+    private final Path ruta;
+    private final int año;
+    private final MappedByteBuffer datos;
+    private final int filas;
+
+    // Tablas de textos (una entrada por carrera, piloto o escudería)
+    private final String[] nombresCarreras;
+    private final LocalDateTime[] fechasCarreras;
+    private final String[] nombresCircuitos;
+    private final String[] codigosPaisCircuitos;
+    private final String[] nombresPaisCircuitos;
+    private final int[] participantesCarreras;
+    private final String[] dnisPilotos;
+    private final String[] nombresPilotos;
+    private final String[] nombresEscuderias;
+    private final Map<String, Integer> indicePilotos;
+
+    /** DNI vigente de los pilotos renombrados desde que se escribió el archivo (null si quedó sin piloto) */
+    private final Map<Integer, String> dnisRenombrados = new TreeMap<>();
+
+    /** Nombre vigente de cada escudería (null si quedó sin escudería) */
+    private final String[] escuderiasVigentes;
+    private final Map<String, Integer> indiceEscuderias;
+
+    /** Nombre vigente de las escuderías renombradas desde que se escribió el archivo */
+    private final Map<Integer, String> escuderiasRenombradas = new TreeMap<>();
+
+    /** Nombre y código de país vigentes del circuito de cada carrera (null si quedó sin circuito) */
+    private final String[] circuitosVigentes;
+    private final String[] codigosPaisVigentes;
+
+    /** Carreras cuyo circuito cambió de nombre o país desde que se escribió el archivo */
+    private final Set<Integer> circuitosRenombrados = new TreeSet<>();
+
+    // Desplazamientos de cada columna dentro del archivo
+    private final int columnaMejorVuelta;
+    private final int columnaCarrera;
+    private final int columnaEscuderia;
+    private final int columnaInicioPiloto;
+    private final int columnaPosicion;
+    private final int columnaPuntos;
+    private final int columnaMarcas;
+
+    /** Inicio de las vueltas de cada fila y de las vueltas codificadas */
+    private final int columnaInicioVueltas;
+    private final int columnaVueltas;
+
+    private ArchivoTemporada(Path ruta, MappedByteBuffer datos) throws IOException {
+        this.ruta = ruta;
+        this.datos = datos;
+
+        if (datos.getInt() != MAGICO) {
+            throw new IOException("El archivo no es un archivo de temporada: " + ruta);
+        }
+        int version = datos.getInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de archivo de temporada no soportada: " + version);
+        }
+        this.año = datos.getInt();
+        int carreras = datos.getInt();
+        int pilotos = datos.getInt();
+        int escuderias = datos.getInt();
+        this.filas = datos.getInt();
+
+        nombresCarreras = new String[carreras];
+        fechasCarreras = new LocalDateTime[carreras];
+        nombresCircuitos = new String[carreras];
+        codigosPaisCircuitos = new String[carreras];
+        nombresPaisCircuitos = new String[carreras];
+        participantesCarreras = new int[carreras];
+        for (int i = 0; i < carreras; i++) {
+            nombresCarreras[i] = leerTexto(datos);
+            fechasCarreras[i] = LocalDateTime.ofEpochSecond(datos.getLong(), datos.getInt(), ZoneOffset.UTC);
+            nombresCircuitos[i] = leerTexto(datos);
+            codigosPaisCircuitos[i] = leerTexto(datos);
+            nombresPaisCircuitos[i] = leerTexto(datos);
+            participantesCarreras[i] = datos.getInt();
+        }
+        circuitosVigentes = nombresCircuitos.clone();
+        codigosPaisVigentes = codigosPaisCircuitos.clone();
+        dnisPilotos = new String[pilotos];
+        nombresPilotos = new String[pilotos];
+        indicePilotos = new HashMap<>();
+        for (int i = 0; i < pilotos; i++) {
+            dnisPilotos[i] = leerTexto(datos);
+            nombresPilotos[i] = leerTexto(datos);
+            indicePilotos.put(dnisPilotos[i], i);
+        }
+        nombresEscuderias = new String[escuderias];
+        for (int i = 0; i < escuderias; i++) {
+            nombresEscuderias[i] = leerTexto(datos);
+        }
+        escuderiasVigentes = nombresEscuderias.clone();
+        indiceEscuderias = new HashMap<>();
+        for (int i = 0; i < escuderias; i++) {
+            indiceEscuderias.put(nombresEscuderias[i], i);
+        }
+
+        columnaMejorVuelta = alinear(datos.position());
+        columnaCarrera = columnaMejorVuelta + filas * Long.BYTES;
+        columnaEscuderia = columnaCarrera + filas * Integer.BYTES;
+        columnaInicioPiloto = columnaEscuderia + filas * Integer.BYTES;
+        columnaPosicion = columnaInicioPiloto + (pilotos + 1) * Integer.BYTES;
+        columnaPuntos = columnaPosicion + filas * Short.BYTES;
+        columnaMarcas = columnaPuntos + filas * Short.BYTES;
+        columnaInicioVueltas = columnaMarcas + filas;
+        columnaVueltas = columnaInicioVueltas + (filas + 1) * Integer.BYTES;
+        if (columnaVueltas > datos.capacity()
+                || columnaVueltas + datos.getInt(columnaInicioVueltas + filas * Integer.BYTES) > datos.capacity()) {
+            throw new IOException("Archivo de temporada truncado: " + ruta);
+        }
+    }
+
+    // ==================== ESCRITURA ====================
+
+    /**
+     * Congela en un archivo los resultados de las carreras de una temporada.
+     *
+     * @param archivo  Ruta del archivo a crear (se reemplaza si existe)
+     * @param año      Año de la temporada
+     * @param carreras Carreras finalizadas de la temporada
+     * @throws IOException si ocurre un error de escritura
+     */
+    static void escribir(Path archivo, int año, Collection<GranPremio> carreras) throws IOException {
+        List<GranPremio> ordenadas = new ArrayList<>(carreras);
+        ordenadas.sort(Comparator.comparing(GranPremio::getFechaHora));
+
+        Map<GranPremio, Integer> indiceCarreras = new IdentityHashMap<>();
+        Map<Piloto, List<Participacion>> filasPorPiloto = new LinkedHashMap<>();
+        Map<Escuderia, Integer> indiceEscuderias = new LinkedHashMap<>();
+        for (GranPremio granPremio : ordenadas) {
+            indiceCarreras.put(granPremio, indiceCarreras.size());
+            for (Participacion participacion : granPremio.getParticipaciones()) {
+                filasPorPiloto.computeIfAbsent(participacion.getPiloto(), p -> new ArrayList<>()).add(participacion);
+                if (participacion.getEscuderia() != null) {
+                    indiceEscuderias.putIfAbsent(participacion.getEscuderia(), indiceEscuderias.size());
+                }
+            }
+        }
+        int filas = 0;
+        for (List<Participacion> delPiloto : filasPorPiloto.values()) {
+            filas += delPiloto.size();
+        }
+
+        // Cabecera y tablas de textos
+        List<byte[]> textos = new ArrayList<>();
+        int tamañoTablas = 7 * Integer.BYTES;
+        for (GranPremio granPremio : ordenadas) {
+            tamañoTablas += texto(textos, granPremio.getNombre()) + Long.BYTES + Integer.BYTES
+                    + texto(textos, granPremio.getCircuito().getNombre())
+                    + texto(textos, granPremio.getCircuito().getPais().getCodigo())
+                    + texto(textos, granPremio.getCircuito().getPais().getNombre()) + Integer.BYTES;
+        }
+        for (Piloto piloto : filasPorPiloto.keySet()) {
+            tamañoTablas += texto(textos, piloto.getDni()) + texto(textos, piloto.getNombreCompleto());
+        }
+        for (Escuderia escuderia : indiceEscuderias.keySet()) {
+            tamañoTablas += texto(textos, escuderia.getNombre());
+        }
+
+        // Vueltas de cada fila, en el orden de las filas
+        ByteArrayOutputStream vueltas = new ByteArrayOutputStream();
+        DataOutputStream salidaVueltas = new DataOutputStream(vueltas);
+        int[] inicioVueltas = new int[filas + 1];
+        int filaVueltas = 0;
+        for (List<Participacion> delPiloto : filasPorPiloto.values()) {
+            for (Participacion participacion : delPiloto) {
+                inicioVueltas[filaVueltas++] = vueltas.size();
+                PersistenciaBinaria.escribirVueltas(salidaVueltas, participacion.getTiemposVuelta());
+            }
+        }
+        inicioVueltas[filas] = vueltas.size();
+
+        int inicioColumnas = alinear(tamañoTablas);
+        int tamañoTotal = inicioColumnas + filas * (Long.BYTES + 2 * Integer.BYTES + 2 * Short.BYTES + 1)
+                + (filasPorPiloto.size() + 1) * Integer.BYTES + (filas + 1) * Integer.BYTES + vueltas.size();
+        ByteBuffer buffer = ByteBuffer.allocate(tamañoTotal);
+
+        buffer.putInt(MAGICO).putInt(VERSION).putInt(año).putInt(ordenadas.size())
+                .putInt(filasPorPiloto.size()).putInt(indiceEscuderias.size()).putInt(filas);
+        Iterator<byte[]> texto = textos.iterator();
+        for (GranPremio granPremio : ordenadas) {
+            escribirTexto(buffer, texto.next());
+            buffer.putLong(granPremio.getFechaHora().toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(granPremio.getFechaHora().getNano());
+            escribirTexto(buffer, texto.next());
+            escribirTexto(buffer, texto.next());
+            escribirTexto(buffer, texto.next());
+            buffer.putInt(granPremio.getParticipaciones().size());
+        }
+        while (texto.hasNext()) {
+            escribirTexto(buffer, texto.next());
+        }
+
+        // Columnas: cada una es un arreglo contiguo de valores primitivos
+        int columnaCarrera = inicioColumnas + filas * Long.BYTES;
+        int columnaEscuderia = columnaCarrera + filas * Integer.BYTES;
+        int columnaInicioPiloto = columnaEscuderia + filas * Integer.BYTES;
+        int columnaPosicion = columnaInicioPiloto + (filasPorPiloto.size() + 1) * Integer.BYTES;
+        int columnaPuntos = columnaPosicion + filas * Short.BYTES;
+        int columnaMarcas = columnaPuntos + filas * Short.BYTES;
+        int columnaInicioVueltas = columnaMarcas + filas;
+
+        int fila = 0;
+        int piloto = 0;
+        for (List<Participacion> delPiloto : filasPorPiloto.values()) {
+            buffer.putInt(columnaInicioPiloto + piloto++ * Integer.BYTES, fila);
+            for (Participacion participacion : delPiloto) {
+                long mejorVuelta = participacion.getMejorVuelta() != null
+                        ? participacion.getMejorVuelta().toNanos()
+                        : -1L;
+                Integer escuderia = participacion.getEscuderia() != null
+                        ? indiceEscuderias.get(participacion.getEscuderia())
+                        : null;
+                byte marcas = 0;
+                if (participacion.isAbandono()) {
+                    marcas |= MARCA_ABANDONO;
+                }
+                if (participacion.isVueltaRapida()) {
+                    marcas |= MARCA_VUELTA_RAPIDA;
+                }
+                buffer.putLong(inicioColumnas + fila * Long.BYTES, mejorVuelta);
+                buffer.putInt(columnaCarrera + fila * Integer.BYTES,
+                        indiceCarreras.get(participacion.getGranPremio()));
+                buffer.putInt(columnaEscuderia + fila * Integer.BYTES, escuderia != null ? escuderia : -1);
+                buffer.putShort(columnaPosicion + fila * Short.BYTES, (short) participacion.getPosicionFinal());
+                buffer.putShort(columnaPuntos + fila * Short.BYTES, (short) participacion.getPuntosObtenidos());
+                buffer.put(columnaMarcas + fila, marcas);
+                fila++;
+            }
+        }
+        buffer.putInt(columnaInicioPiloto + piloto * Integer.BYTES, fila);
+        buffer.position(columnaInicioVueltas);
+        for (int inicio : inicioVueltas) {
+            buffer.putInt(inicio);
+        }
+        buffer.put(vueltas.toByteArray());
+
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            buffer.rewind();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(true);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Mapea en memoria un archivo de temporada.
+     *
+     * @param archivo Ruta del archivo
+     * @return Archivo de temporada listo para consultas
+     * @throws IOException si el archivo no existe o no es válido
+     */
+    static ArchivoTemporada abrir(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            // El mapeo sigue siendo válido después de cerrar el canal
+            MappedByteBuffer datos = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return new ArchivoTemporada(archivo, datos);
+        }
+    }
+
+    private static int texto(List<byte[]> textos, String valor) {
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        textos.add(bytes);
+        return Integer.BYTES + bytes.length;
+    }
+
+    private static void escribirTexto(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String leerTexto(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int alinear(int posicion) {
+        return (posicion + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    // ==================== CONSULTAS ====================
+
+    public Path getRuta() {
+        return ruta;
+    }
+
+    public int getAño() {
+        return año;
+    }
+
+    public int getCantidadFilas() {
+        return filas;
+    }
+
+    public int getCantidadCarreras() {
+        return nombresCarreras.length;
+    }
+
+    public String getNombreCarrera(int carrera) {
+        return nombresCarreras[carrera];
+    }
+
+    public LocalDateTime getFechaCarrera(int carrera) {
+        return fechasCarreras[carrera];
+    }
+
+    public String getNombreCircuito(int carrera) {
+        return nombresCircuitos[carrera];
+    }
+
+    public String getNombrePaisCircuito(int carrera) {
+        return nombresPaisCircuitos[carrera];
+    }
+
+    public int getParticipantesCarrera(int carrera) {
+        return participantesCarreras[carrera];
+    }
+
+    /**
+     * Indica si una carrera archivada se disputó en un circuito.
+     *
+     * @param carrera  Índice de la carrera
+     * @param circuito Circuito a comparar (por nombre y país vigentes)
+     * @return true si la carrera se disputó en ese circuito
+     */
+    public boolean esCircuito(int carrera, Circuito circuito) {
+        return circuito.getNombre().equals(circuitosVigentes[carrera])
+                && circuito.getPais().getCodigo().equals(codigosPaisVigentes[carrera]);
+    }
+
+    /**
+     * Registra el cambio de nombre o país de un circuito para que sus
+     * carreras se sigan resolviendo. Las carreras de otro circuito (uno dado
+     * de baja) que ya figuraban con el nombre y país nuevos dejan de
+     * asociarse a un circuito.
+     *
+     * @param nombreAnterior Nombre con el que figura el circuito
+     * @param codigoAnterior Código del país con el que figura el circuito
+     * @param nombreNuevo    Nombre nuevo del circuito
+     * @param codigoNuevo    Código del país nuevo del circuito
+     * @return true si el circuito tuvo carreras esa temporada
+     */
+    boolean renombrarCircuito(String nombreAnterior, String codigoAnterior, String nombreNuevo,
+            String codigoNuevo) {
+        List<Integer> carreras = new ArrayList<>();
+        for (int i = 0; i < circuitosVigentes.length; i++) {
+            if (nombreAnterior.equals(circuitosVigentes[i]) && codigoAnterior.equals(codigosPaisVigentes[i])) {
+                carreras.add(i);
+            }
+        }
+        if (carreras.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < circuitosVigentes.length; i++) {
+            if (nombreNuevo.equals(circuitosVigentes[i]) && codigoNuevo.equals(codigosPaisVigentes[i])) {
+                restaurarCircuito(i, null, null);
+            }
+        }
+        for (int carrera : carreras) {
+            restaurarCircuito(carrera, nombreNuevo, codigoNuevo);
+        }
+        return true;
+    }
+
+    /**
+     * Restaura el circuito vigente de una carrera guardado en el snapshot.
+     *
+     * @param carrera Índice de la carrera
+     * @param nombre  Nombre vigente del circuito, o null si quedó sin circuito
+     * @param codigo  Código del país vigente del circuito
+     */
+    void restaurarCircuito(int carrera, String nombre, String codigo) {
+        if (carrera < 0 || carrera >= circuitosVigentes.length) {
+            throw new IllegalArgumentException("Carrera fuera del archivo de temporada " + año + ": " + carrera);
+        }
+        circuitosVigentes[carrera] = nombre;
+        codigosPaisVigentes[carrera] = nombre != null ? codigo : null;
+        circuitosRenombrados.add(carrera);
+    }
+
+    /**
+     * Obtiene las carreras cuyo circuito cambió desde que se escribió el
+     * archivo.
+     *
+     * @return Índices de las carreras, en orden
+     */
+    Set<Integer> getCircuitosRenombrados() {
+        return Collections.unmodifiableSet(circuitosRenombrados);
+    }
+
+    String getNombreCircuitoVigente(int carrera) {
+        return circuitosVigentes[carrera];
+    }
+
+    String getCodigoPaisCircuitoVigente(int carrera) {
+        return codigosPaisVigentes[carrera];
+    }
+
+    public int getCantidadPilotos() {
+        return dnisPilotos.length;
+    }
+
+    /**
+     * Obtiene el DNI vigente de un piloto del archivo.
+     *
+     * @param piloto Índice del piloto
+     * @return DNI del piloto, o null si otro piloto del archivo pasó a tener
+     *         su DNI
+     */
+    public String getDniPiloto(int piloto) {
+        return dnisPilotos[piloto];
+    }
+
+    public String getNombrePiloto(int piloto) {
+        return nombresPilotos[piloto];
+    }
+
+    /**
+     * Busca el índice de un piloto dentro del archivo.
+     *
+     * @param dni DNI del piloto
+     * @return Índice del piloto, o -1 si no corrió esa temporada
+     */
+    public int buscarPiloto(String dni) {
+        Integer indice = indicePilotos.get(dni);
+        return indice != null ? indice : -1;
+    }
+
+    /**
+     * Registra el cambio de DNI de un piloto para que sus filas se sigan
+     * resolviendo. Si el DNI nuevo ya figuraba en el archivo para otro piloto
+     * (uno dado de baja), esas filas dejan de asociarse a un piloto.
+     *
+     * @param dniAnterior DNI con el que figura el piloto
+     * @param dniNuevo    DNI nuevo del piloto
+     * @return true si el piloto corrió esa temporada
+     */
+    boolean renombrarPiloto(String dniAnterior, String dniNuevo) {
+        Integer indice = indicePilotos.remove(dniAnterior);
+        if (indice == null) {
+            return false;
+        }
+        Integer desplazado = indicePilotos.put(dniNuevo, indice);
+        if (desplazado != null) {
+            dnisPilotos[desplazado] = null;
+            dnisRenombrados.put(desplazado, null);
+        }
+        dnisPilotos[indice] = dniNuevo;
+        dnisRenombrados.put(indice, dniNuevo);
+        return true;
+    }
+
+    /**
+     * Restaura el DNI vigente de un piloto guardado en el snapshot.
+     *
+     * @param piloto Índice del piloto
+     * @param dni    DNI vigente, o null si quedó sin piloto
+     */
+    void restaurarDniPiloto(int piloto, String dni) {
+        if (piloto < 0 || piloto >= dnisPilotos.length) {
+            throw new IllegalArgumentException("Piloto fuera del archivo de temporada " + año + ": " + piloto);
+        }
+        if (dnisPilotos[piloto] != null) {
+            indicePilotos.remove(dnisPilotos[piloto], piloto);
+        }
+        if (dni != null) {
+            indicePilotos.put(dni, piloto);
+        }
+        dnisPilotos[piloto] = dni;
+        dnisRenombrados.put(piloto, dni);
+    }
+
+    /**
+     * Obtiene los DNI que cambiaron desde que se escribió el archivo.
+     *
+     * @return Mapa de índice de piloto a DNI vigente (null si quedó sin piloto)
+     */
+    Map<Integer, String> getDnisRenombrados() {
+        return Collections.unmodifiableMap(dnisRenombrados);
+    }
+
+    public int getCantidadEscuderias() {
+        return nombresEscuderias.length;
+    }
+
+    public String getNombreEscuderia(int escuderia) {
+        return nombresEscuderias[escuderia];
+    }
+
+    /**
+     * Obtiene el nombre vigente de una escudería del archivo.
+     *
+     * @param escuderia Índice de la escudería
+     * @return Nombre actual de la escudería, o null si otra escudería del
+     *         archivo pasó a tener su nombre
+     */
+    public String getEscuderiaVigente(int escuderia) {
+        return escuderiasVigentes[escuderia];
+    }
+
+    /**
+     * Registra el cambio de nombre de una escudería para que sus filas se
+     * sigan resolviendo. Si el nombre nuevo ya figuraba en el archivo para
+     * otra escudería (una dada de baja), esas filas dejan de asociarse a una
+     * escudería.
+     *
+     * @param nombreAnterior Nombre con el que figura la escudería
+     * @param nombreNuevo    Nombre nuevo de la escudería
+     * @return true si la escudería corrió esa temporada
+     */
+    boolean renombrarEscuderia(String nombreAnterior, String nombreNuevo) {
+        Integer indice = indiceEscuderias.remove(nombreAnterior);
+        if (indice == null) {
+            return false;
+        }
+        Integer desplazada = indiceEscuderias.put(nombreNuevo, indice);
+        if (desplazada != null) {
+            escuderiasVigentes[desplazada] = null;
+            escuderiasRenombradas.put(desplazada, null);
+        }
+        escuderiasVigentes[indice] = nombreNuevo;
+        escuderiasRenombradas.put(indice, nombreNuevo);
+        return true;
+    }
+
+    /**
+     * Restaura el nombre vigente de una escudería guardado en el snapshot.
+     *
+     * @param escuderia Índice de la escudería
+     * @param nombre    Nombre vigente, o null si quedó sin escudería
+     */
+    void restaurarEscuderia(int escuderia, String nombre) {
+        if (escuderia < 0 || escuderia >= escuderiasVigentes.length) {
+            throw new IllegalArgumentException("Escudería fuera del archivo de temporada " + año + ": " + escuderia);
+        }
+        if (escuderiasVigentes[escuderia] != null) {
+            indiceEscuderias.remove(escuderiasVigentes[escuderia], escuderia);
+        }
+        if (nombre != null) {
+            indiceEscuderias.put(nombre, escuderia);
+        }
+        escuderiasVigentes[escuderia] = nombre;
+        escuderiasRenombradas.put(escuderia, nombre);
+    }
+
+    /**
+     * Obtiene los nombres de escudería que cambiaron desde que se escribió el
+     * archivo.
+     *
+     * @return Mapa de índice de escudería a nombre vigente (null si quedó sin
+     *         escudería)
+     */
+    Map<Integer, String> getEscuderiasRenombradas() {
+        return Collections.unmodifiableMap(escuderiasRenombradas);
+    }
+
+    /**
+     * Obtiene la primera fila de un piloto.
+     *
+     * @param piloto Índice del piloto
+     * @return Índice de su primera fila
+     */
+    public int getPrimeraFila(int piloto) {
+        return datos.getInt(columnaInicioPiloto + piloto * Integer.BYTES);
+    }
+
+    /**
+     * Obtiene la fila siguiente a la última de un piloto.
+     *
+     * @param piloto Índice del piloto
+     * @return Índice exclusivo de fin de sus filas
+     */
+    public int getFinFilas(int piloto) {
+        return datos.getInt(columnaInicioPiloto + (piloto + 1) * Integer.BYTES);
+    }
+
+    public int getCarrera(int fila) {
+        return datos.getInt(columnaCarrera + fila * Integer.BYTES);
+    }
+
+    /**
+     * @param fila Índice de la fila
+     * @return Índice de la escudería, o -1 si corrió sin escudería
+     */
+    public int getEscuderia(int fila) {
+        return datos.getInt(columnaEscuderia + fila * Integer.BYTES);
+    }
+
+    public int getPosicion(int fila) {
+        return datos.getShort(columnaPosicion + fila * Short.BYTES);
+    }
+
+    public int getPuntos(int fila) {
+        return datos.getShort(columnaPuntos + fila * Short.BYTES);
+    }
+
+    public boolean isAbandono(int fila) {
+        return (datos.get(columnaMarcas + fila) & MARCA_ABANDONO) != 0;
+    }
+
+    public boolean isVueltaRapida(int fila) {
+        return (datos.get(columnaMarcas + fila) & MARCA_VUELTA_RAPIDA) != 0;
+    }
+
+    /**
+     * @param fila Índice de la fila
+     * @return Mejor vuelta en nanosegundos, o -1 si no se registró
+     */
+    public long getMejorVueltaNanos(int fila) {
+        return datos.getLong(columnaMejorVuelta + fila * Long.BYTES);
+    }
+
+    /**
+     * @param fila Índice de la fila
+     * @return Cantidad de vueltas con tiempo registrado
+     */
+    public int getCantidadVueltas(int fila) {
+        return leerVarInt(lectorVueltas(fila));
+    }
+
+    /**
+     * Decodifica los tiempos de vuelta de una fila.
+     *
+     * @param fila Índice de la fila
+     * @return Tiempos de cada vuelta en milisegundos (vacío si no se
+     *         registraron)
+     */
+    public int[] getTiemposVuelta(int fila) {
+        ByteBuffer lector = lectorVueltas(fila);
+        int[] vueltas = new int[leerVarInt(lector)];
+        int anterior = 0;
+        for (int i = 0; i < vueltas.length; i++) {
+            int zigzag = leerVarInt(lector);
+            anterior += (zigzag >>> 1) ^ -(zigzag & 1);
+            vueltas[i] = anterior;
+        }
+        return vueltas;
+    }
+
+    /** Lector propio posicionado en las vueltas de la fila, para no mover el buffer compartido */
+    private ByteBuffer lectorVueltas(int fila) {
+        return datos.duplicate().position(columnaVueltas + datos.getInt(columnaInicioVueltas + fila * Integer.BYTES));
+    }
+
+    private static int leerVarInt(ByteBuffer lector) {
+        int valor = 0;
+        for (int desplazamiento = 0; desplazamiento < 32; desplazamiento += 7) {
+            int b = lector.get();
+            valor |= (b & 0x7F) << desplazamiento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IllegalStateException("Varint mal formado en el archivo de temporada");
+    }
+
+    @Override
+    public String toString() {
+        return "Temporada " + año + " (" + getCantidadCarreras() + " carreras, " + filas + " resultados)";
+    }
+}
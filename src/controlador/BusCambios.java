@@ -0,0 +1,183 @@
+package controlador;
+
+import modelo.GranPremio;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Distribuye los cambios del {@link GestorFormula1} a sus oyentes.
+ * <p>
+ * Cada suscripción acumula los cambios publicados y los entrega en un lote a
+ * través de su {@link Executor} (por ejemplo, el Event Dispatch Thread). Los
+ * cambios que se publican mientras la entrega está pendiente se combinan por
+ * entidad, así una operación que toca muchas veces la misma fila produce un
+ * solo evento por fila.
+ * </p>
+ * <p>
+ * Publicar sin suscriptores no cuesta más que comprobar la lista.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+class BusCambios {
+
+    private final List<Suscripcion> suscripciones;
+
+    BusCambios() {
+        this.suscripciones = new CopyOnWriteArrayList<>();
+    }
+
+    boolean haySuscriptores() {
+        return !suscripciones.isEmpty();
+    }
+
+    /**
+     * Suscribe un oyente.
+     *
+     * @param oyente  Oyente a notificar
+     * @param entrega Ejecutor donde se llama al oyente
+     */
+    void suscribir(OyenteCambios oyente, Executor entrega) {
+        suscripciones.add(new Suscripcion(oyente, entrega));
+    }
+
+    /**
+     * Quita un oyente. Los cambios que tuviera pendientes se descartan.
+     *
+     * @param oyente Oyente a quitar
+     * @return true si estaba suscrito
+     */
+    boolean desuscribir(OyenteCambios oyente) {
+        for (Suscripcion suscripcion : suscripciones) {
+            if (suscripcion.oyente == oyente) {
+                suscripcion.activa = false;
+                return suscripciones.remove(suscripcion);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Publica un cambio a todos los suscriptores.
+     *
+     * @param tipo    Tipo de cambio
+     * @param entidad Entidad modificada
+     * @param carrera Carrera de la participación, o null
+     */
+    void publicar(EventoCambio.Tipo tipo, Object entidad, GranPremio carrera) {
+        for (Suscripcion suscripcion : suscripciones) {
+            suscripcion.agregar(tipo, entidad, carrera);
+        }
+    }
+
+    /**
+     * Combina un cambio nuevo con el pendiente de la misma entidad.
+     *
+     * @return Tipo resultante, o null si los cambios se anulan
+     */
+    static EventoCambio.Tipo combinar(EventoCambio.Tipo pendiente, EventoCambio.Tipo nuevo) {
+        switch (nuevo) {
+            case ELIMINADO:
+                // Lo que se agregó y eliminó dentro del mismo lote nunca se mostró
+                return pendiente == EventoCambio.Tipo.AGREGADO ? null : EventoCambio.Tipo.ELIMINADO;
+            case AGREGADO:
+                return pendiente == EventoCambio.Tipo.ELIMINADO ? EventoCambio.Tipo.ACTUALIZADO
+                        : EventoCambio.Tipo.AGREGADO;
+            case ACTUALIZADO:
+                return pendiente;
+            default:
+                // Finalización o vencimiento: más específicos que una actualización
+                return pendiente == EventoCambio.Tipo.AGREGADO || pendiente == EventoCambio.Tipo.ELIMINADO
+                        ? pendiente
+                        : nuevo;
+        }
+    }
+
+    // ==================== SUSCRIPCIONES ====================
+
+    /** Clave de combinación: la entidad y la carrera, por identidad */
+    private static final class Clave {
+        private final Object entidad;
+        private final GranPremio carrera;
+
+        Clave(Object entidad, GranPremio carrera) {
+            this.entidad = entidad;
+            this.carrera = carrera;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Clave otra && otra.entidad == entidad && otra.carrera == carrera;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(entidad) + System.identityHashCode(carrera);
+        }
+    }
+
+    private static final class Suscripcion implements Runnable {
+        private final OyenteCambios oyente;
+        private final Executor entrega;
+        private volatile boolean activa;
+
+        /** Cambios pendientes de entrega, en orden de llegada */
+        private Map<Clave, EventoCambio> pendientes;
+
+        /** Indica si ya hay una entrega encargada al ejecutor */
+        private boolean programada;
+
+        Suscripcion(OyenteCambios oyente, Executor entrega) {
+            this.oyente = oyente;
+            this.entrega = entrega;
+            this.activa = true;
+            this.pendientes = new LinkedHashMap<>();
+        }
+
+        void agregar(EventoCambio.Tipo tipo, Object entidad, GranPremio carrera) {
+            boolean programar;
+            synchronized (this) {
+                Clave clave = new Clave(entidad, carrera);
+                EventoCambio anterior = pendientes.get(clave);
+                if (anterior == null) {
+                    pendientes.put(clave, new EventoCambio(tipo, entidad, carrera));
+                } else {
+                    EventoCambio.Tipo combinado = combinar(anterior.getTipo(), tipo);
+                    if (combinado == null) {
+                        pendientes.remove(clave);
+                    } else if (combinado != anterior.getTipo()) {
+                        pendientes.put(clave, new EventoCambio(combinado, entidad, carrera));
+                    }
+                }
+                programar = !programada;
+                programada = true;
+            }
+            if (programar) {
+                entrega.execute(this);
+            }
+        }
+
+        /** Entrega los cambios acumulados */
+        @Override
+        public void run() {
+            List<EventoCambio> lote;
+            synchronized (this) {
+                programada = false;
+                if (pendientes.isEmpty()) {
+                    return;
+                }
+                lote = new ArrayList<>(pendientes.values());
+                pendientes = new LinkedHashMap<>();
+            }
+            if (activa) {
+                oyente.cambiosAplicados(lote);
+            }
+        }
+    }
+}
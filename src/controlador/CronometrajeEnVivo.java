@@ -0,0 +1,567 @@
+package controlador;
+
+import modelo.GranPremio;
+import modelo.Participacion;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cronometraje en vivo de una carrera a partir de un feed de
+ * {@link EventoCronometraje}.
+ * <p>
+ * Un hilo lector interpreta el feed, que puede venir de un archivo grabado o
+ * de un socket ({@code socket.getInputStream()}), y deja los eventos en una
+ * cola acotada. Si el proceso se atrasa la cola se llena y el lector se
+ * bloquea: deja de leer y, con un socket, el control de flujo de TCP frena
+ * al emisor. Un hilo de proceso toma los eventos por lotes y mantiene el
+ * orden de carrera de forma incremental: cada paso por un punto de
+ * cronometraje sólo adelanta al piloto sobre los que todavía no lo cruzaron.
+ * Las diferencias salen del tiempo en que cada piloto cruzó cada punto.
+ * </p>
+ * <p>
+ * Después de cada lote se aplican al {@link GestorFormula1} sólo las
+ * posiciones que cambiaron. Los tiempos de vuelta de un piloto se aplican
+ * cuando recibe la bandera a cuadros o abandona, o cuando termina el feed,
+ * y con ellos se deriva la vuelta rápida. La carrera no se finaliza.
+ * </p>
+ * <p>
+ * Las interfaces consultan {@link #getEstado()} a su propio ritmo, sin
+ * recibir un aviso por evento.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class CronometrajeEnVivo {
+
+    /** Capacidad de la cola entre el lector y el proceso */
+    private static final int CAPACIDAD_COLA = 4096;
+
+    /** Eventos que el proceso toma de la cola de una vez */
+    private static final int LOTE = 512;
+
+    /** Marca que el lector encola al terminar el feed; se reconoce por identidad */
+    private static final EventoCronometraje FIN_FEED = EventoCronometraje.abandono(0, "-", 0, null);
+
+    /** Fracción de la vuelta hasta el final de cada sector, para grabar simulaciones */
+    private static final double[] FIN_SECTORES = { 0.31, 0.69, 1.0 };
+
+    private final GestorFormula1 gestor;
+    private final int vueltas;
+
+    /** Puntos de cronometraje por piloto: la largada y cada sector de cada vuelta */
+    private final int puntos;
+
+    private final Participacion[] participaciones;
+    private final Map<String, Integer> indicePilotos;
+    private final BlockingQueue<EventoCronometraje> cola;
+
+    // Estado en vivo por participante; sólo lo escribe el hilo de proceso
+    private final int[] punto;
+    private final long[] tiempo;
+    private final long[] tiemposPunto;
+    private final int[] tiemposVuelta;
+    private final int[] vueltasCompletadas;
+    private final boolean[] abandono;
+    private final boolean[] terminado;
+    private final String[] motivos;
+
+    /** Participantes en orden de carrera; los primeros enCarrera no abandonaron */
+    private final int[] orden;
+    private final int[] posicionEnOrden;
+    private int enCarrera;
+
+    /** Indica si el líder ya completó la última vuelta */
+    private boolean bandera;
+
+    // Lo que ya se aplicó al gestor
+    private final int[] posicionAplicada;
+    private final boolean[] cerrado;
+
+    private long eventosProcesados;
+    private long eventosDescartados;
+    private long nanosProceso;
+
+    // Escritos por un solo hilo y leídos por los demás
+    private volatile long lineasInvalidas;
+    private volatile long esperasLector;
+    private volatile boolean finalizado;
+    private volatile String error;
+
+    private InputStream fuente;
+    private Thread lector;
+    private Thread proceso;
+
+    /**
+     * Crea el cronometraje de una carrera con la distancia reglamentaria de
+     * su circuito.
+     *
+     * @param gestor     Gestor donde se aplican los resultados
+     * @param granPremio Carrera a cronometrar
+     * @throws IllegalArgumentException si algún parámetro es null
+     * @throws IllegalStateException    si la carrera está finalizada o no
+     *                                  tiene participaciones
+     */
+    public CronometrajeEnVivo(GestorFormula1 gestor, GranPremio granPremio) {
+        this(gestor, granPremio, granPremio != null ? SimuladorCarrera.calcularVueltas(granPremio.getCircuito()) : 0);
+    }
+
+    /**
+     * Crea el cronometraje de una carrera.
+     *
+     * @param gestor     Gestor donde se aplican los resultados
+     * @param granPremio Carrera a cronometrar
+     * @param vueltas    Vueltas de la carrera
+     * @throws IllegalArgumentException si algún parámetro es null o las vueltas
+     *                                  no son positivas
+     * @throws IllegalStateException    si la carrera está finalizada o no
+     *                                  tiene participaciones
+     */
+    public CronometrajeEnVivo(GestorFormula1 gestor, GranPremio granPremio, int vueltas) {
+        if (gestor == null || granPremio == null) {
+            throw new IllegalArgumentException("El gestor y el Gran Premio no pueden ser null");
+        }
+        if (vueltas < 1) {
+            throw new IllegalArgumentException("La carrera debe tener al menos una vuelta");
+        }
+        if (granPremio.isFinalizada()) {
+            throw new IllegalStateException("La carrera ya está finalizada");
+        }
+        List<Participacion> inscriptas = gestor.consultar(granPremio::getParticipaciones);
+        if (inscriptas.isEmpty()) {
+            throw new IllegalStateException("La carrera no tiene participaciones");
+        }
+
+        this.gestor = gestor;
+        this.vueltas = vueltas;
+        this.puntos = vueltas * EventoCronometraje.SECTORES + 1;
+        this.participaciones = inscriptas.toArray(new Participacion[0]);
+        this.indicePilotos = new HashMap<>();
+        for (int i = 0; i < participaciones.length; i++) {
+            indicePilotos.put(participaciones[i].getPiloto().getDni(), i);
+        }
+        this.cola = new ArrayBlockingQueue<>(CAPACIDAD_COLA);
+
+        int cantidad = participaciones.length;
+        this.punto = new int[cantidad];
+        this.tiempo = new long[cantidad];
+        this.tiemposPunto = new long[cantidad * puntos];
+        this.tiemposVuelta = new int[cantidad * vueltas];
+        this.vueltasCompletadas = new int[cantidad];
+        this.abandono = new boolean[cantidad];
+        this.terminado = new boolean[cantidad];
+        this.motivos = new String[cantidad];
+        this.posicionAplicada = new int[cantidad];
+        this.cerrado = new boolean[cantidad];
+
+        // Antes del primer evento el orden es el de la parrilla
+        this.orden = new int[cantidad];
+        this.posicionEnOrden = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            orden[i] = i;
+            posicionEnOrden[i] = i;
+        }
+        this.enCarrera = cantidad;
+    }
+
+    // ==================== EJECUCIÓN ====================
+
+    /**
+     * Empieza a leer y procesar un feed grabado en un archivo.
+     *
+     * @param archivo   Archivo del feed
+     * @param velocidad Velocidad de reproducción respecto del tiempo de
+     *                  carrera (0 para procesarlo lo más rápido posible)
+     * @throws IOException si el archivo no se puede abrir
+     */
+    public void iniciar(Path archivo, double velocidad) throws IOException {
+        iniciar(Files.newInputStream(archivo), velocidad);
+    }
+
+    /**
+     * Empieza a leer y procesar un feed. El flujo se cierra al terminar.
+     *
+     * @param fuente    Flujo del feed (archivo, socket, memoria)
+     * @param velocidad Velocidad de reproducción respecto del tiempo de
+     *                  carrera (0 para procesarlo a medida que llega)
+     * @throws IllegalArgumentException si la velocidad es negativa
+     * @throws IllegalStateException    si el cronometraje ya se inició
+     */
+    public synchronized void iniciar(InputStream fuente, double velocidad) {
+        if (fuente == null) {
+            throw new IllegalArgumentException("La fuente del feed no puede ser null");
+        }
+        if (velocidad < 0) {
+            throw new IllegalArgumentException("La velocidad no puede ser negativa");
+        }
+        if (proceso != null) {
+            throw new IllegalStateException("El cronometraje ya se inició");
+        }
+        this.fuente = fuente;
+        this.lector = new Thread(() -> leer(velocidad), "cronometraje-lector");
+        this.proceso = new Thread(this::procesar, "cronometraje-proceso");
+        lector.setDaemon(true);
+        proceso.setDaemon(true);
+        proceso.start();
+        lector.start();
+    }
+
+    /**
+     * Detiene la lectura y el proceso. Lo que ya se aplicó al gestor se
+     * conserva.
+     */
+    public void detener() {
+        Thread lectorActual;
+        Thread procesoActual;
+        InputStream fuenteActual;
+        synchronized (this) {
+            lectorActual = lector;
+            procesoActual = proceso;
+            fuenteActual = fuente;
+        }
+        if (procesoActual == null) {
+            return;
+        }
+        lectorActual.interrupt();
+        procesoActual.interrupt();
+        try {
+            // Desbloquea una lectura en curso, por ejemplo de un socket
+            fuenteActual.close();
+        } catch (IOException e) {
+            // El lector ya no la usa
+        }
+    }
+
+    /**
+     * Espera a que se procese todo el feed.
+     *
+     * @param milisegundos Espera máxima (0 para esperar sin límite)
+     * @return true si el cronometraje terminó
+     * @throws InterruptedException si se interrumpe la espera
+     */
+    public boolean esperar(long milisegundos) throws InterruptedException {
+        Thread procesoActual;
+        synchronized (this) {
+            procesoActual = proceso;
+        }
+        if (procesoActual == null) {
+            throw new IllegalStateException("El cronometraje no se inició");
+        }
+        procesoActual.join(milisegundos);
+        return finalizado;
+    }
+
+    /**
+     * @return true si el feed terminó (o se detuvo) y ya no se procesan
+     *         eventos
+     */
+    public boolean isFinalizado() {
+        return finalizado;
+    }
+
+    private void leer(double velocidad) {
+        long inicio = System.nanoTime();
+        boolean detenido = false;
+        try (BufferedReader entrada = new BufferedReader(new InputStreamReader(fuente, StandardCharsets.UTF_8))) {
+            String linea;
+            while ((linea = entrada.readLine()) != null) {
+                EventoCronometraje evento;
+                try {
+                    evento = EventoCronometraje.leer(linea);
+                } catch (IllegalArgumentException e) {
+                    lineasInvalidas++;
+                    continue;
+                }
+                if (evento == null) {
+                    continue;
+                }
+                if (velocidad > 0) {
+                    // Reproduce el feed al ritmo de la carrera
+                    long espera = inicio + (long) (evento.getTiempo() * 1_000_000L / velocidad) - System.nanoTime();
+                    if (espera > 0) {
+                        TimeUnit.NANOSECONDS.sleep(espera);
+                    }
+                }
+                if (!cola.offer(evento)) {
+                    // Cola llena: el lector espera al proceso
+                    esperasLector++;
+                    cola.put(evento);
+                }
+            }
+        } catch (IOException e) {
+            if (!Thread.currentThread().isInterrupted()) {
+                error = "Error al leer el feed: " + e.getMessage();
+            }
+        } catch (InterruptedException e) {
+            // Detenido: el proceso también se interrumpió y no espera el fin del feed
+            detenido = true;
+        }
+        if (!detenido) {
+            try {
+                cola.put(FIN_FEED);
+            } catch (InterruptedException e) {
+                // Detenido mientras esperaba lugar en la cola
+            }
+        }
+    }
+
+    private void procesar() {
+        List<EventoCronometraje> lote = new ArrayList<>(LOTE);
+        try {
+            boolean fin = false;
+            while (!fin) {
+                lote.add(cola.take());
+                cola.drainTo(lote, LOTE - 1);
+                // El lector no encola nada después del fin del feed
+                fin = lote.get(lote.size() - 1) == FIN_FEED;
+                if (fin) {
+                    lote.remove(lote.size() - 1);
+                }
+
+                long inicio = System.nanoTime();
+                synchronized (this) {
+                    for (EventoCronometraje evento : lote) {
+                        aplicar(evento);
+                    }
+                }
+                confirmar(false);
+                long duracion = System.nanoTime() - inicio;
+                synchronized (this) {
+                    eventosProcesados += lote.size();
+                    nanosProceso += duracion;
+                }
+                lote.clear();
+            }
+            confirmar(true);
+        } catch (InterruptedException e) {
+            // Detenido
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            if (lector != null) {
+                lector.interrupt();
+            }
+        } finally {
+            finalizado = true;
+        }
+    }
+
+    // ==================== ESTADO DE CARRERA ====================
+
+    private void aplicar(EventoCronometraje evento) {
+        Integer indice = indicePilotos.get(evento.getDni());
+        if (indice == null || abandono[indice] || terminado[indice]) {
+            eventosDescartados++;
+            return;
+        }
+        int i = indice;
+        if (evento.getTipo() == EventoCronometraje.Tipo.ABANDONO) {
+            abandonar(i, evento.getMotivo());
+            return;
+        }
+
+        int p = (evento.getVuelta() - 1) * EventoCronometraje.SECTORES + evento.getSector();
+        if (p <= punto[i] || p >= puntos) {
+            // Repetido, atrasado o más allá de la distancia de carrera
+            eventosDescartados++;
+            return;
+        }
+        punto[i] = p;
+        tiempo[i] = evento.getTiempo();
+        tiemposPunto[i * puntos + p] = evento.getTiempo();
+        if (evento.getTipo() == EventoCronometraje.Tipo.VUELTA) {
+            tiemposVuelta[i * vueltas + evento.getVuelta() - 1] = evento.getMilisegundos();
+            vueltasCompletadas[i] = evento.getVuelta();
+            // Después del líder, cada piloto recibe la bandera al cruzar la línea
+            if (bandera || evento.getVuelta() == vueltas) {
+                bandera = true;
+                terminado[i] = true;
+            }
+        }
+
+        // Quienes ya cruzaron este punto lo hicieron antes y siguen adelante
+        int posicion = posicionEnOrden[i];
+        while (posicion > 0 && punto[orden[posicion - 1]] < p) {
+            int otro = orden[posicion - 1];
+            orden[posicion] = otro;
+            posicionEnOrden[otro] = posicion;
+            posicion--;
+        }
+        orden[posicion] = i;
+        posicionEnOrden[i] = posicion;
+    }
+
+    /**
+     * Pasa al piloto detrás de los que siguen en carrera y delante de los que
+     * abandonaron antes.
+     */
+    private void abandonar(int i, String motivo) {
+        abandono[i] = true;
+        motivos[i] = motivo;
+        int posicion = posicionEnOrden[i];
+        for (; posicion < enCarrera - 1; posicion++) {
+            orden[posicion] = orden[posicion + 1];
+            posicionEnOrden[orden[posicion]] = posicion;
+        }
+        orden[posicion] = i;
+        posicionEnOrden[i] = posicion;
+        enCarrera--;
+    }
+
+    /**
+     * Aplica al gestor las posiciones que cambiaron y los resultados de los
+     * pilotos que terminaron o abandonaron. Sólo lo llama el hilo de proceso,
+     * que es el único que modifica el estado, así que no necesita el monitor.
+     *
+     * @param fin true al terminar el feed, para aplicar también los tiempos de
+     *            quienes no recibieron la bandera
+     */
+    private void confirmar(boolean fin) {
+        for (int posicion = 0; posicion < enCarrera; posicion++) {
+            int i = orden[posicion];
+            if (posicionAplicada[i] != posicion + 1) {
+                gestor.establecerPosicionFinal(participaciones[i], posicion + 1);
+                posicionAplicada[i] = posicion + 1;
+            }
+        }
+        for (int i = 0; i < participaciones.length; i++) {
+            if (cerrado[i] || !(abandono[i] || terminado[i] || fin)) {
+                continue;
+            }
+            if (abandono[i]) {
+                gestor.marcarAbandono(participaciones[i], motivos[i]);
+            }
+            // Un piloto que no apareció en el feed conserva lo que tuviera
+            if (vueltasCompletadas[i] > 0 || abandono[i]) {
+                gestor.establecerTiemposVuelta(participaciones[i], vueltasRegistradas(i));
+            }
+            cerrado[i] = true;
+        }
+    }
+
+    /**
+     * @return Vueltas seguidas con tiempo desde la primera; si el feed salteó
+     *         una vuelta, las siguientes no se pueden ubicar y se descartan
+     */
+    private int[] vueltasRegistradas(int i) {
+        int inicio = i * vueltas;
+        int cantidad = 0;
+        while (cantidad < vueltasCompletadas[i] && tiemposVuelta[inicio + cantidad] > 0) {
+            cantidad++;
+        }
+        return Arrays.copyOfRange(tiemposVuelta, inicio, inicio + cantidad);
+    }
+
+    /**
+     * Obtiene una foto del orden de carrera y de los contadores del feed.
+     *
+     * @return Estado actual, que no cambia con los eventos siguientes
+     */
+    public synchronized EstadoCronometraje getEstado() {
+        int cantidad = participaciones.length;
+        Participacion[] filas = new Participacion[cantidad];
+        int[] vueltasFilas = new int[cantidad];
+        int[] ultimasVueltas = new int[cantidad];
+        long[] tiempos = new long[cantidad];
+        long[] diferencias = new long[cantidad];
+        int[] vueltasDetras = new int[cantidad];
+        long[] intervalos = new long[cantidad];
+        boolean[] abandonos = new boolean[cantidad];
+        boolean[] terminados = new boolean[cantidad];
+
+        int lider = orden[0];
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            int i = orden[posicion];
+            filas[posicion] = participaciones[i];
+            vueltasFilas[posicion] = vueltasCompletadas[i];
+            ultimasVueltas[posicion] = vueltasCompletadas[i] > 0
+                    ? tiemposVuelta[i * vueltas + vueltasCompletadas[i] - 1]
+                    : 0;
+            tiempos[posicion] = tiempo[i];
+            abandonos[posicion] = abandono[i];
+            terminados[posicion] = terminado[i];
+            diferencias[posicion] = EstadoCronometraje.SIN_DIFERENCIA;
+            intervalos[posicion] = EstadoCronometraje.SIN_DIFERENCIA;
+            // El líder y el piloto de adelante ya cruzaron el último punto de este piloto
+            int p = punto[i];
+            if (posicion > 0 && posicion < enCarrera && p > 0) {
+                diferencias[posicion] = tiempo[i] - tiemposPunto[lider * puntos + p];
+                intervalos[posicion] = tiempo[i] - tiemposPunto[orden[posicion - 1] * puntos + p];
+                vueltasDetras[posicion] = (punto[lider] - p) / EventoCronometraje.SECTORES;
+            }
+        }
+        return new EstadoCronometraje(filas, vueltasFilas, ultimasVueltas, tiempos, diferencias, vueltasDetras,
+                intervalos, abandonos, terminados, eventosProcesados, eventosDescartados + lineasInvalidas,
+                cola.size(), esperasLector, eventosProcesados > 0 ? (double) nanosProceso / eventosProcesados : 0,
+                finalizado, error);
+    }
+
+    public int getVueltas() {
+        return vueltas;
+    }
+
+    // ==================== GRABACIÓN ====================
+
+    /**
+     * Graba una carrera simulada como feed de cronometraje, para reproducirla
+     * en vivo. Los sectores intermedios se reparten con proporciones fijas de
+     * cada vuelta y el abandono se informa a mitad de la vuelta siguiente a la
+     * última completada.
+     *
+     * @param simulador Simulador con la carrera ya simulada
+     * @param destino   Donde se escriben las líneas del feed
+     * @return Cantidad de eventos grabados
+     * @throws IOException si falla la escritura
+     */
+    public static int grabar(SimuladorCarrera simulador, Appendable destino) throws IOException {
+        List<EventoCronometraje> eventos = new ArrayList<>();
+        for (int i = 0; i < simulador.getCantidad(); i++) {
+            String dni = simulador.getPiloto(i).getDni();
+            int[] vueltasPiloto = simulador.getTiemposVuelta(i);
+            long suma = 0;
+            for (int vuelta : vueltasPiloto) {
+                suma += vuelta;
+            }
+            // El total incluye lo perdido en la largada antes de la primera vuelta
+            long cruce = simulador.getTiempoTotal(i) - suma;
+            for (int v = 0; v < vueltasPiloto.length; v++) {
+                int anterior = 0;
+                for (int sector = 1; sector < EventoCronometraje.SECTORES; sector++) {
+                    int parcial = (int) Math.round(vueltasPiloto[v] * FIN_SECTORES[sector - 1]);
+                    eventos.add(EventoCronometraje.sector(cruce + parcial, dni, v + 1, sector, parcial - anterior));
+                    anterior = parcial;
+                }
+                cruce += vueltasPiloto[v];
+                eventos.add(EventoCronometraje.vuelta(cruce, dni, v + 1, vueltasPiloto[v]));
+            }
+            if (simulador.isAbandono(i)) {
+                int mitad = vueltasPiloto.length > 0 ? vueltasPiloto[vueltasPiloto.length - 1] / 2 : 0;
+                eventos.add(EventoCronometraje.abandono(cruce + mitad, dni, vueltasPiloto.length,
+                        simulador.getMotivoAbandono(i)));
+            }
+        }
+        // Orden estable: ante el mismo tiempo se respeta el orden de la parrilla
+        eventos.sort(Comparator.comparingLong(EventoCronometraje::getTiempo));
+
+        destino.append("# Feed grabado de una carrera simulada: ").append(String.valueOf(simulador.getVueltas()))
+                .append(" vueltas\n");
+        for (EventoCronometraje evento : eventos) {
+            destino.append(evento.toString()).append('\n');
+        }
+        return eventos.size();
+    }
+}
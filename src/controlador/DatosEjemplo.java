@@ -1,6 +1,7 @@
 package controlador;
 
 import modelo.*;
+import java.util.List;
 
 /**
  * Clase utilitaria para cargar datos de ejemplo en el sistema de gestión de
@@ -158,35 +159,33 @@ public class DatosEjemplo {
             gestor.actualizarEscuderiasSegunContratos();
 
             // Asignar autos a escuderías (TODOS los pilotos tienen contrato vigente y auto)
-            ferrari.agregarAuto(ferrariF1_leclerc);
-            ferrari.agregarAuto(ferrariF1_sainz);
-            redbull.agregarAuto(redbullF1_verstappen);
-            redbull.agregarAuto(redbullF1_perez);
-            mercedes.agregarAuto(mercedesF1_hamilton);
-            mercedes.agregarAuto(mercedesF1_russell);
-            mclaren.agregarAuto(mclarenF1_norris);
-            mclaren.agregarAuto(mclarenF1_piastri);
-            aston.agregarAuto(astonF1_alonso);
-            aston.agregarAuto(astonF1_stroll);
-            alpine.agregarAuto(alpineF1_gasly);
-            alpine.agregarAuto(alpineF1_ocon);
-            williams.agregarAuto(williamsF1_albon);
-            williams.agregarAuto(williamsF1_sargeant);
+            gestor.asignarAutoAEscuderia(ferrariF1_leclerc, ferrari);
+            gestor.asignarAutoAEscuderia(ferrariF1_sainz, ferrari);
+            gestor.asignarAutoAEscuderia(redbullF1_verstappen, redbull);
+            gestor.asignarAutoAEscuderia(redbullF1_perez, redbull);
+            gestor.asignarAutoAEscuderia(mercedesF1_hamilton, mercedes);
+            gestor.asignarAutoAEscuderia(mercedesF1_russell, mercedes);
+            gestor.asignarAutoAEscuderia(mclarenF1_norris, mclaren);
+            gestor.asignarAutoAEscuderia(mclarenF1_piastri, mclaren);
+            gestor.asignarAutoAEscuderia(astonF1_alonso, aston);
+            gestor.asignarAutoAEscuderia(astonF1_stroll, aston);
+            gestor.asignarAutoAEscuderia(alpineF1_gasly, alpine);
+            gestor.asignarAutoAEscuderia(alpineF1_ocon, alpine);
+            gestor.asignarAutoAEscuderia(williamsF1_albon, williams);
+            gestor.asignarAutoAEscuderia(williamsF1_sargeant, williams);
 
             // Crear mecánicos de ejemplo
-            Mecanico mecFerrari1 = new Mecanico("55555555M", "Luigi", "Rossi", 15);
-            mecFerrari1.agregarEspecialidad(Especialidad.MOTOR);
-            mecFerrari1.agregarEspecialidad(Especialidad.ELECTRONICA);
+            Mecanico mecFerrari1 = new Mecanico("55555555M", "Luigi", "Rossi", 15,
+                    List.of(Especialidad.MOTOR, Especialidad.ELECTRONICA));
 
-            Mecanico mecFerrari2 = new Mecanico("66666666B", "Marco", "Bianchi", 12);
-            mecFerrari2.agregarEspecialidad(Especialidad.CHASIS);
-            mecFerrari2.agregarEspecialidad(Especialidad.NEUMATICOS);
+            Mecanico mecFerrari2 = new Mecanico("66666666B", "Marco", "Bianchi", 12,
+                    List.of(Especialidad.CHASIS, Especialidad.NEUMATICOS));
 
             gestor.registrarMecanico(mecFerrari1);
             gestor.registrarMecanico(mecFerrari2);
 
-            ferrari.agregarMecanico(mecFerrari1);
-            ferrari.agregarMecanico(mecFerrari2);
+            gestor.asignarMecanicoAEscuderia(mecFerrari1, ferrari);
+            gestor.asignarMecanicoAEscuderia(mecFerrari2, ferrari);
 
             // Crear circuitos
             Circuito monza = new Circuito("Autodromo Nazionale Monza", italia, 5.793, 11, "Permanente");
@@ -0,0 +1,810 @@
+package controlador;
+
+import modelo.*;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Diario de operaciones (write-ahead log) del {@link GestorFormula1}.
+ * <p>
+ * Cada operación que modifica el estado del gestor se anota al final de un
+ * archivo de sólo agregado, de modo que los datos cargados entre dos
+ * snapshots de {@link PersistenciaBinaria} sobrevivan a un cierre inesperado.
+ * Al iniciar, el diario se reproduce sobre el último snapshot.
+ * </p>
+ * <p>
+ * Las entidades se anotan por su clave natural (DNI, número de chasis,
+ * nombre y fecha del Gran Premio, etc.) y se resuelven contra el gestor al
+ * reproducir. Cada registro lleva un número de secuencia creciente y un CRC32;
+ * el snapshot guarda la última secuencia que incluye, por lo que los registros
+ * ya contenidos en él se omiten y un registro final incompleto (escritura
+ * cortada) se descarta.
+ * </p>
+ * <p>
+ * Escrituras agrupadas (group commit): {@link #anotar} sólo encola el registro
+ * y un hilo sincronizador escribe y fuerza a disco todo lo acumulado cada
+ * {@link #INTERVALO_SINCRONIZACION_MS} milisegundos, con un único
+ * {@code fsync} por lote. {@link #sincronizar()} espera a que todo lo anotado
+ * hasta el momento sea durable.
+ * </p>
+ * <p>
+ * Compactación: cada {@link #REGISTROS_POR_COMPACTACION} registros, al abrir y
+ * al cerrar, se guarda un snapshot nuevo y se vacía el diario.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class DiarioOperaciones implements Closeable {
+
+    /** Tiempo máximo que un registro espera en memoria antes de ir a disco */
+    public static final long INTERVALO_SINCRONIZACION_MS = 50;
+
+    /** Cantidad de registros tras la cual se compacta en un snapshot */
+    public static final int REGISTROS_POR_COMPACTACION = 10_000;
+
+    /** Tamaño máximo aceptado para un registro al reproducir */
+    private static final int TAMANIO_MAXIMO_REGISTRO = 1 << 20;
+
+    /**
+     * Tipos de operación anotados en el diario.
+     */
+    enum Tipo {
+        REGISTRAR_PAIS,
+        REGISTRAR_ESCUDERIA,
+        REGISTRAR_PILOTO,
+        REGISTRAR_AUTO,
+        REGISTRAR_MECANICO,
+        REGISTRAR_CIRCUITO,
+        REGISTRAR_GRAN_PREMIO,
+        ASIGNAR_PILOTO_A_ESCUDERIA,
+        INSCRIBIR_PILOTO_EN_CARRERA,
+        MODIFICAR_IDENTIFICACION_PILOTO,
+        MODIFICAR_GRAN_PREMIO,
+        ELIMINAR_PILOTO,
+        ELIMINAR_ESCUDERIA,
+        ELIMINAR_CIRCUITO,
+        ELIMINAR_GRAN_PREMIO,
+        REMOVER_PARTICIPACION,
+        ESTABLECER_POSICION_FINAL,
+        MARCAR_ABANDONO,
+        ASIGNAR_VUELTA_RAPIDA,
+        ESTABLECER_MEJOR_VUELTA,
+        FINALIZAR_CARRERA,
+        CAMBIAR_ESCUDERIA_PILOTO,
+        ASIGNAR_CONTRATO,
+        FINALIZAR_RELACION_ACTIVA,
+        ACTUALIZAR_ESCUDERIAS_SEGUN_CONTRATOS,
+        ARCHIVAR_TEMPORADA,
+        ASIGNAR_AUTO_A_ESCUDERIA,
+        REMOVER_AUTO_DE_ESCUDERIA,
+        INSCRIBIR_PARRILLAS,
+        ESTABLECER_RESULTADOS_CARRERAS,
+        ESTABLECER_TIEMPOS_VUELTA,
+        MODIFICAR_DATOS_PILOTO,
+        MODIFICAR_ESCUDERIA,
+        MODIFICAR_CIRCUITO,
+        ASIGNAR_MECANICO_A_ESCUDERIA,
+        REMOVER_MECANICO_DE_ESCUDERIA,
+        MODIFICAR_ESPECIALIDADES_MECANICO,
+        CAMBIAR_AUTO_PARTICIPACION
+    }
+
+    /** Marcas de tipo de cada argumento codificado */
+    private static final byte NULO = 0;
+    private static final byte TEXTO = 1;
+    private static final byte ENTERO = 2;
+    private static final byte LOGICO = 3;
+    private static final byte FECHA_HORA = 4;
+    private static final byte DECIMAL = 5;
+    private static final byte DURACION = 6;
+    private static final byte VUELTAS = 7;
+
+    private final GestorFormula1 gestor;
+    private final Path archivoSnapshot;
+    private final FileChannel canal;
+    private final Thread sincronizador;
+
+    /** Serializa las escrituras sobre el canal (se toma antes que this) */
+    private final Object escritura = new Object();
+
+    /** Registros anotados que todavía no se escribieron (protegido por this) */
+    private ByteArrayOutputStream pendientes;
+
+    /** Última secuencia asignada (protegido por this) */
+    private long ultimaSecuencia;
+
+    /** Última secuencia escrita y forzada a disco (protegido por this) */
+    private long secuenciaDurable;
+
+    /** Registros anotados desde la última compactación (protegido por this) */
+    private int registrosDesdeCompactacion;
+
+    /** Error de escritura del sincronizador, si lo hubo (protegido por this) */
+    private IOException error;
+
+    /** Pide al sincronizador que escriba sin esperar la ventana (protegido por this) */
+    private boolean urgente;
+
+    private boolean cerrado;
+
+    private DiarioOperaciones(GestorFormula1 gestor, Path archivoSnapshot, Path archivoDiario) throws IOException {
+        this.gestor = gestor;
+        this.archivoSnapshot = archivoSnapshot;
+        this.canal = FileChannel.open(archivoDiario, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.pendientes = new ByteArrayOutputStream();
+        this.ultimaSecuencia = gestor.getSecuenciaDiario();
+        this.secuenciaDurable = ultimaSecuencia;
+        this.sincronizador = new Thread(this::ejecutarSincronizador, "diario-operaciones");
+        this.sincronizador.setDaemon(true);
+    }
+
+    // ==================== APERTURA Y RECUPERACIÓN ====================
+
+    /**
+     * Recupera el estado del sistema a partir del último snapshot y del diario.
+     *
+     * @param archivoSnapshot Archivo de snapshot (puede no existir)
+     * @param archivoDiario   Archivo del diario (puede no existir)
+     * @return Gestor con el estado recuperado, o null si no hay datos guardados
+     * @throws IOException si los archivos no pueden leerse o el diario contiene
+     *                     operaciones que no se pueden reproducir
+     */
+    public static GestorFormula1 recuperar(Path archivoSnapshot, Path archivoDiario) throws IOException {
+        boolean haySnapshot = Files.exists(archivoSnapshot);
+        boolean hayDiario = Files.exists(archivoDiario) && Files.size(archivoDiario) > 0;
+        if (!haySnapshot && !hayDiario) {
+            return null;
+        }
+        GestorFormula1 gestor = haySnapshot ? PersistenciaBinaria.cargar(archivoSnapshot) : new GestorFormula1();
+        if (hayDiario) {
+            reproducir(archivoDiario, gestor);
+        }
+        return gestor;
+    }
+
+    /**
+     * Abre el diario y lo asocia al gestor para anotar sus operaciones.
+     * <p>
+     * Antes de empezar se compacta el estado actual en un snapshot, de modo
+     * que el diario siempre parte de un snapshot coherente con el gestor.
+     * </p>
+     *
+     * @param gestor          Gestor cuyas operaciones se anotarán
+     * @param archivoSnapshot Archivo de snapshot
+     * @param archivoDiario   Archivo del diario
+     * @return Diario abierto y asociado al gestor
+     * @throws IOException si no se puede crear el snapshot o el diario
+     */
+    public static DiarioOperaciones abrir(GestorFormula1 gestor, Path archivoSnapshot, Path archivoDiario)
+            throws IOException {
+        if (gestor == null || archivoSnapshot == null || archivoDiario == null) {
+            throw new NullPointerException("El gestor y los archivos no pueden ser null");
+        }
+        DiarioOperaciones diario = new DiarioOperaciones(gestor, archivoSnapshot, archivoDiario);
+        diario.compactar();
+        diario.sincronizador.start();
+        gestor.setDiario(diario);
+        return diario;
+    }
+
+    /**
+     * Reproduce sobre el gestor los registros del diario posteriores a su
+     * última secuencia.
+     *
+     * @param archivoDiario Archivo del diario
+     * @param gestor        Gestor sobre el que reproducir
+     * @return Cantidad de operaciones reproducidas
+     * @throws IOException si una operación no puede reproducirse
+     */
+    static int reproducir(Path archivoDiario, GestorFormula1 gestor) throws IOException {
+        int reproducidas = 0;
+        try (DataInputStream entrada = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(archivoDiario), 1 << 16))) {
+            CRC32 crc = new CRC32();
+            while (true) {
+                byte[] registro;
+                try {
+                    int longitud = entrada.readInt();
+                    int suma = entrada.readInt();
+                    if (longitud <= 0 || longitud > TAMANIO_MAXIMO_REGISTRO) {
+                        break;
+                    }
+                    registro = new byte[longitud];
+                    entrada.readFully(registro);
+                    crc.reset();
+                    crc.update(registro);
+                    if ((int) crc.getValue() != suma) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    // Fin del diario o último registro cortado
+                    break;
+                }
+
+                DataInputStream datos = new DataInputStream(new ByteArrayInputStream(registro));
+                long secuencia = datos.readLong();
+                if (secuencia <= gestor.getSecuenciaDiario()) {
+                    continue;
+                }
+                Tipo tipo = Tipo.values()[datos.readUnsignedByte()];
+                Object[] argumentos = new Object[PersistenciaBinaria.leerVarInt(datos)];
+                for (int i = 0; i < argumentos.length; i++) {
+                    argumentos[i] = leerArgumento(datos);
+                }
+                try {
+                    aplicar(gestor, tipo, argumentos);
+                } catch (RuntimeException e) {
+                    throw new IOException("No se pudo reproducir la operación " + secuencia + " (" + tipo + "): "
+                            + e.getMessage(), e);
+                }
+                gestor.setSecuenciaDiario(secuencia);
+                reproducidas++;
+            }
+        }
+        return reproducidas;
+    }
+
+    // ==================== ANOTACIÓN ====================
+
+    /**
+     * Comprueba que el diario pueda anotar operaciones. El gestor lo consulta
+     * al tomar el cerrojo de escritura, antes de aplicar un cambio que
+     * después no podría anotarse.
+     *
+     * @throws IllegalStateException si el diario está cerrado o falló una
+     *                               escritura anterior
+     */
+    synchronized void verificarDisponible() {
+        if (cerrado) {
+            throw new IllegalStateException("El diario de operaciones está cerrado");
+        }
+        if (error != null) {
+            throw new IllegalStateException("El diario de operaciones no está disponible: " + error.getMessage(),
+                    error);
+        }
+    }
+
+    /**
+     * Anota una operación ya aplicada sobre el gestor.
+     * <p>
+     * El registro queda en memoria hasta la próxima sincronización del lote.
+     * </p>
+     *
+     * @param tipo       Tipo de operación
+     * @param argumentos Argumentos de la operación (claves y valores simples)
+     * @throws IllegalStateException si el diario está cerrado o falló una
+     *                               escritura anterior
+     */
+    void anotar(Tipo tipo, Object... argumentos) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream salida = new DataOutputStream(bytes);
+        long secuencia;
+        boolean compactarAhora;
+        synchronized (this) {
+            verificarDisponible();
+            secuencia = ++ultimaSecuencia;
+            try {
+                salida.writeLong(secuencia);
+                salida.writeByte(tipo.ordinal());
+                PersistenciaBinaria.escribirVarInt(salida, argumentos.length);
+                for (Object argumento : argumentos) {
+                    escribirArgumento(salida, argumento);
+                }
+                byte[] registro = bytes.toByteArray();
+                if (registro.length > TAMANIO_MAXIMO_REGISTRO) {
+                    throw new IllegalStateException("El registro de " + tipo + " supera el tamaño máximo del diario");
+                }
+                CRC32 crc = new CRC32();
+                crc.update(registro);
+                DataOutputStream lote = new DataOutputStream(pendientes);
+                lote.writeInt(registro.length);
+                lote.writeInt((int) crc.getValue());
+                lote.write(registro);
+            } catch (IOException e) {
+                // Escritura en memoria: no debería ocurrir
+                throw new UncheckedIOException(e);
+            }
+            compactarAhora = ++registrosDesdeCompactacion >= REGISTROS_POR_COMPACTACION;
+            notifyAll();
+        }
+        gestor.setSecuenciaDiario(secuencia);
+
+        if (compactarAhora) {
+            try {
+                compactar();
+            } catch (IOException e) {
+                synchronized (this) {
+                    error = e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Espera a que todas las operaciones anotadas hasta el momento estén
+     * escritas en disco.
+     *
+     * @throws IOException si falló la escritura del diario
+     */
+    public void sincronizar() throws IOException {
+        synchronized (this) {
+            long objetivo = ultimaSecuencia;
+            urgente = true;
+            notifyAll();
+            while (secuenciaDurable < objetivo && error == null && sincronizador.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Sincronización del diario interrumpida");
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+        // Sin sincronizador (diario cerrándose): se escribe desde este hilo
+        escribirPendientes();
+    }
+
+    /**
+     * Guarda un snapshot con el estado actual y vacía el diario.
+     * <p>
+     * El snapshot registra la última secuencia anotada; si el proceso se
+     * interrumpe antes de vaciar el diario, sus registros se omiten al
+     * reproducir porque ya están incluidos en el snapshot.
+     * </p>
+     *
+     * @throws IOException si no se puede guardar el snapshot o vaciar el diario
+     */
+    public void compactar() throws IOException {
+        // El cerrojo del gestor va primero: las operaciones lo tienen tomado al anotar
+        gestor.bloquearLectura();
+        try {
+            synchronized (escritura) {
+                synchronized (this) {
+                    PersistenciaBinaria.guardar(gestor, archivoSnapshot);
+                    pendientes = new ByteArrayOutputStream();
+                    canal.truncate(0);
+                    canal.position(0);
+                    canal.force(true);
+                    secuenciaDurable = ultimaSecuencia;
+                    registrosDesdeCompactacion = 0;
+                    notifyAll();
+                }
+            }
+        } finally {
+            gestor.desbloquearLectura();
+        }
+    }
+
+    /**
+     * Compacta el estado en un snapshot final, detiene el sincronizador y
+     * cierra el diario.
+     *
+     * @throws IOException si no se puede guardar el snapshot final
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            notifyAll();
+        }
+        gestor.setDiario(null);
+        try {
+            sincronizador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            compactar();
+        } finally {
+            canal.close();
+        }
+    }
+
+    // ==================== SINCRONIZADOR (GROUP COMMIT) ====================
+
+    private void ejecutarSincronizador() {
+        while (true) {
+            synchronized (this) {
+                while (pendientes.size() == 0 && !cerrado) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                // Ventana de agrupamiento: se acumulan registros antes del fsync
+                long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(INTERVALO_SINCRONIZACION_MS);
+                long restante;
+                while (!cerrado && !urgente && (restante = limite - System.nanoTime()) > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, restante);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (cerrado) {
+                    return;
+                }
+                urgente = false;
+            }
+            try {
+                escribirPendientes();
+            } catch (IOException e) {
+                synchronized (this) {
+                    error = e;
+                    notifyAll();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Escribe el lote pendiente y lo fuerza a disco con un único fsync.
+     * <p>
+     * La escritura se hace fuera del monitor del diario, de modo que
+     * {@link #anotar} puede seguir encolando registros mientras dura el fsync.
+     * </p>
+     */
+    private void escribirPendientes() throws IOException {
+        synchronized (escritura) {
+            ByteBuffer lote;
+            long secuenciaLote;
+            synchronized (this) {
+                if (pendientes.size() == 0) {
+                    return;
+                }
+                lote = ByteBuffer.wrap(pendientes.toByteArray());
+                secuenciaLote = ultimaSecuencia;
+                pendientes = new ByteArrayOutputStream();
+            }
+            while (lote.hasRemaining()) {
+                canal.write(lote);
+            }
+            canal.force(false);
+            synchronized (this) {
+                secuenciaDurable = secuenciaLote;
+                notifyAll();
+            }
+        }
+    }
+
+    // ==================== CODIFICACIÓN DE ARGUMENTOS ====================
+
+    private static void escribirArgumento(DataOutputStream salida, Object argumento) throws IOException {
+        if (argumento == null) {
+            salida.writeByte(NULO);
+        } else if (argumento instanceof String texto) {
+            salida.writeByte(TEXTO);
+            salida.writeUTF(texto);
+        } else if (argumento instanceof Integer entero) {
+            salida.writeByte(ENTERO);
+            salida.writeInt(entero);
+        } else if (argumento instanceof Boolean logico) {
+            salida.writeByte(LOGICO);
+            salida.writeBoolean(logico);
+        } else if (argumento instanceof LocalDateTime fechaHora) {
+            salida.writeByte(FECHA_HORA);
+            salida.writeLong(fechaHora.toEpochSecond(ZoneOffset.UTC));
+            salida.writeInt(fechaHora.getNano());
+        } else if (argumento instanceof Double decimal) {
+            salida.writeByte(DECIMAL);
+            salida.writeDouble(decimal);
+        } else if (argumento instanceof Duration duracion) {
+            salida.writeByte(DURACION);
+            salida.writeLong(duracion.toNanos());
+        } else if (argumento instanceof int[] vueltas) {
+            salida.writeByte(VUELTAS);
+            PersistenciaBinaria.escribirVueltas(salida, vueltas);
+        } else {
+            throw new IllegalArgumentException("Tipo de argumento no soportado: " + argumento.getClass());
+        }
+    }
+
+    private static Object leerArgumento(DataInputStream entrada) throws IOException {
+        byte marca = entrada.readByte();
+        switch (marca) {
+            case NULO:
+                return null;
+            case TEXTO:
+                return entrada.readUTF();
+            case ENTERO:
+                return entrada.readInt();
+            case LOGICO:
+                return entrada.readBoolean();
+            case FECHA_HORA:
+                return LocalDateTime.ofEpochSecond(entrada.readLong(), entrada.readInt(), ZoneOffset.UTC);
+            case DECIMAL:
+                return entrada.readDouble();
+            case DURACION:
+                return Duration.ofNanos(entrada.readLong());
+            case VUELTAS:
+                return PersistenciaBinaria.leerVueltas(entrada);
+            default:
+                throw new IOException("Argumento de diario desconocido: " + marca);
+        }
+    }
+
+    // ==================== REPRODUCCIÓN ====================
+
+    private static void aplicar(GestorFormula1 gestor, Tipo tipo, Object[] a) throws IOException {
+        switch (tipo) {
+            case REGISTRAR_PAIS:
+                gestor.registrarPais(new Pais((String) a[0], (String) a[1]));
+                break;
+            case REGISTRAR_ESCUDERIA:
+                gestor.registrarEscuderia(new Escuderia((String) a[0], pais(gestor, a[1], a[2])));
+                break;
+            case REGISTRAR_PILOTO:
+                gestor.registrarPiloto(new Piloto((String) a[0], (String) a[1], (String) a[2], (Integer) a[3],
+                        (String) a[4], (Integer) a[5], (Integer) a[6]));
+                break;
+            case REGISTRAR_AUTO:
+                gestor.registrarAuto(new Auto((String) a[0], (String) a[1], (String) a[2], (Integer) a[3],
+                        (String) a[4], (Double) a[5], (Integer) a[6]));
+                break;
+            case REGISTRAR_MECANICO:
+                gestor.registrarMecanico(new Mecanico((String) a[0], (String) a[1], (String) a[2], (Integer) a[3],
+                        especialidades(a, 4)));
+                break;
+            case REGISTRAR_CIRCUITO:
+                gestor.registrarCircuito(new Circuito((String) a[0], pais(gestor, a[1], a[2]), (Double) a[3],
+                        (Integer) a[4], (String) a[5]));
+                break;
+            case REGISTRAR_GRAN_PREMIO:
+                gestor.registrarGranPremio(new GranPremio((String) a[0], (LocalDateTime) a[1],
+                        circuito(gestor, a[2], a[3])));
+                break;
+            case ASIGNAR_PILOTO_A_ESCUDERIA:
+                gestor.asignarPilotoAEscuderia(piloto(gestor, a[0]), escuderia(gestor, a[1]));
+                break;
+            case INSCRIBIR_PILOTO_EN_CARRERA:
+                gestor.inscribirPilotoEnCarrera(piloto(gestor, a[0]), gestor.buscarAutoPorChasis((String) a[1]),
+                        granPremio(gestor, a[2], a[3]));
+                break;
+            case MODIFICAR_IDENTIFICACION_PILOTO:
+                gestor.modificarIdentificacionPiloto(piloto(gestor, a[0]), (String) a[1], (Integer) a[2]);
+                break;
+            case MODIFICAR_DATOS_PILOTO:
+                gestor.modificarDatosPiloto(piloto(gestor, a[0]), (String) a[1], (String) a[2], (Integer) a[3],
+                        (String) a[4], (Integer) a[5]);
+                break;
+            case MODIFICAR_ESCUDERIA:
+                gestor.modificarEscuderia(escuderia(gestor, a[0]), (String) a[1], pais(gestor, a[2], a[3]));
+                break;
+            case MODIFICAR_CIRCUITO:
+                gestor.modificarCircuito(circuito(gestor, a[0], a[1]), (String) a[2], pais(gestor, a[3], a[4]),
+                        (Double) a[5], (Integer) a[6], (String) a[7]);
+                break;
+            case MODIFICAR_GRAN_PREMIO:
+                gestor.modificarGranPremio(granPremio(gestor, a[0], a[1]), (String) a[2], circuito(gestor, a[3], a[4]),
+                        (LocalDateTime) a[5]);
+                break;
+            case ELIMINAR_PILOTO:
+                gestor.eliminarPiloto(piloto(gestor, a[0]));
+                break;
+            case ELIMINAR_ESCUDERIA:
+                gestor.eliminarEscuderia(escuderia(gestor, a[0]));
+                break;
+            case ELIMINAR_CIRCUITO:
+                gestor.eliminarCircuito(circuito(gestor, a[0], a[1]));
+                break;
+            case ELIMINAR_GRAN_PREMIO:
+                gestor.eliminarGranPremio(granPremio(gestor, a[0], a[1]));
+                break;
+            case REMOVER_PARTICIPACION: {
+                GranPremio granPremio = granPremio(gestor, a[0], a[1]);
+                gestor.removerParticipacion(granPremio, participacion(granPremio, piloto(gestor, a[2])));
+                break;
+            }
+            case ESTABLECER_POSICION_FINAL:
+                gestor.establecerPosicionFinal(participacion(gestor, a), (Integer) a[3]);
+                break;
+            case MARCAR_ABANDONO:
+                gestor.marcarAbandono(participacion(gestor, a), (String) a[3]);
+                break;
+            case ASIGNAR_VUELTA_RAPIDA:
+                gestor.asignarVueltaRapida(participacion(gestor, a), (Boolean) a[3]);
+                break;
+            case ESTABLECER_MEJOR_VUELTA:
+                gestor.establecerMejorVuelta(participacion(gestor, a), (Duration) a[3]);
+                break;
+            case ESTABLECER_TIEMPOS_VUELTA:
+                gestor.establecerTiemposVuelta(participacion(gestor, a), (int[]) a[3]);
+                break;
+            case FINALIZAR_CARRERA:
+                gestor.finalizarCarrera(granPremio(gestor, a[0], a[1]));
+                break;
+            case CAMBIAR_ESCUDERIA_PILOTO:
+                gestor.cambiarEscuderiaPiloto(piloto(gestor, a[0]), escuderia(gestor, a[1]));
+                break;
+            case ASIGNAR_CONTRATO:
+                gestor.asignarPilotoAEscuderia(piloto(gestor, a[0]), escuderia(gestor, a[1]), (String) a[2],
+                        (String) a[3]);
+                break;
+            case FINALIZAR_RELACION_ACTIVA:
+                gestor.finalizarRelacionActivaPiloto(piloto(gestor, a[0]), (String) a[1]);
+                break;
+            case ACTUALIZAR_ESCUDERIAS_SEGUN_CONTRATOS:
+                gestor.actualizarEscuderiasSegunContratos(LocalDate.parse((String) a[0]));
+                break;
+            case ARCHIVAR_TEMPORADA:
+                gestor.archivarTemporada((Integer) a[0], Path.of((String) a[1]));
+                break;
+            case ASIGNAR_AUTO_A_ESCUDERIA:
+                gestor.asignarAutoAEscuderia(auto(gestor, a[0]), escuderia(gestor, a[1]));
+                break;
+            case REMOVER_AUTO_DE_ESCUDERIA:
+                gestor.removerAutoDeEscuderia(auto(gestor, a[0]));
+                break;
+            case ASIGNAR_MECANICO_A_ESCUDERIA:
+                gestor.asignarMecanicoAEscuderia(mecanico(gestor, a[0]), escuderia(gestor, a[1]));
+                break;
+            case REMOVER_MECANICO_DE_ESCUDERIA:
+                gestor.removerMecanicoDeEscuderia(mecanico(gestor, a[0]));
+                break;
+            case MODIFICAR_ESPECIALIDADES_MECANICO:
+                gestor.modificarEspecialidadesMecanico(mecanico(gestor, a[0]), especialidades(a, 1));
+                break;
+            case CAMBIAR_AUTO_PARTICIPACION:
+                gestor.cambiarAutoParticipacion(participacion(gestor, a), a[3] != null ? auto(gestor, a[3]) : null);
+                break;
+            case INSCRIBIR_PARRILLAS: {
+                Map<GranPremio, List<Inscripcion>> parrillas = new LinkedHashMap<>();
+                for (int i = 0; i < a.length; ) {
+                    GranPremio granPremio = granPremio(gestor, a[i], a[i + 1]);
+                    int cantidad = (Integer) a[i + 2];
+                    i += 3;
+                    List<Inscripcion> parrilla = new ArrayList<>(cantidad);
+                    for (int j = 0; j < cantidad; j++, i += 2) {
+                        parrilla.add(new Inscripcion(piloto(gestor, a[i]), auto(gestor, a[i + 1])));
+                    }
+                    parrillas.put(granPremio, parrilla);
+                }
+                List<String> errores = gestor.inscribirParrillas(parrillas);
+                if (!errores.isEmpty()) {
+                    throw new IllegalArgumentException(errores.get(0));
+                }
+                break;
+            }
+            case ESTABLECER_RESULTADOS_CARRERAS: {
+                List<ResultadoCarrera> resultados = new ArrayList<>();
+                for (int i = 0; i < a.length; ) {
+                    ResultadoCarrera resultado = new ResultadoCarrera(granPremio(gestor, a[i], a[i + 1]));
+                    int cantidad = (Integer) a[i + 2];
+                    i += 3;
+                    for (int j = 0; j < cantidad; j++, i += 3) {
+                        int numero = piloto(gestor, a[i]).getNumero();
+                        if (a[i + 2] != null) {
+                            resultado.agregarAbandono(numero, (String) a[i + 2]);
+                        } else {
+                            resultado.agregarPosicion(numero, (Integer) a[i + 1]);
+                        }
+                    }
+                    if (a[i] != null) {
+                        resultado.setVueltaRapida(piloto(gestor, a[i]).getNumero());
+                    }
+                    i++;
+                    resultados.add(resultado);
+                }
+                List<String> errores = gestor.establecerResultadosCarreras(resultados);
+                if (!errores.isEmpty()) {
+                    throw new IllegalArgumentException(errores.get(0));
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Operación desconocida: " + tipo);
+        }
+    }
+
+    private static Pais pais(GestorFormula1 gestor, Object nombre, Object codigo) {
+        Pais buscado = new Pais((String) nombre, (String) codigo);
+        for (Pais pais : gestor.getRepositorio().getPaises()) {
+            if (pais.equals(buscado)) {
+                return pais;
+            }
+        }
+        return buscado;
+    }
+
+    private static Escuderia escuderia(GestorFormula1 gestor, Object nombre) {
+        for (Escuderia escuderia : gestor.getRepositorio().getEscuderias()) {
+            if (escuderia.getNombre().equals(nombre)) {
+                return escuderia;
+            }
+        }
+        throw new IllegalArgumentException("No existe la escudería " + nombre);
+    }
+
+    private static Circuito circuito(GestorFormula1 gestor, Object nombre, Object codigoPais) {
+        for (Circuito circuito : gestor.getRepositorio().getCircuitos()) {
+            if (circuito.getNombre().equals(nombre) && circuito.getPais().getCodigo().equals(codigoPais)) {
+                return circuito;
+            }
+        }
+        throw new IllegalArgumentException("No existe el circuito " + nombre);
+    }
+
+    private static Piloto piloto(GestorFormula1 gestor, Object dni) {
+        Piloto piloto = gestor.buscarPilotoPorDni((String) dni);
+        if (piloto == null) {
+            throw new IllegalArgumentException("No existe el piloto con DNI " + dni);
+        }
+        return piloto;
+    }
+
+    private static Auto auto(GestorFormula1 gestor, Object numeroChasis) {
+        Auto auto = gestor.buscarAutoPorChasis((String) numeroChasis);
+        if (auto == null) {
+            throw new IllegalArgumentException("No existe el auto con chasis " + numeroChasis);
+        }
+        return auto;
+    }
+
+    private static Mecanico mecanico(GestorFormula1 gestor, Object dni) {
+        Mecanico mecanico = gestor.buscarMecanicoPorDni((String) dni);
+        if (mecanico == null) {
+            throw new IllegalArgumentException("No existe el mecánico con DNI " + dni);
+        }
+        return mecanico;
+    }
+
+    /**
+     * Resuelve las especialidades anotadas por nombre desde un argumento.
+     */
+    private static List<Especialidad> especialidades(Object[] a, int desde) {
+        List<Especialidad> especialidades = new ArrayList<>();
+        for (int i = desde; i < a.length; i++) {
+            especialidades.add(Especialidad.valueOf((String) a[i]));
+        }
+        return especialidades;
+    }
+
+    private static GranPremio granPremio(GestorFormula1 gestor, Object nombre, Object fechaHora) {
+        GranPremio granPremio = gestor.buscarGranPremio((String) nombre, (LocalDateTime) fechaHora);
+        if (granPremio == null) {
+            throw new IllegalArgumentException("No existe el Gran Premio " + nombre);
+        }
+        return granPremio;
+    }
+
+    private static Participacion participacion(GranPremio granPremio, Piloto piloto) {
+        TablaResultados resultados = granPremio.getTablaResultados();
+        int fila = resultados.buscarPiloto(piloto);
+        if (fila >= 0) {
+            return resultados.getParticipacion(fila);
+        }
+        throw new IllegalArgumentException("El piloto " + piloto.getNombreCompleto() + " no está inscrito en "
+                + granPremio.getNombre());
+    }
+
+    /**
+     * Resuelve una participación anotada como (nombre del GP, fecha, DNI).
+     */
+    private static Participacion participacion(GestorFormula1 gestor, Object[] a) {
+        return participacion(granPremio(gestor, a[0], a[1]), piloto(gestor, a[2]));
+    }
+}
@@ -0,0 +1,167 @@
+package controlador;
+
+import modelo.Piloto;
+import java.util.Arrays;
+
+/**
+ * Estadísticas agregadas de un piloto en las carreras finalizadas.
+ * <p>
+ * Reúne en un único objeto las métricas que antes se calculaban recorriendo
+ * todas las participaciones de todos los Grandes Premios por cada columna de
+ * los reportes: carreras disputadas, victorias, podios, abandonos, mejor
+ * posición y posición promedio.
+ * </p>
+ * <p>
+ * El {@link GestorFormula1} mantiene estas estadísticas de forma incremental
+ * a medida que se finalizan carreras o se corrigen resultados. Las instancias
+ * que entrega el gestor son copias y no se ven afectadas por cambios
+ * posteriores.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class EstadisticasPiloto {
+    /** Piloto al que pertenecen las estadísticas */
+    private final Piloto piloto;
+
+    /** Carreras finalizadas disputadas */
+    private int carreras;
+
+    /** Primeros puestos */
+    private int victorias;
+
+    /** Posiciones entre la 1 y la 3 */
+    private int podios;
+
+    /** Carreras no terminadas */
+    private int abandonos;
+
+    /** Carreras con posición final asignada */
+    private int clasificaciones;
+
+    /** Suma de las posiciones finales, para el promedio */
+    private long sumaPosiciones;
+
+    /** Cantidad de veces que terminó en cada posición (índice = posición) */
+    private int[] vecesEnPosicion;
+
+    /**
+     * Crea estadísticas vacías para un piloto.
+     *
+     * @param piloto Piloto al que pertenecen
+     */
+    EstadisticasPiloto(Piloto piloto) {
+        this.piloto = piloto;
+        this.vecesEnPosicion = new int[21];
+    }
+
+    /**
+     * Crea una copia independiente de otras estadísticas.
+     *
+     * @param otra Estadísticas a copiar
+     */
+    EstadisticasPiloto(EstadisticasPiloto otra) {
+        this.piloto = otra.piloto;
+        this.carreras = otra.carreras;
+        this.victorias = otra.victorias;
+        this.podios = otra.podios;
+        this.abandonos = otra.abandonos;
+        this.clasificaciones = otra.clasificaciones;
+        this.sumaPosiciones = otra.sumaPosiciones;
+        this.vecesEnPosicion = otra.vecesEnPosicion.clone();
+    }
+
+    /**
+     * Suma o resta el resultado de una carrera.
+     *
+     * @param posicion Posición final (0 si no se clasificó)
+     * @param abandono true si no terminó la carrera
+     * @param signo    1 para sumar el resultado, -1 para retirarlo
+     */
+    void acumular(int posicion, boolean abandono, int signo) {
+        carreras += signo;
+        if (abandono) {
+            abandonos += signo;
+            return;
+        }
+        if (posicion <= 0) {
+            return;
+        }
+        if (posicion == 1) {
+            victorias += signo;
+        }
+        if (posicion <= 3) {
+            podios += signo;
+        }
+        clasificaciones += signo;
+        sumaPosiciones += (long) signo * posicion;
+        if (posicion >= vecesEnPosicion.length) {
+            vecesEnPosicion = Arrays.copyOf(vecesEnPosicion, posicion + 1);
+        }
+        vecesEnPosicion[posicion] += signo;
+    }
+
+    /**
+     * Indica si otras estadísticas tienen los mismos valores que éstas.
+     *
+     * @param otra Estadísticas a comparar
+     * @return true si todas las métricas coinciden
+     */
+    boolean coincideCon(EstadisticasPiloto otra) {
+        return carreras == otra.carreras && victorias == otra.victorias && podios == otra.podios
+                && abandonos == otra.abandonos && clasificaciones == otra.clasificaciones
+                && sumaPosiciones == otra.sumaPosiciones && getMejorPosicion() == otra.getMejorPosicion();
+    }
+
+    public Piloto getPiloto() {
+        return piloto;
+    }
+
+    public int getCarreras() {
+        return carreras;
+    }
+
+    public int getVictorias() {
+        return victorias;
+    }
+
+    public int getPodios() {
+        return podios;
+    }
+
+    public int getAbandonos() {
+        return abandonos;
+    }
+
+    /**
+     * Obtiene la mejor posición final alcanzada.
+     *
+     * @return Mejor posición, o 0 si nunca se clasificó
+     */
+    public int getMejorPosicion() {
+        for (int posicion = 1; posicion < vecesEnPosicion.length; posicion++) {
+            if (vecesEnPosicion[posicion] > 0) {
+                return posicion;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Obtiene la posición final promedio de las carreras en las que se
+     * clasificó.
+     *
+     * @return Posición promedio, o 0.0 si nunca se clasificó
+     */
+    public double getPromedioPosicion() {
+        return clasificaciones > 0 ? (double) sumaPosiciones / clasificaciones : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return piloto.getNombreCompleto() + ": " + carreras + " carreras, " + victorias + " victorias, "
+                + podios + " podios, " + abandonos + " abandonos";
+    }
+}
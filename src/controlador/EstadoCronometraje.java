@@ -0,0 +1,186 @@
+package controlador;
+
+import modelo.Participacion;
+
+/**
+ * Foto del cronometraje en vivo de una carrera en un instante.
+ * <p>
+ * Las filas están en el orden de carrera: primero los pilotos en pista o que
+ * ya recibieron la bandera, y al final los que abandonaron, del último al
+ * primero en hacerlo. Las diferencias se miden en el último punto de
+ * cronometraje que cruzó cada piloto. Las instancias son inmutables.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ * @see CronometrajeEnVivo#getEstado()
+ */
+public class EstadoCronometraje {
+    /** Valor de las diferencias cuando no corresponden (líder o abandono) */
+    public static final long SIN_DIFERENCIA = -1L;
+
+    private final Participacion[] participaciones;
+    private final int[] vueltas;
+    private final int[] ultimasVueltas;
+    private final long[] tiempos;
+    private final long[] diferenciasLider;
+    private final int[] vueltasDetras;
+    private final long[] intervalos;
+    private final boolean[] abandonos;
+    private final boolean[] terminados;
+
+    private final long eventosProcesados;
+    private final long eventosDescartados;
+    private final int eventosPendientes;
+    private final long esperasLector;
+    private final double nanosPorEvento;
+    private final boolean terminado;
+    private final String error;
+
+    EstadoCronometraje(Participacion[] participaciones, int[] vueltas, int[] ultimasVueltas, long[] tiempos,
+            long[] diferenciasLider, int[] vueltasDetras, long[] intervalos, boolean[] abandonos,
+            boolean[] terminados, long eventosProcesados, long eventosDescartados, int eventosPendientes,
+            long esperasLector, double nanosPorEvento, boolean terminado, String error) {
+        this.participaciones = participaciones;
+        this.vueltas = vueltas;
+        this.ultimasVueltas = ultimasVueltas;
+        this.tiempos = tiempos;
+        this.diferenciasLider = diferenciasLider;
+        this.vueltasDetras = vueltasDetras;
+        this.intervalos = intervalos;
+        this.abandonos = abandonos;
+        this.terminados = terminados;
+        this.eventosProcesados = eventosProcesados;
+        this.eventosDescartados = eventosDescartados;
+        this.eventosPendientes = eventosPendientes;
+        this.esperasLector = esperasLector;
+        this.nanosPorEvento = nanosPorEvento;
+        this.terminado = terminado;
+        this.error = error;
+    }
+
+    /**
+     * @return Cantidad de filas (una por participación)
+     */
+    public int size() {
+        return participaciones.length;
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return Participación en esa posición
+     */
+    public Participacion getParticipacion(int posicion) {
+        return participaciones[posicion];
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return Vueltas completadas
+     */
+    public int getVueltas(int posicion) {
+        return vueltas[posicion];
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return Tiempo de la última vuelta completada en milisegundos, o 0
+     */
+    public int getUltimaVuelta(int posicion) {
+        return ultimasVueltas[posicion];
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return Tiempo de carrera en el último punto cruzado, en milisegundos
+     */
+    public long getTiempo(int posicion) {
+        return tiempos[posicion];
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return Diferencia con el líder en milisegundos, o
+     *         {@link #SIN_DIFERENCIA}
+     */
+    public long getDiferenciaLider(int posicion) {
+        return diferenciasLider[posicion];
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return Vueltas completas que le lleva el líder
+     */
+    public int getVueltasDetras(int posicion) {
+        return vueltasDetras[posicion];
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return Diferencia con el piloto de adelante en milisegundos, o
+     *         {@link #SIN_DIFERENCIA}
+     */
+    public long getIntervalo(int posicion) {
+        return intervalos[posicion];
+    }
+
+    public boolean isAbandono(int posicion) {
+        return abandonos[posicion];
+    }
+
+    /**
+     * @param posicion Posición en el orden de carrera (0-based)
+     * @return true si el piloto ya recibió la bandera a cuadros
+     */
+    public boolean isTerminado(int posicion) {
+        return terminados[posicion];
+    }
+
+    public long getEventosProcesados() {
+        return eventosProcesados;
+    }
+
+    /**
+     * @return Líneas inválidas y eventos que no corresponden a la carrera
+     */
+    public long getEventosDescartados() {
+        return eventosDescartados;
+    }
+
+    /**
+     * @return Eventos leídos que esperan en la cola
+     */
+    public int getEventosPendientes() {
+        return eventosPendientes;
+    }
+
+    /**
+     * @return Veces que el lector se detuvo porque la cola estaba llena
+     */
+    public long getEsperasLector() {
+        return esperasLector;
+    }
+
+    /**
+     * @return Tiempo medio de proceso de un evento en nanosegundos, incluida
+     *         su aplicación al gestor
+     */
+    public double getNanosPorEvento() {
+        return nanosPorEvento;
+    }
+
+    /**
+     * @return true si el feed terminó y todos sus eventos se procesaron
+     */
+    public boolean isTerminado() {
+        return terminado;
+    }
+
+    /**
+     * @return Mensaje del error que detuvo el cronometraje, o null
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,89 @@
+package controlador;
+
+import modelo.GranPremio;
+
+/**
+ * Cambio aplicado a una entidad del sistema por el {@link GestorFormula1}.
+ * <p>
+ * Los eventos se entregan a los {@link OyenteCambios} agrupados por lotes:
+ * varios cambios sobre la misma entidad se combinan en uno solo antes de la
+ * entrega (por ejemplo, una entidad agregada y modificada llega como
+ * {@link Tipo#AGREGADO}, y una agregada y eliminada no llega).
+ * </p>
+ * <p>
+ * Los cambios en la participación de un piloto en una carrera se informan
+ * con el piloto como entidad y la carrera en {@link #getCarrera()}.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public final class EventoCambio {
+
+    /**
+     * Tipos de cambio.
+     */
+    public enum Tipo {
+        /** La entidad se registró */
+        AGREGADO,
+        /** Cambiaron datos de la entidad o valores derivados (puntos, escudería) */
+        ACTUALIZADO,
+        /** La entidad se eliminó o se archivó */
+        ELIMINADO,
+        /** El Gran Premio se finalizó y sus resultados suman puntos */
+        CARRERA_FINALIZADA,
+        /** El contrato piloto-escudería dejó de estar vigente */
+        CONTRATO_VENCIDO
+    }
+
+    private final Tipo tipo;
+    private final Object entidad;
+    private final GranPremio carrera;
+
+    EventoCambio(Tipo tipo, Object entidad, GranPremio carrera) {
+        this.tipo = tipo;
+        this.entidad = entidad;
+        this.carrera = carrera;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Obtiene la entidad modificada (país, escudería, piloto, auto, mecánico,
+     * circuito, Gran Premio o contrato).
+     *
+     * @return Entidad modificada
+     */
+    public Object getEntidad() {
+        return entidad;
+    }
+
+    /**
+     * Obtiene la carrera de una participación.
+     *
+     * @return Carrera en la que cambió la participación del piloto, o null si
+     *         el cambio es sobre la entidad en sí
+     */
+    public GranPremio getCarrera() {
+        return carrera;
+    }
+
+    /**
+     * Indica si el cambio es sobre la participación de un piloto en una
+     * carrera.
+     *
+     * @return true si hay una carrera asociada
+     */
+    public boolean isParticipacion() {
+        return carrera != null;
+    }
+
+    @Override
+    public String toString() {
+        String descripcion = tipo + " " + entidad;
+        return carrera != null ? descripcion + " en " + carrera.getNombre() : descripcion;
+    }
+}
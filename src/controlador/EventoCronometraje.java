@@ -0,0 +1,249 @@
+package controlador;
+
+/**
+ * Evento de un feed de cronometraje en vivo.
+ * <p>
+ * El feed es texto, con un evento por línea y los campos separados por punto
+ * y coma. El primer campo es el tiempo de carrera en milisegundos desde la
+ * largada:
+ * </p>
+ *
+ * <pre>
+ * tiempo;SECTOR;dni;vuelta;sector;milisegundos
+ * tiempo;VUELTA;dni;vuelta;milisegundos
+ * tiempo;ABANDONO;dni;vuelta;motivo
+ * </pre>
+ * <p>
+ * Cada vuelta tiene {@link #SECTORES} sectores: los intermedios se informan
+ * con eventos SECTOR y el último termina en la línea de llegada, que se
+ * informa con el evento VUELTA. Las vueltas y los sectores se numeran desde
+ * 1. Las líneas vacías y las que empiezan con '#' se ignoran.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ * @see CronometrajeEnVivo
+ */
+public final class EventoCronometraje {
+
+    /** Sectores de cada vuelta; el último termina en la línea de llegada */
+    public static final int SECTORES = 3;
+
+    /** Separador de campos de una línea del feed */
+    private static final char SEPARADOR = ';';
+
+    public enum Tipo {
+        SECTOR,
+        VUELTA,
+        ABANDONO
+    }
+
+    /** Tipos para reconocer el campo de una línea sin copiar el arreglo de values() */
+    private static final Tipo[] TIPOS = Tipo.values();
+
+    private final Tipo tipo;
+    private final long tiempo;
+    private final String dni;
+    private final int vuelta;
+    private final int sector;
+    private final int milisegundos;
+    private final String motivo;
+
+    private EventoCronometraje(Tipo tipo, long tiempo, String dni, int vuelta, int sector, int milisegundos,
+            String motivo) {
+        if (tiempo < 0) {
+            throw new IllegalArgumentException("El tiempo de carrera no puede ser negativo");
+        }
+        if (dni == null || dni.isEmpty()) {
+            throw new IllegalArgumentException("El DNI del piloto es obligatorio");
+        }
+        // Se puede abandonar antes de completar la primera vuelta
+        if (vuelta < (tipo == Tipo.ABANDONO ? 0 : 1)) {
+            throw new IllegalArgumentException("Vuelta inválida: " + vuelta);
+        }
+        this.tipo = tipo;
+        this.tiempo = tiempo;
+        this.dni = dni;
+        this.vuelta = vuelta;
+        this.sector = sector;
+        this.milisegundos = milisegundos;
+        this.motivo = motivo;
+    }
+
+    /**
+     * Crea el paso por un sector intermedio.
+     *
+     * @param tiempo       Tiempo de carrera en milisegundos
+     * @param dni          DNI del piloto
+     * @param vuelta       Vuelta en curso (desde 1)
+     * @param sector       Sector completado (de 1 a {@link #SECTORES} - 1)
+     * @param milisegundos Tiempo del sector
+     * @return Evento creado
+     * @throws IllegalArgumentException si algún dato es inválido
+     */
+    public static EventoCronometraje sector(long tiempo, String dni, int vuelta, int sector, int milisegundos) {
+        if (sector < 1 || sector >= SECTORES) {
+            throw new IllegalArgumentException("Sector intermedio inválido: " + sector);
+        }
+        if (milisegundos <= 0) {
+            throw new IllegalArgumentException("El tiempo del sector debe ser positivo");
+        }
+        return new EventoCronometraje(Tipo.SECTOR, tiempo, dni, vuelta, sector, milisegundos, null);
+    }
+
+    /**
+     * Crea el paso por la línea de llegada.
+     *
+     * @param tiempo       Tiempo de carrera en milisegundos
+     * @param dni          DNI del piloto
+     * @param vuelta       Vuelta completada (desde 1)
+     * @param milisegundos Tiempo de la vuelta
+     * @return Evento creado
+     * @throws IllegalArgumentException si algún dato es inválido
+     */
+    public static EventoCronometraje vuelta(long tiempo, String dni, int vuelta, int milisegundos) {
+        if (milisegundos <= 0) {
+            throw new IllegalArgumentException("El tiempo de la vuelta debe ser positivo");
+        }
+        return new EventoCronometraje(Tipo.VUELTA, tiempo, dni, vuelta, SECTORES, milisegundos, null);
+    }
+
+    /**
+     * Crea el abandono de un piloto.
+     *
+     * @param tiempo Tiempo de carrera en milisegundos
+     * @param dni    DNI del piloto
+     * @param vuelta Vuelta en la que abandonó
+     * @param motivo Motivo del abandono
+     * @return Evento creado
+     * @throws IllegalArgumentException si algún dato es inválido
+     */
+    public static EventoCronometraje abandono(long tiempo, String dni, int vuelta, String motivo) {
+        return new EventoCronometraje(Tipo.ABANDONO, tiempo, dni, vuelta, 0, 0, motivo);
+    }
+
+    // ==================== FORMATO DEL FEED ====================
+
+    /**
+     * Interpreta una línea del feed.
+     *
+     * @param linea Línea a interpretar
+     * @return Evento leído, o null si la línea está vacía o es un comentario
+     * @throws IllegalArgumentException si la línea no es un evento válido
+     */
+    public static EventoCronometraje leer(String linea) {
+        if (linea.isEmpty() || linea.charAt(0) == '#') {
+            return null;
+        }
+        try {
+            // Los números se leen sobre la línea, sin crear subcadenas
+            int fin = siguiente(linea, 0);
+            long tiempo = Long.parseLong(linea, 0, fin, 10);
+            int inicio = fin + 1;
+            fin = siguiente(linea, inicio);
+            Tipo tipo = tipo(linea, inicio, fin);
+            inicio = fin + 1;
+            fin = siguiente(linea, inicio);
+            String dni = linea.substring(inicio, fin);
+            inicio = fin + 1;
+            fin = siguiente(linea, inicio);
+            int vuelta = Integer.parseInt(linea, inicio, fin, 10);
+            inicio = fin + 1;
+            switch (tipo) {
+                case SECTOR: {
+                    fin = siguiente(linea, inicio);
+                    int sector = Integer.parseInt(linea, inicio, fin, 10);
+                    return sector(tiempo, dni, vuelta, sector, Integer.parseInt(linea, fin + 1, linea.length(), 10));
+                }
+                case VUELTA:
+                    return vuelta(tiempo, dni, vuelta, Integer.parseInt(linea, inicio, linea.length(), 10));
+                default:
+                    // El motivo es el resto de la línea, aunque contenga separadores
+                    return abandono(tiempo, dni, vuelta, linea.substring(inicio));
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Línea de cronometraje inválida: " + linea);
+        }
+    }
+
+    private static int siguiente(String linea, int desde) {
+        int posicion = linea.indexOf(SEPARADOR, desde);
+        if (posicion < 0) {
+            throw new IllegalArgumentException("Línea de cronometraje incompleta: " + linea);
+        }
+        return posicion;
+    }
+
+    private static Tipo tipo(String linea, int inicio, int fin) {
+        for (Tipo tipo : TIPOS) {
+            String nombre = tipo.name();
+            if (nombre.length() == fin - inicio && linea.startsWith(nombre, inicio)) {
+                return tipo;
+            }
+        }
+        throw new IllegalArgumentException("Tipo de evento de cronometraje desconocido: " + linea);
+    }
+
+    // ==================== GETTERS ====================
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    /**
+     * @return Tiempo de carrera en milisegundos desde la largada
+     */
+    public long getTiempo() {
+        return tiempo;
+    }
+
+    public String getDni() {
+        return dni;
+    }
+
+    public int getVuelta() {
+        return vuelta;
+    }
+
+    /**
+     * @return Sector completado ({@link #SECTORES} para la línea de llegada,
+     *         0 en un abandono)
+     */
+    public int getSector() {
+        return sector;
+    }
+
+    /**
+     * @return Tiempo del sector o de la vuelta en milisegundos (0 en un
+     *         abandono)
+     */
+    public int getMilisegundos() {
+        return milisegundos;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    /**
+     * @return Línea del feed que representa al evento
+     */
+    @Override
+    public String toString() {
+        StringBuilder linea = new StringBuilder(48);
+        linea.append(tiempo).append(SEPARADOR).append(tipo.name()).append(SEPARADOR).append(dni)
+                .append(SEPARADOR).append(vuelta).append(SEPARADOR);
+        switch (tipo) {
+            case SECTOR:
+                linea.append(sector).append(SEPARADOR).append(milisegundos);
+                break;
+            case VUELTA:
+                linea.append(milisegundos);
+                break;
+            default:
+                linea.append(motivo != null ? motivo : "");
+        }
+        return linea.toString();
+    }
+}
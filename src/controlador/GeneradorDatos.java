@@ -0,0 +1,433 @@
+package controlador;
+
+import modelo.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Clase utilitaria que genera campeonatos sintéticos de gran tamaño.
+ * <p>
+ * Complementa a {@link DatosEjemplo}: en lugar de un puñado de entidades
+ * fijas, construye tantas temporadas, carreras y pilotos por parrilla como
+ * se pidan, para pruebas de carga y benchmarks. La generación es
+ * determinista: la misma semilla y los mismos parámetros producen siempre el
+ * mismo campeonato.
+ * </p>
+ * <p>
+ * Cada temporada cambia parte de las alineaciones (los contratos
+ * {@link PilotoEscuderia} se cierran al final del año y se abren otros al
+ * comienzo del siguiente), renueva los autos de las escuderías y disputa su
+ * calendario con resultados verosímiles: el rendimiento depende de la
+ * escudería y del piloto, hay abandonos y vuelta rápida.
+ * </p>
+ * <p>
+ * Las entidades y las filas de resultados se cargan directamente en el
+ * almacenamiento, como al leer un snapshot, y la clasificación se calcula
+ * una sola vez al final; así se generan millones de participaciones en
+ * pocos segundos. Para obtener el formato de persistencia basta con guardar
+ * el gestor generado con {@link PersistenciaBinaria#guardar}.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class GeneradorDatos {
+
+    /** Mayor parrilla admitida (deja números de piloto libres para reservas) */
+    public static final int PARRILLA_MAXIMA = 40;
+
+    /** Mayor cantidad de carreras por temporada (caben entre marzo y diciembre) */
+    public static final int CARRERAS_MAXIMAS = 30;
+
+    /** Año de la primera temporada si no se indica otro */
+    public static final int AÑO_INICIAL = 1950;
+
+    /** Probabilidad de que un asiento cambie de piloto entre temporadas */
+    private static final double PROBABILIDAD_CAMBIO = 0.25;
+
+    /** Probabilidad de abandono de cada piloto en cada carrera */
+    private static final double PROBABILIDAD_ABANDONO = 0.08;
+
+    /** Velocidad media de vuelta usada para estimar los tiempos (km/h) */
+    private static final double VELOCIDAD_MEDIA = 210.0;
+
+    /** Modificadores de resultados que la generación aplica fila por fila */
+    private static final EdicionModelo EDICION = GestorFormula1.EDICION;
+
+    /** Nombre, código y gentilicio de los países */
+    private static final String[][] PAISES = {
+            { "Italia", "IT", "Italiano" }, { "España", "ES", "Español" },
+            { "Inglaterra", "GB", "Británico" }, { "Alemania", "DE", "Alemán" },
+            { "Francia", "FR", "Francés" }, { "Mónaco", "MC", "Monegasco" },
+            { "Países Bajos", "NL", "Neerlandés" }, { "Bélgica", "BE", "Belga" },
+            { "Austria", "AT", "Austriaco" }, { "Hungría", "HU", "Húngaro" },
+            { "Brasil", "BR", "Brasileño" }, { "Argentina", "AR", "Argentino" },
+            { "México", "MX", "Mexicano" }, { "Estados Unidos", "US", "Estadounidense" },
+            { "Canadá", "CA", "Canadiense" }, { "Japón", "JP", "Japonés" },
+            { "Australia", "AU", "Australiano" }, { "Finlandia", "FI", "Finlandés" },
+            { "Singapur", "SG", "Singapurense" }, { "Emiratos Árabes Unidos", "AE", "Emiratí" } };
+
+    /** Nombre, país (índice en PAISES), longitud en km, curvas y tipo de cada circuito */
+    private static final Object[][] CIRCUITOS = {
+            { "Autodromo Nazionale Monza", 0, 5.793, 11, "Permanente" },
+            { "Autodromo Enzo e Dino Ferrari", 0, 4.909, 19, "Permanente" },
+            { "Circuit de Barcelona-Catalunya", 1, 4.657, 14, "Permanente" },
+            { "Silverstone Circuit", 2, 5.891, 18, "Permanente" },
+            { "Hockenheimring", 3, 4.574, 17, "Permanente" },
+            { "Circuit Paul Ricard", 4, 5.842, 15, "Permanente" },
+            { "Circuit de Monaco", 5, 3.337, 19, "Urbano" },
+            { "Circuit Zandvoort", 6, 4.259, 14, "Permanente" },
+            { "Circuit de Spa-Francorchamps", 7, 7.004, 19, "Permanente" },
+            { "Red Bull Ring", 8, 4.318, 10, "Permanente" },
+            { "Hungaroring", 9, 4.381, 14, "Permanente" },
+            { "Autódromo José Carlos Pace", 10, 4.309, 15, "Permanente" },
+            { "Autódromo Oscar y Juan Gálvez", 11, 4.259, 15, "Permanente" },
+            { "Autódromo Hermanos Rodríguez", 12, 4.304, 17, "Permanente" },
+            { "Circuit of the Americas", 13, 5.513, 20, "Permanente" },
+            { "Las Vegas Strip Circuit", 13, 6.201, 17, "Urbano" },
+            { "Circuit Gilles Villeneuve", 14, 4.361, 14, "Semipermanente" },
+            { "Suzuka Circuit", 15, 5.807, 18, "Permanente" },
+            { "Albert Park Circuit", 16, 5.278, 14, "Semipermanente" },
+            { "Marina Bay Street Circuit", 18, 4.940, 19, "Urbano" },
+            { "Yas Marina Circuit", 19, 5.281, 16, "Permanente" } };
+
+    /** Nombre y país (índice en PAISES) de las escuderías */
+    private static final Object[][] ESCUDERIAS = {
+            { "Scuderia Ferrari", 0 }, { "McLaren", 2 }, { "Williams Racing", 2 },
+            { "Mercedes-AMG Petronas", 3 }, { "Alpine F1 Team", 4 }, { "Red Bull Racing", 2 },
+            { "Aston Martin", 2 }, { "Sauber", 8 }, { "Haas F1 Team", 13 }, { "Minardi", 0 },
+            { "Lotus", 2 }, { "Brabham", 2 }, { "Tyrrell", 2 }, { "Ligier", 4 },
+            { "Jordan Grand Prix", 2 }, { "Arrows", 2 }, { "BAR Honda", 15 }, { "Toyota Racing", 15 },
+            { "Jaguar Racing", 2 }, { "Benetton", 0 } };
+
+    private static final String[] NOMBRES = {
+            "Juan", "Carlos", "Fernando", "Lewis", "Max", "Sebastian", "Kimi", "Jenson", "Nico",
+            "Charles", "Lando", "George", "Sergio", "Valtteri", "Esteban", "Pierre", "Daniel",
+            "Mika", "Ayrton", "Alain", "Niki", "Jackie", "Emerson", "Nelson", "Jochen", "Graham" };
+
+    private static final String[] APELLIDOS = {
+            "Fangio", "Sainz", "Alonso", "Hamilton", "Verstappen", "Vettel", "Räikkönen", "Button",
+            "Rosberg", "Leclerc", "Norris", "Russell", "Pérez", "Bottas", "Ocon", "Gasly",
+            "Ricciardo", "Häkkinen", "Senna", "Prost", "Lauda", "Stewart", "Fittipaldi", "Piquet",
+            "Rindt", "Hill", "Clark", "Brabham", "Hunt", "Villeneuve" };
+
+    private static final String[] MOTIVOS_ABANDONO = {
+            "Falla de motor", "Accidente", "Falla de caja de cambios", "Pinchazo",
+            "Falla hidráulica", "Colisión", "Falla eléctrica", "Sobrecalentamiento" };
+
+    /**
+     * Constructor privado para evitar instanciación.
+     * <p>
+     * Esta es una clase utilitaria con métodos estáticos únicamente.
+     * </p>
+     */
+    private GeneradorDatos() {
+        // Clase utilitaria
+    }
+
+    /**
+     * Genera un campeonato desde {@link #AÑO_INICIAL} con parrillas de entre
+     * 20 y 26 pilotos.
+     *
+     * @param gestor               Gestor vacío donde cargar los datos
+     * @param semilla              Semilla del generador pseudoaleatorio
+     * @param temporadas           Cantidad de temporadas
+     * @param carrerasPorTemporada Carreras de cada temporada
+     * @throws IllegalArgumentException si algún parámetro es inválido
+     * @throws IllegalStateException    si el gestor ya tiene datos o un diario
+     *                                  abierto
+     * @see #generar(GestorFormula1, long, int, int, int, int, int)
+     */
+    public static void generar(GestorFormula1 gestor, long semilla, int temporadas, int carrerasPorTemporada) {
+        generar(gestor, semilla, AÑO_INICIAL, temporadas, carrerasPorTemporada, 20, 26);
+    }
+
+    /**
+     * Genera un campeonato sintético en un gestor vacío.
+     * <p>
+     * La parrilla de cada temporada se sortea entre el mínimo y el máximo
+     * indicados; cada escudería inscribe dos autos. Los pilotos que ocupan un
+     * asiento en la última temporada quedan con contrato vigente y asignados a
+     * su escudería. El gestor no debe tener un diario abierto, porque la
+     * carga no pasa por las operaciones que se anotan en él.
+     * </p>
+     *
+     * @param gestor               Gestor vacío donde cargar los datos
+     * @param semilla              Semilla del generador pseudoaleatorio
+     * @param añoInicial           Año de la primera temporada
+     * @param temporadas           Cantidad de temporadas
+     * @param carrerasPorTemporada Carreras de cada temporada (hasta
+     *                             {@link #CARRERAS_MAXIMAS})
+     * @param parrillaMinima       Menor cantidad de pilotos por carrera
+     * @param parrillaMaxima       Mayor cantidad de pilotos por carrera (hasta
+     *                             {@link #PARRILLA_MAXIMA})
+     * @throws IllegalArgumentException si algún parámetro es inválido
+     * @throws IllegalStateException    si el gestor ya tiene datos o un diario
+     *                                  abierto
+     */
+    public static void generar(GestorFormula1 gestor, long semilla, int añoInicial, int temporadas,
+            int carrerasPorTemporada, int parrillaMinima, int parrillaMaxima) {
+        if (gestor == null) {
+            throw new IllegalArgumentException("El gestor no puede ser null");
+        }
+        if (temporadas < 1 || carrerasPorTemporada < 1 || carrerasPorTemporada > CARRERAS_MAXIMAS) {
+            throw new IllegalArgumentException("Debe haber al menos una temporada y entre 1 y " + CARRERAS_MAXIMAS
+                    + " carreras por temporada");
+        }
+        if (parrillaMinima < 2 || parrillaMaxima < parrillaMinima || parrillaMaxima > PARRILLA_MAXIMA) {
+            throw new IllegalArgumentException(
+                    "La parrilla debe tener entre 2 y " + PARRILLA_MAXIMA + " pilotos (mínimo <= máximo)");
+        }
+        if (añoInicial < 1900 || añoInicial + temporadas > 10000) {
+            throw new IllegalArgumentException("Rango de años inválido");
+        }
+        RepositorioFormula1 repositorio = gestor.getRepositorio();
+        gestor.bloquearEscritura();
+        try {
+            if (gestor.getDiario() != null) {
+                throw new IllegalStateException("No se puede generar datos con un diario abierto");
+            }
+            if (!repositorio.getPilotos().isEmpty() || !repositorio.getEscuderias().isEmpty()
+                    || !repositorio.getGrandesPremios().isEmpty()) {
+                throw new IllegalStateException("El gestor debe estar vacío para generar datos");
+            }
+
+            new Generacion(repositorio, new SplittableRandom(semilla), parrillaMinima, parrillaMaxima)
+                    .ejecutar(añoInicial, temporadas, carrerasPorTemporada);
+            gestor.recalcularClasificacion();
+        } finally {
+            gestor.desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Estado de una generación en curso.
+     */
+    private static final class Generacion {
+        private final RepositorioFormula1 repositorio;
+        private final SplittableRandom aleatorio;
+        private final int parrillaMinima;
+        private final int parrillaMaxima;
+
+        private final Pais[] paises;
+        private final Circuito[] circuitos;
+        private final Escuderia[] escuderias;
+        private final Piloto[] pilotos;
+
+        /** Rendimiento de cada escudería (cambia de una temporada a otra) */
+        private final double[] rendimientoEscuderias;
+        /** Talento de cada piloto (por número de piloto - 1) */
+        private final double[] talentoPilotos;
+
+        /** Piloto de cada asiento (escudería × 2), null si está vacío */
+        private final Piloto[] asientos;
+        /** Contrato abierto de cada asiento */
+        private final PilotoEscuderia[] contratos;
+        /** Auto de cada asiento en la temporada actual */
+        private final Auto[] autos;
+        /** Pilotos sin asiento */
+        private final List<Piloto> libres;
+
+        // Buffers reutilizados entre carreras
+        private final int[] orden;
+        private final double[] ritmo;
+        private final int[] calendario;
+
+        private Generacion(RepositorioFormula1 repositorio, SplittableRandom aleatorio, int parrillaMinima,
+                int parrillaMaxima) {
+            this.repositorio = repositorio;
+            this.aleatorio = aleatorio;
+            this.parrillaMinima = parrillaMinima;
+            this.parrillaMaxima = parrillaMaxima;
+
+            int cantidadEscuderias = (parrillaMaxima + 1) / 2;
+            this.paises = new Pais[PAISES.length];
+            this.circuitos = new Circuito[CIRCUITOS.length];
+            this.escuderias = new Escuderia[cantidadEscuderias];
+            // Hay pilotos de reserva para renovar las alineaciones (los números van de 1 a 99)
+            this.pilotos = new Piloto[Math.min(99, parrillaMaxima * 2)];
+            this.rendimientoEscuderias = new double[cantidadEscuderias];
+            this.talentoPilotos = new double[pilotos.length];
+            this.asientos = new Piloto[cantidadEscuderias * 2];
+            this.contratos = new PilotoEscuderia[asientos.length];
+            this.autos = new Auto[asientos.length];
+            this.libres = new ArrayList<>(pilotos.length);
+            this.orden = new int[asientos.length];
+            this.ritmo = new double[asientos.length];
+            this.calendario = new int[circuitos.length];
+        }
+
+        private void ejecutar(int añoInicial, int temporadas, int carrerasPorTemporada) {
+            registrarEntidades();
+            for (int temporada = 0; temporada < temporadas; temporada++) {
+                int año = añoInicial + temporada;
+                int parrilla = parrillaMinima + aleatorio.nextInt(parrillaMaxima - parrillaMinima + 1);
+                renovarAlineaciones(año, parrilla);
+                renovarAutos(año, parrilla);
+                disputarTemporada(año, parrilla, carrerasPorTemporada);
+            }
+            // Las alineaciones de la última temporada son las vigentes
+            for (int asiento = 0; asiento < asientos.length; asiento++) {
+                if (asientos[asiento] != null) {
+                    repositorio.agregarPilotoAEscuderia(escuderias[asiento / 2], asientos[asiento]);
+                }
+            }
+        }
+
+        private void registrarEntidades() {
+            for (int i = 0; i < PAISES.length; i++) {
+                paises[i] = new Pais(PAISES[i][0], PAISES[i][1]);
+                repositorio.agregarPais(paises[i]);
+            }
+            for (int i = 0; i < CIRCUITOS.length; i++) {
+                Object[] datos = CIRCUITOS[i];
+                circuitos[i] = new Circuito((String) datos[0], paises[(Integer) datos[1]], (Double) datos[2],
+                        (Integer) datos[3], (String) datos[4]);
+                repositorio.agregarCircuito(circuitos[i]);
+            }
+            for (int i = 0; i < escuderias.length; i++) {
+                Object[] datos = ESCUDERIAS[i];
+                escuderias[i] = new Escuderia((String) datos[0], paises[(Integer) datos[1]]);
+                repositorio.agregarEscuderia(escuderias[i]);
+                rendimientoEscuderias[i] = aleatorio.nextGaussian();
+            }
+            for (int i = 0; i < pilotos.length; i++) {
+                String[] pais = PAISES[aleatorio.nextInt(PAISES.length)];
+                pilotos[i] = new Piloto(String.format("%08d%c", 10_000_000 + i * 7919, (char) ('A' + i % 26)),
+                        NOMBRES[aleatorio.nextInt(NOMBRES.length)], APELLIDOS[aleatorio.nextInt(APELLIDOS.length)],
+                        18 + aleatorio.nextInt(20), pais[2], i + 1, aleatorio.nextInt(15));
+                repositorio.agregarPiloto(pilotos[i]);
+                talentoPilotos[i] = aleatorio.nextGaussian();
+                libres.add(pilotos[i]);
+            }
+        }
+
+        /**
+         * Libera los asientos que cambian de piloto o que no corren esta
+         * temporada, y ocupa los vacantes con pilotos libres.
+         */
+        private void renovarAlineaciones(int año, int parrilla) {
+            LocalDate finTemporadaAnterior = LocalDate.of(año - 1, 12, 31);
+            for (int asiento = 0; asiento < asientos.length; asiento++) {
+                if (asientos[asiento] != null
+                        && (asiento >= parrilla || aleatorio.nextDouble() < PROBABILIDAD_CAMBIO)) {
+                    repositorio.finalizarContrato(contratos[asiento], finTemporadaAnterior);
+                    libres.add(asientos[asiento]);
+                    asientos[asiento] = null;
+                    contratos[asiento] = null;
+                }
+            }
+            LocalDate inicioTemporada = LocalDate.of(año, 1, 1);
+            for (int asiento = 0; asiento < parrilla; asiento++) {
+                if (asientos[asiento] == null) {
+                    // Se quita un piloto libre al azar intercambiándolo con el último
+                    int elegido = aleatorio.nextInt(libres.size());
+                    Piloto piloto = libres.get(elegido);
+                    libres.set(elegido, libres.get(libres.size() - 1));
+                    libres.remove(libres.size() - 1);
+
+                    asientos[asiento] = piloto;
+                    contratos[asiento] = new PilotoEscuderia(inicioTemporada, null, piloto,
+                            escuderias[asiento / 2]);
+                    repositorio.agregarContrato(contratos[asiento]);
+                }
+            }
+            // El rendimiento de las escuderías varía de año en año
+            for (int i = 0; i < rendimientoEscuderias.length; i++) {
+                rendimientoEscuderias[i] = 0.7 * rendimientoEscuderias[i] + 0.3 * aleatorio.nextGaussian();
+            }
+        }
+
+        private void renovarAutos(int año, int parrilla) {
+            for (int asiento = 0; asiento < parrilla; asiento++) {
+                Escuderia escuderia = escuderias[asiento / 2];
+                String modelo = escuderia.getNombre().substring(0, 3).toUpperCase() + "-" + año;
+                autos[asiento] = new Auto(modelo, escuderia.getNombre(), "V6 Turbo", año,
+                        String.format("%s-%d-%02d", modelo, asiento % 2 + 1, asiento / 2), 798.0, 1000);
+                repositorio.agregarAuto(autos[asiento]);
+                repositorio.asignarAuto(autos[asiento], escuderia);
+            }
+        }
+
+        private void disputarTemporada(int año, int parrilla, int carrerasPorTemporada) {
+            // Orden del calendario: los circuitos se barajan cada temporada
+            for (int i = 0; i < calendario.length; i++) {
+                int j = aleatorio.nextInt(i + 1);
+                calendario[i] = calendario[j];
+                calendario[j] = i;
+            }
+            LocalDate primerDomingo = LocalDate.of(año, 3, 1).with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            for (int carrera = 0; carrera < carrerasPorTemporada; carrera++) {
+                Circuito circuito = circuitos[calendario[carrera % calendario.length]];
+                // Una semana libre cada cuatro carreras
+                LocalDateTime fechaHora = primerDomingo.plusWeeks(carrera + carrera / 4).atTime(14, 0);
+                GranPremio granPremio = new GranPremio("Gran Premio de " + circuito.getPais().getNombre(),
+                        fechaHora, circuito);
+                repositorio.agregarGranPremio(granPremio);
+                disputarCarrera(granPremio, parrilla);
+            }
+        }
+
+        /**
+         * Carga los resultados de una carrera: el orden de llegada sale del
+         * rendimiento de escudería y piloto más una componente aleatoria.
+         */
+        private void disputarCarrera(GranPremio granPremio, int parrilla) {
+            TablaResultados resultados = granPremio.getTablaResultados();
+            long vueltaBase = (long) (granPremio.getCircuito().getLongitud() / VELOCIDAD_MEDIA * 3_600e9);
+
+            for (int asiento = 0; asiento < parrilla; asiento++) {
+                Piloto piloto = asientos[asiento];
+                int fila = EDICION.agregarFila(resultados, piloto, autos[asiento], escuderias[asiento / 2]);
+                // Menor ritmo es más rápido
+                ritmo[fila] = -(rendimientoEscuderias[asiento / 2] * 1.5 + talentoPilotos[piloto.getNumero() - 1])
+                        + aleatorio.nextGaussian();
+                orden[fila] = fila;
+                repositorio.agregarAlHistorial(piloto, granPremio);
+            }
+
+            // Ordenamiento por inserción: las parrillas son pequeñas
+            for (int i = 1; i < parrilla; i++) {
+                int fila = orden[i];
+                int j = i - 1;
+                while (j >= 0 && ritmo[orden[j]] > ritmo[fila]) {
+                    orden[j + 1] = orden[j];
+                    j--;
+                }
+                orden[j + 1] = fila;
+            }
+
+            int posicion = 0;
+            int filaVueltaRapida = -1;
+            long vueltaRapida = Long.MAX_VALUE;
+            for (int i = 0; i < parrilla; i++) {
+                int fila = orden[i];
+                long mejorVuelta = vueltaBase + (long) ((ritmo[fila] + 3 + aleatorio.nextDouble()) * 250_000_000L);
+                EDICION.setMejorVueltaNanos(resultados, fila, mejorVuelta);
+                if (aleatorio.nextDouble() < PROBABILIDAD_ABANDONO) {
+                    EDICION.marcarAbandono(resultados, fila, MOTIVOS_ABANDONO[aleatorio.nextInt(MOTIVOS_ABANDONO.length)]);
+                    continue;
+                }
+                EDICION.setPosicion(resultados, fila, ++posicion);
+                EDICION.setPuntos(resultados, fila, SistemaPuntuacion.getPuntosPorPosicion(posicion));
+                if (mejorVuelta < vueltaRapida) {
+                    vueltaRapida = mejorVuelta;
+                    filaVueltaRapida = fila;
+                }
+            }
+            if (filaVueltaRapida >= 0) {
+                EDICION.setVueltaRapida(resultados, filaVueltaRapida, true);
+                if (resultados.getPosicion(filaVueltaRapida) <= 10) {
+                    EDICION.setPuntos(resultados, filaVueltaRapida, resultados.getPuntos(filaVueltaRapida) + 1);
+                }
+            }
+            granPremio.setFinalizada(true);
+        }
+    }
+}
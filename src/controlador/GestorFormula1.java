@@ -1,11 +1,18 @@
 package controlador;
 
 import modelo.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -16,9 +23,25 @@ import java.util.stream.Collectors;
  * países, escuderías, pilotos, autos, mecánicos, circuitos y grandes premios.
  * </p>
  * <p>
- * Implementa el patrón Singleton para garantizar una única instancia
- * del controlador y mantiene la consistencia de los datos durante
- * toda la sesión de la aplicación.
+ * Cada instancia es independiente: guarda sus entidades en un
+ * {@link RepositorioFormula1} indexado, lleva la clasificación con un
+ * {@link MotorClasificacion} incremental y publica sus cambios en su propio
+ * bus de eventos. La aplicación crea un gestor al iniciar y lo pasa a cada
+ * ventana; {@link PersistenciaBinaria#cargar} y
+ * {@link DiarioOperaciones#recuperar} devuelven uno nuevo con el estado
+ * guardado, y {@link DiarioOperaciones#abrir} le asocia un diario donde
+ * anotar cada operación que modifica el estado.
+ * </p>
+ * <p>
+ * El gestor puede usarse desde varios hilos: las operaciones que modifican
+ * el estado se ejecutan de a una y las consultas se ejecutan en paralelo
+ * entre sí, siempre sobre un estado completo (nunca a mitad de una
+ * modificación). Las listas de entidades ({@link #getPilotos()},
+ * {@link #getGrandesPremios()}, etc.) son copias inmutables que se reutilizan
+ * hasta la siguiente modificación, por lo que leerlas no espera a nadie. Las
+ * entidades en sí se modifican sólo a través del gestor; para leer varios
+ * datos de ellas de forma consistente desde otro hilo se usa
+ * {@link #consultar(Supplier)}.
  * </p>
  * 
  * @author Sistema de Gestión F1
@@ -26,50 +49,300 @@ import java.util.stream.Collectors;
  * @since 1.0
  */
 public class GestorFormula1 {
-    /** Lista de países disponibles en el sistema */
-    private List<Pais> paises;
+    /**
+     * Acceso a los modificadores del modelo que no son públicos. Lo usan
+     * también la persistencia, el diario, el generador de datos y el
+     * validador.
+     */
+    static final EdicionModelo EDICION = EdicionModelo.reclamar();
 
-    /** Lista de escuderías registradas */
-    private List<Escuderia> escuderias;
+    /** Almacenamiento indexado de todas las entidades del sistema */
+    private final RepositorioFormula1 repositorio;
 
-    /** Lista de pilotos activos */
-    private List<Piloto> pilotos;
+    /** Motor incremental de puntos de pilotos y escuderías */
+    private final MotorClasificacion clasificacion;
 
-    /** Lista de vehículos del campeonato */
-    private List<Auto> autos;
+    /** Diario donde se anotan las operaciones (null si no hay uno abierto) */
+    private volatile DiarioOperaciones diario;
 
-    /** Lista de personal técnico */
-    private List<Mecanico> mecanicos;
+    /** Última operación del diario incluida en el estado actual */
+    private long secuenciaDiario;
 
-    /** Lista de circuitos disponibles */
-    private List<Circuito> circuitos;
+    /**
+     * Fecha de la última actualización de escuderías según contratos (null
+     * si todavía no se hizo ninguna)
+     */
+    private LocalDate revisionContratos;
 
-    /** Lista de eventos de carrera programados */
-    private List<GranPremio> grandesPremios;
+    /** Cambios publicados a las vistas abiertas */
+    private final BusCambios cambios;
 
-    /** Lista de relaciones piloto-escudería con fechas */
-    private List<PilotoEscuderia> pilotoEscuderias;
+    /**
+     * Cerrojo del estado. Es reentrante porque las operaciones se llaman entre
+     * sí y los validadores consultan al gestor durante una modificación.
+     */
+    private final ReentrantReadWriteLock cerrojo;
+    private final Lock lectura;
+    private final Lock escritura;
+
+    /** Cantidad de modificaciones iniciadas; invalida las instantáneas */
+    private volatile long version;
+
+    private final Instantanea<Pais> paises;
+    private final Instantanea<Escuderia> escuderias;
+    private final Instantanea<Piloto> pilotos;
+    private final Instantanea<Auto> autos;
+    private final Instantanea<Mecanico> mecanicos;
+    private final Instantanea<Circuito> circuitos;
+    private final Instantanea<GranPremio> grandesPremios;
+    private final Instantanea<PilotoEscuderia> contratos;
 
     /**
-     * Constructor que inicializa todas las colecciones del sistema.
+     * Constructor que inicializa el almacenamiento del sistema.
      * <p>
-     * Crea las listas vacías para gestionar todas las entidades del dominio F1.
-     * Todas las colecciones son implementadas como ArrayList para permitir
-     * un acceso eficiente y operaciones de modificación dinámicas.
+     * Crea un repositorio vacío con índices hash por clave primaria (DNI,
+     * número de piloto, número de chasis, nombre de escudería y nombre/fecha
+     * de Gran Premio) e índices secundarios por escudería, piloto y circuito,
+     * de modo que las
+     * búsquedas y validaciones de registro no recorran colecciones completas.
      * </p>
      * 
-     * @see ArrayList
+     * @see RepositorioFormula1
      * @since 1.0
      */
     public GestorFormula1() {
-        this.paises = new ArrayList<>();
-        this.escuderias = new ArrayList<>();
-        this.pilotos = new ArrayList<>();
-        this.autos = new ArrayList<>();
-        this.mecanicos = new ArrayList<>();
-        this.circuitos = new ArrayList<>();
-        this.grandesPremios = new ArrayList<>();
-        this.pilotoEscuderias = new ArrayList<>();
+        this.repositorio = new RepositorioFormula1();
+        this.clasificacion = new MotorClasificacion(repositorio);
+        this.cambios = new BusCambios();
+        this.cerrojo = new ReentrantReadWriteLock();
+        this.lectura = cerrojo.readLock();
+        this.escritura = cerrojo.writeLock();
+        this.paises = new Instantanea<>(repositorio::getPaises);
+        this.escuderias = new Instantanea<>(repositorio::getEscuderias);
+        this.pilotos = new Instantanea<>(repositorio::getPilotos);
+        this.autos = new Instantanea<>(repositorio::getAutos);
+        this.mecanicos = new Instantanea<>(repositorio::getMecanicos);
+        this.circuitos = new Instantanea<>(repositorio::getCircuitos);
+        this.grandesPremios = new Instantanea<>(repositorio::getGrandesPremios);
+        this.contratos = new Instantanea<>(repositorio::getContratos);
+    }
+
+    /**
+     * Acceso al almacenamiento para la persistencia del paquete.
+     *
+     * @return Repositorio con las entidades del sistema
+     */
+    RepositorioFormula1 getRepositorio() {
+        return repositorio;
+    }
+
+    DiarioOperaciones getDiario() {
+        return diario;
+    }
+
+    void setDiario(DiarioOperaciones diario) {
+        this.diario = diario;
+    }
+
+    long getSecuenciaDiario() {
+        return secuenciaDiario;
+    }
+
+    void setSecuenciaDiario(long secuenciaDiario) {
+        this.secuenciaDiario = secuenciaDiario;
+    }
+
+    // ==================== CONCURRENCIA ====================
+
+    /**
+     * Ejecuta varias consultas sobre un mismo estado del sistema.
+     * <p>
+     * Mientras dura la consulta ninguna modificación puede aplicarse, así que
+     * conviene que sea breve (por ejemplo, calcular una fila de un reporte).
+     * La consulta no debe modificar el gestor.
+     * </p>
+     *
+     * @param consulta Consultas a ejecutar
+     * @param <T>      Tipo del resultado
+     * @return Resultado de la consulta
+     */
+    public <T> T consultar(Supplier<T> consulta) {
+        lectura.lock();
+        try {
+            return consulta.get();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Toma el cerrojo de escritura e invalida las instantáneas. Lo usan
+     * también la persistencia y el generador de datos, que modifican el
+     * repositorio directamente.
+     * <p>
+     * Si hay un diario abierto que ya no puede anotar (cerrado o con una
+     * escritura fallida), el cerrojo se libera y la modificación se rechaza
+     * antes de aplicarse.
+     * </p>
+     *
+     * @throws IllegalStateException si el diario no está disponible
+     */
+    void bloquearEscritura() {
+        escritura.lock();
+        DiarioOperaciones abierto = diario;
+        if (abierto != null) {
+            try {
+                abierto.verificarDisponible();
+            } catch (RuntimeException e) {
+                escritura.unlock();
+                throw e;
+            }
+        }
+        version++;
+    }
+
+    void desbloquearEscritura() {
+        escritura.unlock();
+    }
+
+    void bloquearLectura() {
+        lectura.lock();
+    }
+
+    void desbloquearLectura() {
+        lectura.unlock();
+    }
+
+    /**
+     * Copia inmutable de una colección del repositorio. Se arma en la primera
+     * lectura posterior a una modificación y hasta la siguiente se entrega la
+     * misma copia sin tomar el cerrojo.
+     */
+    private final class Instantanea<T> {
+        private final Supplier<? extends Collection<? extends T>> origen;
+        private volatile Copia<T> copia;
+
+        Instantanea(Supplier<? extends Collection<? extends T>> origen) {
+            this.origen = origen;
+        }
+
+        List<T> get() {
+            Copia<T> actual = copia;
+            if (actual != null && actual.version == version) {
+                return actual.elementos;
+            }
+            lectura.lock();
+            try {
+                List<T> elementos = List.copyOf(origen.get());
+                // Con el cerrojo de lectura la versión no cambia hasta terminar la
+                // copia; la que se arma durante una modificación no se guarda
+                if (!cerrojo.isWriteLockedByCurrentThread()) {
+                    copia = new Copia<>(version, elementos);
+                }
+                return elementos;
+            } finally {
+                lectura.unlock();
+            }
+        }
+    }
+
+    private static final class Copia<T> {
+        private final long version;
+        private final List<T> elementos;
+
+        Copia(long version, List<T> elementos) {
+            this.version = version;
+            this.elementos = elementos;
+        }
+    }
+
+    /**
+     * Anota en el diario una operación ya aplicada, si hay un diario abierto.
+     * <p>
+     * Cada método público que modifica el estado anota exactamente una
+     * operación; los métodos compuestos delegan en otros que ya la anotan.
+     * </p>
+     */
+    private void anotar(DiarioOperaciones.Tipo tipo, Object... argumentos) {
+        if (diario != null) {
+            diario.anotar(tipo, argumentos);
+        }
+    }
+
+    // ==================== CAMBIOS ====================
+
+    /**
+     * Suscribe un oyente a los cambios que aplica el gestor.
+     * <p>
+     * Los cambios se acumulan y se entregan por lotes a través del ejecutor
+     * indicado; mientras una entrega está pendiente, los cambios sucesivos
+     * sobre una misma entidad se combinan en uno. Las vistas Swing deben
+     * suscribirse con {@code SwingUtilities::invokeLater}.
+     * </p>
+     *
+     * @param oyente  Oyente a notificar
+     * @param entrega Ejecutor donde se llama al oyente
+     * @throws NullPointerException si el oyente o el ejecutor son null
+     */
+    public void suscribirCambios(OyenteCambios oyente, Executor entrega) {
+        if (oyente == null || entrega == null) {
+            throw new NullPointerException("El oyente y el ejecutor no pueden ser null");
+        }
+        cambios.suscribir(oyente, entrega);
+    }
+
+    /**
+     * Quita un oyente de cambios. Los cambios que tuviera pendientes no se
+     * entregan.
+     *
+     * @param oyente Oyente a quitar
+     * @return true si estaba suscrito
+     */
+    public boolean desuscribirCambios(OyenteCambios oyente) {
+        return cambios.desuscribir(oyente);
+    }
+
+    private void publicar(EventoCambio.Tipo tipo, Object entidad) {
+        if (cambios.haySuscriptores()) {
+            cambios.publicar(tipo, entidad, null);
+        }
+    }
+
+    private void publicarParticipacion(EventoCambio.Tipo tipo, Piloto piloto, GranPremio granPremio) {
+        if (cambios.haySuscriptores()) {
+            cambios.publicar(tipo, piloto, granPremio);
+            cambios.publicar(EventoCambio.Tipo.ACTUALIZADO, granPremio, null);
+        }
+    }
+
+    /**
+     * Publica como actualizados los pilotos y escuderías de una carrera, cuyos
+     * puntos cambian al finalizarla o al quitar sus resultados.
+     */
+    private void publicarPuntosCarrera(GranPremio granPremio) {
+        if (!cambios.haySuscriptores()) {
+            return;
+        }
+        TablaResultados resultados = granPremio.getTablaResultados();
+        for (int fila = 0; fila < resultados.size(); fila++) {
+            cambios.publicar(EventoCambio.Tipo.ACTUALIZADO, resultados.getPiloto(fila), null);
+            if (resultados.getEscuderia(fila) != null) {
+                cambios.publicar(EventoCambio.Tipo.ACTUALIZADO, resultados.getEscuderia(fila), null);
+            }
+        }
+    }
+
+    /** Publica como actualizados todos los pilotos y escuderías */
+    private void publicarPilotosYEscuderias() {
+        if (!cambios.haySuscriptores()) {
+            return;
+        }
+        for (Piloto piloto : repositorio.getPilotos()) {
+            cambios.publicar(EventoCambio.Tipo.ACTUALIZADO, piloto, null);
+        }
+        for (Escuderia escuderia : repositorio.getEscuderias()) {
+            cambios.publicar(EventoCambio.Tipo.ACTUALIZADO, escuderia, null);
+        }
     }
 
     // ==================== MÉTODOS DE REGISTRO ====================
@@ -88,13 +361,20 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void registrarPais(Pais pais) {
-        if (pais == null) {
-            throw new NullPointerException("El país no puede ser null");
-        }
-        if (paises.contains(pais)) {
-            throw new IllegalArgumentException("El país ya está registrado");
+        bloquearEscritura();
+        try {
+            if (pais == null) {
+                throw new NullPointerException("El país no puede ser null");
+            }
+            if (repositorio.contienePais(pais)) {
+                throw new IllegalArgumentException("El país ya está registrado");
+            }
+            repositorio.agregarPais(pais);
+            anotar(DiarioOperaciones.Tipo.REGISTRAR_PAIS, pais.getNombre(), pais.getCodigo());
+            publicar(EventoCambio.Tipo.AGREGADO, pais);
+        } finally {
+            desbloquearEscritura();
         }
-        paises.add(pais);
     }
 
     /**
@@ -114,13 +394,21 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void registrarEscuderia(Escuderia escuderia) {
-        if (escuderia == null) {
-            throw new NullPointerException("La escudería no puede ser null");
-        }
-        if (escuderias.contains(escuderia)) {
-            throw new IllegalArgumentException("La escudería ya está registrada");
+        bloquearEscritura();
+        try {
+            if (escuderia == null) {
+                throw new NullPointerException("La escudería no puede ser null");
+            }
+            if (repositorio.contieneEscuderia(escuderia)) {
+                throw new IllegalArgumentException("La escudería ya está registrada");
+            }
+            repositorio.agregarEscuderia(escuderia);
+            anotar(DiarioOperaciones.Tipo.REGISTRAR_ESCUDERIA, escuderia.getNombre(), escuderia.getPais().getNombre(),
+                    escuderia.getPais().getCodigo());
+            publicar(EventoCambio.Tipo.AGREGADO, escuderia);
+        } finally {
+            desbloquearEscritura();
         }
-        escuderias.add(escuderia);
     }
 
     /**
@@ -133,8 +421,8 @@ public class GestorFormula1 {
      * <p>
      * La validación incluye:
      * <ul>
-     * <li>Verificación de duplicados por equals()</li>
-     * <li>Verificación de número único</li>
+     * <li>Verificación de número único (índice por número)</li>
+     * <li>Verificación de DNI único (índice por DNI)</li>
      * <li>Validación de datos no nulos</li>
      * </ul>
      * </p>
@@ -148,17 +436,26 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void registrarPiloto(Piloto piloto) {
-        if (piloto == null) {
-            throw new NullPointerException("El piloto no puede ser null");
-        }
+        bloquearEscritura();
+        try {
+            if (piloto == null) {
+                throw new NullPointerException("El piloto no puede ser null");
+            }
 
-        // Verificar que el número no esté ocupado
-        for (Piloto p : pilotos) {
-            if (p.getNumero() == piloto.getNumero()) {
+            // Verificar que el número no esté ocupado
+            if (repositorio.buscarPilotoPorNumero(piloto.getNumero()) != null) {
                 throw new IllegalArgumentException("El número " + piloto.getNumero() + " ya está ocupado");
             }
+            if (repositorio.buscarPilotoPorDni(piloto.getDni()) != null) {
+                throw new IllegalArgumentException("Ya existe un piloto con DNI " + piloto.getDni());
+            }
+            repositorio.agregarPiloto(piloto);
+            anotar(DiarioOperaciones.Tipo.REGISTRAR_PILOTO, piloto.getDni(), piloto.getNombre(), piloto.getApellido(),
+                    piloto.getEdad(), piloto.getNacionalidad(), piloto.getNumero(), piloto.getExperiencia());
+            publicar(EventoCambio.Tipo.AGREGADO, piloto);
+        } finally {
+            desbloquearEscritura();
         }
-        pilotos.add(piloto);
     }
 
     /**
@@ -176,13 +473,21 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void registrarAuto(Auto auto) {
-        if (auto == null) {
-            throw new NullPointerException("El auto no puede ser null");
-        }
-        if (autos.contains(auto)) {
-            throw new IllegalArgumentException("El auto ya está registrado");
+        bloquearEscritura();
+        try {
+            if (auto == null) {
+                throw new NullPointerException("El auto no puede ser null");
+            }
+            if (repositorio.buscarAutoPorChasis(auto.getNumeroChasis()) != null) {
+                throw new IllegalArgumentException("El auto ya está registrado");
+            }
+            repositorio.agregarAuto(auto);
+            anotar(DiarioOperaciones.Tipo.REGISTRAR_AUTO, auto.getModelo(), auto.getChasis(), auto.getMotor(), auto.getAño(),
+                    auto.getNumeroChasis(), auto.getPeso(), auto.getPotencia());
+            publicar(EventoCambio.Tipo.AGREGADO, auto);
+        } finally {
+            desbloquearEscritura();
         }
-        autos.add(auto);
     }
 
     /**
@@ -202,13 +507,27 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void registrarMecanico(Mecanico mecanico) {
-        if (mecanico == null) {
-            throw new NullPointerException("El mecánico no puede ser null");
-        }
-        if (mecanicos.contains(mecanico)) {
-            throw new IllegalArgumentException("El mecánico ya está registrado");
+        bloquearEscritura();
+        try {
+            if (mecanico == null) {
+                throw new NullPointerException("El mecánico no puede ser null");
+            }
+            if (repositorio.buscarMecanicoPorDni(mecanico.getDni()) != null) {
+                throw new IllegalArgumentException("El mecánico ya está registrado");
+            }
+            repositorio.agregarMecanico(mecanico);
+            if (diario != null) {
+                List<Object> argumentos = new ArrayList<>(List.of(mecanico.getDni(), mecanico.getNombre(),
+                        mecanico.getApellido(), mecanico.getExperiencia()));
+                for (Especialidad especialidad : mecanico.getEspecialidades()) {
+                    argumentos.add(especialidad.name());
+                }
+                anotar(DiarioOperaciones.Tipo.REGISTRAR_MECANICO, argumentos.toArray());
+            }
+            publicar(EventoCambio.Tipo.AGREGADO, mecanico);
+        } finally {
+            desbloquearEscritura();
         }
-        mecanicos.add(mecanico);
     }
 
     /**
@@ -229,13 +548,22 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void registrarCircuito(Circuito circuito) {
-        if (circuito == null) {
-            throw new NullPointerException("El circuito no puede ser null");
-        }
-        if (circuitos.contains(circuito)) {
-            throw new IllegalArgumentException("El circuito ya está registrado");
+        bloquearEscritura();
+        try {
+            if (circuito == null) {
+                throw new NullPointerException("El circuito no puede ser null");
+            }
+            if (repositorio.contieneCircuito(circuito)) {
+                throw new IllegalArgumentException("El circuito ya está registrado");
+            }
+            repositorio.agregarCircuito(circuito);
+            anotar(DiarioOperaciones.Tipo.REGISTRAR_CIRCUITO, circuito.getNombre(), circuito.getPais().getNombre(),
+                    circuito.getPais().getCodigo(), circuito.getLongitud(), circuito.getNumeroCurvas(),
+                    circuito.getTipo());
+            publicar(EventoCambio.Tipo.AGREGADO, circuito);
+        } finally {
+            desbloquearEscritura();
         }
-        circuitos.add(circuito);
     }
 
     /**
@@ -255,13 +583,21 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void registrarGranPremio(GranPremio granPremio) {
-        if (granPremio == null) {
-            throw new NullPointerException("El Gran Premio no puede ser null");
-        }
-        if (grandesPremios.contains(granPremio)) {
-            throw new IllegalArgumentException("El Gran Premio ya está registrado");
+        bloquearEscritura();
+        try {
+            if (granPremio == null) {
+                throw new NullPointerException("El Gran Premio no puede ser null");
+            }
+            if (repositorio.buscarGranPremio(granPremio.getNombre(), granPremio.getFechaHora()) != null) {
+                throw new IllegalArgumentException("El Gran Premio ya está registrado");
+            }
+            repositorio.agregarGranPremio(granPremio);
+            anotar(DiarioOperaciones.Tipo.REGISTRAR_GRAN_PREMIO, granPremio.getNombre(), granPremio.getFechaHora(),
+                    granPremio.getCircuito().getNombre(), granPremio.getCircuito().getPais().getCodigo());
+            publicar(EventoCambio.Tipo.AGREGADO, granPremio);
+        } finally {
+            desbloquearEscritura();
         }
-        grandesPremios.add(granPremio);
     }
 
     // ==================== MÉTODOS DE GESTIÓN ====================
@@ -281,13 +617,225 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public void asignarPilotoAEscuderia(Piloto piloto, Escuderia escuderia) {
-        if (piloto == null) {
-            throw new NullPointerException("El piloto no puede ser null");
+        bloquearEscritura();
+        try {
+            if (piloto == null) {
+                throw new NullPointerException("El piloto no puede ser null");
+            }
+            if (escuderia == null) {
+                throw new NullPointerException("La escudería no puede ser null");
+            }
+            Escuderia anterior = piloto.getEscuderia();
+            repositorio.agregarPilotoAEscuderia(escuderia, piloto);
+            anotar(DiarioOperaciones.Tipo.ASIGNAR_PILOTO_A_ESCUDERIA, piloto.getDni(), escuderia.getNombre());
+            publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, escuderia);
+            if (anterior != null && anterior != escuderia) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, anterior);
+            }
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Asigna un auto a una escudería.
+     * <p>
+     * Cada auto pertenece a una sola escudería: si ya tenía otra, se le
+     * quita. La asignación queda en el índice auto → escudería que usan las
+     * validaciones de inscripción, por lo que los autos deben asignarse a
+     * través del gestor y no con {@link Escuderia#agregarAuto(Auto)}.
+     * </p>
+     *
+     * @param auto      Auto a asignar
+     * @param escuderia Escudería propietaria
+     * @throws NullPointerException     si auto o escudería son null
+     * @throws IllegalArgumentException si el auto o la escudería no están
+     *                                  registrados
+     */
+    public void asignarAutoAEscuderia(Auto auto, Escuderia escuderia) {
+        bloquearEscritura();
+        try {
+            if (auto == null) {
+                throw new NullPointerException("El auto no puede ser null");
+            }
+            if (escuderia == null) {
+                throw new NullPointerException("La escudería no puede ser null");
+            }
+            if (repositorio.buscarAutoPorChasis(auto.getNumeroChasis()) != auto) {
+                throw new IllegalArgumentException("El auto no está registrado");
+            }
+            if (!repositorio.contieneEscuderia(escuderia)) {
+                throw new IllegalArgumentException("La escudería no está registrada");
+            }
+            Escuderia anterior = repositorio.getEscuderiaDelAuto(auto);
+            repositorio.asignarAuto(auto, escuderia);
+            anotar(DiarioOperaciones.Tipo.ASIGNAR_AUTO_A_ESCUDERIA, auto.getNumeroChasis(), escuderia.getNombre());
+            publicar(EventoCambio.Tipo.ACTUALIZADO, auto);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, escuderia);
+            if (anterior != null && anterior != escuderia) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, anterior);
+            }
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Quita un auto de la escudería a la que pertenece.
+     *
+     * @param auto Auto a liberar
+     * @return true si el auto tenía escudería, false si ya estaba libre
+     * @throws NullPointerException si el auto es null
+     */
+    public boolean removerAutoDeEscuderia(Auto auto) {
+        bloquearEscritura();
+        try {
+            if (auto == null) {
+                throw new NullPointerException("El auto no puede ser null");
+            }
+            Escuderia anterior = repositorio.quitarAuto(auto);
+            if (anterior == null) {
+                return false;
+            }
+            anotar(DiarioOperaciones.Tipo.REMOVER_AUTO_DE_ESCUDERIA, auto.getNumeroChasis());
+            publicar(EventoCambio.Tipo.ACTUALIZADO, auto);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, anterior);
+            return true;
+        } finally {
+            desbloquearEscritura();
         }
-        if (escuderia == null) {
-            throw new NullPointerException("La escudería no puede ser null");
+    }
+
+    /**
+     * Obtiene la escudería propietaria de un auto en O(1).
+     *
+     * @param auto Auto a consultar
+     * @return Escudería del auto, o null si está libre
+     */
+    public Escuderia getEscuderiaDelAuto(Auto auto) {
+        lectura.lock();
+        try {
+            return repositorio.getEscuderiaDelAuto(auto);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Asigna un mecánico a una escudería.
+     * <p>
+     * Cada mecánico trabaja para una sola escudería: si ya tenía otra, se le
+     * quita. Igual que los autos, la asignación queda en un índice mecánico →
+     * escudería del repositorio.
+     * </p>
+     *
+     * @param mecanico  Mecánico a asignar
+     * @param escuderia Escudería destino
+     * @throws NullPointerException     si mecánico o escudería son null
+     * @throws IllegalArgumentException si el mecánico o la escudería no están
+     *                                  registrados
+     */
+    public void asignarMecanicoAEscuderia(Mecanico mecanico, Escuderia escuderia) {
+        bloquearEscritura();
+        try {
+            if (mecanico == null) {
+                throw new NullPointerException("El mecánico no puede ser null");
+            }
+            if (escuderia == null) {
+                throw new NullPointerException("La escudería no puede ser null");
+            }
+            if (repositorio.buscarMecanicoPorDni(mecanico.getDni()) != mecanico) {
+                throw new IllegalArgumentException("El mecánico no está registrado");
+            }
+            if (!repositorio.contieneEscuderia(escuderia)) {
+                throw new IllegalArgumentException("La escudería no está registrada");
+            }
+            Escuderia anterior = repositorio.getEscuderiaDelMecanico(mecanico);
+            repositorio.asignarMecanico(mecanico, escuderia);
+            anotar(DiarioOperaciones.Tipo.ASIGNAR_MECANICO_A_ESCUDERIA, mecanico.getDni(), escuderia.getNombre());
+            publicar(EventoCambio.Tipo.ACTUALIZADO, mecanico);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, escuderia);
+            if (anterior != null && anterior != escuderia) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, anterior);
+            }
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Quita un mecánico de la escudería para la que trabaja.
+     *
+     * @param mecanico Mecánico a liberar
+     * @return true si el mecánico tenía escudería, false si ya estaba libre
+     * @throws NullPointerException si el mecánico es null
+     */
+    public boolean removerMecanicoDeEscuderia(Mecanico mecanico) {
+        bloquearEscritura();
+        try {
+            if (mecanico == null) {
+                throw new NullPointerException("El mecánico no puede ser null");
+            }
+            Escuderia anterior = repositorio.quitarMecanico(mecanico);
+            if (anterior == null) {
+                return false;
+            }
+            anotar(DiarioOperaciones.Tipo.REMOVER_MECANICO_DE_ESCUDERIA, mecanico.getDni());
+            publicar(EventoCambio.Tipo.ACTUALIZADO, mecanico);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, anterior);
+            return true;
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Obtiene la escudería para la que trabaja un mecánico en O(1).
+     *
+     * @param mecanico Mecánico a consultar
+     * @return Escudería del mecánico, o null si está libre
+     */
+    public Escuderia getEscuderiaDelMecanico(Mecanico mecanico) {
+        lectura.lock();
+        try {
+            return repositorio.getEscuderiaDelMecanico(mecanico);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Reemplaza las especialidades de un mecánico.
+     *
+     * @param mecanico       Mecánico a modificar
+     * @param especialidades Especialidades nuevas (se ignoran las repetidas)
+     * @throws NullPointerException si algún parámetro es null
+     */
+    public void modificarEspecialidadesMecanico(Mecanico mecanico, Collection<Especialidad> especialidades) {
+        bloquearEscritura();
+        try {
+            if (mecanico == null || especialidades == null) {
+                throw new NullPointerException("Los datos del mecánico no pueden ser null");
+            }
+            for (Especialidad especialidad : mecanico.getEspecialidades()) {
+                EDICION.removerEspecialidad(mecanico, especialidad);
+            }
+            for (Especialidad especialidad : especialidades) {
+                EDICION.agregarEspecialidad(mecanico, especialidad);
+            }
+            if (diario != null) {
+                List<Object> argumentos = new ArrayList<>();
+                argumentos.add(mecanico.getDni());
+                for (Especialidad especialidad : mecanico.getEspecialidades()) {
+                    argumentos.add(especialidad.name());
+                }
+                anotar(DiarioOperaciones.Tipo.MODIFICAR_ESPECIALIDADES_MECANICO, argumentos.toArray());
+            }
+            publicar(EventoCambio.Tipo.ACTUALIZADO, mecanico);
+        } finally {
+            desbloquearEscritura();
         }
-        escuderia.agregarPiloto(piloto);
     }
 
     /**
@@ -309,57 +857,681 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public boolean autoDisponibleEnCarrera(Auto auto, GranPremio granPremio) {
-        if (auto == null) {
-            throw new NullPointerException("El auto no puede ser null");
+        lectura.lock();
+        try {
+            if (auto == null) {
+                throw new NullPointerException("El auto no puede ser null");
+            }
+            if (granPremio == null) {
+                throw new NullPointerException("El Gran Premio no puede ser null");
+            }
+
+            return !granPremio.getTablaResultados().contieneAuto(auto);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Inscribe un piloto en un Gran Premio con un auto específico.
+     * <p>
+     * Crea una nueva participación que vincula piloto, auto y Gran Premio.
+     * Realiza validaciones para garantizar que no haya conflictos de asignación
+     * y que todos los elementos estén disponibles y registrados en el sistema.
+     * </p>
+     * <p>
+     * Validaciones realizadas:
+     * <ul>
+     * <li>Disponibilidad del auto en la carrera</li>
+     * <li>Existencia de piloto y auto en el sistema</li>
+     * <li>Coherencia de datos para la participación</li>
+     * </ul>
+     * </p>
+     * 
+     * @param piloto     El piloto a inscribir en la carrera
+     * @param auto       El auto que utilizará en la carrera
+     * @param granPremio El Gran Premio en el que participará
+     * @throws IllegalArgumentException si hay conflictos de asignación o datos
+     *                                  inválidos
+     * @throws NullPointerException     si algún parámetro es null
+     * @see Participacion
+     * @see GranPremio#agregarParticipacion(Participacion)
+     * @since 1.0
+     */
+    public void inscribirPilotoEnCarrera(Piloto piloto, Auto auto, GranPremio granPremio) {
+        bloquearEscritura();
+        try {
+            // Usar el validador completo para verificar todas las reglas
+            String error = ValidadorFormula1.validarNuevaParticipacion(piloto, auto, granPremio, this);
+            if (error != null) {
+                throw new IllegalArgumentException(error);
+            }
+
+            // Crear y agregar la participación
+            Participacion participacion = granPremio.agregarParticipacion(piloto, auto);
+            repositorio.agregarParticipacion(participacion);
+            anotar(DiarioOperaciones.Tipo.INSCRIBIR_PILOTO_EN_CARRERA, piloto.getDni(), auto != null ? auto.getNumeroChasis() : null,
+                    granPremio.getNombre(), granPremio.getFechaHora());
+            publicarParticipacion(EventoCambio.Tipo.AGREGADO, piloto, granPremio);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Inscribe la parrilla completa de un Gran Premio.
+     *
+     * @param granPremio Gran Premio donde inscribir la parrilla
+     * @param parrilla   Pares piloto-auto a inscribir
+     * @return Errores encontrados por inscripción (vacía si se inscribió la
+     *         parrilla completa)
+     * @see #inscribirParrillas(Map)
+     */
+    public List<String> inscribirParrilla(GranPremio granPremio, List<Inscripcion> parrilla) {
+        Map<GranPremio, List<Inscripcion>> parrillas = new LinkedHashMap<>();
+        parrillas.put(granPremio, parrilla);
+        return inscribirParrillas(parrillas);
+    }
+
+    /**
+     * Inscribe las parrillas de uno o varios Grandes Premios de forma
+     * atómica.
+     * <p>
+     * Primero se validan todas las inscripciones con
+     * {@link ValidadorFormula1#validarParrilla}, una pasada por carrera con
+     * conjuntos hash en lugar de revisar la grilla en cada alta. Si alguna es
+     * inválida no se inscribe ninguna y se devuelven todos los errores; si
+     * todas son válidas, las filas se agregan directamente a las tablas de
+     * resultados y la operación completa se anota en el diario como un único
+     * registro.
+     * </p>
+     *
+     * @param parrillas Parrilla de cada Gran Premio, en el orden de inscripción
+     * @return Errores encontrados por inscripción (vacía si se inscribieron
+     *         todas las parrillas)
+     * @throws NullPointerException si el mapa de parrillas es null
+     */
+    public List<String> inscribirParrillas(Map<GranPremio, List<Inscripcion>> parrillas) {
+        bloquearEscritura();
+        try {
+            if (parrillas == null) {
+                throw new NullPointerException("Las parrillas no pueden ser null");
+            }
+            List<String> errores = new ArrayList<>();
+            for (Map.Entry<GranPremio, List<Inscripcion>> parrilla : parrillas.entrySet()) {
+                errores.addAll(ValidadorFormula1.validarParrilla(parrilla.getKey(), parrilla.getValue(), this));
+            }
+            if (!errores.isEmpty()) {
+                return errores;
+            }
+
+            // Registro del diario: por carrera, nombre, fecha, cantidad y pares DNI-chasis
+            List<Object> registro = new ArrayList<>();
+            for (Map.Entry<GranPremio, List<Inscripcion>> parrilla : parrillas.entrySet()) {
+                GranPremio granPremio = parrilla.getKey();
+                TablaResultados resultados = granPremio.getTablaResultados();
+                registro.add(granPremio.getNombre());
+                registro.add(granPremio.getFechaHora());
+                registro.add(parrilla.getValue().size());
+                for (Inscripcion inscripcion : parrilla.getValue()) {
+                    Piloto piloto = inscripcion.getPiloto();
+                    EDICION.agregarFila(resultados, piloto, inscripcion.getAuto(), piloto.getEscuderia());
+                    repositorio.agregarAlHistorial(piloto, granPremio);
+                    registro.add(piloto.getDni());
+                    registro.add(inscripcion.getAuto().getNumeroChasis());
+                }
+            }
+            anotar(DiarioOperaciones.Tipo.INSCRIBIR_PARRILLAS, registro.toArray());
+            for (Map.Entry<GranPremio, List<Inscripcion>> parrilla : parrillas.entrySet()) {
+                for (Inscripcion inscripcion : parrilla.getValue()) {
+                    publicarParticipacion(EventoCambio.Tipo.AGREGADO, inscripcion.getPiloto(), parrilla.getKey());
+                }
+            }
+            return errores;
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    // ==================== MÉTODOS DE MODIFICACIÓN Y ELIMINACIÓN ====================
+
+    /**
+     * Cambia el DNI y el número de un piloto manteniendo los índices al día.
+     * <p>
+     * Ambos atributos son claves de búsqueda del sistema, por lo que deben
+     * modificarse a través del gestor y no directamente sobre el piloto.
+     * Las temporadas archivadas también registran el DNI nuevo, de modo que
+     * los resultados archivados siguen contando para el piloto.
+     * </p>
+     *
+     * @param piloto Piloto a modificar
+     * @param dni    Nuevo DNI
+     * @param numero Nuevo número de carrera
+     * @throws IllegalArgumentException si el DNI o el número ya pertenecen a otro
+     *                                  piloto, o si no son válidos
+     * @throws NullPointerException     si el piloto es null
+     */
+    public void modificarIdentificacionPiloto(Piloto piloto, String dni, int numero) {
+        bloquearEscritura();
+        try {
+            if (piloto == null) {
+                throw new NullPointerException("El piloto no puede ser null");
+            }
+            if (numero < 1 || numero > 99) {
+                throw new IllegalArgumentException("El número debe estar entre 1 y 99");
+            }
+            Piloto conNumero = repositorio.buscarPilotoPorNumero(numero);
+            if (conNumero != null && conNumero != piloto) {
+                throw new IllegalArgumentException("El número " + numero + " ya está ocupado");
+            }
+            Piloto conDni = repositorio.buscarPilotoPorDni(dni);
+            if (conDni != null && conDni != piloto) {
+                throw new IllegalArgumentException("Ya existe un piloto con DNI " + dni.trim());
+            }
+
+            String dniAnterior = piloto.getDni();
+            int numeroAnterior = piloto.getNumero();
+            piloto.setDni(dni);
+            piloto.setNumero(numero);
+            repositorio.reindexarPiloto(piloto, dniAnterior, numeroAnterior);
+            if (!dniAnterior.equals(piloto.getDni())) {
+                for (ArchivoTemporada archivo : repositorio.getTemporadasArchivadas()) {
+                    archivo.renombrarPiloto(dniAnterior, piloto.getDni());
+                }
+            }
+            anotar(DiarioOperaciones.Tipo.MODIFICAR_IDENTIFICACION_PILOTO, dniAnterior, piloto.getDni(), numero);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Modifica los datos personales de un piloto.
+     * <p>
+     * El DNI y el número se cambian con
+     * {@link #modificarIdentificacionPiloto(Piloto, String, int)}.
+     * </p>
+     *
+     * @param piloto       Piloto a modificar
+     * @param nombre       Nuevo nombre
+     * @param apellido     Nuevo apellido
+     * @param edad         Nueva edad
+     * @param nacionalidad Nueva nacionalidad
+     * @param experiencia  Nuevos años de experiencia
+     * @throws IllegalArgumentException si el nombre o el apellido están vacíos
+     * @throws NullPointerException     si el piloto es null
+     */
+    public void modificarDatosPiloto(Piloto piloto, String nombre, String apellido, int edad, String nacionalidad,
+            int experiencia) {
+        bloquearEscritura();
+        try {
+            if (piloto == null) {
+                throw new NullPointerException("El piloto no puede ser null");
+            }
+            // Se valida antes de modificar para no dejar el piloto a medias
+            if (nombre == null || nombre.trim().isEmpty()) {
+                throw new IllegalArgumentException("El nombre no puede estar vacío");
+            }
+            if (apellido == null || apellido.trim().isEmpty()) {
+                throw new IllegalArgumentException("El apellido no puede estar vacío");
+            }
+            piloto.setNombre(nombre);
+            piloto.setApellido(apellido);
+            piloto.setEdad(edad);
+            piloto.setNacionalidad(nacionalidad);
+            piloto.setExperiencia(experiencia);
+            anotar(DiarioOperaciones.Tipo.MODIFICAR_DATOS_PILOTO, piloto.getDni(), piloto.getNombre(),
+                    piloto.getApellido(), edad, nacionalidad, experiencia);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Modifica el nombre y el país de una escudería manteniendo los índices
+     * al día.
+     * <p>
+     * El nombre es la clave de búsqueda de la escudería, por lo que debe
+     * modificarse a través del gestor. Las temporadas archivadas registran el
+     * nombre nuevo, de modo que sus resultados siguen contando para la
+     * escudería.
+     * </p>
+     *
+     * @param escuderia Escudería a modificar
+     * @param nombre    Nuevo nombre
+     * @param pais      Nuevo país
+     * @throws IllegalArgumentException si el nombre está vacío o ya pertenece a
+     *                                  otra escudería, o si el país no está
+     *                                  registrado
+     * @throws NullPointerException     si algún parámetro es null
+     */
+    public void modificarEscuderia(Escuderia escuderia, String nombre, Pais pais) {
+        bloquearEscritura();
+        try {
+            if (escuderia == null || nombre == null || pais == null) {
+                throw new NullPointerException("Los datos de la escudería no pueden ser null");
+            }
+            if (nombre.trim().isEmpty()) {
+                throw new IllegalArgumentException("El nombre no puede estar vacío");
+            }
+            nombre = nombre.trim();
+            pais = repositorio.buscarPais(pais);
+            if (pais == null) {
+                throw new IllegalArgumentException("El país no está registrado");
+            }
+            Escuderia existente = repositorio.buscarEscuderiaPorNombre(nombre);
+            if (existente != null && existente != escuderia) {
+                throw new IllegalArgumentException("Ya existe una escudería con ese nombre");
+            }
+
+            String nombreAnterior = escuderia.getNombre();
+            EDICION.setNombre(escuderia, nombre);
+            EDICION.setPais(escuderia, pais);
+            if (!nombreAnterior.equals(nombre)) {
+                repositorio.reindexarEscuderia(escuderia, nombreAnterior);
+                for (ArchivoTemporada archivo : repositorio.getTemporadasArchivadas()) {
+                    archivo.renombrarEscuderia(nombreAnterior, nombre);
+                }
+            }
+            anotar(DiarioOperaciones.Tipo.MODIFICAR_ESCUDERIA, nombreAnterior, nombre, pais.getNombre(),
+                    pais.getCodigo());
+            publicar(EventoCambio.Tipo.ACTUALIZADO, escuderia);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Modifica los datos de un circuito.
+     * <p>
+     * El nombre y el país identifican al circuito, por lo que deben
+     * modificarse a través del gestor. Las temporadas archivadas registran el
+     * nombre y el país nuevos, de modo que sus carreras siguen asociadas al
+     * circuito.
+     * </p>
+     *
+     * @param circuito     Circuito a modificar
+     * @param nombre       Nuevo nombre
+     * @param pais         Nuevo país
+     * @param longitud     Nueva longitud en kilómetros
+     * @param numeroCurvas Nuevo número de curvas
+     * @param tipo         Nuevo tipo de circuito
+     * @throws IllegalArgumentException si el nombre está vacío, el país no está
+     *                                  registrado o ya existe otro circuito con
+     *                                  el mismo nombre y país
+     * @throws NullPointerException     si el circuito, el nombre o el país son
+     *                                  null
+     */
+    public void modificarCircuito(Circuito circuito, String nombre, Pais pais, double longitud, int numeroCurvas,
+            String tipo) {
+        bloquearEscritura();
+        try {
+            if (circuito == null || nombre == null || pais == null) {
+                throw new NullPointerException("Los datos del circuito no pueden ser null");
+            }
+            if (nombre.trim().isEmpty()) {
+                throw new IllegalArgumentException("El nombre no puede estar vacío");
+            }
+            nombre = nombre.trim();
+            pais = repositorio.buscarPais(pais);
+            if (pais == null) {
+                throw new IllegalArgumentException("El país no está registrado");
+            }
+            for (Circuito otro : repositorio.getCircuitos()) {
+                if (otro != circuito && otro.getNombre().equals(nombre) && otro.getPais().equals(pais)) {
+                    throw new IllegalArgumentException("El circuito ya está registrado");
+                }
+            }
+
+            String nombreAnterior = circuito.getNombre();
+            String codigoAnterior = circuito.getPais().getCodigo();
+            EDICION.setNombre(circuito, nombre);
+            EDICION.setPais(circuito, pais);
+            EDICION.setLongitud(circuito, longitud);
+            EDICION.setNumeroCurvas(circuito, numeroCurvas);
+            EDICION.setTipo(circuito, tipo);
+            if (!nombreAnterior.equals(nombre) || !codigoAnterior.equals(pais.getCodigo())) {
+                for (ArchivoTemporada archivo : repositorio.getTemporadasArchivadas()) {
+                    archivo.renombrarCircuito(nombreAnterior, codigoAnterior, nombre, pais.getCodigo());
+                }
+            }
+            anotar(DiarioOperaciones.Tipo.MODIFICAR_CIRCUITO, nombreAnterior, codigoAnterior, nombre, pais.getNombre(),
+                    pais.getCodigo(), longitud, numeroCurvas, tipo);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, circuito);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Modifica los datos de un Gran Premio manteniendo los índices al día.
+     *
+     * @param granPremio Gran Premio a modificar
+     * @param nombre     Nuevo nombre
+     * @param circuito   Nuevo circuito
+     * @param fechaHora  Nueva fecha y hora
+     * @throws IllegalArgumentException si ya existe otro Gran Premio con el mismo
+     *                                  nombre y fecha
+     * @throws NullPointerException     si algún parámetro es null
+     */
+    public void modificarGranPremio(GranPremio granPremio, String nombre, Circuito circuito,
+            LocalDateTime fechaHora) {
+        bloquearEscritura();
+        try {
+            if (granPremio == null || nombre == null || circuito == null || fechaHora == null) {
+                throw new NullPointerException("Los datos del Gran Premio no pueden ser null");
+            }
+            GranPremio existente = repositorio.buscarGranPremio(nombre, fechaHora);
+            if (existente != null && existente != granPremio) {
+                throw new IllegalArgumentException("El Gran Premio ya está registrado");
+            }
+
+            String nombreAnterior = granPremio.getNombre();
+            LocalDateTime fechaAnterior = granPremio.getFechaHora();
+            String claveAnterior = RepositorioFormula1.claveGranPremio(nombreAnterior, fechaAnterior);
+            Circuito circuitoAnterior = granPremio.getCircuito();
+            granPremio.setNombre(nombre);
+            granPremio.setCircuito(circuito);
+            granPremio.setFechaHora(fechaHora);
+            repositorio.reindexarGranPremio(granPremio, claveAnterior, circuitoAnterior, fechaAnterior);
+            anotar(DiarioOperaciones.Tipo.MODIFICAR_GRAN_PREMIO, nombreAnterior, fechaAnterior, nombre, circuito.getNombre(),
+                    circuito.getPais().getCodigo(), fechaHora);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, granPremio);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Elimina un piloto del sistema junto con sus contratos.
+     *
+     * @param piloto Piloto a eliminar
+     * @return true si el piloto estaba registrado, false en caso contrario
+     */
+    public boolean eliminarPiloto(Piloto piloto) {
+        bloquearEscritura();
+        try {
+            if (piloto == null || !repositorio.eliminarPiloto(piloto)) {
+                return false;
+            }
+            Escuderia escuderia = piloto.getEscuderia();
+            if (escuderia != null) {
+                repositorio.quitarPilotoDeEscuderia(escuderia, piloto);
+            }
+            repositorio.eliminarContratosPiloto(piloto);
+            anotar(DiarioOperaciones.Tipo.ELIMINAR_PILOTO, piloto.getDni());
+            publicar(EventoCambio.Tipo.ELIMINADO, piloto);
+            if (escuderia != null) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, escuderia);
+            }
+            return true;
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Elimina una escudería del sistema junto con sus contratos.
+     *
+     * @param escuderia Escudería a eliminar
+     * @return true si la escudería estaba registrada, false en caso contrario
+     */
+    public boolean eliminarEscuderia(Escuderia escuderia) {
+        bloquearEscritura();
+        try {
+            if (escuderia == null || !repositorio.eliminarEscuderia(escuderia)) {
+                return false;
+            }
+            List<Piloto> plantilla = new ArrayList<>(repositorio.getPilotosEscuderia(escuderia));
+            for (Piloto piloto : plantilla) {
+                repositorio.quitarPilotoDeEscuderia(escuderia, piloto);
+            }
+            repositorio.eliminarContratosEscuderia(escuderia);
+            anotar(DiarioOperaciones.Tipo.ELIMINAR_ESCUDERIA, escuderia.getNombre());
+            publicar(EventoCambio.Tipo.ELIMINADO, escuderia);
+            for (Piloto piloto : plantilla) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
+            }
+            return true;
+        } finally {
+            desbloquearEscritura();
         }
-        if (granPremio == null) {
-            throw new NullPointerException("El Gran Premio no puede ser null");
+    }
+
+    /**
+     * Elimina un circuito que no tenga Grandes Premios asociados.
+     *
+     * @param circuito Circuito a eliminar
+     * @return true si el circuito estaba registrado, false en caso contrario
+     * @throws IllegalStateException si el circuito tiene carreras asociadas
+     */
+    public boolean eliminarCircuito(Circuito circuito) {
+        bloquearEscritura();
+        try {
+            if (circuito == null) {
+                return false;
+            }
+            if (!repositorio.getGrandesPremiosEnCircuito(circuito).isEmpty()) {
+                throw new IllegalStateException("El circuito tiene carreras asociadas");
+            }
+            if (!repositorio.eliminarCircuito(circuito)) {
+                return false;
+            }
+            anotar(DiarioOperaciones.Tipo.ELIMINAR_CIRCUITO, circuito.getNombre(), circuito.getPais().getCodigo());
+            publicar(EventoCambio.Tipo.ELIMINADO, circuito);
+            return true;
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Elimina un Gran Premio del sistema.
+     * <p>
+     * Si la carrera estaba finalizada se descuentan de la clasificación los
+     * puntos de sus participantes, ya que sus resultados dejan de contar.
+     * </p>
+     *
+     * @param granPremio Gran Premio a eliminar
+     * @return true si el Gran Premio estaba registrado, false en caso contrario
+     */
+    public boolean eliminarGranPremio(GranPremio granPremio) {
+        bloquearEscritura();
+        try {
+            if (granPremio == null || !repositorio.eliminarGranPremio(granPremio)) {
+                return false;
+            }
+            if (granPremio.isFinalizada()) {
+                clasificacion.retirarCarrera(granPremio);
+            }
+            anotar(DiarioOperaciones.Tipo.ELIMINAR_GRAN_PREMIO, granPremio.getNombre(), granPremio.getFechaHora());
+            publicar(EventoCambio.Tipo.ELIMINADO, granPremio);
+            if (granPremio.isFinalizada()) {
+                publicarPuntosCarrera(granPremio);
+            }
+            return true;
+        } finally {
+            desbloquearEscritura();
         }
+    }
 
-        for (Participacion participacion : granPremio.getParticipaciones()) {
-            if (participacion.getAuto().equals(auto)) {
+    /**
+     * Remueve la inscripción de un piloto en una carrera no finalizada.
+     *
+     * @param granPremio    Gran Premio de la participación
+     * @param participacion Participación a remover
+     * @return true si la participación estaba inscrita, false en caso contrario
+     * @throws IllegalStateException si la carrera ya está finalizada
+     */
+    public boolean removerParticipacion(GranPremio granPremio, Participacion participacion) {
+        bloquearEscritura();
+        try {
+            if (granPremio.isFinalizada()) {
+                throw new IllegalStateException("No se puede modificar una carrera finalizada");
+            }
+            if (!granPremio.removerParticipacion(participacion)) {
                 return false;
             }
+            repositorio.quitarParticipacion(participacion);
+            anotar(DiarioOperaciones.Tipo.REMOVER_PARTICIPACION, granPremio.getNombre(), granPremio.getFechaHora(),
+                    participacion.getPiloto().getDni());
+            publicarParticipacion(EventoCambio.Tipo.ELIMINADO, participacion.getPiloto(), granPremio);
+            return true;
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Cambia el auto de una participación en una carrera no finalizada.
+     *
+     * @param participacion Participación a modificar
+     * @param auto          Auto nuevo (null para dejarla sin auto)
+     * @throws IllegalArgumentException si la participación no pertenece a una
+     *                                  carrera, o si el auto no está registrado
+     *                                  o ya corre en esa carrera
+     * @throws IllegalStateException    si la carrera ya está finalizada
+     */
+    public void cambiarAutoParticipacion(Participacion participacion, Auto auto) {
+        bloquearEscritura();
+        try {
+            validarResultado(participacion);
+            GranPremio granPremio = participacion.getGranPremio();
+            if (granPremio.isFinalizada()) {
+                throw new IllegalStateException("No se puede modificar una carrera finalizada");
+            }
+            if (auto != null) {
+                if (repositorio.buscarAutoPorChasis(auto.getNumeroChasis()) != auto) {
+                    throw new IllegalArgumentException("El auto no está registrado");
+                }
+                if (!auto.equals(participacion.getAuto())
+                        && granPremio.getTablaResultados().contieneAuto(auto)) {
+                    throw new IllegalArgumentException("El auto ya está asignado en esta carrera");
+                }
+            }
+            EDICION.setAuto(participacion, auto);
+            anotarParticipacion(DiarioOperaciones.Tipo.CAMBIAR_AUTO_PARTICIPACION, participacion,
+                    auto != null ? auto.getNumeroChasis() : null);
+            publicarParticipacion(EventoCambio.Tipo.ACTUALIZADO, participacion.getPiloto(), granPremio);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    // ==================== MÉTODOS DE BÚSQUEDA ====================
+
+    /**
+     * Busca un piloto por su número de carrera.
+     *
+     * @param numero Número del piloto
+     * @return El piloto con ese número, o null si no existe
+     */
+    public Piloto buscarPilotoPorNumero(int numero) {
+        lectura.lock();
+        try {
+            return repositorio.buscarPilotoPorNumero(numero);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Busca un piloto por su DNI.
+     *
+     * @param dni DNI del piloto
+     * @return El piloto con ese DNI, o null si no existe
+     */
+    public Piloto buscarPilotoPorDni(String dni) {
+        lectura.lock();
+        try {
+            return repositorio.buscarPilotoPorDni(dni);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Busca un mecánico por su DNI.
+     *
+     * @param dni DNI del mecánico
+     * @return El mecánico con ese DNI, o null si no existe
+     */
+    public Mecanico buscarMecanicoPorDni(String dni) {
+        lectura.lock();
+        try {
+            return repositorio.buscarMecanicoPorDni(dni);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Busca un auto por su número de chasis.
+     *
+     * @param numeroChasis Número de chasis del auto
+     * @return El auto con ese chasis, o null si no existe
+     */
+    public Auto buscarAutoPorChasis(String numeroChasis) {
+        lectura.lock();
+        try {
+            return repositorio.buscarAutoPorChasis(numeroChasis);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Busca un Gran Premio por nombre y fecha.
+     *
+     * @param nombre    Nombre del Gran Premio
+     * @param fechaHora Fecha y hora del Gran Premio
+     * @return El Gran Premio, o null si no existe
+     */
+    public GranPremio buscarGranPremio(String nombre, LocalDateTime fechaHora) {
+        lectura.lock();
+        try {
+            return repositorio.buscarGranPremio(nombre, fechaHora);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene los Grandes Premios disputados o programados en un circuito.
+     *
+     * @param circuito Circuito a consultar
+     * @return Lista de Grandes Premios del circuito en orden de registro
+     */
+    public List<GranPremio> getGrandesPremiosEnCircuito(Circuito circuito) {
+        lectura.lock();
+        try {
+            return new ArrayList<>(repositorio.getGrandesPremiosEnCircuito(circuito));
+        } finally {
+            lectura.unlock();
         }
-        return true;
     }
 
     /**
-     * Inscribe un piloto en un Gran Premio con un auto específico.
-     * <p>
-     * Crea una nueva participación que vincula piloto, auto y Gran Premio.
-     * Realiza validaciones para garantizar que no haya conflictos de asignación
-     * y que todos los elementos estén disponibles y registrados en el sistema.
-     * </p>
+     * Obtiene el historial de carreras de un piloto.
      * <p>
-     * Validaciones realizadas:
-     * <ul>
-     * <li>Disponibilidad del auto en la carrera</li>
-     * <li>Existencia de piloto y auto en el sistema</li>
-     * <li>Coherencia de datos para la participación</li>
-     * </ul>
+     * Cada participación ya trae su Gran Premio ({@link Participacion#getGranPremio()}),
+     * por lo que no hace falta buscar la carrera a la que pertenece. El índice
+     * se mantiene ordenado al inscribir, remover o reprogramar carreras.
      * </p>
-     * 
-     * @param piloto     El piloto a inscribir en la carrera
-     * @param auto       El auto que utilizará en la carrera
-     * @param granPremio El Gran Premio en el que participará
-     * @throws IllegalArgumentException si hay conflictos de asignación o datos
-     *                                  inválidos
-     * @throws NullPointerException     si algún parámetro es null
-     * @see Participacion
-     * @see GranPremio#agregarParticipacion(Participacion)
-     * @since 1.0
+     *
+     * @param piloto Piloto a consultar
+     * @return Participaciones del piloto ordenadas por fecha de carrera, de la
+     *         más antigua a la más reciente
      */
-    public void inscribirPilotoEnCarrera(Piloto piloto, Auto auto, GranPremio granPremio) {
-        // Usar el validador completo para verificar todas las reglas
-        String error = ValidadorFormula1.validarNuevaParticipacion(piloto, auto, granPremio, this);
-        if (error != null) {
-            throw new IllegalArgumentException(error);
+    public List<Participacion> getHistorialCarrerasPiloto(Piloto piloto) {
+        lectura.lock();
+        try {
+            return repositorio.getHistorialCarrerasPiloto(piloto);
+        } finally {
+            lectura.unlock();
         }
-
-        // Crear y agregar la participación
-        Participacion participacion = new Participacion(piloto, auto, granPremio);
-        granPremio.agregarParticipacion(participacion);
     }
 
     // ==================== MÉTODOS DE CONSULTA Y REPORTES ====================
@@ -377,9 +1549,14 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public List<Piloto> getRankingPilotos() {
-        return pilotos.stream()
-                .sorted((p1, p2) -> Integer.compare(p2.getPuntosTotales(), p1.getPuntosTotales()))
-                .collect(Collectors.toList());
+        lectura.lock();
+        try {
+            return repositorio.getPilotos().stream()
+                    .sorted((p1, p2) -> Integer.compare(p2.getPuntosTotales(), p1.getPuntosTotales()))
+                    .collect(Collectors.toList());
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -400,26 +1577,103 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public List<GranPremio> getResultadosEnRango(LocalDateTime fechaInicio, LocalDateTime fechaFin) {
-        if (fechaInicio == null) {
-            throw new NullPointerException("La fecha de inicio no puede ser null");
+        lectura.lock();
+        try {
+            if (fechaInicio == null) {
+                throw new NullPointerException("La fecha de inicio no puede ser null");
+            }
+            if (fechaFin == null) {
+                throw new NullPointerException("La fecha de fin no puede ser null");
+            }
+
+            List<GranPremio> enRango = repositorio.getCalendario(fechaInicio, false, fechaFin, false);
+            enRango.removeIf(gp -> !gp.isFinalizada());
+            return enRango;
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene todos los Grandes Premios en orden cronológico.
+     * <p>
+     * Se leen del calendario indexado por fecha, sin ordenar la lista en cada
+     * llamada.
+     * </p>
+     *
+     * @return Lista de Grandes Premios ordenada por fecha y hora
+     */
+    public List<GranPremio> getCalendario() {
+        lectura.lock();
+        try {
+            return repositorio.getCalendario();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene los Grandes Premios, finalizados o no, comprendidos entre dos
+     * fechas (ambas excluidas), en orden cronológico.
+     *
+     * @param desde Inicio del rango
+     * @param hasta Fin del rango
+     * @return Lista de Grandes Premios del rango ordenada por fecha y hora
+     * @throws NullPointerException si alguna fecha es null
+     */
+    public List<GranPremio> getGrandesPremiosEntre(LocalDateTime desde, LocalDateTime hasta) {
+        lectura.lock();
+        try {
+            if (desde == null || hasta == null) {
+                throw new NullPointerException("Las fechas del rango no pueden ser null");
+            }
+            return repositorio.getCalendario(desde, false, hasta, false);
+        } finally {
+            lectura.unlock();
         }
-        if (fechaFin == null) {
-            throw new NullPointerException("La fecha de fin no puede ser null");
+    }
+
+    /**
+     * Obtiene la próxima carrera sin finalizar posterior a una fecha.
+     *
+     * @param fechaHora Fecha y hora de referencia
+     * @return Próxima carrera, o null si no hay ninguna programada
+     * @throws NullPointerException si la fecha es null
+     */
+    public GranPremio getProximaCarrera(LocalDateTime fechaHora) {
+        lectura.lock();
+        try {
+            if (fechaHora == null) {
+                throw new NullPointerException("La fecha no puede ser null");
+            }
+            return repositorio.getProximoGranPremio(fechaHora);
+        } finally {
+            lectura.unlock();
         }
+    }
 
-        return grandesPremios.stream()
-                .filter(gp -> gp.getFechaHora().isAfter(fechaInicio) && gp.getFechaHora().isBefore(fechaFin))
-                .filter(GranPremio::isFinalizada)
-                .sorted(Comparator.comparing(GranPremio::getFechaHora))
-                .collect(Collectors.toList());
+    /**
+     * Obtiene las carreras en las que un piloto está inscrito y que todavía no
+     * se disputaron, en orden cronológico.
+     *
+     * @param piloto Piloto a consultar
+     * @return Carreras del piloto posteriores al momento actual
+     */
+    public List<GranPremio> getCarrerasPendientesPiloto(Piloto piloto) {
+        lectura.lock();
+        try {
+            return repositorio.getHistorialPosteriorA(piloto, LocalDateTime.now());
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
      * Cuenta el número total de podios obtenidos por un piloto específico.
      * <p>
-     * Analiza todas las participaciones del piloto en Grandes Premios finalizados
-     * y cuenta aquellas donde obtuvo una posición de podio (1°, 2° o 3° lugar).
-     * Esta métrica es fundamental para evaluar el rendimiento histórico del piloto.
+     * Cuenta las participaciones del piloto en Grandes Premios finalizados
+     * donde obtuvo una posición de podio (1°, 2° o 3° lugar). El valor se toma
+     * de las estadísticas agregadas, sin recorrer el historial de carreras.
      * </p>
      * 
      * @param piloto El piloto del cual se quiere consultar el histórico de podios
@@ -429,23 +1683,24 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public int getPodiosPiloto(Piloto piloto) {
-        if (piloto == null) {
-            throw new NullPointerException("El piloto no puede ser null");
-        }
+        lectura.lock();
+        try {
+            if (piloto == null) {
+                throw new NullPointerException("El piloto no puede ser null");
+            }
 
-        return (int) grandesPremios.stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto))
-                .filter(Participacion::isPodio)
-                .count();
+            return clasificacion.getEstadisticas(piloto).getPodios();
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
      * Cuenta el número total de victorias obtenidas por un piloto específico.
      * <p>
-     * Analiza todas las participaciones del piloto en Grandes Premios finalizados
-     * y cuenta aquellas donde obtuvo la primera posición. Las victorias son el
-     * indicador más importante del rendimiento de un piloto en Fórmula 1.
+     * Cuenta las participaciones del piloto en Grandes Premios finalizados
+     * donde obtuvo la primera posición. El valor se toma de las estadísticas
+     * agregadas, sin recorrer el historial de carreras.
      * </p>
      * 
      * @param piloto El piloto del cual se quiere consultar el número de victorias
@@ -455,11 +1710,40 @@ public class GestorFormula1 {
      * @since 1.0
      */
     public int getVictoriasPiloto(Piloto piloto) {
-        return (int) grandesPremios.stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto))
-                .filter(p -> p.getPosicionFinal() == 1)
-                .count();
+        lectura.lock();
+        try {
+            if (piloto == null) {
+                throw new NullPointerException("El piloto no puede ser null");
+            }
+
+            return clasificacion.getEstadisticas(piloto).getVictorias();
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene las estadísticas agregadas de un piloto.
+     * <p>
+     * Las estadísticas (carreras, victorias, podios, abandonos, mejor posición
+     * y promedio) se mantienen incrementalmente al finalizar carreras o
+     * corregir resultados, por lo que la consulta es O(1).
+     * </p>
+     *
+     * @param piloto Piloto a consultar
+     * @return Copia de las estadísticas del piloto en carreras finalizadas
+     * @throws NullPointerException si el piloto es null
+     */
+    public EstadisticasPiloto getEstadisticasPiloto(Piloto piloto) {
+        lectura.lock();
+        try {
+            if (piloto == null) {
+                throw new NullPointerException("El piloto no puede ser null");
+            }
+            return clasificacion.getEstadisticas(piloto);
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -470,11 +1754,26 @@ public class GestorFormula1 {
      * @return Número de participaciones
      */
     public int getParticipacionesPilotoEnCircuito(Piloto piloto, Circuito circuito) {
-        return (int) grandesPremios.stream()
-                .filter(gp -> gp.getCircuito().equals(circuito))
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto))
-                .count();
+        lectura.lock();
+        try {
+            int participaciones = (int) repositorio.getGrandesPremiosEnCircuito(circuito).stream()
+                    .filter(gp -> gp.getTablaResultados().buscarPiloto(piloto) >= 0)
+                    .count();
+            for (ArchivoTemporada archivo : repositorio.getTemporadasArchivadas()) {
+                int indice = archivo.buscarPiloto(piloto.getDni());
+                if (indice < 0) {
+                    continue;
+                }
+                for (int fila = archivo.getPrimeraFila(indice); fila < archivo.getFinFilas(indice); fila++) {
+                    if (archivo.esCircuito(archivo.getCarrera(fila), circuito)) {
+                        participaciones++;
+                    }
+                }
+            }
+            return participaciones;
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -484,40 +1783,53 @@ public class GestorFormula1 {
      * @return Número de carreras
      */
     public int getCarrerasEnCircuito(Circuito circuito) {
-        return (int) grandesPremios.stream()
-                .filter(gp -> gp.getCircuito().equals(circuito))
-                .filter(GranPremio::isFinalizada)
-                .count();
+        lectura.lock();
+        try {
+            int carreras = (int) repositorio.getGrandesPremiosEnCircuito(circuito).stream()
+                    .filter(GranPremio::isFinalizada)
+                    .count();
+            for (ArchivoTemporada archivo : repositorio.getTemporadasArchivadas()) {
+                for (int carrera = 0; carrera < archivo.getCantidadCarreras(); carrera++) {
+                    if (archivo.esCircuito(carrera, circuito)) {
+                        carreras++;
+                    }
+                }
+            }
+            return carreras;
+        } finally {
+            lectura.unlock();
+        }
     }
 
     // GETTERS PARA LAS COLECCIONES
+    // Devuelven listas inmutables que se comparten hasta la próxima modificación
 
     public List<Pais> getPaises() {
-        return new ArrayList<>(paises);
+        return paises.get();
     }
 
     public List<Escuderia> getEscuderias() {
-        return new ArrayList<>(escuderias);
+        return escuderias.get();
     }
 
     public List<Piloto> getPilotos() {
-        return new ArrayList<>(pilotos);
+        return pilotos.get();
     }
 
     public List<Auto> getAutos() {
-        return new ArrayList<>(autos);
+        return autos.get();
     }
 
     public List<Mecanico> getMecanicos() {
-        return new ArrayList<>(mecanicos);
+        return mecanicos.get();
     }
 
     public List<Circuito> getCircuitos() {
-        return new ArrayList<>(circuitos);
+        return circuitos.get();
     }
 
     public List<GranPremio> getGrandesPremios() {
-        return new ArrayList<>(grandesPremios);
+        return grandesPremios.get();
     }
 
     // ==================== MÉTODOS DE GESTIÓN DE RESULTADOS ====================
@@ -528,21 +1840,34 @@ public class GestorFormula1 {
      * 
      * @param participacion Participación del piloto
      * @param posicion      Posición final (1-based)
-     * @throws IllegalArgumentException si la posición no es válida
+     * @throws IllegalArgumentException si la participación no pertenece a una
+     *                                  carrera o la posición no es válida
      */
     public void establecerPosicionFinal(Participacion participacion, int posicion) {
-        if (posicion < 1) {
-            throw new IllegalArgumentException("La posición debe ser mayor a 0");
-        }
-
-        // Establecer la posición
-        participacion.setPosicionFinal(posicion);
+        bloquearEscritura();
+        try {
+            validarResultado(participacion);
+            if (posicion < 1) {
+                throw new IllegalArgumentException("La posición debe ser mayor a 0");
+            }
 
-        // Actualizar puntos automáticamente según el sistema oficial
-        ValidadorFormula1.actualizarPuntosParticipacion(participacion);
+            // Retirar el aporte anterior si la carrera ya contaba para el campeonato;
+            // el aporte se vuelve a aplicar aunque la corrección falle
+            clasificacion.retirar(participacion);
+            try {
+                // Establecer la posición
+                EDICION.setPosicionFinal(participacion, posicion);
 
-        // Actualizar puntos totales del piloto
-        actualizarPuntosTotalesPiloto(participacion.getPiloto());
+                // Actualizar puntos automáticamente según el sistema oficial
+                ValidadorFormula1.actualizarPuntosParticipacion(participacion);
+            } finally {
+                clasificacion.aplicar(participacion);
+            }
+            anotarParticipacion(DiarioOperaciones.Tipo.ESTABLECER_POSICION_FINAL, participacion, posicion);
+            publicarResultado(participacion);
+        } finally {
+            desbloquearEscritura();
+        }
     }
 
     /**
@@ -550,23 +1875,168 @@ public class GestorFormula1 {
      * 
      * @param participacion Participación del piloto
      * @param motivo        Motivo del abandono
+     * @throws IllegalArgumentException si la participación no pertenece a una
+     *                                  carrera
      */
     public void marcarAbandono(Participacion participacion, String motivo) {
-        participacion.marcarAbandono(motivo);
-        ValidadorFormula1.actualizarPuntosParticipacion(participacion);
-        actualizarPuntosTotalesPiloto(participacion.getPiloto());
+        bloquearEscritura();
+        try {
+            validarResultado(participacion);
+            clasificacion.retirar(participacion);
+            try {
+                EDICION.marcarAbandono(participacion, motivo);
+                ValidadorFormula1.actualizarPuntosParticipacion(participacion);
+            } finally {
+                clasificacion.aplicar(participacion);
+            }
+            anotarParticipacion(DiarioOperaciones.Tipo.MARCAR_ABANDONO, participacion, motivo);
+            publicarResultado(participacion);
+        } finally {
+            desbloquearEscritura();
+        }
     }
 
     /**
      * Asigna la vuelta rápida a un piloto (solo si terminó en top 10)
+     * <p>
+     * La asignación a mano queda fija: los tiempos de vuelta que se registren
+     * después ya no vuelven a determinar la vuelta rápida de la carrera.
+     * </p>
      * 
      * @param participacion     Participación del piloto
      * @param tieneVueltaRapida true si logró la vuelta rápida
+     * @throws IllegalArgumentException si la participación no pertenece a una
+     *                                  carrera
      */
     public void asignarVueltaRapida(Participacion participacion, boolean tieneVueltaRapida) {
-        participacion.setVueltaRapida(tieneVueltaRapida);
-        ValidadorFormula1.actualizarPuntosParticipacion(participacion);
-        actualizarPuntosTotalesPiloto(participacion.getPiloto());
+        bloquearEscritura();
+        try {
+            validarResultado(participacion);
+            clasificacion.retirar(participacion);
+            try {
+                EDICION.setVueltaRapida(participacion, tieneVueltaRapida);
+                EDICION.setVueltaRapidaManual(participacion.getGranPremio().getTablaResultados(), true);
+                ValidadorFormula1.actualizarPuntosParticipacion(participacion);
+            } finally {
+                clasificacion.aplicar(participacion);
+            }
+            anotarParticipacion(DiarioOperaciones.Tipo.ASIGNAR_VUELTA_RAPIDA, participacion, tieneVueltaRapida);
+            publicarResultado(participacion);
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Registra el tiempo de la mejor vuelta de un piloto en una carrera.
+     *
+     * @param participacion Participación del piloto
+     * @param mejorVuelta   Tiempo de la mejor vuelta (null para borrarlo)
+     * @throws IllegalArgumentException si la participación no pertenece a una
+     *                                  carrera o el tiempo no es positivo
+     */
+    public void establecerMejorVuelta(Participacion participacion, Duration mejorVuelta) {
+        bloquearEscritura();
+        try {
+            validarResultado(participacion);
+            EDICION.setMejorVuelta(participacion, mejorVuelta);
+            anotarParticipacion(DiarioOperaciones.Tipo.ESTABLECER_MEJOR_VUELTA, participacion, mejorVuelta);
+            publicarParticipacion(EventoCambio.Tipo.ACTUALIZADO, participacion.getPiloto(), participacion.getGranPremio());
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Registra el tiempo de cada vuelta de un piloto en una carrera.
+     * <p>
+     * La mejor vuelta del piloto se deriva de los tiempos y la vuelta rápida
+     * de la carrera se vuelve a determinar en una sola pasada: queda en el
+     * piloto que terminó con la mejor vuelta, y los puntos de quienes la
+     * ganan o la pierden se recalculan. Si la vuelta rápida se asignó a mano
+     * (con {@link #asignarVueltaRapida} o en los resultados de la carrera),
+     * se conserva y sólo se registran los tiempos.
+     * </p>
+     *
+     * @param participacion Participación del piloto
+     * @param milisegundos  Tiempo de cada vuelta en milisegundos (null o
+     *                      vacío para borrarlos)
+     * @throws IllegalArgumentException si la participación no pertenece a una
+     *                                  carrera o algún tiempo no es válido
+     */
+    public void establecerTiemposVuelta(Participacion participacion, int[] milisegundos) {
+        bloquearEscritura();
+        try {
+            validarResultado(participacion);
+            EDICION.setTiemposVuelta(participacion, milisegundos);
+            anotarParticipacion(DiarioOperaciones.Tipo.ESTABLECER_TIEMPOS_VUELTA, participacion,
+                    milisegundos != null ? milisegundos.clone() : null);
+            publicarResultado(participacion);
+
+            GranPremio granPremio = participacion.getGranPremio();
+            if (granPremio.getTablaResultados().isVueltaRapidaManual()) {
+                return;
+            }
+            List<Participacion> participaciones = granPremio.getParticipaciones();
+            boolean[] anteriores = new boolean[participaciones.size()];
+            for (int i = 0; i < anteriores.length; i++) {
+                anteriores[i] = participaciones.get(i).isVueltaRapida();
+            }
+            EDICION.determinarVueltaRapida(granPremio.getTablaResultados());
+            for (int i = 0; i < anteriores.length; i++) {
+                Participacion otra = participaciones.get(i);
+                if (otra.isVueltaRapida() != anteriores[i]) {
+                    clasificacion.retirar(otra);
+                    try {
+                        ValidadorFormula1.actualizarPuntosParticipacion(otra);
+                    } finally {
+                        clasificacion.aplicar(otra);
+                    }
+                    publicarResultado(otra);
+                }
+            }
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Comprueba que una participación pueda recibir un resultado antes de
+     * retirar su aporte de la clasificación.
+     */
+    private static void validarResultado(Participacion participacion) {
+        if (participacion == null) {
+            throw new IllegalArgumentException("La participación no puede ser null");
+        }
+        if (participacion.getGranPremio() == null || participacion.getPiloto() == null) {
+            throw new IllegalArgumentException("La participación no pertenece a ninguna carrera");
+        }
+    }
+
+    private void anotarParticipacion(DiarioOperaciones.Tipo tipo, Participacion participacion, Object valor) {
+        if (diario != null) {
+            GranPremio granPremio = participacion.getGranPremio();
+            anotar(tipo, granPremio.getNombre(), granPremio.getFechaHora(), participacion.getPiloto().getDni(),
+                    valor);
+        }
+    }
+
+    /**
+     * Publica el cambio de resultado de una participación y, si la carrera ya
+     * cuenta para el campeonato, el de los puntos del piloto y su escudería.
+     */
+    private void publicarResultado(Participacion participacion) {
+        if (!cambios.haySuscriptores()) {
+            return;
+        }
+        GranPremio granPremio = participacion.getGranPremio();
+        publicarParticipacion(EventoCambio.Tipo.ACTUALIZADO, participacion.getPiloto(), granPremio);
+        if (granPremio.isFinalizada()) {
+            publicar(EventoCambio.Tipo.ACTUALIZADO, participacion.getPiloto());
+            if (participacion.getEscuderia() != null) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, participacion.getEscuderia());
+            }
+        }
     }
 
     /**
@@ -579,51 +2049,203 @@ public class GestorFormula1 {
      *                                  la carrera ya está finalizada
      */
     public void finalizarCarrera(GranPremio granPremio) {
-        if (granPremio == null) {
-            throw new IllegalArgumentException("El Gran Premio no puede ser null");
-        }
+        bloquearEscritura();
+        try {
+            if (granPremio == null) {
+                throw new IllegalArgumentException("El Gran Premio no puede ser null");
+            }
 
-        if (granPremio.isFinalizada()) {
-            throw new IllegalStateException("La carrera ya está finalizada");
-        }
+            if (granPremio.isFinalizada()) {
+                throw new IllegalStateException("La carrera ya está finalizada");
+            }
 
-        if (!ValidadorFormula1.validarPosicionesUnicas(granPremio)) {
-            throw new IllegalStateException(
-                    "Las posiciones de la carrera tienen inconsistencias (duplicados o huecos)");
-        }
+            if (!ValidadorFormula1.validarPosicionesUnicas(granPremio)) {
+                throw new IllegalStateException(
+                        "Las posiciones de la carrera tienen inconsistencias (duplicados o huecos)");
+            }
 
-        granPremio.setFinalizada(true);
+            granPremio.setFinalizada(true);
 
-        // Actualizar puntos de todos los participantes
-        if (granPremio.getParticipaciones() != null) {
+            // Actualizar puntos de todos los participantes y sumarlos a la clasificación
             for (Participacion participacion : granPremio.getParticipaciones()) {
                 ValidadorFormula1.actualizarPuntosParticipacion(participacion);
-                actualizarPuntosTotalesPiloto(participacion.getPiloto());
             }
+            clasificacion.aplicarCarrera(granPremio);
+            anotar(DiarioOperaciones.Tipo.FINALIZAR_CARRERA, granPremio.getNombre(), granPremio.getFechaHora());
+            publicar(EventoCambio.Tipo.CARRERA_FINALIZADA, granPremio);
+            publicarPuntosCarrera(granPremio);
+        } finally {
+            desbloquearEscritura();
         }
     }
 
+    // ==================== TEMPORADAS ARCHIVADAS ====================
+
     /**
-     * Actualiza los puntos totales de un piloto sumando todas sus participaciones
-     * 
-     * @param piloto Piloto cuyos puntos se actualizarán
+     * Archiva una temporada cerrada.
+     * <p>
+     * Los resultados de sus Grandes Premios se congelan en un
+     * {@link ArchivoTemporada} de sólo lectura y las carreras se quitan de la
+     * memoria. La clasificación y las estadísticas de los pilotos no cambian:
+     * los resultados archivados se siguen contabilizando desde el archivo.
+     * </p>
+     *
+     * @param año     Año de la temporada
+     * @param archivo Ruta del archivo de temporada a crear
+     * @throws IllegalArgumentException si la temporada ya está archivada o no
+     *                                  tiene carreras
+     * @throws IllegalStateException    si alguna carrera de la temporada no está
+     *                                  finalizada
+     * @throws IOException              si no se puede escribir el archivo
+     */
+    public void archivarTemporada(int año, Path archivo) throws IOException {
+        bloquearEscritura();
+        try {
+            if (archivo == null) {
+                throw new IllegalArgumentException("La ruta del archivo no puede ser null");
+            }
+            if (repositorio.buscarTemporadaArchivada(año) != null) {
+                throw new IllegalArgumentException("La temporada " + año + " ya está archivada");
+            }
+            List<GranPremio> carreras = repositorio.getCalendario(LocalDateTime.of(año, 1, 1, 0, 0), true,
+                    LocalDateTime.of(año + 1, 1, 1, 0, 0), false);
+            if (carreras.isEmpty()) {
+                throw new IllegalArgumentException("La temporada " + año + " no tiene carreras");
+            }
+            for (GranPremio granPremio : carreras) {
+                if (!granPremio.isFinalizada()) {
+                    throw new IllegalStateException("La carrera " + granPremio.getNombre() + " no está finalizada");
+                }
+            }
+
+            Path ruta = archivo.toAbsolutePath();
+            ArchivoTemporada.escribir(ruta, año, carreras);
+            ArchivoTemporada temporada = ArchivoTemporada.abrir(ruta);
+            for (GranPremio granPremio : carreras) {
+                repositorio.eliminarGranPremio(granPremio);
+                clasificacion.retirarCarrera(granPremio);
+            }
+            repositorio.agregarTemporadaArchivada(temporada);
+            clasificacion.aplicarArchivo(temporada);
+            anotar(DiarioOperaciones.Tipo.ARCHIVAR_TEMPORADA, año, ruta.toString());
+            for (GranPremio granPremio : carreras) {
+                publicar(EventoCambio.Tipo.ELIMINADO, granPremio);
+            }
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Obtiene las temporadas archivadas ordenadas por año.
+     *
+     * @return Lista de temporadas archivadas
+     */
+    public List<ArchivoTemporada> getTemporadasArchivadas() {
+        lectura.lock();
+        try {
+            return new ArrayList<>(repositorio.getTemporadasArchivadas());
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    // ==================== CLASIFICACIÓN DEL CAMPEONATO ====================
+
+    /**
+     * Obtiene los puntos de constructores de una escudería.
+     * <p>
+     * Suma los puntos de todas las participaciones de carreras finalizadas en
+     * las que la escudería compitió, aunque el piloto haya cambiado de equipo
+     * después.
+     * </p>
+     *
+     * @param escuderia Escudería a consultar
+     * @return Puntos acumulados por la escudería
+     */
+    public int getPuntosEscuderia(Escuderia escuderia) {
+        lectura.lock();
+        try {
+            return clasificacion.getPuntosEscuderia(escuderia);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el ranking de escuderías ordenado por puntos de constructores.
+     *
+     * @return Lista de escuderías ordenada por puntos (descendente)
+     */
+    public List<Escuderia> getRankingEscuderias() {
+        lectura.lock();
+        try {
+            return repositorio.getEscuderias().stream()
+                    .sorted((e1, e2) -> Integer.compare(clasificacion.getPuntosEscuderia(e2),
+                            clasificacion.getPuntosEscuderia(e1)))
+                    .collect(Collectors.toList());
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Reconstruye la clasificación completa a partir de las carreras
+     * finalizadas.
+     */
+    public void recalcularClasificacion() {
+        bloquearEscritura();
+        try {
+            clasificacion.recalcular();
+            publicarPilotosYEscuderias();
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Contrasta los totales incrementales de pilotos y escuderías con un
+     * recálculo completo.
+     *
+     * @return Lista de diferencias encontradas (vacía si la clasificación es
+     *         consistente)
      */
-    private void actualizarPuntosTotalesPiloto(Piloto piloto) {
-        int puntosTotal = grandesPremios.stream()
-                .filter(GranPremio::isFinalizada)
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto))
-                .mapToInt(Participacion::getPuntosObtenidos)
-                .sum();
+    public List<String> verificarClasificacion() {
+        lectura.lock();
+        try {
+            return clasificacion.verificarConsistencia();
+        } finally {
+            lectura.unlock();
+        }
+    }
 
-        piloto.setPuntosTotales(puntosTotal);
+    /**
+     * Activa o desactiva la verificación de la clasificación tras cada
+     * operación.
+     * <p>
+     * Pensado para pruebas y depuración: cada actualización incremental se
+     * compara con un recálculo completo y, ante cualquier diferencia, se lanza
+     * {@link IllegalStateException}.
+     * </p>
+     *
+     * @param activo true para activar el modo verificación
+     */
+    public void setModoVerificacionClasificacion(boolean activo) {
+        bloquearEscritura();
+        try {
+            clasificacion.setModoVerificacion(activo);
+        } finally {
+            desbloquearEscritura();
+        }
     }
 
     /**
      * Establece los resultados completos de una carrera.
      * <p>
      * Permite establecer las posiciones finales de todos los participantes
-     * de una carrera de una sola vez.
+     * de una carrera de una sola vez. La carrera se finaliza con
+     * {@link #establecerResultadosCarreras(List)}: si hay algún error no se
+     * modifica ningún resultado.
      * </p>
      * 
      * @param granPremio         Gran Premio cuyos resultados se establecerán
@@ -639,34 +2261,112 @@ public class GestorFormula1 {
             throw new IllegalArgumentException("La carrera ya está finalizada");
         }
 
-        // Establecer posiciones
+        ResultadoCarrera resultado = new ResultadoCarrera(granPremio);
         for (java.util.Map.Entry<Piloto, Integer> entrada : resultados.entrySet()) {
-            Piloto piloto = entrada.getKey();
-            Integer posicion = entrada.getValue();
-
-            // Buscar participación del piloto
-            Participacion participacion = granPremio.getParticipaciones().stream()
-                    .filter(p -> p.getPiloto().equals(piloto))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "El piloto " + piloto.getNombreCompleto() + " no está inscrito en esta carrera"));
-
-            establecerPosicionFinal(participacion, posicion);
+            resultado.agregarPosicion(entrada.getKey().getNumero(), entrada.getValue());
         }
-
-        // Establecer vuelta rápida si se especifica
         if (pilotoVueltaRapida != null) {
-            Participacion participacionVR = granPremio.getParticipaciones().stream()
-                    .filter(p -> p.getPiloto().equals(pilotoVueltaRapida))
-                    .findFirst()
-                    .orElseThrow(
-                            () -> new IllegalArgumentException("El piloto de la vuelta rápida no está en la carrera"));
+            resultado.setVueltaRapida(pilotoVueltaRapida.getNumero());
+        }
 
-            asignarVueltaRapida(participacionVR, true);
+        List<String> errores = establecerResultadosCarreras(List.of(resultado));
+        if (!errores.isEmpty()) {
+            throw new IllegalArgumentException(errores.get(0));
         }
+    }
 
-        // Finalizar carrera automáticamente
-        finalizarCarrera(granPremio);
+    /**
+     * Establece los resultados de una o varias carreras y las finaliza de
+     * forma atómica.
+     * <p>
+     * Primero se valida cada clasificación con
+     * {@link ValidadorFormula1#validarResultadosCarrera}, que resuelve los
+     * pilotos por número con el índice del repositorio y comprueba las
+     * posiciones en una sola pasada. Si alguna es inválida no se modifica
+     * ninguna carrera y se devuelven todos los errores. Si todas son válidas,
+     * los resultados y los puntos se escriben directamente en las tablas de
+     * resultados, las carreras se marcan como finalizadas y se suman a la
+     * clasificación de una sola vez. La operación completa se anota en el
+     * diario como un único registro.
+     * </p>
+     * <p>
+     * Si una clasificación indica la vuelta rápida, se le quita a cualquier
+     * otro piloto de esa carrera.
+     * </p>
+     *
+     * @param resultados Clasificación de cada carrera
+     * @return Errores encontrados (vacía si se finalizaron todas las carreras)
+     * @throws NullPointerException si la lista de resultados es null
+     */
+    public List<String> establecerResultadosCarreras(List<ResultadoCarrera> resultados) {
+        bloquearEscritura();
+        try {
+            if (resultados == null) {
+                throw new NullPointerException("Los resultados no pueden ser null");
+            }
+            List<String> errores = new ArrayList<>();
+            Set<GranPremio> carreras = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ResultadoCarrera resultado : resultados) {
+                List<String> erroresCarrera = ValidadorFormula1.validarResultadosCarrera(resultado, this);
+                if (erroresCarrera.isEmpty() && !carreras.add(resultado.getGranPremio())) {
+                    GranPremio granPremio = resultado.getGranPremio();
+                    erroresCarrera.add(granPremio.getNombre() + " (" + granPremio.getFechaHora().toLocalDate()
+                            + "): la carrera aparece más de una vez");
+                }
+                errores.addAll(erroresCarrera);
+            }
+            if (!errores.isEmpty()) {
+                return errores;
+            }
+
+            // Registro del diario: por carrera, nombre, fecha, cantidad, ternas
+            // DNI-posición-motivo y DNI de la vuelta rápida
+            List<Object> registro = new ArrayList<>();
+            List<GranPremio> finalizadas = new ArrayList<>(resultados.size());
+            for (ResultadoCarrera resultado : resultados) {
+                GranPremio granPremio = resultado.getGranPremio();
+                TablaResultados tabla = granPremio.getTablaResultados();
+                int[] filas = ValidadorFormula1.resolverFilas(resultado, this);
+                registro.add(granPremio.getNombre());
+                registro.add(granPremio.getFechaHora());
+                registro.add(resultado.size());
+                for (int entrada = 0; entrada < resultado.size(); entrada++) {
+                    if (resultado.isAbandono(entrada)) {
+                        EDICION.marcarAbandono(tabla, filas[entrada], resultado.getMotivoAbandono(entrada));
+                    } else {
+                        EDICION.setPosicion(tabla, filas[entrada], resultado.getPosicion(entrada));
+                    }
+                    registro.add(tabla.getPiloto(filas[entrada]).getDni());
+                    registro.add(resultado.getPosicion(entrada));
+                    registro.add(resultado.getMotivoAbandono(entrada));
+                }
+
+                Piloto pilotoVueltaRapida = null;
+                if (resultado.getNumeroVueltaRapida() != ResultadoCarrera.SIN_VUELTA_RAPIDA) {
+                    pilotoVueltaRapida = repositorio.buscarPilotoPorNumero(resultado.getNumeroVueltaRapida());
+                    for (int fila = 0; fila < tabla.size(); fila++) {
+                        EDICION.setVueltaRapida(tabla, fila, tabla.getPiloto(fila) == pilotoVueltaRapida);
+                    }
+                    EDICION.setVueltaRapidaManual(tabla, true);
+                }
+                registro.add(pilotoVueltaRapida != null ? pilotoVueltaRapida.getDni() : null);
+
+                granPremio.setFinalizada(true);
+                for (int fila = 0; fila < tabla.size(); fila++) {
+                    ValidadorFormula1.actualizarPuntosFila(tabla, fila);
+                }
+                finalizadas.add(granPremio);
+            }
+            clasificacion.aplicarCarreras(finalizadas);
+            anotar(DiarioOperaciones.Tipo.ESTABLECER_RESULTADOS_CARRERAS, registro.toArray());
+            for (GranPremio granPremio : finalizadas) {
+                publicar(EventoCambio.Tipo.CARRERA_FINALIZADA, granPremio);
+                publicarPuntosCarrera(granPremio);
+            }
+            return errores;
+        } finally {
+            desbloquearEscritura();
+        }
     }
 
     /**
@@ -676,19 +2376,24 @@ public class GestorFormula1 {
      * @return Lista de strings con los resultados formateados
      */
     public java.util.List<String> obtenerResumenResultados(GranPremio granPremio) {
-        if (!granPremio.isFinalizada()) {
-            throw new IllegalArgumentException("La carrera no está finalizada");
-        }
+        lectura.lock();
+        try {
+            if (!granPremio.isFinalizada()) {
+                throw new IllegalArgumentException("La carrera no está finalizada");
+            }
 
-        return granPremio.getResultados().stream()
-                .map(p -> String.format("P%d - %s (%s) - %d puntos%s",
-                        p.getPosicionFinal(),
-                        p.getPiloto().getNombreCompleto(),
-                        p.getPiloto().getEscuderia() != null ? p.getPiloto().getEscuderia().getNombre()
-                                : "Sin escudería",
-                        p.getPuntosObtenidos(),
-                        p.isVueltaRapida() ? " + VR" : ""))
-                .collect(java.util.stream.Collectors.toList());
+            return granPremio.getResultados().stream()
+                    .map(p -> String.format("P%d - %s (%s) - %d puntos%s",
+                            p.getPosicionFinal(),
+                            p.getPiloto().getNombreCompleto(),
+                            p.getPiloto().getEscuderia() != null ? p.getPiloto().getEscuderia().getNombre()
+                                    : "Sin escudería",
+                            p.getPuntosObtenidos(),
+                            p.isVueltaRapida() ? " + VR" : ""))
+                    .collect(java.util.stream.Collectors.toList());
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -699,17 +2404,29 @@ public class GestorFormula1 {
      * @throws IllegalArgumentException si el cambio no es válido
      */
     public void cambiarEscuderiaPiloto(Piloto piloto, Escuderia nuevaEscuderia) {
-        if (!ValidadorFormula1.validarPilotoEscuderiaUnica(piloto, nuevaEscuderia, this)) {
-            throw new IllegalArgumentException("No se puede cambiar de escudería: el piloto tiene carreras pendientes");
-        }
+        bloquearEscritura();
+        try {
+            if (!ValidadorFormula1.validarPilotoEscuderiaUnica(piloto, nuevaEscuderia, this)) {
+                throw new IllegalArgumentException("No se puede cambiar de escudería: el piloto tiene carreras pendientes");
+            }
 
-        // Remover de la escudería actual si existe
-        if (piloto.getEscuderia() != null) {
-            piloto.getEscuderia().removerPiloto(piloto);
-        }
+            // Remover de la escudería actual si existe
+            Escuderia anterior = piloto.getEscuderia();
+            if (anterior != null) {
+                repositorio.quitarPilotoDeEscuderia(anterior, piloto);
+            }
 
-        // Agregar a la nueva escudería
-        nuevaEscuderia.agregarPiloto(piloto);
+            // Agregar a la nueva escudería
+            repositorio.agregarPilotoAEscuderia(nuevaEscuderia, piloto);
+            anotar(DiarioOperaciones.Tipo.CAMBIAR_ESCUDERIA_PILOTO, piloto.getDni(), nuevaEscuderia.getNombre());
+            publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, nuevaEscuderia);
+            if (anterior != null && anterior != nuevaEscuderia) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, anterior);
+            }
+        } finally {
+            desbloquearEscritura();
+        }
     }
 
     // ==================== MÉTODOS DE GESTIÓN PILOTO-ESCUDERÍA ====================
@@ -719,32 +2436,49 @@ public class GestorFormula1 {
      * 
      * @param piloto      Piloto a asignar
      * @param escuderia   Escudería de destino
-     * @param fechaInicio Fecha de inicio en formato String
-     * @param fechaFin    Fecha de fin en formato String (null si es indefinido)
+     * @param fechaInicio Fecha de inicio en formato yyyy-MM-dd
+     * @param fechaFin    Fecha de fin en formato yyyy-MM-dd (null si es
+     *                    indefinido)
      * @throws IllegalArgumentException si algún parámetro es inválido
      */
     public void asignarPilotoAEscuderia(Piloto piloto, Escuderia escuderia, String fechaInicio, String fechaFin) {
-        if (piloto == null) {
-            throw new IllegalArgumentException("El piloto no puede ser null");
-        }
-        if (escuderia == null) {
-            throw new IllegalArgumentException("La escudería no puede ser null");
-        }
-        if (fechaInicio == null || fechaInicio.trim().isEmpty()) {
-            throw new IllegalArgumentException("La fecha de inicio no puede estar vacía");
-        }
+        bloquearEscritura();
+        try {
+            if (piloto == null) {
+                throw new IllegalArgumentException("El piloto no puede ser null");
+            }
+            if (escuderia == null) {
+                throw new IllegalArgumentException("La escudería no puede ser null");
+            }
+            if (fechaInicio == null || fechaInicio.trim().isEmpty()) {
+                throw new IllegalArgumentException("La fecha de inicio no puede estar vacía");
+            }
 
-        // Finalizar relación activa actual si existe
-        finalizarRelacionActivaPiloto(piloto, fechaInicio);
+            // Crear nueva relación (valida las fechas antes de modificar nada)
+            PilotoEscuderia relacion = new PilotoEscuderia(fechaInicio, fechaFin, piloto, escuderia);
 
-        // Crear nueva relación
-        PilotoEscuderia relacion = new PilotoEscuderia(fechaInicio, fechaFin, piloto, escuderia);
-        pilotoEscuderias.add(relacion);
+            // Finalizar relación activa actual si existe
+            PilotoEscuderia finalizada = finalizarRelacionActiva(piloto, relacion.getDesde());
+            repositorio.agregarContrato(relacion);
 
-        // Actualizar referencias
-        piloto.setEscuderia(escuderia);
-        if (!escuderia.getPilotos().contains(piloto)) {
-            escuderia.agregarPiloto(piloto);
+            // Actualizar referencias
+            Escuderia anterior = piloto.getEscuderia();
+            piloto.setEscuderia(escuderia);
+            if (!escuderia.getPilotos().contains(piloto)) {
+                repositorio.agregarPilotoAEscuderia(escuderia, piloto);
+            }
+            anotar(DiarioOperaciones.Tipo.ASIGNAR_CONTRATO, piloto.getDni(), escuderia.getNombre(), fechaInicio, fechaFin);
+            if (finalizada != null) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, finalizada);
+            }
+            publicar(EventoCambio.Tipo.AGREGADO, relacion);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
+            publicar(EventoCambio.Tipo.ACTUALIZADO, escuderia);
+            if (anterior != null && anterior != escuderia) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, anterior);
+            }
+        } finally {
+            desbloquearEscritura();
         }
     }
 
@@ -752,24 +2486,48 @@ public class GestorFormula1 {
      * Finaliza la relación activa actual de un piloto.
      * 
      * @param piloto   Piloto cuya relación se va a finalizar
-     * @param fechaFin Fecha de finalización
+     * @param fechaFin Fecha de finalización en formato yyyy-MM-dd
+     * @throws IllegalArgumentException si la fecha no es válida
      */
     public void finalizarRelacionActivaPiloto(Piloto piloto, String fechaFin) {
-        for (PilotoEscuderia relacion : pilotoEscuderias) {
-            if (relacion.getPiloto().equals(piloto) && relacion.estaActiva()) {
-                relacion.finalizarRelacion(fechaFin);
-                break;
+        bloquearEscritura();
+        try {
+            if (fechaFin == null || fechaFin.trim().isEmpty()) {
+                throw new IllegalArgumentException("La fecha de finalización no puede estar vacía");
+            }
+            PilotoEscuderia finalizada = finalizarRelacionActiva(piloto, PilotoEscuderia.parsearFecha(fechaFin));
+            anotar(DiarioOperaciones.Tipo.FINALIZAR_RELACION_ACTIVA, piloto.getDni(), fechaFin);
+            if (finalizada != null) {
+                publicar(EventoCambio.Tipo.ACTUALIZADO, finalizada);
+                publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
             }
+        } finally {
+            desbloquearEscritura();
         }
     }
 
+    /**
+     * Finaliza el primer contrato activo de un piloto.
+     *
+     * @return Contrato finalizado que reemplaza al activo, o null si no tenía
+     *         ninguno activo
+     */
+    private PilotoEscuderia finalizarRelacionActiva(Piloto piloto, LocalDate fechaFin) {
+        for (PilotoEscuderia relacion : repositorio.getContratosPiloto(piloto)) {
+            if (relacion.estaActiva()) {
+                return repositorio.finalizarContrato(relacion, fechaFin);
+            }
+        }
+        return null;
+    }
+
     /**
      * Obtiene todas las relaciones piloto-escudería.
      * 
-     * @return Lista de todas las relaciones
+     * @return Lista inmutable de todas las relaciones
      */
     public List<PilotoEscuderia> getPilotoEscuderias() {
-        return new ArrayList<>(pilotoEscuderias);
+        return contratos.get();
     }
 
     /**
@@ -779,9 +2537,12 @@ public class GestorFormula1 {
      * @return Lista de relaciones vigentes
      */
     public List<PilotoEscuderia> getRelacionesActivasPiloto(Piloto piloto) {
-        return pilotoEscuderias.stream()
-                .filter(relacion -> relacion.getPiloto().equals(piloto) && relacion.estaVigente())
-                .collect(Collectors.toList());
+        lectura.lock();
+        try {
+            return repositorio.getContratosPilotoEnPeriodo(piloto, LocalDate.now(), null);
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -791,9 +2552,27 @@ public class GestorFormula1 {
      * @return Lista de todas las relaciones del piloto
      */
     public List<PilotoEscuderia> getHistorialPiloto(Piloto piloto) {
-        return pilotoEscuderias.stream()
-                .filter(relacion -> relacion.getPiloto().equals(piloto))
-                .collect(Collectors.toList());
+        lectura.lock();
+        try {
+            return new ArrayList<>(repositorio.getContratosPiloto(piloto));
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene la plantilla actual de una escudería.
+     *
+     * @param escuderia Escudería a consultar
+     * @return Nueva lista con los pilotos de la escudería
+     */
+    public List<Piloto> getPilotosEscuderia(Escuderia escuderia) {
+        lectura.lock();
+        try {
+            return new ArrayList<>(repositorio.getPilotosEscuderia(escuderia));
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -804,9 +2583,71 @@ public class GestorFormula1 {
      * @return Lista de relaciones vigentes de la escudería
      */
     public List<PilotoEscuderia> getPilotosEscuderiaConFechas(Escuderia escuderia) {
-        return pilotoEscuderias.stream()
-                .filter(relacion -> relacion.getEscuderia().equals(escuderia) && relacion.estaVigente())
-                .collect(Collectors.toList());
+        lectura.lock();
+        try {
+            return repositorio.getContratosEscuderiaEnPeriodo(escuderia, LocalDate.now(), null);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene los contratos vigentes de todas las escuderías, ordenados por
+     * fecha de inicio.
+     *
+     * @return Lista de contratos que no han expirado
+     */
+    public List<PilotoEscuderia> getContratosVigentes() {
+        lectura.lock();
+        try {
+            return repositorio.getContratosEnPeriodo(LocalDate.now(), null);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene los contratos de una escudería que cubren una fecha, es decir,
+     * quiénes corrían para ella ese día.
+     *
+     * @param escuderia Escudería a consultar
+     * @param fecha     Fecha a consultar
+     * @return Contratos de la escudería vigentes en esa fecha
+     * @throws NullPointerException si la fecha es null
+     */
+    public List<PilotoEscuderia> getContratosEscuderiaEnFecha(Escuderia escuderia, LocalDate fecha) {
+        lectura.lock();
+        try {
+            if (fecha == null) {
+                throw new NullPointerException("La fecha no puede ser null");
+            }
+            return repositorio.getContratosEscuderiaEnPeriodo(escuderia, fecha, fecha);
+        } finally {
+            lectura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene los contratos de un piloto que se solapan con un período
+     * (extremos incluidos).
+     *
+     * @param piloto Piloto a consultar
+     * @param desde  Inicio del período
+     * @param hasta  Fin del período (null si es indefinido)
+     * @return Contratos del piloto que se solapan, ordenados por fecha de
+     *         inicio
+     * @throws NullPointerException si la fecha de inicio es null
+     */
+    public List<PilotoEscuderia> getContratosSolapados(Piloto piloto, LocalDate desde, LocalDate hasta) {
+        lectura.lock();
+        try {
+            if (desde == null) {
+                throw new NullPointerException("La fecha de inicio no puede ser null");
+            }
+            return repositorio.getContratosPilotoEnPeriodo(piloto, desde, hasta);
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -815,9 +2656,18 @@ public class GestorFormula1 {
      * @return Lista de pilotos sin escudería actual
      */
     public List<Piloto> getPilotosLibres() {
-        return pilotos.stream()
-                .filter(piloto -> getRelacionesActivasPiloto(piloto).isEmpty())
-                .collect(Collectors.toList());
+        lectura.lock();
+        try {
+            Set<Piloto> conContrato = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (PilotoEscuderia contrato : getContratosVigentes()) {
+                conContrato.add(contrato.getPiloto());
+            }
+            return repositorio.getPilotos().stream()
+                    .filter(piloto -> !conContrato.contains(piloto))
+                    .collect(Collectors.toList());
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
@@ -827,32 +2677,95 @@ public class GestorFormula1 {
      * @return Escudería actual o null si está libre
      */
     public Escuderia getEscuderiaActual(Piloto piloto) {
-        List<PilotoEscuderia> relaciones = getRelacionesActivasPiloto(piloto);
-        return relaciones.isEmpty() ? null : relaciones.get(0).getEscuderia();
+        lectura.lock();
+        try {
+            List<PilotoEscuderia> relaciones = getRelacionesActivasPiloto(piloto);
+            return relaciones.isEmpty() ? null : relaciones.get(0).getEscuderia();
+        } finally {
+            lectura.unlock();
+        }
     }
 
     /**
      * Actualiza las referencias de pilotos en escuderías basándose en contratos
      * vigentes.
-     * Limpia automáticamente pilotos con contratos expirados.
+     * <p>
+     * La primera vez arma todas las plantillas a partir de los contratos
+     * vigentes; después sólo aplica los contratos que vencieron desde la
+     * actualización anterior, tomados de la cola de vencimientos del
+     * repositorio, de modo que el costo depende de cuántos contratos
+     * cambiaron y no del total.
+     * </p>
+     * <p>
+     * La fecha de referencia es la del día y queda anotada en el diario, para
+     * que la reproducción aplique los mismos vencimientos.
+     * </p>
      */
     public void actualizarEscuderiasSegunContratos() {
-        // Limpiar todas las listas de pilotos en escuderías
-        for (Escuderia escuderia : escuderias) {
-            escuderia.getPilotos().clear();
+        bloquearEscritura();
+        try {
+            LocalDate fecha = LocalDate.now();
+            actualizarEscuderiasSegunContratos(fecha);
+            anotar(DiarioOperaciones.Tipo.ACTUALIZAR_ESCUDERIAS_SEGUN_CONTRATOS, fecha.toString());
+        } finally {
+            desbloquearEscritura();
+        }
+    }
+
+    /**
+     * Actualiza las plantillas a una fecha de referencia. Si la fecha es
+     * anterior a la de la última actualización se vuelven a armar completas.
+     *
+     * @param fecha Fecha de referencia
+     */
+    void actualizarEscuderiasSegunContratos(LocalDate fecha) {
+        bloquearEscritura();
+        try {
+            if (revisionContratos == null || fecha.isBefore(revisionContratos)) {
+                reconstruirEscuderiasSegunContratos(fecha);
+                publicarPilotosYEscuderias();
+            } else {
+                Set<Piloto> afectados = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (PilotoEscuderia vencido : repositorio.extraerContratosVencidos(fecha)) {
+                    repositorio.quitarPilotoDeEscuderia(vencido.getEscuderia(), vencido.getPiloto());
+                    afectados.add(vencido.getPiloto());
+                    publicar(EventoCambio.Tipo.CONTRATO_VENCIDO, vencido);
+                    publicar(EventoCambio.Tipo.ACTUALIZADO, vencido.getEscuderia());
+                }
+                // Un piloto puede seguir en la escudería o pasar a otra por otro contrato vigente
+                for (Piloto piloto : afectados) {
+                    piloto.setEscuderia(null);
+                    for (PilotoEscuderia relacion : repositorio.getContratosPilotoEnPeriodo(piloto, fecha, null)) {
+                        repositorio.agregarPilotoAEscuderia(relacion.getEscuderia(), piloto);
+                        piloto.setEscuderia(relacion.getEscuderia());
+                    }
+                    publicar(EventoCambio.Tipo.ACTUALIZADO, piloto);
+                    if (piloto.getEscuderia() != null) {
+                        publicar(EventoCambio.Tipo.ACTUALIZADO, piloto.getEscuderia());
+                    }
+                }
+            }
+            revisionContratos = fecha;
+        } finally {
+            desbloquearEscritura();
         }
+    }
 
-        // Limpiar referencias de escuderías en pilotos
-        for (Piloto piloto : pilotos) {
+    private void reconstruirEscuderiasSegunContratos(LocalDate fecha) {
+        for (Escuderia escuderia : repositorio.getEscuderias()) {
+            for (Piloto piloto : new ArrayList<>(repositorio.getPilotosEscuderia(escuderia))) {
+                repositorio.quitarPilotoDeEscuderia(escuderia, piloto);
+            }
+        }
+        for (Piloto piloto : repositorio.getPilotos()) {
             piloto.setEscuderia(null);
         }
 
         // Restablecer solo las relaciones vigentes
-        for (PilotoEscuderia relacion : pilotoEscuderias) {
-            if (relacion.estaVigente()) {
-                relacion.getPiloto().setEscuderia(relacion.getEscuderia());
-                relacion.getEscuderia().agregarPiloto(relacion.getPiloto());
-            }
+        for (PilotoEscuderia relacion : repositorio.getContratosEnPeriodo(fecha, null)) {
+            repositorio.agregarPilotoAEscuderia(relacion.getEscuderia(), relacion.getPiloto());
+            relacion.getPiloto().setEscuderia(relacion.getEscuderia());
         }
+        repositorio.reprogramarVencimientos(fecha);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,255 @@
+package controlador;
+
+import modelo.PilotoEscuderia;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Árbol de intervalos de contratos piloto-escudería.
+ * <p>
+ * Es un árbol AVL ordenado por fecha de inicio (los empates quedan en orden
+ * de inserción) en el que cada nodo guarda además la fecha de fin máxima de
+ * su subárbol. Con ese dato las búsquedas de contratos que se solapan con un
+ * período descartan subárboles completos: saber si hay algún solapamiento
+ * cuesta O(log n) y listarlos O(log n + resultado), sin importar cuántos años
+ * de historial acumule el índice.
+ * </p>
+ * <p>
+ * Los contratos sin fecha de fin se tratan como abiertos hasta
+ * {@link LocalDate#MAX}. Las fechas de un contrato no cambian fuera de su
+ * paquete: para finalizarlo se quita del índice y se agrega el contrato que
+ * lo reemplaza.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+class IndiceContratos {
+
+    private static final class Nodo {
+        private final PilotoEscuderia contrato;
+        private final LocalDate desde;
+        private final LocalDate hasta;
+        private LocalDate hastaMaxima;
+        private int altura;
+        private Nodo izquierdo;
+        private Nodo derecho;
+
+        private Nodo(PilotoEscuderia contrato) {
+            this.contrato = contrato;
+            this.desde = contrato.getDesde();
+            this.hasta = fin(contrato);
+            this.hastaMaxima = hasta;
+            this.altura = 1;
+        }
+    }
+
+    /** Raíz del árbol */
+    private Nodo raiz;
+
+    /** Cantidad de contratos indexados */
+    private int cantidad;
+
+    /** Indica si la última baja encontró el contrato */
+    private boolean encontrado;
+
+    private static LocalDate fin(PilotoEscuderia contrato) {
+        return contrato.getHasta() != null ? contrato.getHasta() : LocalDate.MAX;
+    }
+
+    int size() {
+        return cantidad;
+    }
+
+    boolean isEmpty() {
+        return cantidad == 0;
+    }
+
+    /**
+     * Agrega un contrato al índice.
+     *
+     * @param contrato Contrato a indexar
+     */
+    void agregar(PilotoEscuderia contrato) {
+        raiz = insertar(raiz, new Nodo(contrato));
+        cantidad++;
+    }
+
+    /**
+     * Quita un contrato del índice.
+     *
+     * @param contrato Contrato a quitar (se busca por identidad)
+     * @return true si el contrato estaba indexado
+     */
+    boolean quitar(PilotoEscuderia contrato) {
+        encontrado = false;
+        raiz = quitar(raiz, contrato, contrato.getDesde());
+        if (encontrado) {
+            cantidad--;
+        }
+        return encontrado;
+    }
+
+    /**
+     * Indica si algún contrato se solapa con un período (extremos incluidos).
+     *
+     * @param desde Inicio del período
+     * @param hasta Fin del período (null si es abierto)
+     * @return true si hay al menos un contrato que se solapa
+     */
+    boolean haySolapados(LocalDate desde, LocalDate hasta) {
+        LocalDate fin = hasta != null ? hasta : LocalDate.MAX;
+        Nodo nodo = raiz;
+        while (nodo != null) {
+            if (nodo.desde.compareTo(fin) <= 0 && nodo.hasta.compareTo(desde) >= 0) {
+                return true;
+            }
+            // Si el subárbol izquierdo puede tener un solapamiento lo tiene:
+            // todos sus inicios son <= nodo.desde y alguno termina después de desde
+            if (nodo.izquierdo != null && nodo.izquierdo.hastaMaxima.compareTo(desde) >= 0) {
+                nodo = nodo.izquierdo;
+            } else if (nodo.desde.compareTo(fin) <= 0) {
+                nodo = nodo.derecho;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Agrega a una lista los contratos que se solapan con un período
+     * (extremos incluidos), ordenados por fecha de inicio.
+     *
+     * @param desde  Inicio del período
+     * @param hasta  Fin del período (null si es abierto)
+     * @param salida Lista donde agregar los contratos encontrados
+     */
+    void buscarSolapados(LocalDate desde, LocalDate hasta, List<PilotoEscuderia> salida) {
+        buscarSolapados(raiz, desde, hasta != null ? hasta : LocalDate.MAX, salida);
+    }
+
+    private static void buscarSolapados(Nodo nodo, LocalDate desde, LocalDate hasta, List<PilotoEscuderia> salida) {
+        if (nodo == null || nodo.hastaMaxima.compareTo(desde) < 0) {
+            return;
+        }
+        buscarSolapados(nodo.izquierdo, desde, hasta, salida);
+        if (nodo.desde.compareTo(hasta) > 0) {
+            return; // Este nodo y su subárbol derecho empiezan después del período
+        }
+        if (nodo.hasta.compareTo(desde) >= 0) {
+            salida.add(nodo.contrato);
+        }
+        buscarSolapados(nodo.derecho, desde, hasta, salida);
+    }
+
+    // ==================== ÁRBOL AVL ====================
+
+    private static Nodo insertar(Nodo nodo, Nodo nuevo) {
+        if (nodo == null) {
+            return nuevo;
+        }
+        if (nuevo.desde.isBefore(nodo.desde)) {
+            nodo.izquierdo = insertar(nodo.izquierdo, nuevo);
+        } else {
+            nodo.derecho = insertar(nodo.derecho, nuevo);
+        }
+        return balancear(nodo);
+    }
+
+    private Nodo quitar(Nodo nodo, PilotoEscuderia contrato, LocalDate desde) {
+        if (nodo == null) {
+            return null;
+        }
+        int comparacion = desde.compareTo(nodo.desde);
+        if (comparacion < 0) {
+            nodo.izquierdo = quitar(nodo.izquierdo, contrato, desde);
+        } else if (comparacion > 0) {
+            nodo.derecho = quitar(nodo.derecho, contrato, desde);
+        } else if (nodo.contrato == contrato) {
+            encontrado = true;
+            if (nodo.izquierdo == null) {
+                return nodo.derecho;
+            }
+            if (nodo.derecho == null) {
+                return nodo.izquierdo;
+            }
+            // Se reemplaza por el sucesor en orden, que pasa a ocupar su lugar
+            Nodo sucesor = nodo.derecho;
+            while (sucesor.izquierdo != null) {
+                sucesor = sucesor.izquierdo;
+            }
+            sucesor.derecho = quitarMinimo(nodo.derecho);
+            sucesor.izquierdo = nodo.izquierdo;
+            return balancear(sucesor);
+        } else {
+            // Los inicios iguales pueden quedar a ambos lados tras las rotaciones
+            nodo.izquierdo = quitar(nodo.izquierdo, contrato, desde);
+            if (!encontrado) {
+                nodo.derecho = quitar(nodo.derecho, contrato, desde);
+            }
+        }
+        return balancear(nodo);
+    }
+
+    private static Nodo quitarMinimo(Nodo nodo) {
+        if (nodo.izquierdo == null) {
+            return nodo.derecho;
+        }
+        nodo.izquierdo = quitarMinimo(nodo.izquierdo);
+        return balancear(nodo);
+    }
+
+    private static int altura(Nodo nodo) {
+        return nodo != null ? nodo.altura : 0;
+    }
+
+    private static void actualizar(Nodo nodo) {
+        nodo.altura = 1 + Math.max(altura(nodo.izquierdo), altura(nodo.derecho));
+        LocalDate maxima = nodo.hasta;
+        if (nodo.izquierdo != null && nodo.izquierdo.hastaMaxima.isAfter(maxima)) {
+            maxima = nodo.izquierdo.hastaMaxima;
+        }
+        if (nodo.derecho != null && nodo.derecho.hastaMaxima.isAfter(maxima)) {
+            maxima = nodo.derecho.hastaMaxima;
+        }
+        nodo.hastaMaxima = maxima;
+    }
+
+    private static Nodo balancear(Nodo nodo) {
+        actualizar(nodo);
+        int factor = altura(nodo.izquierdo) - altura(nodo.derecho);
+        if (factor > 1) {
+            if (altura(nodo.izquierdo.izquierdo) < altura(nodo.izquierdo.derecho)) {
+                nodo.izquierdo = rotarIzquierda(nodo.izquierdo);
+            }
+            return rotarDerecha(nodo);
+        }
+        if (factor < -1) {
+            if (altura(nodo.derecho.derecho) < altura(nodo.derecho.izquierdo)) {
+                nodo.derecho = rotarDerecha(nodo.derecho);
+            }
+            return rotarIzquierda(nodo);
+        }
+        return nodo;
+    }
+
+    private static Nodo rotarDerecha(Nodo nodo) {
+        Nodo izquierdo = nodo.izquierdo;
+        nodo.izquierdo = izquierdo.derecho;
+        izquierdo.derecho = nodo;
+        actualizar(nodo);
+        actualizar(izquierdo);
+        return izquierdo;
+    }
+
+    private static Nodo rotarIzquierda(Nodo nodo) {
+        Nodo derecho = nodo.derecho;
+        nodo.derecho = derecho.izquierdo;
+        derecho.izquierdo = nodo;
+        actualizar(nodo);
+        actualizar(derecho);
+        return derecho;
+    }
+}
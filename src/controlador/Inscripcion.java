@@ -0,0 +1,48 @@
+package controlador;
+
+import modelo.Auto;
+import modelo.Piloto;
+
+/**
+ * Par piloto-auto de una parrilla para la inscripción masiva.
+ * <p>
+ * Se usa con {@link GestorFormula1#inscribirParrillas(java.util.Map)} para
+ * inscribir grillas completas de una o varias carreras en una sola operación.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class Inscripcion {
+    /** Piloto a inscribir */
+    private final Piloto piloto;
+
+    /** Auto que utilizará */
+    private final Auto auto;
+
+    /**
+     * Crea una inscripción.
+     *
+     * @param piloto Piloto a inscribir
+     * @param auto   Auto que utilizará
+     */
+    public Inscripcion(Piloto piloto, Auto auto) {
+        this.piloto = piloto;
+        this.auto = auto;
+    }
+
+    public Piloto getPiloto() {
+        return piloto;
+    }
+
+    public Auto getAuto() {
+        return auto;
+    }
+
+    @Override
+    public String toString() {
+        return (piloto != null ? piloto.getNombreCompleto() : "Sin piloto") + " con "
+                + (auto != null ? auto.getNumeroChasis() : "sin auto");
+    }
+}
@@ -0,0 +1,391 @@
+package controlador;
+
+import modelo.*;
+import java.util.*;
+
+/**
+ * Motor incremental de la clasificación del campeonato.
+ * <p>
+ * Mantiene siempre al día los puntos totales de pilotos y escuderías y las
+ * {@link EstadisticasPiloto} de cada piloto aplicando deltas por
+ * participación: al finalizar una carrera se suman los puntos de su parrilla y, si luego se corrige un resultado, se resta el
+ * aporte anterior y se suma el nuevo. El coste por carrera es O(parrilla) en
+ * lugar de recorrer todo el historial de Grandes Premios por cada piloto.
+ * </p>
+ * <p>
+ * Cada fila contabilizada guarda su aporte (piloto, escudería, puntos y
+ * resultado) para poder retirarlo exactamente aunque la participación cambie
+ * después. Los aportes de una carrera se guardan en columnas paralelas a su
+ * {@link TablaResultados}, sin un objeto por participación. Sólo cuentan las
+ * carreras finalizadas.
+ * </p>
+ * <p>
+ * Las temporadas archivadas se suman directamente desde las columnas de su
+ * {@link ArchivoTemporada}, sin aportes individuales: sus resultados ya no
+ * pueden corregirse.
+ * </p>
+ * <p>
+ * En modo verificación, cada operación incremental se contrasta con un
+ * recálculo completo y se lanza una excepción ante cualquier diferencia.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+class MotorClasificacion {
+
+    /**
+     * Aportes de las filas de una carrera, indexados por fila de su tabla de
+     * resultados. Una fila sin piloto no está contabilizada.
+     */
+    private static final class AportesCarrera {
+        private Piloto[] pilotos;
+        private Escuderia[] escuderias;
+        private int[] puntos;
+        private int[] posiciones;
+        private boolean[] abandonos;
+
+        private AportesCarrera(int filas) {
+            this.pilotos = new Piloto[filas];
+            this.escuderias = new Escuderia[filas];
+            this.puntos = new int[filas];
+            this.posiciones = new int[filas];
+            this.abandonos = new boolean[filas];
+        }
+
+        private void asegurarFila(int fila) {
+            if (fila >= pilotos.length) {
+                int capacidad = fila + 1;
+                pilotos = Arrays.copyOf(pilotos, capacidad);
+                escuderias = Arrays.copyOf(escuderias, capacidad);
+                puntos = Arrays.copyOf(puntos, capacidad);
+                posiciones = Arrays.copyOf(posiciones, capacidad);
+                abandonos = Arrays.copyOf(abandonos, capacidad);
+            }
+        }
+    }
+
+    /** Repositorio con las carreras y pilotos del sistema */
+    private final RepositorioFormula1 repositorio;
+
+    /** Aportes contabilizados de cada carrera */
+    private final Map<GranPremio, AportesCarrera> aportes;
+
+    /** Puntos acumulados por escudería */
+    private final Map<Escuderia, int[]> puntosEscuderias;
+
+    /** Estadísticas agregadas por piloto */
+    private final Map<Piloto, EstadisticasPiloto> estadisticas;
+
+    /** Si está activo, cada operación se contrasta con un recálculo completo */
+    private boolean modoVerificacion;
+
+    /**
+     * Crea el motor de clasificación sobre un repositorio.
+     *
+     * @param repositorio Repositorio con las entidades del sistema
+     */
+    MotorClasificacion(RepositorioFormula1 repositorio) {
+        this.repositorio = repositorio;
+        this.aportes = new IdentityHashMap<>();
+        this.puntosEscuderias = new IdentityHashMap<>();
+        this.estadisticas = new IdentityHashMap<>();
+        this.modoVerificacion = false;
+    }
+
+    /**
+     * Suma a la clasificación todos los resultados de una carrera finalizada.
+     *
+     * @param granPremio Carrera finalizada
+     */
+    void aplicarCarrera(GranPremio granPremio) {
+        sumarCarrera(granPremio);
+        verificarSiCorresponde();
+    }
+
+    /**
+     * Suma a la clasificación los resultados de varias carreras finalizadas.
+     * <p>
+     * Equivale a {@link #aplicarCarrera(GranPremio)} por cada carrera, pero en
+     * modo verificación el recálculo completo se hace una sola vez al final.
+     * </p>
+     *
+     * @param carreras Carreras finalizadas
+     */
+    void aplicarCarreras(Collection<GranPremio> carreras) {
+        for (GranPremio granPremio : carreras) {
+            sumarCarrera(granPremio);
+        }
+        verificarSiCorresponde();
+    }
+
+    /**
+     * Resta de la clasificación todos los resultados de una carrera.
+     *
+     * @param granPremio Carrera a retirar
+     */
+    void retirarCarrera(GranPremio granPremio) {
+        AportesCarrera aportesCarrera = aportes.remove(granPremio);
+        if (aportesCarrera != null) {
+            for (int fila = 0; fila < aportesCarrera.pilotos.length; fila++) {
+                restar(aportesCarrera, fila);
+            }
+        }
+        verificarSiCorresponde();
+    }
+
+    /**
+     * Retira el aporte actual de una participación, si estaba contabilizada.
+     * <p>
+     * Se usa antes de corregir un resultado, seguido de
+     * {@link #aplicar(Participacion)} una vez aplicada la corrección.
+     * </p>
+     *
+     * @param participacion Participación a retirar
+     */
+    void retirar(Participacion participacion) {
+        GranPremio granPremio = participacion.getGranPremio();
+        AportesCarrera aportesCarrera = granPremio != null ? aportes.get(granPremio) : null;
+        if (aportesCarrera != null) {
+            int fila = granPremio.getTablaResultados().indiceDe(participacion);
+            if (fila >= 0 && fila < aportesCarrera.pilotos.length) {
+                restar(aportesCarrera, fila);
+            }
+        }
+    }
+
+    /**
+     * Contabiliza el resultado de una participación si su carrera está
+     * finalizada.
+     *
+     * @param participacion Participación a contabilizar
+     */
+    void aplicar(Participacion participacion) {
+        GranPremio granPremio = participacion.getGranPremio();
+        if (granPremio != null && granPremio.isFinalizada()) {
+            int fila = granPremio.getTablaResultados().indiceDe(participacion);
+            if (fila >= 0) {
+                sumar(granPremio, fila);
+            }
+        }
+        verificarSiCorresponde();
+    }
+
+    /**
+     * Suma a la clasificación los resultados de una temporada archivada.
+     *
+     * @param archivo Temporada archivada
+     */
+    void aplicarArchivo(ArchivoTemporada archivo) {
+        sumarArchivo(archivo, this.estadisticas, null, null);
+        verificarSiCorresponde();
+    }
+
+    /**
+     * Recorre las filas de un archivo resolviendo pilotos por DNI y escuderías
+     * por nombre. Si se indican mapas de puntos esperados, acumula en ellos;
+     * si no, actualiza los totales del motor. Las filas de pilotos que ya no
+     * existen en el sistema siguen sumando para su escudería.
+     */
+    private void sumarArchivo(ArchivoTemporada archivo, Map<Piloto, EstadisticasPiloto> destino,
+                              Map<Piloto, Integer> puntosPilotos, Map<Escuderia, Integer> puntosEscuderia) {
+        Escuderia[] escuderias = new Escuderia[archivo.getCantidadEscuderias()];
+        for (int i = 0; i < escuderias.length; i++) {
+            escuderias[i] = repositorio.buscarEscuderiaPorNombre(archivo.getEscuderiaVigente(i));
+        }
+        for (int indicePiloto = 0; indicePiloto < archivo.getCantidadPilotos(); indicePiloto++) {
+            Piloto piloto = repositorio.buscarPilotoPorDni(archivo.getDniPiloto(indicePiloto));
+            EstadisticasPiloto estadisticasPiloto = piloto != null
+                    ? destino.computeIfAbsent(piloto, EstadisticasPiloto::new) : null;
+            int puntosPiloto = 0;
+            for (int fila = archivo.getPrimeraFila(indicePiloto); fila < archivo.getFinFilas(indicePiloto); fila++) {
+                int puntos = archivo.getPuntos(fila);
+                puntosPiloto += puntos;
+                int indiceEscuderia = archivo.getEscuderia(fila);
+                Escuderia escuderia = indiceEscuderia >= 0 ? escuderias[indiceEscuderia] : null;
+                if (escuderia != null) {
+                    if (puntosEscuderia != null) {
+                        puntosEscuderia.merge(escuderia, puntos, Integer::sum);
+                    } else {
+                        puntosEscuderias.computeIfAbsent(escuderia, e -> new int[1])[0] += puntos;
+                    }
+                }
+                if (estadisticasPiloto != null) {
+                    estadisticasPiloto.acumular(archivo.getPosicion(fila), archivo.isAbandono(fila), 1);
+                }
+            }
+            if (piloto == null) {
+                continue;
+            }
+            if (puntosPilotos != null) {
+                puntosPilotos.merge(piloto, puntosPiloto, Integer::sum);
+            } else {
+                piloto.setPuntosTotales(piloto.getPuntosTotales() + puntosPiloto);
+            }
+        }
+    }
+
+    private void sumarCarrera(GranPremio granPremio) {
+        for (int fila = 0; fila < granPremio.getTablaResultados().size(); fila++) {
+            sumar(granPremio, fila);
+        }
+    }
+
+    private void sumar(GranPremio granPremio, int fila) {
+        TablaResultados resultados = granPremio.getTablaResultados();
+        AportesCarrera aportesCarrera = aportes.computeIfAbsent(granPremio,
+                gp -> new AportesCarrera(resultados.size()));
+        aportesCarrera.asegurarFila(fila);
+        restar(aportesCarrera, fila);
+
+        Piloto piloto = resultados.getPiloto(fila);
+        Escuderia escuderia = resultados.getEscuderia(fila);
+        int puntos = resultados.getPuntos(fila);
+        aportesCarrera.pilotos[fila] = piloto;
+        aportesCarrera.escuderias[fila] = escuderia;
+        aportesCarrera.puntos[fila] = puntos;
+        aportesCarrera.posiciones[fila] = resultados.getPosicion(fila);
+        aportesCarrera.abandonos[fila] = resultados.isAbandono(fila);
+
+        piloto.setPuntosTotales(piloto.getPuntosTotales() + puntos);
+        if (escuderia != null) {
+            puntosEscuderias.computeIfAbsent(escuderia, e -> new int[1])[0] += puntos;
+        }
+        estadisticas.computeIfAbsent(piloto, EstadisticasPiloto::new)
+                .acumular(resultados.getPosicion(fila), resultados.isAbandono(fila), 1);
+    }
+
+    private void restar(AportesCarrera aportesCarrera, int fila) {
+        Piloto piloto = aportesCarrera.pilotos[fila];
+        if (piloto == null) {
+            return;
+        }
+        int puntos = aportesCarrera.puntos[fila];
+        piloto.setPuntosTotales(piloto.getPuntosTotales() - puntos);
+        if (aportesCarrera.escuderias[fila] != null) {
+            puntosEscuderias.get(aportesCarrera.escuderias[fila])[0] -= puntos;
+        }
+        estadisticas.get(piloto).acumular(aportesCarrera.posiciones[fila], aportesCarrera.abandonos[fila], -1);
+        aportesCarrera.pilotos[fila] = null;
+        aportesCarrera.escuderias[fila] = null;
+    }
+
+    /**
+     * Reconstruye la clasificación y las estadísticas completas desde las
+     * carreras finalizadas y las temporadas archivadas, en una única pasada
+     * sobre sus resultados.
+     */
+    void recalcular() {
+        aportes.clear();
+        puntosEscuderias.clear();
+        estadisticas.clear();
+        for (Piloto piloto : repositorio.getPilotos()) {
+            piloto.setPuntosTotales(0);
+        }
+        for (GranPremio granPremio : repositorio.getGrandesPremios()) {
+            if (granPremio.isFinalizada()) {
+                sumarCarrera(granPremio);
+            }
+        }
+        for (ArchivoTemporada archivo : repositorio.getTemporadasArchivadas()) {
+            sumarArchivo(archivo, estadisticas, null, null);
+        }
+    }
+
+    /**
+     * Obtiene los puntos acumulados por una escudería.
+     *
+     * @param escuderia Escudería a consultar
+     * @return Puntos de constructores de la escudería
+     */
+    int getPuntosEscuderia(Escuderia escuderia) {
+        int[] puntos = puntosEscuderias.get(escuderia);
+        return puntos != null ? puntos[0] : 0;
+    }
+
+    /**
+     * Obtiene una copia de las estadísticas agregadas de un piloto.
+     *
+     * @param piloto Piloto a consultar
+     * @return Estadísticas del piloto (vacías si no disputó carreras)
+     */
+    EstadisticasPiloto getEstadisticas(Piloto piloto) {
+        EstadisticasPiloto actuales = estadisticas.get(piloto);
+        return actuales != null ? new EstadisticasPiloto(actuales) : new EstadisticasPiloto(piloto);
+    }
+
+    /**
+     * Contrasta los totales incrementales con un recálculo completo.
+     *
+     * @return Lista de diferencias encontradas (vacía si todo es consistente)
+     */
+    List<String> verificarConsistencia() {
+        Map<Piloto, Integer> esperadosPilotos = new IdentityHashMap<>();
+        Map<Escuderia, Integer> esperadosEscuderias = new IdentityHashMap<>();
+        Map<Piloto, EstadisticasPiloto> esperadasEstadisticas = new IdentityHashMap<>();
+        for (GranPremio granPremio : repositorio.getGrandesPremios()) {
+            if (!granPremio.isFinalizada()) {
+                continue;
+            }
+            TablaResultados resultados = granPremio.getTablaResultados();
+            for (int fila = 0; fila < resultados.size(); fila++) {
+                esperadosPilotos.merge(resultados.getPiloto(fila), resultados.getPuntos(fila), Integer::sum);
+                if (resultados.getEscuderia(fila) != null) {
+                    esperadosEscuderias.merge(resultados.getEscuderia(fila), resultados.getPuntos(fila),
+                            Integer::sum);
+                }
+                esperadasEstadisticas.computeIfAbsent(resultados.getPiloto(fila), EstadisticasPiloto::new)
+                        .acumular(resultados.getPosicion(fila), resultados.isAbandono(fila), 1);
+            }
+        }
+        for (ArchivoTemporada archivo : repositorio.getTemporadasArchivadas()) {
+            sumarArchivo(archivo, esperadasEstadisticas, esperadosPilotos, esperadosEscuderias);
+        }
+
+        List<String> diferencias = new ArrayList<>();
+        for (Piloto piloto : repositorio.getPilotos()) {
+            int esperado = esperadosPilotos.getOrDefault(piloto, 0);
+            if (piloto.getPuntosTotales() != esperado) {
+                diferencias.add("Piloto " + piloto.getNombreCompleto() + ": " + piloto.getPuntosTotales()
+                        + " puntos, se esperaban " + esperado);
+            }
+            EstadisticasPiloto esperadas = esperadasEstadisticas.getOrDefault(piloto, new EstadisticasPiloto(piloto));
+            EstadisticasPiloto actuales = getEstadisticas(piloto);
+            if (!actuales.coincideCon(esperadas)) {
+                diferencias.add("Estadísticas " + actuales + ", se esperaba " + esperadas);
+            }
+        }
+        for (Escuderia escuderia : repositorio.getEscuderias()) {
+            int esperado = esperadosEscuderias.getOrDefault(escuderia, 0);
+            if (getPuntosEscuderia(escuderia) != esperado) {
+                diferencias.add("Escudería " + escuderia.getNombre() + ": " + getPuntosEscuderia(escuderia)
+                        + " puntos, se esperaban " + esperado);
+            }
+        }
+        return diferencias;
+    }
+
+    /**
+     * Activa o desactiva el modo verificación.
+     *
+     * @param modoVerificacion true para contrastar cada operación con un
+     *                         recálculo completo
+     */
+    void setModoVerificacion(boolean modoVerificacion) {
+        this.modoVerificacion = modoVerificacion;
+    }
+
+    boolean isModoVerificacion() {
+        return modoVerificacion;
+    }
+
+    private void verificarSiCorresponde() {
+        if (modoVerificacion) {
+            List<String> diferencias = verificarConsistencia();
+            if (!diferencias.isEmpty()) {
+                throw new IllegalStateException("Clasificación inconsistente: " + String.join("; ", diferencias));
+            }
+        }
+    }
+}
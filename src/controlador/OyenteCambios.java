@@ -0,0 +1,23 @@
+package controlador;
+
+import java.util.List;
+
+/**
+ * Recibe los cambios aplicados por el {@link GestorFormula1}.
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ * @see GestorFormula1#suscribirCambios(OyenteCambios, java.util.concurrent.Executor)
+ */
+@FunctionalInterface
+public interface OyenteCambios {
+
+    /**
+     * Recibe un lote de cambios ya aplicados, combinados por entidad y en el
+     * orden en que se produjo el primer cambio de cada una.
+     *
+     * @param cambios Cambios del lote (nunca vacío)
+     */
+    void cambiosAplicados(List<EventoCambio> cambios);
+}
@@ -0,0 +1,608 @@
+package controlador;
+
+import modelo.*;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Persistencia del estado completo del {@link GestorFormula1} en un archivo
+ * binario compacto (snapshot).
+ * <p>
+ * El formato evita serializar el grafo de objetos: cada entidad se escribe una
+ * sola vez en su sección y las relaciones se guardan como referencias enteras
+ * a la posición de la entidad dentro de su sección. Los textos se codifican
+ * con un diccionario (cada cadena distinta se escribe una única vez y luego se
+ * referencia por índice), y los enteros pequeños se escriben como varint.
+ * </p>
+ * <p>
+ * Estructura del archivo:
+ * <ol>
+ * <li>Cabecera: número mágico, versión del formato y última operación del
+ * {@link DiarioOperaciones} incluida en el snapshot</li>
+ * <li>Diccionario de cadenas</li>
+ * <li>Países, escuderías, pilotos, autos, mecánicos y circuitos</li>
+ * <li>Plantel de cada escudería (pilotos, autos y mecánicos)</li>
+ * <li>Grandes Premios con sus participaciones y los tiempos de cada vuelta,
+ * codificados como diferencias con la vuelta anterior</li>
+ * <li>Contratos piloto-escudería</li>
+ * <li>Año y ruta de las temporadas archivadas ({@link ArchivoTemporada}), que
+ * se vuelven a mapear al cargar, con los DNI de pilotos, los nombres de
+ * escuderías y los circuitos que cambiaron desde que se archivaron. La ruta
+ * se guarda relativa a la carpeta del snapshot, de modo que ambos pueden
+ * moverse juntos</li>
+ * </ol>
+ * </p>
+ * <p>
+ * Al cargar, las entidades se insertan directamente en el repositorio sin
+ * repetir las validaciones de negocio (el snapshot ya fue validado al
+ * construirse) y la clasificación se recalcula una sola vez al final.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class PersistenciaBinaria {
+
+    /** Número mágico que identifica los archivos de snapshot ("F1SN") */
+    private static final int MAGICO = 0x4631534E;
+
+    /** Versión actual del formato */
+    private static final int VERSION = 1;
+
+    /** Modificadores de resultados que la carga aplica fila por fila */
+    private static final EdicionModelo EDICION = GestorFormula1.EDICION;
+
+    /**
+     * Constructor privado para evitar instanciación.
+     */
+    private PersistenciaBinaria() {
+        // Clase utilitaria
+    }
+
+    // ==================== GUARDADO ====================
+
+    /**
+     * Guarda el estado completo del gestor en un archivo.
+     * <p>
+     * El archivo se escribe primero en un temporal, se fuerza a disco y luego
+     * reemplaza al destino, de modo que un fallo a mitad de escritura no deja
+     * un snapshot corrupto.
+     * </p>
+     *
+     * @param gestor  Gestor a guardar
+     * @param archivo Ruta del archivo de destino
+     * @throws IOException           si ocurre un error de escritura
+     * @throws IllegalStateException si alguna relación apunta a una entidad no
+     *                               registrada en el gestor
+     */
+    public static void guardar(GestorFormula1 gestor, Path archivo) throws IOException {
+        if (gestor == null || archivo == null) {
+            throw new NullPointerException("El gestor y el archivo no pueden ser null");
+        }
+
+        // El estado se serializa en memoria con el gestor bloqueado y se escribe a disco después
+        Escritor escritor = new Escritor(gestor.getRepositorio(), archivo.toAbsolutePath().getParent());
+        byte[] cuerpo;
+        long secuencia;
+        gestor.bloquearLectura();
+        try {
+            cuerpo = escritor.escribirCuerpo();
+            secuencia = gestor.getSecuenciaDiario();
+        } finally {
+            gestor.desbloquearLectura();
+        }
+
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try (FileOutputStream archivoSalida = new FileOutputStream(temporal.toFile());
+                DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(archivoSalida, 1 << 16))) {
+            salida.writeInt(MAGICO);
+            salida.writeInt(VERSION);
+            salida.writeLong(secuencia);
+            escribirVarInt(salida, escritor.cadenas.size());
+            for (String cadena : escritor.cadenas.keySet()) {
+                salida.writeUTF(cadena);
+            }
+            salida.write(cuerpo);
+            salida.flush();
+            archivoSalida.getChannel().force(true);
+        }
+        Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Escribe las secciones del snapshot acumulando el diccionario de cadenas.
+     */
+    private static final class Escritor {
+        private final RepositorioFormula1 repositorio;
+        private final Path carpeta;
+        private final Map<String, Integer> cadenas = new LinkedHashMap<>();
+        private final Map<Object, Integer> indices = new IdentityHashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+        private final DataOutputStream salida = new DataOutputStream(bytes);
+
+        private Escritor(RepositorioFormula1 repositorio, Path carpeta) {
+            this.repositorio = repositorio;
+            this.carpeta = carpeta;
+        }
+
+        private byte[] escribirCuerpo() throws IOException {
+            List<Pais> paises = repositorio.getPaises();
+            escribirVarInt(salida, paises.size());
+            indexar(paises);
+            for (Pais pais : paises) {
+                cadena(pais.getNombre());
+                cadena(pais.getCodigo());
+            }
+
+            List<Escuderia> escuderias = repositorio.getEscuderias();
+            escribirVarInt(salida, escuderias.size());
+            indexar(escuderias);
+            for (Escuderia escuderia : escuderias) {
+                cadena(escuderia.getNombre());
+                referencia(escuderia.getPais());
+            }
+
+            Collection<Piloto> pilotos = repositorio.getPilotos();
+            escribirVarInt(salida, pilotos.size());
+            indexar(pilotos);
+            for (Piloto piloto : pilotos) {
+                cadena(piloto.getDni());
+                cadena(piloto.getNombre());
+                cadena(piloto.getApellido());
+                escribirVarInt(salida, piloto.getEdad());
+                cadena(piloto.getNacionalidad());
+                escribirVarInt(salida, piloto.getNumero());
+                escribirVarInt(salida, piloto.getExperiencia());
+                referencia(piloto.getEscuderia());
+            }
+
+            Collection<Auto> autos = repositorio.getAutos();
+            escribirVarInt(salida, autos.size());
+            indexar(autos);
+            for (Auto auto : autos) {
+                cadena(auto.getModelo());
+                cadena(auto.getChasis());
+                cadena(auto.getMotor());
+                escribirVarInt(salida, auto.getAño());
+                cadena(auto.getNumeroChasis());
+                salida.writeDouble(auto.getPeso());
+                escribirVarInt(salida, auto.getPotencia());
+            }
+
+            Collection<Mecanico> mecanicos = repositorio.getMecanicos();
+            escribirVarInt(salida, mecanicos.size());
+            indexar(mecanicos);
+            for (Mecanico mecanico : mecanicos) {
+                cadena(mecanico.getDni());
+                cadena(mecanico.getNombre());
+                cadena(mecanico.getApellido());
+                escribirVarInt(salida, mecanico.getExperiencia());
+                List<Especialidad> especialidades = mecanico.getEspecialidades();
+                escribirVarInt(salida, especialidades.size());
+                for (Especialidad especialidad : especialidades) {
+                    escribirVarInt(salida, especialidad.ordinal());
+                }
+            }
+
+            List<Circuito> circuitos = repositorio.getCircuitos();
+            escribirVarInt(salida, circuitos.size());
+            indexar(circuitos);
+            for (Circuito circuito : circuitos) {
+                cadena(circuito.getNombre());
+                referencia(circuito.getPais());
+                salida.writeDouble(circuito.getLongitud());
+                escribirVarInt(salida, circuito.getNumeroCurvas());
+                cadena(circuito.getTipo());
+            }
+
+            for (Escuderia escuderia : escuderias) {
+                referencias(escuderia.getPilotos());
+                referencias(escuderia.getAutos());
+                referencias(escuderia.getMecanicos());
+            }
+
+            Collection<GranPremio> grandesPremios = repositorio.getGrandesPremios();
+            escribirVarInt(salida, grandesPremios.size());
+            for (GranPremio granPremio : grandesPremios) {
+                cadena(granPremio.getNombre());
+                salida.writeLong(granPremio.getFechaHora().toEpochSecond(ZoneOffset.UTC));
+                escribirVarInt(salida, granPremio.getFechaHora().getNano());
+                referencia(granPremio.getCircuito());
+                salida.writeBoolean(granPremio.isFinalizada());
+
+                TablaResultados resultados = granPremio.getTablaResultados();
+                salida.writeBoolean(resultados.isVueltaRapidaManual());
+                escribirVarInt(salida, resultados.size());
+                for (int fila = 0; fila < resultados.size(); fila++) {
+                    referencia(resultados.getPiloto(fila));
+                    referencia(resultados.getAuto(fila));
+                    referencia(resultados.getEscuderia(fila));
+                    escribirVarInt(salida, resultados.getPosicion(fila));
+                    salida.writeBoolean(resultados.isAbandono(fila));
+                    cadena(resultados.getMotivoAbandono(fila));
+                    salida.writeLong(resultados.getMejorVueltaNanos(fila));
+                    salida.writeBoolean(resultados.isVueltaRapida(fila));
+                    escribirVarInt(salida, resultados.getPuntos(fila));
+                    escribirVueltas(salida, resultados.getTiemposVuelta(fila));
+                }
+            }
+
+            List<PilotoEscuderia> contratos = repositorio.getContratos();
+            escribirVarInt(salida, contratos.size());
+            for (PilotoEscuderia contrato : contratos) {
+                cadena(contrato.getDesdeFecha());
+                cadena(contrato.getHastaFecha());
+                referencia(contrato.getPiloto());
+                referencia(contrato.getEscuderia());
+            }
+
+            List<ArchivoTemporada> temporadas = repositorio.getTemporadasArchivadas();
+            escribirVarInt(salida, temporadas.size());
+            for (ArchivoTemporada temporada : temporadas) {
+                escribirVarInt(salida, temporada.getAño());
+                cadena(rutaRelativa(temporada.getRuta()));
+                Map<Integer, String> renombrados = temporada.getDnisRenombrados();
+                escribirVarInt(salida, renombrados.size());
+                for (Map.Entry<Integer, String> renombrado : renombrados.entrySet()) {
+                    escribirVarInt(salida, renombrado.getKey());
+                    cadena(renombrado.getValue());
+                }
+                renombrados = temporada.getEscuderiasRenombradas();
+                escribirVarInt(salida, renombrados.size());
+                for (Map.Entry<Integer, String> renombrado : renombrados.entrySet()) {
+                    escribirVarInt(salida, renombrado.getKey());
+                    cadena(renombrado.getValue());
+                }
+                Set<Integer> carreras = temporada.getCircuitosRenombrados();
+                escribirVarInt(salida, carreras.size());
+                for (int carrera : carreras) {
+                    escribirVarInt(salida, carrera);
+                    cadena(temporada.getNombreCircuitoVigente(carrera));
+                    cadena(temporada.getCodigoPaisCircuitoVigente(carrera));
+                }
+            }
+
+            salida.flush();
+            return bytes.toByteArray();
+        }
+
+        private String rutaRelativa(Path ruta) {
+            try {
+                return carpeta.relativize(ruta).toString();
+            } catch (IllegalArgumentException e) {
+                // Otra unidad o raíz: no hay ruta relativa posible
+                return ruta.toString();
+            }
+        }
+
+        private void indexar(Collection<?> entidades) {
+            // Cada entidad se referencia por su posición dentro de su sección
+            int posicion = 0;
+            for (Object entidad : entidades) {
+                indices.put(entidad, posicion++);
+            }
+        }
+
+        private void cadena(String valor) throws IOException {
+            if (valor == null) {
+                escribirVarInt(salida, 0);
+                return;
+            }
+            Integer indice = cadenas.get(valor);
+            if (indice == null) {
+                indice = cadenas.size();
+                cadenas.put(valor, indice);
+            }
+            escribirVarInt(salida, indice + 1);
+        }
+
+        private void referencia(Object entidad) throws IOException {
+            if (entidad == null) {
+                escribirVarInt(salida, 0);
+                return;
+            }
+            Integer indice = indices.get(entidad);
+            if (indice == null) {
+                throw new IllegalStateException("La entidad " + entidad + " no está registrada en el sistema");
+            }
+            escribirVarInt(salida, indice + 1);
+        }
+
+        private void referencias(List<?> entidades) throws IOException {
+            escribirVarInt(salida, entidades.size());
+            for (Object entidad : entidades) {
+                referencia(entidad);
+            }
+        }
+    }
+
+    // ==================== CARGA ====================
+
+    /**
+     * Carga un gestor completo desde un archivo de snapshot.
+     *
+     * @param archivo Ruta del archivo a leer
+     * @return Nuevo gestor con el estado guardado y la clasificación recalculada
+     * @throws IOException si ocurre un error de lectura o el archivo no es un
+     *                     snapshot válido
+     */
+    public static GestorFormula1 cargar(Path archivo) throws IOException {
+        if (archivo == null) {
+            throw new NullPointerException("El archivo no puede ser null");
+        }
+
+        GestorFormula1 gestor = new GestorFormula1();
+        try (DataInputStream entrada = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(archivo), 1 << 16))) {
+            if (entrada.readInt() != MAGICO) {
+                throw new IOException("El archivo no es un snapshot del sistema");
+            }
+            int version = entrada.readInt();
+            if (version != VERSION) {
+                throw new IOException("Versión de snapshot no soportada: " + version);
+            }
+            gestor.setSecuenciaDiario(entrada.readLong());
+            new Lector(entrada, gestor.getRepositorio(), archivo.toAbsolutePath().getParent()).leer();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Snapshot corrupto: " + e.getMessage(), e);
+        }
+        gestor.recalcularClasificacion();
+        return gestor;
+    }
+
+    /**
+     * Reconstruye las entidades de un snapshot resolviendo referencias por
+     * posición.
+     */
+    private static final class Lector {
+        private final DataInputStream entrada;
+        private final RepositorioFormula1 repositorio;
+        private final Path carpeta;
+        private String[] cadenas;
+
+        private Lector(DataInputStream entrada, RepositorioFormula1 repositorio, Path carpeta) {
+            this.entrada = entrada;
+            this.repositorio = repositorio;
+            this.carpeta = carpeta;
+        }
+
+        private void leer() throws IOException {
+            cadenas = new String[leerVarInt(entrada)];
+            for (int i = 0; i < cadenas.length; i++) {
+                cadenas[i] = entrada.readUTF();
+            }
+
+            Pais[] paises = new Pais[leerVarInt(entrada)];
+            for (int i = 0; i < paises.length; i++) {
+                paises[i] = new Pais(cadena(), cadena());
+                repositorio.agregarPais(paises[i]);
+            }
+
+            Escuderia[] escuderias = new Escuderia[leerVarInt(entrada)];
+            for (int i = 0; i < escuderias.length; i++) {
+                escuderias[i] = new Escuderia(cadena(), referencia(paises));
+                repositorio.agregarEscuderia(escuderias[i]);
+            }
+
+            Piloto[] pilotos = new Piloto[leerVarInt(entrada)];
+            for (int i = 0; i < pilotos.length; i++) {
+                pilotos[i] = new Piloto(cadena(), cadena(), cadena(), leerVarInt(entrada), cadena(),
+                        leerVarInt(entrada), leerVarInt(entrada));
+                pilotos[i].setEscuderia(referencia(escuderias));
+                repositorio.agregarPiloto(pilotos[i]);
+            }
+
+            Auto[] autos = new Auto[leerVarInt(entrada)];
+            for (int i = 0; i < autos.length; i++) {
+                autos[i] = new Auto(cadena(), cadena(), cadena(), leerVarInt(entrada), cadena(),
+                        entrada.readDouble(), leerVarInt(entrada));
+                repositorio.agregarAuto(autos[i]);
+            }
+
+            Especialidad[] todas = Especialidad.values();
+            Mecanico[] mecanicos = new Mecanico[leerVarInt(entrada)];
+            for (int i = 0; i < mecanicos.length; i++) {
+                String dni = cadena();
+                String nombre = cadena();
+                String apellido = cadena();
+                int experiencia = leerVarInt(entrada);
+                List<Especialidad> especialidades = new ArrayList<>();
+                int cantidad = leerVarInt(entrada);
+                for (int j = 0; j < cantidad; j++) {
+                    especialidades.add(todas[leerVarInt(entrada)]);
+                }
+                mecanicos[i] = new Mecanico(dni, nombre, apellido, experiencia, especialidades);
+                repositorio.agregarMecanico(mecanicos[i]);
+            }
+
+            Circuito[] circuitos = new Circuito[leerVarInt(entrada)];
+            for (int i = 0; i < circuitos.length; i++) {
+                circuitos[i] = new Circuito(cadena(), referencia(paises), entrada.readDouble(),
+                        leerVarInt(entrada), cadena());
+                repositorio.agregarCircuito(circuitos[i]);
+            }
+
+            for (Escuderia escuderia : escuderias) {
+                int cantidad = leerVarInt(entrada);
+                for (int j = 0; j < cantidad; j++) {
+                    Piloto piloto = referencia(pilotos);
+                    // agregarPiloto cambia la escudería del piloto: se conserva la guardada
+                    Escuderia actual = piloto.getEscuderia();
+                    repositorio.agregarPilotoAEscuderia(escuderia, piloto);
+                    piloto.setEscuderia(actual);
+                }
+                cantidad = leerVarInt(entrada);
+                for (int j = 0; j < cantidad; j++) {
+                    repositorio.asignarAuto(referencia(autos), escuderia);
+                }
+                cantidad = leerVarInt(entrada);
+                for (int j = 0; j < cantidad; j++) {
+                    repositorio.asignarMecanico(referencia(mecanicos), escuderia);
+                }
+            }
+
+            int cantidadGrandesPremios = leerVarInt(entrada);
+            for (int i = 0; i < cantidadGrandesPremios; i++) {
+                String nombre = cadena();
+                LocalDateTime fechaHora = LocalDateTime.ofEpochSecond(entrada.readLong(), leerVarInt(entrada),
+                        ZoneOffset.UTC);
+                GranPremio granPremio = new GranPremio(nombre, fechaHora, referencia(circuitos));
+                boolean finalizada = entrada.readBoolean();
+                repositorio.agregarGranPremio(granPremio);
+
+                // Las filas se cargan directamente en la tabla de resultados, sin crear vistas
+                TablaResultados resultados = granPremio.getTablaResultados();
+                EDICION.setVueltaRapidaManual(resultados, entrada.readBoolean());
+                int cantidad = leerVarInt(entrada);
+                for (int j = 0; j < cantidad; j++) {
+                    Piloto piloto = referencia(pilotos);
+                    int fila = EDICION.agregarFila(resultados, piloto, referencia(autos), referencia(escuderias));
+                    int posicion = leerVarInt(entrada);
+                    boolean abandono = entrada.readBoolean();
+                    String motivo = cadena();
+                    if (abandono) {
+                        EDICION.marcarAbandono(resultados, fila, motivo);
+                    } else {
+                        EDICION.setPosicion(resultados, fila, posicion);
+                        EDICION.setMotivoAbandono(resultados, fila, motivo);
+                    }
+                    long mejorVuelta = entrada.readLong();
+                    EDICION.setVueltaRapida(resultados, fila, entrada.readBoolean());
+                    EDICION.setPuntos(resultados, fila, leerVarInt(entrada));
+                    EDICION.setTiemposVuelta(resultados, fila, leerVueltas(entrada));
+                    EDICION.setMejorVueltaNanos(resultados, fila, mejorVuelta);
+                    repositorio.agregarAlHistorial(piloto, granPremio);
+                }
+                // Se marca al final para que la tabla de resultados quede ajustada a la parrilla
+                granPremio.setFinalizada(finalizada);
+            }
+
+            int cantidadContratos = leerVarInt(entrada);
+            for (int i = 0; i < cantidadContratos; i++) {
+                repositorio.agregarContrato(new PilotoEscuderia(cadena(), cadena(), referencia(pilotos),
+                        referencia(escuderias)));
+            }
+
+            int cantidadTemporadas = leerVarInt(entrada);
+            for (int i = 0; i < cantidadTemporadas; i++) {
+                ArchivoTemporada temporada = abrirTemporada();
+                int cantidadRenombrados = leerVarInt(entrada);
+                for (int j = 0; j < cantidadRenombrados; j++) {
+                    temporada.restaurarDniPiloto(leerVarInt(entrada), cadena());
+                }
+                cantidadRenombrados = leerVarInt(entrada);
+                for (int j = 0; j < cantidadRenombrados; j++) {
+                    temporada.restaurarEscuderia(leerVarInt(entrada), cadena());
+                }
+                cantidadRenombrados = leerVarInt(entrada);
+                for (int j = 0; j < cantidadRenombrados; j++) {
+                    temporada.restaurarCircuito(leerVarInt(entrada), cadena(), cadena());
+                }
+                repositorio.agregarTemporadaArchivada(temporada);
+            }
+        }
+
+        /**
+         * Abre una temporada archivada. La ruta es relativa a la carpeta del
+         * snapshot y viene precedida por el año, que se usa para señalar qué
+         * temporada falta.
+         */
+        private ArchivoTemporada abrirTemporada() throws IOException {
+            int año = leerVarInt(entrada);
+            Path ruta = carpeta.resolve(cadena());
+            String temporada = "la temporada " + año;
+            if (!Files.exists(ruta)) {
+                throw new FileNotFoundException("No se encuentra el archivo de " + temporada + ": " + ruta);
+            }
+            ArchivoTemporada archivo;
+            try {
+                archivo = ArchivoTemporada.abrir(ruta);
+            } catch (IOException e) {
+                throw new IOException("No se puede abrir el archivo de " + temporada + " (" + ruta + "): "
+                        + e.getMessage(), e);
+            }
+            if (archivo.getAño() != año) {
+                throw new IOException("El archivo " + ruta + " no corresponde a la temporada " + año
+                        + " sino a la " + archivo.getAño());
+            }
+            return archivo;
+        }
+
+        private String cadena() throws IOException {
+            int indice = leerVarInt(entrada);
+            return indice == 0 ? null : cadenas[indice - 1];
+        }
+
+        private <T> T referencia(T[] entidades) throws IOException {
+            int indice = leerVarInt(entrada);
+            return indice == 0 ? null : entidades[indice - 1];
+        }
+    }
+
+    // ==================== CODIFICACIÓN VARINT ====================
+
+    /**
+     * Escribe un entero no negativo en 7 bits por byte.
+     */
+    static void escribirVarInt(DataOutput salida, int valor) throws IOException {
+        if (valor < 0) {
+            throw new IllegalArgumentException("Valor negativo en varint: " + valor);
+        }
+        while ((valor & ~0x7F) != 0) {
+            salida.writeByte((valor & 0x7F) | 0x80);
+            valor >>>= 7;
+        }
+        salida.writeByte(valor);
+    }
+
+    static int leerVarInt(DataInput entrada) throws IOException {
+        int valor = 0;
+        for (int desplazamiento = 0; desplazamiento < 32; desplazamiento += 7) {
+            int b = entrada.readByte();
+            valor |= (b & 0x7F) << desplazamiento;
+            if ((b & 0x80) == 0) {
+                return valor;
+            }
+        }
+        throw new IOException("Varint mal formado");
+    }
+
+    /**
+     * Escribe tiempos de vuelta: la cantidad, la primera vuelta y luego la
+     * diferencia con la anterior en zigzag. Las vueltas de una carrera varían
+     * poco entre sí, así que cada diferencia suele ocupar uno o dos bytes.
+     */
+    static void escribirVueltas(DataOutput salida, int[] vueltas) throws IOException {
+        escribirVarInt(salida, vueltas.length);
+        int anterior = 0;
+        for (int vuelta : vueltas) {
+            int diferencia = vuelta - anterior;
+            escribirVarInt(salida, (diferencia << 1) ^ (diferencia >> 31));
+            anterior = vuelta;
+        }
+    }
+
+    /**
+     * @return Tiempos de vuelta leídos, o null si no se registraron
+     */
+    static int[] leerVueltas(DataInput entrada) throws IOException {
+        int cantidad = leerVarInt(entrada);
+        if (cantidad == 0) {
+            return null;
+        }
+        int[] vueltas = new int[cantidad];
+        int anterior = 0;
+        for (int i = 0; i < cantidad; i++) {
+            int zigzag = leerVarInt(entrada);
+            anterior += (zigzag >>> 1) ^ -(zigzag & 1);
+            vueltas[i] = anterior;
+        }
+        return vueltas;
+    }
+}
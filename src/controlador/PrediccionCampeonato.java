@@ -0,0 +1,162 @@
+package controlador;
+
+import modelo.Escuderia;
+import modelo.Piloto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de una predicción del campeonato por simulación.
+ * <p>
+ * Para cada piloto y escudería guarda en cuántas temporadas simuladas ganó
+ * el título y la suma de los puntos finales, de donde salen la probabilidad
+ * de título y los puntos esperados. Las instancias son inmutables.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ * @see PredictorCampeonato
+ */
+public class PrediccionCampeonato {
+    /** Temporadas simuladas */
+    private final long temporadas;
+
+    /** Carreras que se simularon en cada temporada */
+    private final int carrerasRestantes;
+
+    private final List<Piloto> pilotos;
+    private final List<Escuderia> escuderias;
+    private final Map<Piloto, Integer> indicePilotos;
+    private final Map<Escuderia, Integer> indiceEscuderias;
+
+    /** Títulos y suma de puntos finales, por índice de piloto o escudería */
+    private final long[] titulosPilotos;
+    private final long[] puntosPilotos;
+    private final long[] titulosEscuderias;
+    private final long[] puntosEscuderias;
+
+    PrediccionCampeonato(long temporadas, int carrerasRestantes, Piloto[] pilotos, Escuderia[] escuderias,
+            long[] titulosPilotos, long[] puntosPilotos, long[] titulosEscuderias, long[] puntosEscuderias) {
+        this.temporadas = temporadas;
+        this.carrerasRestantes = carrerasRestantes;
+        this.titulosPilotos = titulosPilotos;
+        this.puntosPilotos = puntosPilotos;
+        this.titulosEscuderias = titulosEscuderias;
+        this.puntosEscuderias = puntosEscuderias;
+
+        this.indicePilotos = new IdentityHashMap<>();
+        for (int i = 0; i < pilotos.length; i++) {
+            indicePilotos.put(pilotos[i], i);
+        }
+        this.indiceEscuderias = new IdentityHashMap<>();
+        for (int i = 0; i < escuderias.length; i++) {
+            indiceEscuderias.put(escuderias[i], i);
+        }
+        this.pilotos = ordenar(pilotos, titulosPilotos, puntosPilotos);
+        this.escuderias = ordenar(escuderias, titulosEscuderias, puntosEscuderias);
+    }
+
+    /**
+     * Ordena por títulos y luego por puntos, de mayor a menor.
+     */
+    private static <T> List<T> ordenar(T[] elementos, long[] titulos, long[] puntos) {
+        Integer[] orden = new Integer[elementos.length];
+        for (int i = 0; i < orden.length; i++) {
+            orden[i] = i;
+        }
+        Arrays.sort(orden, (a, b) -> titulos[a] != titulos[b] ? Long.compare(titulos[b], titulos[a])
+                : Long.compare(puntos[b], puntos[a]));
+        List<T> ordenados = new ArrayList<>(elementos.length);
+        for (int i : orden) {
+            ordenados.add(elementos[i]);
+        }
+        return Collections.unmodifiableList(ordenados);
+    }
+
+    public long getTemporadas() {
+        return temporadas;
+    }
+
+    public int getCarrerasRestantes() {
+        return carrerasRestantes;
+    }
+
+    /**
+     * Obtiene los pilotos ordenados por probabilidad de título.
+     *
+     * @return Lista inmutable de pilotos
+     */
+    public List<Piloto> getPilotos() {
+        return pilotos;
+    }
+
+    /**
+     * Obtiene las escuderías ordenadas por probabilidad de título.
+     *
+     * @return Lista inmutable de escuderías
+     */
+    public List<Escuderia> getEscuderias() {
+        return escuderias;
+    }
+
+    /**
+     * Obtiene la probabilidad de que un piloto gane el campeonato.
+     *
+     * @param piloto Piloto
+     * @return Probabilidad entre 0 y 1 (0 si el piloto no participó de la
+     *         predicción)
+     */
+    public double getProbabilidadTitulo(Piloto piloto) {
+        Integer indice = indicePilotos.get(piloto);
+        return indice != null ? promedio(titulosPilotos[indice]) : 0;
+    }
+
+    /**
+     * Obtiene los puntos esperados de un piloto al final de la temporada.
+     *
+     * @param piloto Piloto
+     * @return Promedio de los puntos finales en las temporadas simuladas
+     */
+    public double getPuntosEsperados(Piloto piloto) {
+        Integer indice = indicePilotos.get(piloto);
+        return indice != null ? promedio(puntosPilotos[indice]) : 0;
+    }
+
+    /**
+     * Obtiene la probabilidad de que una escudería gane el campeonato de
+     * constructores.
+     *
+     * @param escuderia Escudería
+     * @return Probabilidad entre 0 y 1 (0 si la escudería no participó de la
+     *         predicción)
+     */
+    public double getProbabilidadTitulo(Escuderia escuderia) {
+        Integer indice = indiceEscuderias.get(escuderia);
+        return indice != null ? promedio(titulosEscuderias[indice]) : 0;
+    }
+
+    /**
+     * Obtiene los puntos esperados de una escudería al final de la temporada.
+     *
+     * @param escuderia Escudería
+     * @return Promedio de los puntos finales en las temporadas simuladas
+     */
+    public double getPuntosEsperados(Escuderia escuderia) {
+        Integer indice = indiceEscuderias.get(escuderia);
+        return indice != null ? promedio(puntosEscuderias[indice]) : 0;
+    }
+
+    private double promedio(long suma) {
+        return temporadas > 0 ? (double) suma / temporadas : 0;
+    }
+
+    @Override
+    public String toString() {
+        return temporadas + " temporadas simuladas, " + carrerasRestantes + " carreras restantes";
+    }
+}
@@ -0,0 +1,478 @@
+package controlador;
+
+import modelo.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Predicción del campeonato simulando el resto de la temporada.
+ * <p>
+ * La temporada que se predice es la de la primera carrera sin finalizar del
+ * calendario (o la de la última carrera, si están todas finalizadas). Al
+ * crearse el predictor toma, en un mismo estado del gestor, los puntos y
+ * victorias de pilotos y escuderías en las carreras finalizadas de esa
+ * temporada y sus Grandes Premios sin finalizar. Cada carrera restante se
+ * resume con el {@link SimuladorCarrera}: para cada participante, su tiempo
+ * total esperado, la dispersión de ese tiempo y la probabilidad de abandono.
+ * </p>
+ * <p>
+ * Una temporada simulada sortea el tiempo de cada participante en cada
+ * carrera y reparte los puntos igual que la clasificación real: por posición
+ * y un punto por la vuelta rápida si quien la hace termina entre los diez
+ * primeros. La vuelta rápida se sortea entre los que terminan con el mismo
+ * modelo de ritmo. Los empates en puntos, de pilotos y de escuderías, se
+ * deciden por victorias y, si persisten, por sorteo.
+ * </p>
+ * <p>
+ * Las carreras sin inscriptos se simulan con los pilotos que tienen
+ * escudería, con los autos de su escudería y en el orden del campeonato
+ * como parrilla.
+ * </p>
+ * <p>
+ * Las temporadas se reparten en tareas fork/join que usan todos los
+ * procesadores. Cada tarea tiene su propio generador, obtenido con
+ * {@link SplittableRandom#split()}, y sus propios contadores, que se suman
+ * al terminar: no hay estado compartido durante la simulación. Como la
+ * división de las tareas es fija, el resultado para una semilla no depende de
+ * la cantidad de hilos.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class PredictorCampeonato {
+
+    /** Temporadas que simula cada tarea sin dividirse */
+    private static final int TEMPORADAS_POR_TAREA = 4_096;
+
+    /** Puntos por posición, desde la primera */
+    private static final int[] PUNTOS = SistemaPuntuacion.getSistemaPuntos();
+
+    /** Peor posición con la que la vuelta rápida suma su punto */
+    private static final int POSICION_MAXIMA_VUELTA_RAPIDA = 10;
+
+    // Estado tomado del gestor al crear el predictor; no cambia después
+    private int temporada;
+    private Piloto[] pilotos;
+    private Escuderia[] escuderias;
+
+    /** Puntos y victorias en la temporada al momento de la predicción */
+    private int[] puntosPilotos;
+    private int[] victoriasPilotos;
+    private int[] puntosEscuderias;
+    private int[] victoriasEscuderias;
+
+    /** Carreras restantes, en orden de calendario */
+    private Carrera[] carreras;
+
+    /**
+     * Parrilla de una carrera restante en columnas paralelas.
+     */
+    private static final class Carrera {
+        private final int[] pilotos;
+        private final int[] escuderias;
+        private final double[] tiempos;
+        private final double[] dispersiones;
+        private final double[] abandonos;
+
+        private Carrera(int parrilla) {
+            this.pilotos = new int[parrilla];
+            this.escuderias = new int[parrilla];
+            this.tiempos = new double[parrilla];
+            this.dispersiones = new double[parrilla];
+            this.abandonos = new double[parrilla];
+        }
+    }
+
+    /**
+     * Prepara la predicción con el estado actual del gestor.
+     *
+     * @param gestor Gestor del campeonato
+     * @throws NullPointerException si el gestor es null
+     */
+    public PredictorCampeonato(GestorFormula1 gestor) {
+        if (gestor == null) {
+            throw new NullPointerException("El gestor no puede ser null");
+        }
+        gestor.consultar(() -> {
+            tomarEstado(gestor);
+            return this;
+        });
+    }
+
+    /**
+     * Copia lo que necesita la predicción. Se llama con el gestor bloqueado
+     * para lectura, así los puntos y las parrillas son de un mismo estado.
+     */
+    private void tomarEstado(GestorFormula1 gestor) {
+        List<GranPremio> calendario = gestor.getCalendario();
+        temporada = elegirTemporada(calendario);
+
+        pilotos = gestor.getRankingPilotos().toArray(new Piloto[0]);
+        escuderias = gestor.getEscuderias().toArray(new Escuderia[0]);
+        Map<Piloto, Integer> indicePilotos = new IdentityHashMap<>();
+        Map<Escuderia, Integer> indiceEscuderias = new IdentityHashMap<>();
+        for (int i = 0; i < pilotos.length; i++) {
+            indicePilotos.put(pilotos[i], i);
+        }
+        for (int i = 0; i < escuderias.length; i++) {
+            indiceEscuderias.put(escuderias[i], i);
+        }
+
+        // Puntos y victorias de las carreras ya disputadas en la temporada
+        puntosPilotos = new int[pilotos.length];
+        victoriasPilotos = new int[pilotos.length];
+        puntosEscuderias = new int[escuderias.length];
+        victoriasEscuderias = new int[escuderias.length];
+        List<GranPremio> pendientes = new ArrayList<>();
+        for (GranPremio granPremio : calendario) {
+            if (granPremio.getFechaHora().getYear() != temporada) {
+                continue;
+            }
+            if (!granPremio.isFinalizada()) {
+                pendientes.add(granPremio);
+                continue;
+            }
+            TablaResultados tabla = granPremio.getTablaResultados();
+            for (int fila = 0; fila < tabla.size(); fila++) {
+                boolean victoria = !tabla.isAbandono(fila) && tabla.getPosicion(fila) == 1;
+                Integer piloto = indicePilotos.get(tabla.getPiloto(fila));
+                if (piloto != null) {
+                    puntosPilotos[piloto] += tabla.getPuntos(fila);
+                    victoriasPilotos[piloto] += victoria ? 1 : 0;
+                }
+                Integer escuderia = indiceEscuderias.get(tabla.getEscuderia(fila));
+                if (escuderia != null) {
+                    puntosEscuderias[escuderia] += tabla.getPuntos(fila);
+                    victoriasEscuderias[escuderia] += victoria ? 1 : 0;
+                }
+            }
+        }
+
+        // Sin inscriptos, la parrilla sigue el orden del campeonato de la temporada
+        Piloto[] parrillaPorDefecto = pilotos.clone();
+        Arrays.sort(parrillaPorDefecto, (a, b) -> Integer.compare(puntosPilotos[indicePilotos.get(b)],
+                puntosPilotos[indicePilotos.get(a)]));
+
+        List<Carrera> restantes = new ArrayList<>();
+        SimuladorCarrera simulador = new SimuladorCarrera(0);
+        for (GranPremio granPremio : pendientes) {
+            if (granPremio.getCircuito() == null) {
+                continue;
+            }
+            List<Participacion> participaciones = granPremio.getParticipaciones();
+            List<Piloto> parrillaPilotos = new ArrayList<>();
+            List<Escuderia> parrillaEscuderias = new ArrayList<>();
+            simulador.preparar(granPremio.getCircuito(), SimuladorCarrera.calcularVueltas(granPremio.getCircuito()),
+                    pilotos.length);
+            if (!participaciones.isEmpty()) {
+                for (Participacion participacion : participaciones) {
+                    simulador.agregar(participacion.getPiloto(), participacion.getAuto());
+                    parrillaPilotos.add(participacion.getPiloto());
+                    parrillaEscuderias.add(participacion.getEscuderia());
+                }
+            } else {
+                // Sin inscriptos: cada piloto con escudería corre con el siguiente auto de su equipo
+                Map<Escuderia, Integer> asientos = new IdentityHashMap<>();
+                for (Piloto piloto : parrillaPorDefecto) {
+                    Escuderia escuderia = piloto.getEscuderia();
+                    if (escuderia == null || escuderia.getAutos().isEmpty()) {
+                        continue;
+                    }
+                    int asiento = asientos.merge(escuderia, 1, Integer::sum) - 1;
+                    simulador.agregar(piloto, escuderia.getAutos().get(asiento % escuderia.getAutos().size()));
+                    parrillaPilotos.add(piloto);
+                    parrillaEscuderias.add(escuderia);
+                }
+            }
+
+            Carrera carrera = new Carrera(parrillaPilotos.size());
+            for (int k = 0; k < carrera.pilotos.length; k++) {
+                Integer piloto = indicePilotos.get(parrillaPilotos.get(k));
+                Integer escuderia = indiceEscuderias.get(parrillaEscuderias.get(k));
+                carrera.pilotos[k] = piloto != null ? piloto : -1;
+                carrera.escuderias[k] = escuderia != null ? escuderia : -1;
+                carrera.tiempos[k] = simulador.estimarTiempoTotal(k);
+                carrera.dispersiones[k] = simulador.estimarDispersionTotal(k);
+                carrera.abandonos[k] = simulador.estimarProbabilidadAbandono(k);
+            }
+            if (carrera.pilotos.length > 0) {
+                restantes.add(carrera);
+            }
+        }
+        carreras = restantes.toArray(new Carrera[0]);
+    }
+
+    /**
+     * @return Año de la primera carrera sin finalizar; si no hay, el de la
+     *         última carrera, y si el calendario está vacío, el año actual
+     */
+    private static int elegirTemporada(List<GranPremio> calendario) {
+        for (GranPremio granPremio : calendario) {
+            if (!granPremio.isFinalizada()) {
+                return granPremio.getFechaHora().getYear();
+            }
+        }
+        return calendario.isEmpty() ? LocalDate.now().getYear()
+                : calendario.get(calendario.size() - 1).getFechaHora().getYear();
+    }
+
+    /**
+     * @return Año de la temporada que se predice
+     */
+    public int getTemporada() {
+        return temporada;
+    }
+
+    public int getCarrerasRestantes() {
+        return carreras.length;
+    }
+
+    /**
+     * Simula el resto de la temporada en paralelo.
+     * <p>
+     * Si el hilo que llama se interrumpe, las tareas dejan de simular y se
+     * lanza {@link CancellationException}.
+     * </p>
+     *
+     * @param temporadas Cantidad de temporadas a simular
+     * @param semilla    Semilla: la misma semilla da la misma predicción
+     * @return Predicción con las probabilidades de título
+     * @throws IllegalArgumentException si la cantidad de temporadas no es
+     *                                  positiva
+     * @throws CancellationException    si el hilo se interrumpió
+     */
+    public PrediccionCampeonato predecir(long temporadas, long semilla) {
+        if (temporadas < 1) {
+            throw new IllegalArgumentException("Debe simularse al menos una temporada");
+        }
+        // La interrupción se detecta en la espera y se avisa a las tareas con
+        // una marca. Se espera en un CompletableFuture y no en la tarea raíz:
+        // ForkJoinTask.get() puede ejecutar la tarea en el propio hilo que
+        // espera, que entonces ya no vería la interrupción
+        AtomicBoolean cancelada = new AtomicBoolean();
+        Simulacion raiz = new Simulacion(0, temporadas, new SplittableRandom(semilla), cancelada);
+        CompletableFuture<Contadores> simulacion = CompletableFuture.supplyAsync(raiz::invoke,
+                ForkJoinPool.commonPool());
+        Contadores total;
+        try {
+            total = simulacion.get();
+        } catch (InterruptedException e) {
+            cancelada.set(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Predicción cancelada");
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) {
+                throw (RuntimeException) causa;
+            }
+            if (causa instanceof Error) {
+                throw (Error) causa;
+            }
+            throw new IllegalStateException(causa);
+        }
+        return new PrediccionCampeonato(temporadas, carreras.length, pilotos.clone(), escuderias.clone(),
+                total.titulosPilotos, total.puntosPilotos, total.titulosEscuderias, total.puntosEscuderias);
+    }
+
+    // ==================== SIMULACIÓN ====================
+
+    /** Títulos y sumas de puntos de un grupo de temporadas */
+    private static final class Contadores {
+        private final long[] titulosPilotos;
+        private final long[] puntosPilotos;
+        private final long[] titulosEscuderias;
+        private final long[] puntosEscuderias;
+
+        private Contadores(int pilotos, int escuderias) {
+            this.titulosPilotos = new long[pilotos];
+            this.puntosPilotos = new long[pilotos];
+            this.titulosEscuderias = new long[escuderias];
+            this.puntosEscuderias = new long[escuderias];
+        }
+
+        private Contadores sumar(Contadores otros) {
+            for (int i = 0; i < titulosPilotos.length; i++) {
+                titulosPilotos[i] += otros.titulosPilotos[i];
+                puntosPilotos[i] += otros.puntosPilotos[i];
+            }
+            for (int i = 0; i < titulosEscuderias.length; i++) {
+                titulosEscuderias[i] += otros.titulosEscuderias[i];
+                puntosEscuderias[i] += otros.puntosEscuderias[i];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Tarea que simula un rango de temporadas, dividiéndolo mientras sea
+     * grande.
+     */
+    private final class Simulacion extends RecursiveTask<Contadores> {
+        private static final long serialVersionUID = 1L;
+
+        private final long desde;
+        private final long hasta;
+        private final SplittableRandom aleatorio;
+        private final AtomicBoolean cancelada;
+
+        private Simulacion(long desde, long hasta, SplittableRandom aleatorio, AtomicBoolean cancelada) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.aleatorio = aleatorio;
+            this.cancelada = cancelada;
+        }
+
+        @Override
+        protected Contadores compute() {
+            if (hasta - desde <= TEMPORADAS_POR_TAREA) {
+                return simularTemporadas(hasta - desde, aleatorio, cancelada);
+            }
+            long medio = desde + (hasta - desde) / 2;
+            Simulacion primera = new Simulacion(desde, medio, aleatorio.split(), cancelada);
+            primera.fork();
+            Contadores segunda = new Simulacion(medio, hasta, aleatorio, cancelada).compute();
+            return segunda.sumar(primera.join());
+        }
+    }
+
+    /**
+     * Simula temporadas completas con arreglos propios y reutilizados.
+     */
+    private Contadores simularTemporadas(long cantidad, SplittableRandom aleatorio, AtomicBoolean cancelada) {
+        Contadores contadores = new Contadores(pilotos.length, escuderias.length);
+        int[] puntosP = new int[pilotos.length];
+        int[] victoriasP = new int[pilotos.length];
+        int[] puntosE = new int[escuderias.length];
+        int[] victoriasE = new int[escuderias.length];
+        double[] marcas = new double[PUNTOS.length];
+        int[] orden = new int[PUNTOS.length];
+
+        for (long temporada = 0; temporada < cantidad; temporada++) {
+            if ((temporada & 255) == 0 && cancelada.get()) {
+                break;
+            }
+            System.arraycopy(puntosPilotos, 0, puntosP, 0, puntosP.length);
+            System.arraycopy(victoriasPilotos, 0, victoriasP, 0, victoriasP.length);
+            System.arraycopy(puntosEscuderias, 0, puntosE, 0, puntosE.length);
+            System.arraycopy(victoriasEscuderias, 0, victoriasE, 0, victoriasE.length);
+
+            for (Carrera carrera : carreras) {
+                disputar(carrera, aleatorio, marcas, orden, puntosP, victoriasP, puntosE, victoriasE);
+            }
+
+            for (int i = 0; i < puntosP.length; i++) {
+                contadores.puntosPilotos[i] += puntosP[i];
+            }
+            int campeon = campeon(puntosP, victoriasP, aleatorio);
+            if (campeon >= 0) {
+                contadores.titulosPilotos[campeon]++;
+            }
+            for (int i = 0; i < puntosE.length; i++) {
+                contadores.puntosEscuderias[i] += puntosE[i];
+            }
+            int campeona = campeon(puntosE, victoriasE, aleatorio);
+            if (campeona >= 0) {
+                contadores.titulosEscuderias[campeona]++;
+            }
+        }
+        return contadores;
+    }
+
+    /**
+     * Elige al campeón por puntos y luego por victorias. Si el empate
+     * persiste, se sortea entre los empatados con igual probabilidad.
+     *
+     * @return Índice del campeón, o -1 si no hay nadie
+     */
+    private static int campeon(int[] puntos, int[] victorias, SplittableRandom aleatorio) {
+        int campeon = -1;
+        int empatados = 0;
+        for (int i = 0; i < puntos.length; i++) {
+            if (campeon < 0 || puntos[i] > puntos[campeon]
+                    || (puntos[i] == puntos[campeon] && victorias[i] > victorias[campeon])) {
+                campeon = i;
+                empatados = 1;
+            } else if (puntos[i] == puntos[campeon] && victorias[i] == victorias[campeon]
+                    && aleatorio.nextInt(++empatados) == 0) {
+                campeon = i;
+            }
+        }
+        return campeon;
+    }
+
+    /**
+     * Sortea el resultado de una carrera y suma los puntos. En marcas y orden
+     * quedan los tiempos y participantes de los puestos con puntos.
+     */
+    private static void disputar(Carrera carrera, SplittableRandom aleatorio, double[] marcas, int[] orden,
+            int[] puntosP, int[] victoriasP, int[] puntosE, int[] victoriasE) {
+        int parrilla = carrera.pilotos.length;
+        int terminaron = 0;
+        int vueltaRapida = -1;
+        double mejorRitmo = Double.MAX_VALUE;
+        for (int k = 0; k < parrilla; k++) {
+            if (aleatorio.nextDouble() < carrera.abandonos[k]) {
+                continue;
+            }
+            double marca = carrera.tiempos[k] + aleatorio.nextGaussian() * carrera.dispersiones[k];
+            // El ritmo de la vuelta rápida se sortea aparte con el mismo modelo
+            double ritmo = carrera.tiempos[k] + aleatorio.nextGaussian() * carrera.dispersiones[k];
+            if (ritmo < mejorRitmo) {
+                mejorRitmo = ritmo;
+                vueltaRapida = k;
+            }
+            // Inserción ordenada: sólo se guardan los que suman puntos
+            int j = Math.min(terminaron, PUNTOS.length) - 1;
+            if (j == PUNTOS.length - 1 && marca >= marcas[j]) {
+                terminaron++;
+                continue;
+            }
+            if (j == PUNTOS.length - 1) {
+                j--; // El último con puntos sale de la zona de puntos
+            }
+            while (j >= 0 && marcas[j] > marca) {
+                marcas[j + 1] = marcas[j];
+                orden[j + 1] = orden[j];
+                j--;
+            }
+            marcas[j + 1] = marca;
+            orden[j + 1] = k;
+            terminaron++;
+        }
+
+        int conPuntos = Math.min(terminaron, PUNTOS.length);
+        int conVueltaRapida = Math.min(conPuntos, POSICION_MAXIMA_VUELTA_RAPIDA);
+        for (int posicion = 0; posicion < conPuntos; posicion++) {
+            int k = orden[posicion];
+            int puntos = PUNTOS[posicion] + (k == vueltaRapida && posicion < conVueltaRapida ? 1 : 0);
+            int piloto = carrera.pilotos[k];
+            int escuderia = carrera.escuderias[k];
+            if (piloto >= 0) {
+                puntosP[piloto] += puntos;
+                if (posicion == 0) {
+                    victoriasP[piloto]++;
+                }
+            }
+            if (escuderia >= 0) {
+                puntosE[escuderia] += puntos;
+                if (posicion == 0) {
+                    victoriasE[escuderia]++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,924 @@
+package controlador;
+
+import modelo.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Capa de almacenamiento indexado de las entidades del sistema de Fórmula 1.
+ * <p>
+ * Mantiene índices hash por clave primaria para que las búsquedas y las
+ * validaciones de unicidad del {@link GestorFormula1} sean O(1) en lugar de
+ * recorrer listas completas:
+ * <ul>
+ * <li>Pilotos por DNI y por número de carrera</li>
+ * <li>Escuderías por nombre</li>
+ * <li>Mecánicos por DNI</li>
+ * <li>Autos por número de chasis</li>
+ * <li>Grandes Premios por nombre y fecha</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Además mantiene índices secundarios (escudería → pilotos de su
+ * plantilla, escudería → contratos, piloto → contratos, auto → escudería propietaria,
+ * mecánico → escudería, circuito → Grandes
+ * Premios y piloto → participaciones en orden cronológico). Los índices secundarios
+ * se indexan por identidad de objeto, de modo que no se invalidan si se
+ * modifica algún atributo que participa en {@code equals()} de la entidad.
+ * </p>
+ * <p>
+ * El calendario indexa los Grandes Premios por fecha y hora en un árbol, para
+ * resolver consultas por rango y la próxima carrera en O(log n) sin ordenar.
+ * Los contratos se indexan además por período en árboles de intervalos
+ * ({@link IndiceContratos}), uno general, uno por piloto y uno por escudería,
+ * y los que tienen fecha de fin en una cola de vencimientos ordenada por esa
+ * fecha, para aplicar sólo los contratos que vencieron desde la última
+ * revisión.
+ * </p>
+ * <p>
+ * Todas las colecciones conservan el orden de inserción, igual que las listas
+ * que reemplazan.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+class RepositorioFormula1 {
+    /** Modificadores de los planteles de las escuderías */
+    private static final EdicionModelo EDICION = GestorFormula1.EDICION;
+
+    /** Países registrados (pocos elementos, se conserva la lista) */
+    private final List<Pais> paises;
+
+    /** Escuderías registradas */
+    private final List<Escuderia> escuderias;
+
+    /** Índice primario de escuderías por nombre */
+    private final Map<String, Escuderia> escuderiasPorNombre;
+
+    /** Índice secundario escudería → pilotos de su plantilla */
+    private final Map<Escuderia, List<Piloto>> pilotosPorEscuderia;
+
+    /** Circuitos registrados */
+    private final List<Circuito> circuitos;
+
+    /** Pilotos en orden de registro */
+    private final List<Piloto> pilotos;
+
+    /** Índice primario de pilotos por DNI */
+    private final Map<String, Piloto> pilotosPorDni;
+
+    /** Índice primario de pilotos por número de carrera */
+    private final Map<Integer, Piloto> pilotosPorNumero;
+
+    /** Índice primario de autos por número de chasis */
+    private final Map<String, Auto> autosPorChasis;
+
+    /** Índice primario de mecánicos por DNI */
+    private final Map<String, Mecanico> mecanicosPorDni;
+
+    /** Grandes Premios en orden de registro */
+    private final List<GranPremio> grandesPremios;
+
+    /** Índice primario de Grandes Premios por nombre y fecha */
+    private final Map<String, GranPremio> grandesPremiosPorClave;
+
+    /** Contratos piloto-escudería en orden de creación */
+    private final List<PilotoEscuderia> contratos;
+
+    /** Índice secundario escudería → contratos */
+    private final Map<Escuderia, List<PilotoEscuderia>> contratosPorEscuderia;
+
+    /** Índice secundario piloto → contratos */
+    private final Map<Piloto, List<PilotoEscuderia>> contratosPorPiloto;
+
+    /** Contratos indexados por período */
+    private final IndiceContratos intervalosContratos;
+
+    /** Índice secundario piloto → contratos por período */
+    private final Map<Piloto, IndiceContratos> intervalosPorPiloto;
+
+    /** Índice secundario escudería → contratos por período */
+    private final Map<Escuderia, IndiceContratos> intervalosPorEscuderia;
+
+    /**
+     * Vencimientos pendientes por fecha de fin. Las entradas de contratos
+     * eliminados o reemplazados al finalizarlos se descartan al extraerlas.
+     */
+    private final PriorityQueue<Vencimiento> vencimientos;
+
+    /** Índice secundario auto → escudería propietaria */
+    private final Map<Auto, Escuderia> escuderiaPorAuto;
+
+    /** Índice secundario mecánico → escudería */
+    private final Map<Mecanico, Escuderia> escuderiaPorMecanico;
+
+    /** Índice secundario circuito → Grandes Premios */
+    private final Map<Circuito, List<GranPremio>> grandesPremiosPorCircuito;
+
+    /**
+     * Calendario: fecha y hora → Grandes Premios de ese momento, en orden de
+     * registro
+     */
+    private final NavigableMap<LocalDateTime, List<GranPremio>> calendario;
+
+    /**
+     * Índice secundario piloto → Grandes Premios disputados, ordenados por
+     * fecha. La participación se resuelve en la tabla de resultados de cada
+     * carrera sólo al consultarla.
+     */
+    private final Map<Piloto, List<GranPremio>> historialPorPiloto;
+
+    /** Temporadas archivadas en orden de año */
+    private final List<ArchivoTemporada> temporadasArchivadas;
+
+    /**
+     * Crea un repositorio vacío.
+     */
+    RepositorioFormula1() {
+        this.paises = new ArrayList<>();
+        this.escuderias = new ArrayList<>();
+        this.escuderiasPorNombre = new HashMap<>();
+        this.pilotosPorEscuderia = new IdentityHashMap<>();
+        this.circuitos = new ArrayList<>();
+        this.pilotos = new ArrayList<>();
+        this.pilotosPorDni = new HashMap<>();
+        this.pilotosPorNumero = new HashMap<>();
+        this.autosPorChasis = new LinkedHashMap<>();
+        this.mecanicosPorDni = new LinkedHashMap<>();
+        this.grandesPremios = new ArrayList<>();
+        this.grandesPremiosPorClave = new HashMap<>();
+        this.contratos = new ArrayList<>();
+        this.contratosPorEscuderia = new IdentityHashMap<>();
+        this.contratosPorPiloto = new IdentityHashMap<>();
+        this.intervalosContratos = new IndiceContratos();
+        this.intervalosPorPiloto = new IdentityHashMap<>();
+        this.intervalosPorEscuderia = new IdentityHashMap<>();
+        this.vencimientos = new PriorityQueue<>();
+        this.escuderiaPorAuto = new IdentityHashMap<>();
+        this.escuderiaPorMecanico = new IdentityHashMap<>();
+        this.grandesPremiosPorCircuito = new IdentityHashMap<>();
+        this.calendario = new TreeMap<>();
+        this.historialPorPiloto = new IdentityHashMap<>();
+        this.temporadasArchivadas = new ArrayList<>();
+    }
+
+    /**
+     * Calcula la clave primaria de un Gran Premio (nombre + fecha y hora).
+     *
+     * @param nombre    Nombre del Gran Premio
+     * @param fechaHora Fecha y hora del Gran Premio
+     * @return Clave única del Gran Premio
+     */
+    static String claveGranPremio(String nombre, LocalDateTime fechaHora) {
+        return nombre + '|' + fechaHora;
+    }
+
+    // ==================== PAÍSES, ESCUDERÍAS Y CIRCUITOS ====================
+
+    boolean contienePais(Pais pais) {
+        return paises.contains(pais);
+    }
+
+    /**
+     * Obtiene la instancia registrada de un país.
+     *
+     * @param pais País a buscar (por código)
+     * @return País registrado, o null si no está registrado
+     */
+    Pais buscarPais(Pais pais) {
+        int indice = paises.indexOf(pais);
+        return indice >= 0 ? paises.get(indice) : null;
+    }
+
+    void agregarPais(Pais pais) {
+        paises.add(pais);
+    }
+
+    List<Pais> getPaises() {
+        return paises;
+    }
+
+    boolean contieneEscuderia(Escuderia escuderia) {
+        return escuderiasPorNombre.containsKey(escuderia.getNombre());
+    }
+
+    void agregarEscuderia(Escuderia escuderia) {
+        escuderias.add(escuderia);
+        escuderiasPorNombre.put(escuderia.getNombre(), escuderia);
+    }
+
+    boolean eliminarEscuderia(Escuderia escuderia) {
+        if (!escuderias.remove(escuderia)) {
+            return false;
+        }
+        escuderiasPorNombre.remove(escuderia.getNombre());
+        for (Auto auto : escuderia.getAutos()) {
+            escuderiaPorAuto.remove(auto, escuderia);
+        }
+        for (Mecanico mecanico : escuderia.getMecanicos()) {
+            escuderiaPorMecanico.remove(mecanico, escuderia);
+        }
+        return true;
+    }
+
+    /**
+     * Reubica una escudería en el índice por nombre tras cambiar su nombre.
+     *
+     * @param escuderia      Escudería ya modificada
+     * @param nombreAnterior Nombre con el que estaba indexada
+     */
+    void reindexarEscuderia(Escuderia escuderia, String nombreAnterior) {
+        escuderiasPorNombre.remove(nombreAnterior, escuderia);
+        escuderiasPorNombre.put(escuderia.getNombre(), escuderia);
+    }
+
+    List<Escuderia> getEscuderias() {
+        return escuderias;
+    }
+
+    Escuderia buscarEscuderiaPorNombre(String nombre) {
+        return nombre == null ? null : escuderiasPorNombre.get(nombre);
+    }
+
+    /**
+     * Agrega un piloto a la plantilla de una escudería, que pasa a ser su
+     * escudería actual.
+     *
+     * @param escuderia Escudería
+     * @param piloto    Piloto a agregar
+     */
+    void agregarPilotoAEscuderia(Escuderia escuderia, Piloto piloto) {
+        EDICION.agregarPiloto(escuderia, piloto);
+        List<Piloto> plantilla = pilotosPorEscuderia.computeIfAbsent(escuderia, e -> new ArrayList<>());
+        for (Piloto registrado : plantilla) {
+            if (registrado == piloto) {
+                return;
+            }
+        }
+        plantilla.add(piloto);
+    }
+
+    /**
+     * Quita un piloto de la plantilla de una escudería.
+     *
+     * @param escuderia Escudería
+     * @param piloto    Piloto a quitar
+     */
+    void quitarPilotoDeEscuderia(Escuderia escuderia, Piloto piloto) {
+        EDICION.removerPiloto(escuderia, piloto);
+        List<Piloto> plantilla = pilotosPorEscuderia.get(escuderia);
+        if (plantilla != null) {
+            plantilla.removeIf(p -> p == piloto);
+            if (plantilla.isEmpty()) {
+                pilotosPorEscuderia.remove(escuderia);
+            }
+        }
+    }
+
+    List<Piloto> getPilotosEscuderia(Escuderia escuderia) {
+        return pilotosPorEscuderia.getOrDefault(escuderia, Collections.emptyList());
+    }
+
+    boolean contieneCircuito(Circuito circuito) {
+        return circuitos.contains(circuito);
+    }
+
+    void agregarCircuito(Circuito circuito) {
+        circuitos.add(circuito);
+    }
+
+    boolean eliminarCircuito(Circuito circuito) {
+        return circuitos.remove(circuito);
+    }
+
+    List<Circuito> getCircuitos() {
+        return circuitos;
+    }
+
+    // ==================== PILOTOS ====================
+
+    Piloto buscarPilotoPorDni(String dni) {
+        return dni == null ? null : pilotosPorDni.get(dni.trim());
+    }
+
+    Piloto buscarPilotoPorNumero(int numero) {
+        return pilotosPorNumero.get(numero);
+    }
+
+    void agregarPiloto(Piloto piloto) {
+        pilotos.add(piloto);
+        pilotosPorDni.put(piloto.getDni(), piloto);
+        pilotosPorNumero.put(piloto.getNumero(), piloto);
+    }
+
+    boolean eliminarPiloto(Piloto piloto) {
+        if (pilotosPorDni.get(piloto.getDni()) != piloto) {
+            return false;
+        }
+        pilotosPorDni.remove(piloto.getDni());
+        pilotosPorNumero.remove(piloto.getNumero());
+        pilotos.removeIf(p -> p == piloto);
+        historialPorPiloto.remove(piloto);
+        return true;
+    }
+
+    /**
+     * Reubica un piloto en los índices primarios tras cambiar su DNI o número.
+     * <p>
+     * Sólo cambian las claves modificadas; la posición del piloto en el orden
+     * de registro se conserva.
+     * </p>
+     *
+     * @param piloto      Piloto ya modificado
+     * @param dniAnterior DNI con el que estaba indexado
+     * @param numAnterior Número con el que estaba indexado
+     */
+    void reindexarPiloto(Piloto piloto, String dniAnterior, int numAnterior) {
+        pilotosPorNumero.remove(numAnterior, piloto);
+        pilotosPorNumero.put(piloto.getNumero(), piloto);
+        pilotosPorDni.remove(dniAnterior, piloto);
+        pilotosPorDni.put(piloto.getDni(), piloto);
+    }
+
+    Collection<Piloto> getPilotos() {
+        return pilotos;
+    }
+
+    // ==================== AUTOS Y MECÁNICOS ====================
+
+    Auto buscarAutoPorChasis(String numeroChasis) {
+        return numeroChasis == null ? null : autosPorChasis.get(numeroChasis);
+    }
+
+    void agregarAuto(Auto auto) {
+        autosPorChasis.put(auto.getNumeroChasis(), auto);
+    }
+
+    Collection<Auto> getAutos() {
+        return autosPorChasis.values();
+    }
+
+    Escuderia getEscuderiaDelAuto(Auto auto) {
+        return escuderiaPorAuto.get(auto);
+    }
+
+    /**
+     * Asigna un auto a una escudería, quitándolo de la que lo tuviera antes:
+     * cada auto pertenece a una sola escudería.
+     *
+     * @param auto      Auto a asignar
+     * @param escuderia Escudería propietaria
+     */
+    void asignarAuto(Auto auto, Escuderia escuderia) {
+        Escuderia anterior = escuderiaPorAuto.put(auto, escuderia);
+        if (anterior != null && anterior != escuderia) {
+            anterior.removerAuto(auto);
+        }
+        escuderia.agregarAuto(auto);
+    }
+
+    /**
+     * Quita un auto de su escudería.
+     *
+     * @param auto Auto a liberar
+     * @return Escudería que lo tenía, o null si estaba libre
+     */
+    Escuderia quitarAuto(Auto auto) {
+        Escuderia anterior = escuderiaPorAuto.remove(auto);
+        if (anterior != null) {
+            anterior.removerAuto(auto);
+        }
+        return anterior;
+    }
+
+    Mecanico buscarMecanicoPorDni(String dni) {
+        return dni == null ? null : mecanicosPorDni.get(dni.trim());
+    }
+
+    void agregarMecanico(Mecanico mecanico) {
+        mecanicosPorDni.put(mecanico.getDni(), mecanico);
+    }
+
+    Collection<Mecanico> getMecanicos() {
+        return mecanicosPorDni.values();
+    }
+
+    Escuderia getEscuderiaDelMecanico(Mecanico mecanico) {
+        return escuderiaPorMecanico.get(mecanico);
+    }
+
+    /**
+     * Asigna un mecánico a una escudería, quitándolo de la que lo tuviera
+     * antes: cada mecánico trabaja para una sola escudería.
+     *
+     * @param mecanico  Mecánico a asignar
+     * @param escuderia Escudería destino
+     */
+    void asignarMecanico(Mecanico mecanico, Escuderia escuderia) {
+        Escuderia anterior = escuderiaPorMecanico.put(mecanico, escuderia);
+        if (anterior != null && anterior != escuderia) {
+            EDICION.removerMecanico(anterior, mecanico);
+        }
+        EDICION.agregarMecanico(escuderia, mecanico);
+    }
+
+    /**
+     * Quita un mecánico de su escudería.
+     *
+     * @param mecanico Mecánico a liberar
+     * @return Escudería que lo tenía, o null si estaba libre
+     */
+    Escuderia quitarMecanico(Mecanico mecanico) {
+        Escuderia anterior = escuderiaPorMecanico.remove(mecanico);
+        if (anterior != null) {
+            EDICION.removerMecanico(anterior, mecanico);
+        }
+        return anterior;
+    }
+
+    // ==================== GRANDES PREMIOS ====================
+
+    GranPremio buscarGranPremio(String nombre, LocalDateTime fechaHora) {
+        return grandesPremiosPorClave.get(claveGranPremio(nombre, fechaHora));
+    }
+
+    void agregarGranPremio(GranPremio granPremio) {
+        grandesPremios.add(granPremio);
+        grandesPremiosPorClave.put(claveGranPremio(granPremio.getNombre(), granPremio.getFechaHora()), granPremio);
+        grandesPremiosPorCircuito.computeIfAbsent(granPremio.getCircuito(), c -> new ArrayList<>()).add(granPremio);
+        calendario.computeIfAbsent(granPremio.getFechaHora(), f -> new ArrayList<>()).add(granPremio);
+    }
+
+    boolean eliminarGranPremio(GranPremio granPremio) {
+        String clave = claveGranPremio(granPremio.getNombre(), granPremio.getFechaHora());
+        if (grandesPremiosPorClave.get(clave) != granPremio) {
+            return false;
+        }
+        grandesPremiosPorClave.remove(clave);
+        grandesPremios.removeIf(gp -> gp == granPremio);
+        quitarDeCircuito(granPremio, granPremio.getCircuito());
+        quitarDelCalendario(granPremio, granPremio.getFechaHora());
+        TablaResultados resultados = granPremio.getTablaResultados();
+        for (int fila = 0; fila < resultados.size(); fila++) {
+            quitarDelHistorial(resultados.getPiloto(fila), granPremio);
+        }
+        return true;
+    }
+
+    /**
+     * Reubica un Gran Premio en los índices tras cambiar nombre, fecha o
+     * circuito.
+     *
+     * @param granPremio        Gran Premio ya modificado
+     * @param claveAnterior     Clave primaria con la que estaba indexado
+     * @param circuitoAnterior  Circuito con el que estaba indexado
+     * @param fechaAnterior     Fecha y hora con la que estaba en el calendario
+     */
+    void reindexarGranPremio(GranPremio granPremio, String claveAnterior, Circuito circuitoAnterior,
+            LocalDateTime fechaAnterior) {
+        String claveNueva = claveGranPremio(granPremio.getNombre(), granPremio.getFechaHora());
+        grandesPremiosPorClave.remove(claveAnterior, granPremio);
+        grandesPremiosPorClave.put(claveNueva, granPremio);
+        if (circuitoAnterior != granPremio.getCircuito()) {
+            quitarDeCircuito(granPremio, circuitoAnterior);
+            grandesPremiosPorCircuito.computeIfAbsent(granPremio.getCircuito(), c -> new ArrayList<>())
+                    .add(granPremio);
+        }
+        if (!fechaAnterior.equals(granPremio.getFechaHora())) {
+            quitarDelCalendario(granPremio, fechaAnterior);
+            calendario.computeIfAbsent(granPremio.getFechaHora(), f -> new ArrayList<>()).add(granPremio);
+        }
+        // La fecha puede haber cambiado: se reubica la carrera en el historial de cada piloto
+        TablaResultados resultados = granPremio.getTablaResultados();
+        for (int fila = 0; fila < resultados.size(); fila++) {
+            quitarDelHistorial(resultados.getPiloto(fila), granPremio);
+            agregarAlHistorial(resultados.getPiloto(fila), granPremio);
+        }
+    }
+
+    private void quitarDeCircuito(GranPremio granPremio, Circuito circuito) {
+        List<GranPremio> lista = grandesPremiosPorCircuito.get(circuito);
+        if (lista != null) {
+            lista.removeIf(gp -> gp == granPremio);
+            if (lista.isEmpty()) {
+                grandesPremiosPorCircuito.remove(circuito);
+            }
+        }
+    }
+
+    private void quitarDelCalendario(GranPremio granPremio, LocalDateTime fechaHora) {
+        List<GranPremio> lista = calendario.get(fechaHora);
+        if (lista != null) {
+            lista.removeIf(gp -> gp == granPremio);
+            if (lista.isEmpty()) {
+                calendario.remove(fechaHora);
+            }
+        }
+    }
+
+    Collection<GranPremio> getGrandesPremios() {
+        return grandesPremios;
+    }
+
+    /**
+     * Obtiene los Grandes Premios en orden cronológico.
+     *
+     * @return Nueva lista ordenada por fecha y hora
+     */
+    List<GranPremio> getCalendario() {
+        return aplanar(calendario.values(), grandesPremios.size());
+    }
+
+    /**
+     * Obtiene los Grandes Premios de un rango de fechas en orden cronológico,
+     * con coste O(log n + resultado).
+     *
+     * @param desde        Inicio del rango
+     * @param incluirDesde true si el inicio forma parte del rango
+     * @param hasta        Fin del rango
+     * @param incluirHasta true si el fin forma parte del rango
+     * @return Nueva lista ordenada por fecha y hora (vacía si el rango está
+     *         invertido)
+     */
+    List<GranPremio> getCalendario(LocalDateTime desde, boolean incluirDesde, LocalDateTime hasta,
+            boolean incluirHasta) {
+        if (desde.isAfter(hasta)) {
+            return new ArrayList<>();
+        }
+        return aplanar(calendario.subMap(desde, incluirDesde, hasta, incluirHasta).values(), 16);
+    }
+
+    /**
+     * Obtiene la primera carrera sin finalizar posterior a una fecha.
+     *
+     * @param fechaHora Fecha y hora de referencia (excluida)
+     * @return Próxima carrera, o null si no hay ninguna programada
+     */
+    GranPremio getProximoGranPremio(LocalDateTime fechaHora) {
+        for (List<GranPremio> delMomento : calendario.tailMap(fechaHora, false).values()) {
+            for (GranPremio granPremio : delMomento) {
+                if (!granPremio.isFinalizada()) {
+                    return granPremio;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<GranPremio> aplanar(Collection<List<GranPremio>> grupos, int capacidad) {
+        List<GranPremio> lista = new ArrayList<>(capacidad);
+        for (List<GranPremio> grupo : grupos) {
+            lista.addAll(grupo);
+        }
+        return lista;
+    }
+
+    List<GranPremio> getGrandesPremiosEnCircuito(Circuito circuito) {
+        return grandesPremiosPorCircuito.getOrDefault(circuito, Collections.emptyList());
+    }
+
+    // ==================== HISTORIAL DE PARTICIPACIONES ====================
+
+    /**
+     * Registra una participación en el historial de su piloto.
+     *
+     * @param participacion Participación ya vinculada a su Gran Premio
+     */
+    void agregarParticipacion(Participacion participacion) {
+        agregarAlHistorial(participacion.getPiloto(), participacion.getGranPremio());
+    }
+
+    /**
+     * Registra una carrera en el historial de un piloto.
+     * <p>
+     * Se inserta por búsqueda binaria según la fecha del Gran Premio, detrás
+     * de las carreras con la misma fecha, con coste O(log k) más el
+     * desplazamiento de la lista.
+     * </p>
+     *
+     * @param piloto     Piloto inscrito
+     * @param granPremio Gran Premio en el que participa
+     */
+    void agregarAlHistorial(Piloto piloto, GranPremio granPremio) {
+        List<GranPremio> historial = historialPorPiloto.computeIfAbsent(piloto, p -> new ArrayList<>());
+        LocalDateTime fecha = granPremio.getFechaHora();
+        int desde = 0;
+        int hasta = historial.size();
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (historial.get(medio).getFechaHora().isAfter(fecha)) {
+                hasta = medio;
+            } else {
+                desde = medio + 1;
+            }
+        }
+        historial.add(desde, granPremio);
+    }
+
+    /**
+     * Obtiene las carreras de un piloto posteriores a una fecha, en orden
+     * cronológico. Se ubica el inicio por búsqueda binaria en el historial.
+     *
+     * @param piloto    Piloto a consultar
+     * @param fechaHora Fecha y hora de referencia (excluida)
+     * @return Nueva lista con las carreras posteriores
+     */
+    List<GranPremio> getHistorialPosteriorA(Piloto piloto, LocalDateTime fechaHora) {
+        List<GranPremio> historial = historialPorPiloto.getOrDefault(piloto, Collections.emptyList());
+        int desde = 0;
+        int hasta = historial.size();
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (historial.get(medio).getFechaHora().isAfter(fechaHora)) {
+                hasta = medio;
+            } else {
+                desde = medio + 1;
+            }
+        }
+        return new ArrayList<>(historial.subList(desde, historial.size()));
+    }
+
+    void quitarParticipacion(Participacion participacion) {
+        quitarDelHistorial(participacion.getPiloto(), participacion.getGranPremio());
+    }
+
+    private void quitarDelHistorial(Piloto piloto, GranPremio granPremio) {
+        List<GranPremio> historial = historialPorPiloto.get(piloto);
+        if (historial != null) {
+            historial.removeIf(gp -> gp == granPremio);
+            if (historial.isEmpty()) {
+                historialPorPiloto.remove(piloto);
+            }
+        }
+    }
+
+    /**
+     * Obtiene las participaciones de un piloto en orden cronológico.
+     *
+     * @param piloto Piloto a consultar
+     * @return Nueva lista con las participaciones del piloto
+     */
+    List<Participacion> getHistorialCarrerasPiloto(Piloto piloto) {
+        List<GranPremio> historial = historialPorPiloto.getOrDefault(piloto, Collections.emptyList());
+        List<Participacion> participaciones = new ArrayList<>(historial.size());
+        for (GranPremio granPremio : historial) {
+            TablaResultados resultados = granPremio.getTablaResultados();
+            participaciones.add(resultados.getParticipacion(resultados.buscarPiloto(piloto)));
+        }
+        return participaciones;
+    }
+
+    // ==================== CONTRATOS PILOTO-ESCUDERÍA ====================
+
+    void agregarContrato(PilotoEscuderia contrato) {
+        contratos.add(contrato);
+        contratosPorPiloto.computeIfAbsent(contrato.getPiloto(), p -> new ArrayList<>()).add(contrato);
+        contratosPorEscuderia.computeIfAbsent(contrato.getEscuderia(), e -> new ArrayList<>()).add(contrato);
+        intervalosContratos.agregar(contrato);
+        intervalosPorPiloto.computeIfAbsent(contrato.getPiloto(), p -> new IndiceContratos()).agregar(contrato);
+        intervalosPorEscuderia.computeIfAbsent(contrato.getEscuderia(), e -> new IndiceContratos()).agregar(contrato);
+        programarVencimiento(contrato);
+    }
+
+    /**
+     * Finaliza un contrato registrado. Los contratos son inmutables, así que
+     * se reemplaza en todos los índices por una copia con la fecha de fin
+     * indicada.
+     *
+     * @param contrato Contrato a finalizar
+     * @param fechaFin Fecha de finalización
+     * @return Contrato finalizado que reemplaza al anterior
+     * @throws IllegalArgumentException si la fecha es null
+     */
+    PilotoEscuderia finalizarContrato(PilotoEscuderia contrato, LocalDate fechaFin) {
+        if (fechaFin == null) {
+            throw new IllegalArgumentException("La fecha de finalización no puede estar vacía");
+        }
+        if (fechaFin.equals(contrato.getHasta())) {
+            return contrato;
+        }
+        PilotoEscuderia finalizado = contrato.conHastaFecha(fechaFin);
+        reemplazarContrato(contratos, contrato, finalizado);
+        reemplazarContrato(contratosPorPiloto.get(contrato.getPiloto()), contrato, finalizado);
+        reemplazarContrato(contratosPorEscuderia.get(contrato.getEscuderia()), contrato, finalizado);
+        reemplazarIntervalo(intervalosContratos, contrato, finalizado);
+        reemplazarIntervalo(intervalosPorPiloto.get(contrato.getPiloto()), contrato, finalizado);
+        reemplazarIntervalo(intervalosPorEscuderia.get(contrato.getEscuderia()), contrato, finalizado);
+        // La entrada del contrato anterior en la cola se descarta al extraerla
+        programarVencimiento(finalizado);
+        return finalizado;
+    }
+
+    private static void reemplazarContrato(List<PilotoEscuderia> lista, PilotoEscuderia anterior,
+                                           PilotoEscuderia nuevo) {
+        if (lista != null) {
+            lista.replaceAll(c -> c == anterior ? nuevo : c);
+        }
+    }
+
+    private static void reemplazarIntervalo(IndiceContratos indice, PilotoEscuderia anterior,
+                                            PilotoEscuderia nuevo) {
+        if (indice != null && indice.quitar(anterior)) {
+            indice.agregar(nuevo);
+        }
+    }
+
+    /**
+     * Elimina todos los contratos de un piloto.
+     *
+     * @param piloto Piloto cuyos contratos se eliminan
+     */
+    void eliminarContratosPiloto(Piloto piloto) {
+        List<PilotoEscuderia> delPiloto = contratosPorPiloto.remove(piloto);
+        intervalosPorPiloto.remove(piloto);
+        if (delPiloto != null) {
+            for (PilotoEscuderia contrato : delPiloto) {
+                quitarContrato(contrato, contratosPorEscuderia, contrato.getEscuderia());
+                quitarIntervalo(contrato, intervalosPorEscuderia, contrato.getEscuderia());
+                intervalosContratos.quitar(contrato);
+            }
+            contratos.removeIf(c -> c.getPiloto() == piloto);
+        }
+    }
+
+    /**
+     * Elimina todos los contratos de una escudería.
+     *
+     * @param escuderia Escudería cuyos contratos se eliminan
+     */
+    void eliminarContratosEscuderia(Escuderia escuderia) {
+        List<PilotoEscuderia> deEscuderia = contratosPorEscuderia.remove(escuderia);
+        intervalosPorEscuderia.remove(escuderia);
+        if (deEscuderia != null) {
+            for (PilotoEscuderia contrato : deEscuderia) {
+                quitarContrato(contrato, contratosPorPiloto, contrato.getPiloto());
+                quitarIntervalo(contrato, intervalosPorPiloto, contrato.getPiloto());
+                intervalosContratos.quitar(contrato);
+            }
+            contratos.removeIf(c -> c.getEscuderia() == escuderia);
+        }
+    }
+
+    private static <K> void quitarContrato(PilotoEscuderia contrato, Map<K, List<PilotoEscuderia>> indice, K clave) {
+        List<PilotoEscuderia> lista = indice.get(clave);
+        if (lista != null) {
+            lista.removeIf(c -> c == contrato);
+            if (lista.isEmpty()) {
+                indice.remove(clave);
+            }
+        }
+    }
+
+    private static <K> void quitarIntervalo(PilotoEscuderia contrato, Map<K, IndiceContratos> indice, K clave) {
+        IndiceContratos intervalos = indice.get(clave);
+        if (intervalos != null) {
+            intervalos.quitar(contrato);
+            if (intervalos.isEmpty()) {
+                indice.remove(clave);
+            }
+        }
+    }
+
+    List<PilotoEscuderia> getContratos() {
+        return contratos;
+    }
+
+    // ==================== VENCIMIENTOS DE CONTRATOS ====================
+
+    /** Entrada de la cola de vencimientos */
+    private static final class Vencimiento implements Comparable<Vencimiento> {
+        private final LocalDate fecha;
+        private final PilotoEscuderia contrato;
+
+        private Vencimiento(LocalDate fecha, PilotoEscuderia contrato) {
+            this.fecha = fecha;
+            this.contrato = contrato;
+        }
+
+        @Override
+        public int compareTo(Vencimiento otro) {
+            return fecha.compareTo(otro.fecha);
+        }
+    }
+
+    private void programarVencimiento(PilotoEscuderia contrato) {
+        if (contrato.getHasta() != null) {
+            vencimientos.add(new Vencimiento(contrato.getHasta(), contrato));
+        }
+    }
+
+    /**
+     * Extrae de la cola los contratos vencidos a una fecha, es decir, los que
+     * terminaron antes de ese día. Los contratos extraídos no vuelven a la
+     * cola salvo que cambie su fecha de fin.
+     *
+     * @param fecha Fecha de referencia
+     * @return Nueva lista con los contratos vencidos, por fecha de fin
+     */
+    List<PilotoEscuderia> extraerContratosVencidos(LocalDate fecha) {
+        List<PilotoEscuderia> vencidos = new ArrayList<>();
+        while (!vencimientos.isEmpty() && vencimientos.peek().fecha.isBefore(fecha)) {
+            Vencimiento vencimiento = vencimientos.poll();
+            PilotoEscuderia contrato = vencimiento.contrato;
+            if (vencimiento.fecha.equals(contrato.getHasta()) && contieneContrato(contrato)) {
+                vencidos.add(contrato);
+            }
+        }
+        return vencidos;
+    }
+
+    /**
+     * Vuelve a armar la cola de vencimientos con los contratos que siguen
+     * vigentes a una fecha. Se usa cuando la fecha de referencia retrocede.
+     *
+     * @param fecha Fecha de referencia
+     */
+    void reprogramarVencimientos(LocalDate fecha) {
+        vencimientos.clear();
+        for (PilotoEscuderia contrato : contratos) {
+            if (contrato.getHasta() != null && !contrato.getHasta().isBefore(fecha)) {
+                vencimientos.add(new Vencimiento(contrato.getHasta(), contrato));
+            }
+        }
+    }
+
+    private boolean contieneContrato(PilotoEscuderia contrato) {
+        for (PilotoEscuderia registrado : getContratosPiloto(contrato.getPiloto())) {
+            if (registrado == contrato) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Obtiene los contratos que se solapan con un período, ordenados por
+     * fecha de inicio.
+     *
+     * @param desde Inicio del período
+     * @param hasta Fin del período (null si es abierto)
+     * @return Nueva lista con los contratos del período
+     */
+    List<PilotoEscuderia> getContratosEnPeriodo(LocalDate desde, LocalDate hasta) {
+        List<PilotoEscuderia> encontrados = new ArrayList<>();
+        intervalosContratos.buscarSolapados(desde, hasta, encontrados);
+        return encontrados;
+    }
+
+    List<PilotoEscuderia> getContratosPilotoEnPeriodo(Piloto piloto, LocalDate desde, LocalDate hasta) {
+        List<PilotoEscuderia> encontrados = new ArrayList<>();
+        IndiceContratos intervalos = intervalosPorPiloto.get(piloto);
+        if (intervalos != null) {
+            intervalos.buscarSolapados(desde, hasta, encontrados);
+        }
+        return encontrados;
+    }
+
+    List<PilotoEscuderia> getContratosEscuderiaEnPeriodo(Escuderia escuderia, LocalDate desde, LocalDate hasta) {
+        List<PilotoEscuderia> encontrados = new ArrayList<>();
+        IndiceContratos intervalos = intervalosPorEscuderia.get(escuderia);
+        if (intervalos != null) {
+            intervalos.buscarSolapados(desde, hasta, encontrados);
+        }
+        return encontrados;
+    }
+
+    boolean tieneContratosEnPeriodo(Piloto piloto, LocalDate desde, LocalDate hasta) {
+        IndiceContratos intervalos = intervalosPorPiloto.get(piloto);
+        return intervalos != null && intervalos.haySolapados(desde, hasta);
+    }
+
+    List<PilotoEscuderia> getContratosPiloto(Piloto piloto) {
+        return contratosPorPiloto.getOrDefault(piloto, Collections.emptyList());
+    }
+
+    List<PilotoEscuderia> getContratosEscuderia(Escuderia escuderia) {
+        return contratosPorEscuderia.getOrDefault(escuderia, Collections.emptyList());
+    }
+
+    // ==================== TEMPORADAS ARCHIVADAS ====================
+
+    ArchivoTemporada buscarTemporadaArchivada(int año) {
+        for (ArchivoTemporada archivo : temporadasArchivadas) {
+            if (archivo.getAño() == año) {
+                return archivo;
+            }
+        }
+        return null;
+    }
+
+    void agregarTemporadaArchivada(ArchivoTemporada archivo) {
+        int posicion = 0;
+        while (posicion < temporadasArchivadas.size() && temporadasArchivadas.get(posicion).getAño() < archivo.getAño()) {
+            posicion++;
+        }
+        temporadasArchivadas.add(posicion, archivo);
+    }
+
+    List<ArchivoTemporada> getTemporadasArchivadas() {
+        return temporadasArchivadas;
+    }
+}
@@ -0,0 +1,130 @@
+package controlador;
+
+import java.util.Arrays;
+import modelo.GranPremio;
+
+/**
+ * Clasificación de una carrera para la carga masiva de resultados.
+ * <p>
+ * Los pilotos se identifican por su número de carrera. Cada entrada es una
+ * posición final o un abandono; los inscriptos que no aparecen conservan el
+ * resultado que ya tenían. Se usa con
+ * {@link GestorFormula1#establecerResultadosCarreras(java.util.List)} para
+ * finalizar una o varias carreras en una sola operación.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class ResultadoCarrera {
+    /** Número que indica que no se asignó la vuelta rápida */
+    public static final int SIN_VUELTA_RAPIDA = 0;
+
+    /** Carrera a la que pertenecen los resultados */
+    private final GranPremio granPremio;
+
+    /** Número de piloto de cada entrada */
+    private int[] numeros;
+
+    /** Posición final de cada entrada (0 en los abandonos) */
+    private int[] posiciones;
+
+    /** Motivo de abandono de cada entrada (null si terminó la carrera) */
+    private String[] motivosAbandono;
+
+    /** Cantidad de entradas cargadas */
+    private int cantidad;
+
+    /** Número del piloto con la vuelta rápida */
+    private int numeroVueltaRapida;
+
+    /**
+     * Crea una clasificación vacía.
+     *
+     * @param granPremio Carrera a la que pertenecen los resultados
+     */
+    public ResultadoCarrera(GranPremio granPremio) {
+        this.granPremio = granPremio;
+        this.numeros = new int[20];
+        this.posiciones = new int[20];
+        this.motivosAbandono = new String[20];
+        this.cantidad = 0;
+        this.numeroVueltaRapida = SIN_VUELTA_RAPIDA;
+    }
+
+    /**
+     * Agrega la posición final de un piloto.
+     *
+     * @param numero   Número de carrera del piloto
+     * @param posicion Posición final (1-based)
+     */
+    public void agregarPosicion(int numero, int posicion) {
+        agregar(numero, posicion, null);
+    }
+
+    /**
+     * Agrega el abandono de un piloto.
+     *
+     * @param numero Número de carrera del piloto
+     * @param motivo Motivo del abandono
+     */
+    public void agregarAbandono(int numero, String motivo) {
+        agregar(numero, 0, motivo != null ? motivo : "");
+    }
+
+    private void agregar(int numero, int posicion, String motivo) {
+        if (cantidad == numeros.length) {
+            int capacidad = cantidad * 2;
+            numeros = Arrays.copyOf(numeros, capacidad);
+            posiciones = Arrays.copyOf(posiciones, capacidad);
+            motivosAbandono = Arrays.copyOf(motivosAbandono, capacidad);
+        }
+        numeros[cantidad] = numero;
+        posiciones[cantidad] = posicion;
+        motivosAbandono[cantidad] = motivo;
+        cantidad++;
+    }
+
+    /**
+     * Asigna la vuelta rápida de la carrera.
+     *
+     * @param numero Número del piloto, o {@link #SIN_VUELTA_RAPIDA}
+     */
+    public void setVueltaRapida(int numero) {
+        this.numeroVueltaRapida = numero;
+    }
+
+    public GranPremio getGranPremio() {
+        return granPremio;
+    }
+
+    public int size() {
+        return cantidad;
+    }
+
+    public int getNumero(int entrada) {
+        return numeros[entrada];
+    }
+
+    public int getPosicion(int entrada) {
+        return posiciones[entrada];
+    }
+
+    public boolean isAbandono(int entrada) {
+        return motivosAbandono[entrada] != null;
+    }
+
+    public String getMotivoAbandono(int entrada) {
+        return motivosAbandono[entrada];
+    }
+
+    public int getNumeroVueltaRapida() {
+        return numeroVueltaRapida;
+    }
+
+    @Override
+    public String toString() {
+        return (granPremio != null ? granPremio.getNombre() : "Sin carrera") + " (" + cantidad + " resultados)";
+    }
+}
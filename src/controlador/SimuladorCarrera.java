@@ -0,0 +1,602 @@
+package controlador;
+
+import modelo.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Simulador de carreras vuelta a vuelta.
+ * <p>
+ * El tiempo de cada vuelta se obtiene de los datos del circuito, del auto y
+ * del piloto. La vuelta se divide en curvas y rectas: en las rectas, con
+ * potencia constante, la velocidad crece con la raíz cúbica de la relación
+ * potencia/masa; en las curvas la limita el agarre, que empeora con la masa y
+ * en los circuitos urbanos. La masa incluye el combustible, que se consume a
+ * lo largo de la carrera, y a esto se suman el desgaste de neumáticos, una
+ * parada en boxes, la posición de largada y la experiencia del piloto, que
+ * reduce su ritmo perdido y la dispersión de sus vueltas.
+ * </p>
+ * <p>
+ * En cada vuelta un participante puede abandonar por falla mecánica (más
+ * probable cuanto más se exige el motor) o por accidente (más probable en
+ * pilotos con poca experiencia y en circuitos urbanos). Los que terminan se
+ * ordenan por tiempo total y la vuelta rápida es la mejor vuelta entre ellos.
+ * </p>
+ * <p>
+ * Los datos de los participantes y los tiempos por vuelta se guardan en
+ * arreglos paralelos que se reservan al preparar la carrera: una vez
+ * preparada, {@link #simular()} no reserva memoria y puede repetirse para
+ * simular la misma carrera muchas veces. Una instancia no debe usarse desde
+ * varios hilos a la vez.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class SimuladorCarrera {
+
+    /** Distancia de carrera: se corren las vueltas necesarias para superarla (km) */
+    public static final double DISTANCIA_CARRERA = 305.0;
+
+    /** Masa y potencia del auto de referencia (kg, CV) */
+    private static final double MASA_REFERENCIA = 798.0;
+    private static final double POTENCIA_REFERENCIA = 1000.0;
+
+    /** Velocidades medias del auto de referencia en rectas y en curvas (km/h) */
+    private static final double VELOCIDAD_RECTA = 290.0;
+    private static final double VELOCIDAD_CURVA = 170.0;
+
+    /** Tramo de la vuelta que ocupa cada curva y máximo de la vuelta en curvas (km) */
+    private static final double LONGITUD_CURVA = 0.15;
+    private static final double FRACCION_MAXIMA_CURVAS = 0.7;
+
+    /** Agarre relativo en circuitos urbanos */
+    private static final double AGARRE_URBANO = 0.92;
+
+    /** Combustible al largar (kg); se consume por igual en cada vuelta */
+    private static final double COMBUSTIBLE_INICIAL = 105.0;
+
+    /** Tiempo perdido por vuelta de uso de los neumáticos (s) */
+    private static final double DESGASTE_NEUMATICOS = 0.05;
+
+    /** Tiempo perdido en la parada en boxes (s) */
+    private static final double PARADA_BOXES = 22.0;
+
+    /** Tiempo perdido en la largada por cada puesto de la parrilla (s) */
+    private static final double PERDIDA_POR_PUESTO = 0.3;
+
+    /** Ritmo que pierde un piloto sin experiencia (s por vuelta) */
+    private static final double PENALIZACION_NOVATO = 0.8;
+
+    /** Años de experiencia en los que la penalización se reduce a un 37% */
+    private static final double ESCALA_EXPERIENCIA = 5.0;
+
+    /** Dispersión de las vueltas de un piloto experimentado y extra de un novato (s) */
+    private static final double DISPERSION_VUELTA = 0.25;
+    private static final double DISPERSION_NOVATO = 0.35;
+
+    /** Dispersión del rendimiento de cada participante en el día (s por vuelta) */
+    private static final double DISPERSION_DIA = 0.15;
+
+    /** Probabilidades de abandono en una carrera completa del auto y piloto de referencia */
+    private static final double PROBABILIDAD_FALLA = 0.05;
+    private static final double PROBABILIDAD_ACCIDENTE = 0.02;
+
+    private static final String[] MOTIVOS_FALLA = {
+            "Falla de motor", "Falla de caja de cambios", "Falla hidráulica", "Falla eléctrica",
+            "Sobrecalentamiento", "Pinchazo" };
+    private static final String[] MOTIVOS_ACCIDENTE = { "Accidente", "Colisión" };
+
+    private final SplittableRandom aleatorio;
+
+    // Datos de la carrera
+    private int vueltas;
+    private double longitudRectas;
+    private double longitudCurvas;
+    private double agarre;
+    private boolean urbano;
+
+    // Datos de los participantes, por índice en la parrilla
+    private int cantidad;
+    private Piloto[] pilotos;
+    private Auto[] autos;
+    private double[] potencias;
+    private double[] masas;
+    private double[] penalizaciones;
+    private double[] dispersiones;
+    private double[] riesgosFalla;
+    private double[] riesgosAccidente;
+
+    /** Rendimiento del día de cada participante (s por vuelta) */
+    private double[] dia;
+
+    /** Vuelta en la que cada participante entra a boxes (-1 si no para) */
+    private int[] paradas;
+
+    // Resultado de la última simulación
+    private int[] tiemposVuelta;
+    private long[] tiemposTotales;
+    private int[] vueltasCompletadas;
+    private int[] mejoresVueltas;
+    private int[] posiciones;
+    private String[] motivosAbandono;
+    private int[] orden;
+    private int vueltaRapida;
+    private boolean simulada;
+
+    /**
+     * Crea un simulador con una semilla aleatoria.
+     */
+    public SimuladorCarrera() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Crea un simulador reproducible: con la misma semilla y la misma
+     * carrera, las simulaciones dan los mismos resultados.
+     *
+     * @param semilla Semilla de los números aleatorios
+     */
+    public SimuladorCarrera(long semilla) {
+        this(new SplittableRandom(semilla));
+    }
+
+    private SimuladorCarrera(SplittableRandom aleatorio) {
+        this.aleatorio = aleatorio;
+        reservar(20, 0);
+    }
+
+    /**
+     * Calcula la cantidad de vueltas de carrera en un circuito.
+     *
+     * @param circuito Circuito de la carrera
+     * @return Menor cantidad de vueltas que supera {@link #DISTANCIA_CARRERA}
+     */
+    public static int calcularVueltas(Circuito circuito) {
+        if (circuito == null || circuito.getLongitud() <= 0) {
+            throw new IllegalArgumentException("El circuito debe tener una longitud válida");
+        }
+        return (int) Math.floor(DISTANCIA_CARRERA / circuito.getLongitud()) + 1;
+    }
+
+    // ==================== PREPARACIÓN ====================
+
+    /**
+     * Prepara la simulación de un Gran Premio con sus participaciones, en el
+     * orden de inscripción como parrilla de largada.
+     *
+     * @param granPremio Gran Premio a simular
+     * @throws IllegalArgumentException si el Gran Premio, su circuito o algún
+     *                                  participante no son válidos
+     */
+    public void preparar(GranPremio granPremio) {
+        if (granPremio == null) {
+            throw new IllegalArgumentException("El Gran Premio no puede ser null");
+        }
+        List<Participacion> participaciones = granPremio.getParticipaciones();
+        preparar(granPremio.getCircuito(), calcularVueltas(granPremio.getCircuito()), participaciones.size());
+        for (Participacion participacion : participaciones) {
+            agregar(participacion.getPiloto(), participacion.getAuto());
+        }
+    }
+
+    /**
+     * Comienza a preparar una carrera sin participantes; se agregan luego con
+     * {@link #agregar(Piloto, Auto)} en el orden de la parrilla.
+     *
+     * @param circuito Circuito de la carrera
+     * @param vueltas  Cantidad de vueltas
+     * @param parrilla Cantidad prevista de participantes (para reservar
+     *                 memoria)
+     * @throws IllegalArgumentException si el circuito o las vueltas no son
+     *                                  válidos
+     */
+    public void preparar(Circuito circuito, int vueltas, int parrilla) {
+        if (circuito == null || circuito.getLongitud() <= 0) {
+            throw new IllegalArgumentException("El circuito debe tener una longitud válida");
+        }
+        if (vueltas < 1) {
+            throw new IllegalArgumentException("La carrera debe tener al menos una vuelta");
+        }
+        this.vueltas = vueltas;
+        double longitud = circuito.getLongitud();
+        this.longitudCurvas = Math.min(Math.max(0, circuito.getNumeroCurvas()) * LONGITUD_CURVA,
+                longitud * FRACCION_MAXIMA_CURVAS);
+        this.longitudRectas = longitud - longitudCurvas;
+        String tipo = circuito.getTipo() != null ? circuito.getTipo().toLowerCase() : "";
+        this.urbano = tipo.contains("urban") || tipo.contains("callej");
+        this.agarre = urbano ? AGARRE_URBANO : 1.0;
+        this.cantidad = 0;
+        this.simulada = false;
+        reservar(Math.max(parrilla, 1), vueltas);
+    }
+
+    /**
+     * Agrega un participante en el siguiente puesto de la parrilla.
+     *
+     * @param piloto Piloto
+     * @param auto   Auto que conduce
+     * @return Índice del participante
+     * @throws IllegalArgumentException si el piloto o el auto son null o el
+     *                                  auto no tiene masa y potencia positivas
+     * @throws IllegalStateException    si no se preparó una carrera
+     */
+    public int agregar(Piloto piloto, Auto auto) {
+        if (vueltas == 0) {
+            throw new IllegalStateException("Primero debe prepararse la carrera");
+        }
+        if (piloto == null || auto == null) {
+            throw new IllegalArgumentException("El piloto y el auto no pueden ser null");
+        }
+        if (auto.getPeso() <= 0 || auto.getPotencia() <= 0) {
+            throw new IllegalArgumentException("El auto " + auto.getModelo() + " debe tener peso y potencia positivos");
+        }
+        if (cantidad == pilotos.length) {
+            reservar(cantidad * 2, vueltas);
+        }
+
+        int indice = cantidad++;
+        pilotos[indice] = piloto;
+        autos[indice] = auto;
+        potencias[indice] = auto.getPotencia();
+        masas[indice] = auto.getPeso();
+
+        double novato = Math.exp(-Math.max(0, piloto.getExperiencia()) / ESCALA_EXPERIENCIA);
+        penalizaciones[indice] = PENALIZACION_NOVATO * novato;
+        dispersiones[indice] = DISPERSION_VUELTA + DISPERSION_NOVATO * novato;
+
+        // Probabilidad por vuelta que acumula la de toda la carrera
+        double exigencia = potencias[indice] / POTENCIA_REFERENCIA;
+        double falla = Math.min(0.9, PROBABILIDAD_FALLA * exigencia * exigencia);
+        double accidente = Math.min(0.9, PROBABILIDAD_ACCIDENTE * (urbano ? 2 : 1) * (1 + 2 * novato));
+        riesgosFalla[indice] = 1 - Math.pow(1 - falla, 1.0 / vueltas);
+        riesgosAccidente[indice] = 1 - Math.pow(1 - accidente, 1.0 / vueltas);
+        simulada = false;
+        return indice;
+    }
+
+    /**
+     * Asegura la capacidad de los arreglos de participantes y de tiempos.
+     */
+    private void reservar(int participantes, int vueltasCarrera) {
+        if (pilotos == null || pilotos.length < participantes) {
+            pilotos = pilotos != null ? Arrays.copyOf(pilotos, participantes) : new Piloto[participantes];
+            autos = autos != null ? Arrays.copyOf(autos, participantes) : new Auto[participantes];
+            potencias = copiar(potencias, participantes);
+            masas = copiar(masas, participantes);
+            penalizaciones = copiar(penalizaciones, participantes);
+            dispersiones = copiar(dispersiones, participantes);
+            riesgosFalla = copiar(riesgosFalla, participantes);
+            riesgosAccidente = copiar(riesgosAccidente, participantes);
+            tiemposTotales = new long[participantes];
+            vueltasCompletadas = new int[participantes];
+            mejoresVueltas = new int[participantes];
+            posiciones = new int[participantes];
+            motivosAbandono = new String[participantes];
+            orden = new int[participantes];
+            dia = new double[participantes];
+            paradas = new int[participantes];
+        }
+        int necesarios = pilotos.length * vueltasCarrera;
+        if (tiemposVuelta == null || tiemposVuelta.length < necesarios) {
+            tiemposVuelta = new int[necesarios];
+        }
+    }
+
+    private static double[] copiar(double[] arreglo, int capacidad) {
+        return arreglo != null ? Arrays.copyOf(arreglo, capacidad) : new double[capacidad];
+    }
+
+    // ==================== SIMULACIÓN ====================
+
+    /**
+     * Simula la carrera preparada vuelta a vuelta. Cada llamada es una
+     * carrera nueva y reemplaza el resultado anterior.
+     *
+     * @throws IllegalStateException si la carrera no tiene participantes
+     */
+    public void simular() {
+        if (cantidad == 0) {
+            throw new IllegalStateException("La carrera no tiene participantes");
+        }
+
+        double consumoPorVuelta = COMBUSTIBLE_INICIAL / vueltas;
+
+        for (int i = 0; i < cantidad; i++) {
+            // La largada y el rendimiento del día se cargan al total desde el inicio
+            tiemposTotales[i] = Math.round(i * PERDIDA_POR_PUESTO * 1000);
+            vueltasCompletadas[i] = 0;
+            mejoresVueltas[i] = Integer.MAX_VALUE;
+            motivosAbandono[i] = null;
+            sortearDia(i);
+        }
+
+        for (int vuelta = 0; vuelta < vueltas; vuelta++) {
+            double combustible = COMBUSTIBLE_INICIAL - consumoPorVuelta * vuelta;
+            for (int i = 0; i < cantidad; i++) {
+                int base = i * vueltas;
+                if (motivosAbandono[i] != null) {
+                    tiemposVuelta[base + vuelta] = 0;
+                    continue;
+                }
+
+                double sorteo = aleatorio.nextDouble();
+                if (sorteo < riesgosFalla[i]) {
+                    motivosAbandono[i] = MOTIVOS_FALLA[aleatorio.nextInt(MOTIVOS_FALLA.length)];
+                    tiemposVuelta[base + vuelta] = 0;
+                    continue;
+                }
+                if (sorteo < riesgosFalla[i] + riesgosAccidente[i]) {
+                    motivosAbandono[i] = MOTIVOS_ACCIDENTE[aleatorio.nextInt(MOTIVOS_ACCIDENTE.length)];
+                    tiemposVuelta[base + vuelta] = 0;
+                    continue;
+                }
+
+                double segundos = tiempoVuelta(i, masas[i] + combustible, desgaste(i, vuelta))
+                        + dia[i] + aleatorio.nextGaussian() * dispersiones[i];
+                if (vuelta == paradas[i]) {
+                    segundos += PARADA_BOXES;
+                }
+                int milisegundos = (int) Math.round(segundos * 1000);
+                tiemposVuelta[base + vuelta] = milisegundos;
+                tiemposTotales[i] += milisegundos;
+                vueltasCompletadas[i]++;
+                if (vuelta != paradas[i] && milisegundos < mejoresVueltas[i]) {
+                    mejoresVueltas[i] = milisegundos;
+                }
+            }
+        }
+
+        clasificar();
+        simulada = true;
+    }
+
+    /**
+     * Sortea el rendimiento del día y la vuelta de la parada de un
+     * participante.
+     */
+    private void sortearDia(int i) {
+        dia[i] = aleatorio.nextGaussian() * DISPERSION_DIA;
+        // Entre el 35% y el 65% de la carrera; en carreras muy cortas no hay parada
+        paradas[i] = vueltas >= 4 ? (int) (vueltas * (0.35 + 0.3 * aleatorio.nextDouble())) : -1;
+    }
+
+    /**
+     * Vueltas que llevan los neumáticos en una vuelta dada, reiniciadas en la
+     * parada, multiplicadas por el desgaste por vuelta.
+     */
+    private double desgaste(int i, int vuelta) {
+        int uso = paradas[i] >= 0 && vuelta > paradas[i] ? vuelta - paradas[i] - 1 : vuelta;
+        return uso * DESGASTE_NEUMATICOS;
+    }
+
+    /**
+     * Tiempo de vuelta sin dispersión de un participante (s).
+     *
+     * @param i        Participante
+     * @param masa     Masa del auto con el combustible de la vuelta (kg)
+     * @param desgaste Tiempo perdido por el desgaste de neumáticos (s)
+     */
+    private double tiempoVuelta(int i, double masa, double desgaste) {
+        // Recta con potencia constante: v³ proporcional a potencia · distancia / masa
+        double velocidadRecta = VELOCIDAD_RECTA
+                * Math.cbrt((potencias[i] / POTENCIA_REFERENCIA) * (MASA_REFERENCIA / masa));
+        // Curva: v² proporcional al agarre, que no crece tanto como la masa
+        double velocidadCurva = VELOCIDAD_CURVA * Math.sqrt(agarre * Math.sqrt(MASA_REFERENCIA / masa));
+        return (longitudRectas / velocidadRecta + longitudCurvas / velocidadCurva) * 3600
+                + penalizaciones[i] + desgaste;
+    }
+
+    /**
+     * Ordena a los participantes: primero los que terminaron, por tiempo
+     * total; luego los abandonos, por vueltas completadas. Asigna las
+     * posiciones y la vuelta rápida.
+     */
+    private void clasificar() {
+        for (int i = 0; i < cantidad; i++) {
+            orden[i] = i;
+        }
+        // Ordenamiento por inserción: las parrillas son pequeñas
+        for (int i = 1; i < cantidad; i++) {
+            int participante = orden[i];
+            int j = i - 1;
+            while (j >= 0 && antes(participante, orden[j])) {
+                orden[j + 1] = orden[j];
+                j--;
+            }
+            orden[j + 1] = participante;
+        }
+
+        vueltaRapida = -1;
+        int posicion = 0;
+        for (int k = 0; k < cantidad; k++) {
+            int i = orden[k];
+            if (motivosAbandono[i] != null) {
+                posiciones[i] = 0;
+                continue;
+            }
+            posiciones[i] = ++posicion;
+            if (vueltaRapida < 0 || mejoresVueltas[i] < mejoresVueltas[vueltaRapida]) {
+                vueltaRapida = i;
+            }
+        }
+    }
+
+    private boolean antes(int a, int b) {
+        if (vueltasCompletadas[a] != vueltasCompletadas[b]) {
+            return vueltasCompletadas[a] > vueltasCompletadas[b];
+        }
+        return tiemposTotales[a] < tiemposTotales[b];
+    }
+
+    // ==================== ESTIMACIONES ====================
+
+    /**
+     * Tiempo total esperado de un participante si termina la carrera, sin
+     * dispersión: la suma de sus vueltas con la parada a mitad de carrera.
+     *
+     * @param participante Índice del participante
+     * @return Tiempo en segundos
+     */
+    double estimarTiempoTotal(int participante) {
+        double consumoPorVuelta = COMBUSTIBLE_INICIAL / vueltas;
+        int parada = vueltas >= 4 ? vueltas / 2 : -1;
+        double total = participante * PERDIDA_POR_PUESTO;
+        for (int vuelta = 0; vuelta < vueltas; vuelta++) {
+            int uso = parada >= 0 && vuelta > parada ? vuelta - parada - 1 : vuelta;
+            total += tiempoVuelta(participante, masas[participante] + COMBUSTIBLE_INICIAL - consumoPorVuelta * vuelta,
+                    uso * DESGASTE_NEUMATICOS);
+        }
+        return parada >= 0 ? total + PARADA_BOXES : total;
+    }
+
+    /**
+     * Desvío estándar del tiempo total de un participante: el rendimiento
+     * del día pesa en todas las vueltas y la dispersión de cada vuelta se
+     * compensa en parte.
+     *
+     * @param participante Índice del participante
+     * @return Desvío en segundos
+     */
+    double estimarDispersionTotal(int participante) {
+        double dia = DISPERSION_DIA * vueltas;
+        double vueltasSueltas = dispersiones[participante] * Math.sqrt(vueltas);
+        return Math.sqrt(dia * dia + vueltasSueltas * vueltasSueltas);
+    }
+
+    /**
+     * Probabilidad de que un participante abandone en algún momento de la
+     * carrera.
+     *
+     * @param participante Índice del participante
+     * @return Probabilidad entre 0 y 1
+     */
+    double estimarProbabilidadAbandono(int participante) {
+        return 1 - Math.pow(1 - riesgosFalla[participante] - riesgosAccidente[participante], vueltas);
+    }
+
+    // ==================== RESULTADOS ====================
+
+    private void verificarSimulada() {
+        if (!simulada) {
+            throw new IllegalStateException("La carrera no se simuló");
+        }
+    }
+
+    public int getCantidad() {
+        return cantidad;
+    }
+
+    public int getVueltas() {
+        return vueltas;
+    }
+
+    public Piloto getPiloto(int participante) {
+        return pilotos[participante];
+    }
+
+    public Auto getAuto(int participante) {
+        return autos[participante];
+    }
+
+    /**
+     * Obtiene la posición final de un participante.
+     *
+     * @param participante Índice del participante
+     * @return Posición (1-based), o 0 si abandonó
+     */
+    public int getPosicion(int participante) {
+        verificarSimulada();
+        return posiciones[participante];
+    }
+
+    /**
+     * Obtiene el participante que terminó en una posición del orden de
+     * llegada (los abandonos van al final).
+     *
+     * @param indice Índice en el orden de llegada (0-based)
+     * @return Índice del participante
+     */
+    public int getParticipanteEnOrden(int indice) {
+        verificarSimulada();
+        return orden[indice];
+    }
+
+    public boolean isAbandono(int participante) {
+        verificarSimulada();
+        return motivosAbandono[participante] != null;
+    }
+
+    public String getMotivoAbandono(int participante) {
+        verificarSimulada();
+        return motivosAbandono[participante];
+    }
+
+    public int getVueltasCompletadas(int participante) {
+        verificarSimulada();
+        return vueltasCompletadas[participante];
+    }
+
+    /**
+     * Obtiene el tiempo de una vuelta de un participante.
+     *
+     * @param participante Índice del participante
+     * @param vuelta       Vuelta (0-based)
+     * @return Tiempo en milisegundos, o 0 si no completó la vuelta
+     */
+    public int getTiempoVuelta(int participante, int vuelta) {
+        verificarSimulada();
+        if (vuelta < 0 || vuelta >= vueltas) {
+            throw new IndexOutOfBoundsException("Vuelta fuera de rango: " + vuelta);
+        }
+        return tiemposVuelta[participante * vueltas + vuelta];
+    }
+
+    /**
+     * Obtiene los tiempos de las vueltas que completó un participante.
+     *
+     * @param participante Índice del participante
+     * @return Arreglo nuevo con un tiempo en milisegundos por vuelta completada
+     */
+    public int[] getTiemposVuelta(int participante) {
+        verificarSimulada();
+        int inicio = participante * vueltas;
+        return Arrays.copyOfRange(tiemposVuelta, inicio, inicio + vueltasCompletadas[participante]);
+    }
+
+    /**
+     * Obtiene el tiempo total de un participante, incluida la pérdida de la
+     * largada.
+     *
+     * @param participante Índice del participante
+     * @return Tiempo en milisegundos hasta la última vuelta completada
+     */
+    public long getTiempoTotal(int participante) {
+        verificarSimulada();
+        return tiemposTotales[participante];
+    }
+
+    /**
+     * Obtiene la mejor vuelta de un participante (sin contar la de la
+     * parada).
+     *
+     * @param participante Índice del participante
+     * @return Tiempo en milisegundos, o 0 si no completó ninguna vuelta
+     */
+    public int getMejorVuelta(int participante) {
+        verificarSimulada();
+        return mejoresVueltas[participante] == Integer.MAX_VALUE ? 0 : mejoresVueltas[participante];
+    }
+
+    /**
+     * Obtiene el participante con la vuelta rápida de la carrera.
+     *
+     * @return Índice del participante, o -1 si nadie terminó la carrera
+     */
+    public int getVueltaRapida() {
+        verificarSimulada();
+        return vueltaRapida;
+    }
+}
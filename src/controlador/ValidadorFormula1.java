@@ -1,9 +1,14 @@
 package controlador;
 
 import modelo.*;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Clase utilitaria para validar la consistencia de datos en el sistema de
@@ -19,6 +24,9 @@ import java.util.stream.Collectors;
  */
 public class ValidadorFormula1 {
 
+    /** Modificadores de puntos de las participaciones */
+    private static final EdicionModelo EDICION = GestorFormula1.EDICION;
+
     /**
      * Constructor privado para evitar instanciación
      */
@@ -35,12 +43,7 @@ public class ValidadorFormula1 {
      * @return true si el auto está disponible, false si ya está asignado
      */
     public static boolean validarAutoDisponibleEnCarrera(Auto auto, GranPremio granPremio, GestorFormula1 gestor) {
-        if (granPremio.getParticipaciones() == null) {
-            return true;
-        }
-
-        return granPremio.getParticipaciones().stream()
-                .noneMatch(participacion -> participacion.getAuto().equals(auto));
+        return !granPremio.getTablaResultados().contieneAuto(auto);
     }
 
     /**
@@ -52,12 +55,7 @@ public class ValidadorFormula1 {
      * @return true si el piloto no tiene auto asignado, false si ya tiene uno
      */
     public static boolean validarPilotoSinAutoEnCarrera(Piloto piloto, GranPremio granPremio, GestorFormula1 gestor) {
-        if (granPremio.getParticipaciones() == null) {
-            return true;
-        }
-
-        return granPremio.getParticipaciones().stream()
-                .noneMatch(participacion -> participacion.getPiloto().equals(piloto));
+        return granPremio.getTablaResultados().buscarPiloto(piloto) < 0;
     }
 
     /**
@@ -79,16 +77,35 @@ public class ValidadorFormula1 {
             return true;
         }
 
-        // Verificar si hay carreras pendientes con la escudería actual
-        List<GranPremio> carrerasPendientes = gestor.getGrandesPremios().stream()
-                .filter(gp -> gp.getFechaHora().isAfter(LocalDateTime.now()))
-                .filter(gp -> gp.getParticipaciones() != null)
-                .filter(gp -> gp.getParticipaciones().stream()
-                        .anyMatch(p -> p.getPiloto().equals(piloto)))
-                .collect(Collectors.toList());
+        // Si hay carreras pendientes con la escudería actual, no puede cambiar de escudería
+        return gestor.getCarrerasPendientesPiloto(piloto).isEmpty();
+    }
 
-        // Si hay carreras pendientes, no puede cambiar de escudería
-        return carrerasPendientes.isEmpty();
+    /**
+     * Valida que un nuevo contrato no se superponga con otro contrato del
+     * piloto.
+     * <p>
+     * No se cuenta el contrato indefinido, que
+     * {@link GestorFormula1#asignarPilotoAEscuderia} cierra en la fecha de
+     * inicio del nuevo, ni los contratos que terminan justo ese día (el
+     * traspaso). La búsqueda usa el árbol de intervalos del piloto.
+     * </p>
+     *
+     * @param piloto Piloto del contrato
+     * @param desde  Fecha de inicio del nuevo contrato
+     * @param hasta  Fecha de fin del nuevo contrato (null si es indefinido)
+     * @param gestor Gestor principal del sistema
+     * @return true si no hay superposición, false si el piloto ya tiene otro
+     *         contrato en ese período
+     */
+    public static boolean validarContratoSinSolapamiento(Piloto piloto, LocalDate desde, LocalDate hasta,
+            GestorFormula1 gestor) {
+        for (PilotoEscuderia contrato : gestor.getContratosSolapados(piloto, desde, hasta)) {
+            if (!contrato.estaActiva() && !contrato.getHasta().equals(desde)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -110,31 +127,25 @@ public class ValidadorFormula1 {
      *         inconsistencias
      */
     public static boolean validarPosicionesUnicas(GranPremio granPremio) {
-        if (granPremio.getParticipaciones() == null || granPremio.getParticipaciones().isEmpty()) {
-            return true;
-        }
-
-        List<Integer> posiciones = granPremio.getParticipaciones().stream()
-                .filter(p -> !p.isAbandono()) // Solo pilotos que terminaron
-                .map(Participacion::getPosicionFinal)
-                .filter(pos -> pos > 0) // Solo posiciones válidas
-                .sorted()
-                .collect(Collectors.toList());
-
-        // Verificar que no hay duplicados
-        long posicionesUnicas = posiciones.stream().distinct().count();
-        if (posicionesUnicas != posiciones.size()) {
-            return false;
-        }
-
-        // Verificar que son consecutivas empezando desde 1
-        for (int i = 0; i < posiciones.size(); i++) {
-            if (posiciones.get(i) != i + 1) {
+        // Recorre la columna de posiciones: sin duplicados y todas dentro de
+        // 1..n implica que son exactamente 1..n
+        TablaResultados resultados = granPremio.getTablaResultados();
+        boolean[] ocupadas = new boolean[resultados.size() + 1];
+        int clasificados = 0;
+        int maxima = 0;
+        for (int fila = 0; fila < resultados.size(); fila++) {
+            int posicion = resultados.getPosicion(fila);
+            if (resultados.isAbandono(fila) || posicion <= 0) {
+                continue; // Solo pilotos que terminaron con posición válida
+            }
+            if (posicion >= ocupadas.length || ocupadas[posicion]) {
                 return false;
             }
+            ocupadas[posicion] = true;
+            clasificados++;
+            maxima = Math.max(maxima, posicion);
         }
-
-        return true;
+        return maxima == clasificados;
     }
 
     /**
@@ -145,10 +156,7 @@ public class ValidadorFormula1 {
      * @return Escudería propietaria del auto, null si no se encuentra
      */
     private static Escuderia obtenerEscuderiaDelAuto(Auto auto, GestorFormula1 gestor) {
-        return gestor.getEscuderias().stream()
-                .filter(escuderia -> escuderia.getAutos().contains(auto))
-                .findFirst()
-                .orElse(null);
+        return gestor.getEscuderiaDelAuto(auto);
     }
 
     /**
@@ -180,18 +188,9 @@ public class ValidadorFormula1 {
      */
     public static boolean validarLimiteAutosPorEscuderia(Escuderia escuderia, GranPremio granPremio,
             GestorFormula1 gestor) {
-        if (granPremio.getParticipaciones() == null) {
-            return true;
-        }
-
-        long autosEscuderia = granPremio.getParticipaciones().stream()
-                .filter(p -> {
-                    Escuderia escuderiaAuto = obtenerEscuderiaDelAuto(p.getAuto(), gestor);
-                    return escuderiaAuto != null && escuderiaAuto.equals(escuderia);
-                })
-                .count();
-
-        return autosEscuderia < 2;
+        // Cada inscripción exige que piloto y auto sean de la misma escudería,
+        // así que la escudería de cada fila es la propietaria de su auto
+        return granPremio.getTablaResultados().getCantidadFilasEscuderia(escuderia) < 2;
     }
 
     /**
@@ -202,7 +201,7 @@ public class ValidadorFormula1 {
      */
     public static boolean actualizarPuntosParticipacion(Participacion participacion) {
         if (participacion.isAbandono()) {
-            participacion.setPuntosObtenidos(0);
+            EDICION.setPuntosObtenidos(participacion, 0);
             return true;
         }
 
@@ -214,10 +213,31 @@ public class ValidadorFormula1 {
             puntosCorrectos += 1;
         }
 
-        participacion.setPuntosObtenidos(puntosCorrectos);
+        EDICION.setPuntosObtenidos(participacion, puntosCorrectos);
         return true;
     }
 
+    /**
+     * Calcula los puntos de una fila de resultados con las mismas reglas que
+     * {@link #actualizarPuntosParticipacion(Participacion)}, sin crear la
+     * vista de la participación.
+     *
+     * @param resultados Tabla de resultados de la carrera
+     * @param fila       Fila a actualizar
+     */
+    static void actualizarPuntosFila(TablaResultados resultados, int fila) {
+        if (resultados.isAbandono(fila)) {
+            EDICION.setPuntos(resultados, fila, 0);
+            return;
+        }
+        int posicion = resultados.getPosicion(fila);
+        int puntos = SistemaPuntuacion.getPuntosPorPosicion(posicion);
+        if (resultados.isVueltaRapida(fila) && posicion <= 10 && posicion > 0) {
+            puntos += 1;
+        }
+        EDICION.setPuntos(resultados, fila, puntos);
+    }
+
     /**
      * Valida todas las reglas para una nueva participación
      * 
@@ -256,4 +276,218 @@ public class ValidadorFormula1 {
         // Si llegamos aquí, todo es válido
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Valida una parrilla completa de un Gran Premio en una sola pasada.
+     * <p>
+     * Aplica las mismas reglas que {@link #validarNuevaParticipacion} a cada
+     * inscripción, teniendo en cuenta tanto a los inscritos previos como a las
+     * inscripciones anteriores de la misma parrilla: pilotos y autos únicos
+     * (con conjuntos hash), escudería del piloto igual a la del auto y como
+     * máximo 2 autos por escudería. El coste es O(inscritos + parrilla).
+     * </p>
+     *
+     * @param granPremio Gran Premio donde se inscribe la parrilla
+     * @param parrilla   Inscripciones a validar, en orden
+     * @param gestor     Gestor principal del sistema
+     * @return Un mensaje por cada inscripción inválida, que indica el Gran
+     *         Premio, la posición en la parrilla y el motivo (vacía si la
+     *         parrilla es válida)
+     */
+    public static List<String> validarParrilla(GranPremio granPremio, List<Inscripcion> parrilla,
+            GestorFormula1 gestor) {
+        List<String> errores = new ArrayList<>();
+        if (granPremio == null) {
+            errores.add("Gran Premio null: no se puede inscribir la parrilla");
+            return errores;
+        }
+        String carrera = granPremio.getNombre() + " (" + granPremio.getFechaHora().toLocalDate() + ")";
+        if (gestor.buscarGranPremio(granPremio.getNombre(), granPremio.getFechaHora()) != granPremio) {
+            errores.add(carrera + ": el Gran Premio no está registrado");
+            return errores;
+        }
+        if (granPremio.isFinalizada()) {
+            errores.add(carrera + ": la carrera ya está finalizada");
+            return errores;
+        }
+        if (parrilla == null) {
+            errores.add(carrera + ": la parrilla no puede ser null");
+            return errores;
+        }
+
+        TablaResultados resultados = granPremio.getTablaResultados();
+        Set<Piloto> pilotos = new HashSet<>();
+        Set<Auto> autos = new HashSet<>();
+        for (int fila = 0; fila < resultados.size(); fila++) {
+            pilotos.add(resultados.getPiloto(fila));
+            autos.add(resultados.getAuto(fila));
+        }
+        Map<Escuderia, Integer> autosPorEscuderia = new HashMap<>();
+
+        for (int i = 0; i < parrilla.size(); i++) {
+            Inscripcion inscripcion = parrilla.get(i);
+            String error = validarInscripcion(inscripcion, resultados, pilotos, autos, autosPorEscuderia, gestor);
+            if (error != null) {
+                errores.add(carrera + ", inscripción " + (i + 1)
+                        + (inscripcion != null ? " (" + inscripcion + ")" : "") + ": " + error);
+            }
+        }
+        return errores;
+    }
+
+    /**
+     * Valida una inscripción de una parrilla y, si es válida, la suma a los
+     * conjuntos y contadores de la parrilla.
+     */
+    private static String validarInscripcion(Inscripcion inscripcion, TablaResultados resultados,
+            Set<Piloto> pilotos, Set<Auto> autos, Map<Escuderia, Integer> autosPorEscuderia,
+            GestorFormula1 gestor) {
+        if (inscripcion == null || inscripcion.getPiloto() == null || inscripcion.getAuto() == null) {
+            return "La inscripción debe tener piloto y auto";
+        }
+        Piloto piloto = inscripcion.getPiloto();
+        Auto auto = inscripcion.getAuto();
+        if (autos.contains(auto)) {
+            return "El auto ya está asignado a otro piloto en esta carrera";
+        }
+        if (pilotos.contains(piloto)) {
+            return "El piloto ya tiene un auto asignado en esta carrera";
+        }
+        Escuderia escuderiaAuto = obtenerEscuderiaDelAuto(auto, gestor);
+        if (piloto.getEscuderia() == null || escuderiaAuto == null || !piloto.getEscuderia().equals(escuderiaAuto)) {
+            return "El piloto y el auto deben pertenecer a la misma escudería";
+        }
+        int autosEscuderia = autosPorEscuderia.computeIfAbsent(escuderiaAuto,
+                resultados::getCantidadFilasEscuderia);
+        if (autosEscuderia >= 2) {
+            return "La escudería ya tiene 2 autos registrados en esta carrera";
+        }
+
+        pilotos.add(piloto);
+        autos.add(auto);
+        autosPorEscuderia.put(escuderiaAuto, autosEscuderia + 1);
+        return null;
+    }
+
+    /**
+     * Valida la clasificación de una carrera antes de finalizarla.
+     * <p>
+     * Cada número debe corresponder a un piloto inscrito que aparezca una sola
+     * vez, y las posiciones resultantes (las nuevas más las que ya tenían los
+     * inscriptos no incluidos) deben cumplir lo mismo que
+     * {@link #validarPosicionesUnicas(GranPremio)}: sin duplicados ni huecos.
+     * Los pilotos se resuelven por el índice de números y las posiciones se
+     * comprueban con un arreglo de ocupación, con un coste O(inscritos +
+     * resultados).
+     * </p>
+     *
+     * @param resultado Clasificación a validar
+     * @param gestor    Gestor principal del sistema
+     * @return Un mensaje por cada error, que indica el Gran Premio y el piloto
+     *         afectado (vacía si la clasificación es válida)
+     */
+    public static List<String> validarResultadosCarrera(ResultadoCarrera resultado, GestorFormula1 gestor) {
+        List<String> errores = new ArrayList<>();
+        GranPremio granPremio = resultado != null ? resultado.getGranPremio() : null;
+        if (granPremio == null) {
+            errores.add("Gran Premio null: no se pueden establecer los resultados");
+            return errores;
+        }
+        String carrera = granPremio.getNombre() + " (" + granPremio.getFechaHora().toLocalDate() + ")";
+        if (gestor.buscarGranPremio(granPremio.getNombre(), granPremio.getFechaHora()) != granPremio) {
+            errores.add(carrera + ": el Gran Premio no está registrado");
+            return errores;
+        }
+        if (granPremio.isFinalizada()) {
+            errores.add(carrera + ": la carrera ya está finalizada");
+            return errores;
+        }
+
+        TablaResultados resultados = granPremio.getTablaResultados();
+        int[] filas = resolverFilas(resultado, gestor);
+        int[] posicionesFinales = new int[resultados.size()];
+        for (int fila = 0; fila < resultados.size(); fila++) {
+            posicionesFinales[fila] = resultados.isAbandono(fila) ? 0 : resultados.getPosicion(fila);
+        }
+        boolean[] incluidas = new boolean[resultados.size()];
+        for (int entrada = 0; entrada < resultado.size(); entrada++) {
+            int numero = resultado.getNumero(entrada);
+            int fila = filas[entrada];
+            String error = null;
+            if (gestor.buscarPilotoPorNumero(numero) == null) {
+                error = "no hay ningún piloto con ese número";
+            } else if (fila < 0) {
+                error = "el piloto no está inscrito en esta carrera";
+            } else if (incluidas[fila]) {
+                error = "el piloto aparece más de una vez en la clasificación";
+            } else if (!resultado.isAbandono(entrada) && resultado.getPosicion(entrada) < 1) {
+                error = "la posición debe ser mayor a 0";
+            }
+            if (error != null) {
+                errores.add(carrera + ", piloto #" + numero + ": " + error);
+                continue;
+            }
+            incluidas[fila] = true;
+            posicionesFinales[fila] = resultado.isAbandono(entrada) ? 0 : resultado.getPosicion(entrada);
+        }
+
+        int numeroVueltaRapida = resultado.getNumeroVueltaRapida();
+        if (numeroVueltaRapida != ResultadoCarrera.SIN_VUELTA_RAPIDA) {
+            Piloto pilotoVueltaRapida = gestor.buscarPilotoPorNumero(numeroVueltaRapida);
+            if (pilotoVueltaRapida == null || resultados.buscarPiloto(pilotoVueltaRapida) < 0) {
+                errores.add(carrera + ", piloto #" + numeroVueltaRapida
+                        + ": el piloto de la vuelta rápida no está en la carrera");
+            }
+        }
+
+        // Mismo criterio que validarPosicionesUnicas sobre las posiciones finales
+        boolean[] ocupadas = new boolean[resultados.size() + 1];
+        int clasificados = 0;
+        int maxima = 0;
+        for (int fila = 0; fila < posicionesFinales.length; fila++) {
+            int posicion = posicionesFinales[fila];
+            if (posicion <= 0) {
+                continue;
+            }
+            if (posicion >= ocupadas.length) {
+                errores.add(carrera + ": la posición " + posicion + " supera la cantidad de inscriptos ("
+                        + resultados.size() + ")");
+            } else if (ocupadas[posicion]) {
+                errores.add(carrera + ": la posición " + posicion + " está repetida");
+            } else {
+                ocupadas[posicion] = true;
+                clasificados++;
+                maxima = Math.max(maxima, posicion);
+            }
+        }
+        if (maxima != clasificados) {
+            errores.add(carrera + ": las posiciones tienen huecos (" + clasificados
+                    + " clasificados, última posición " + maxima + ")");
+        }
+        return errores;
+    }
+
+    /**
+     * Obtiene la fila de la tabla de resultados de cada entrada de una
+     * clasificación.
+     *
+     * @param resultado Clasificación de la carrera
+     * @param gestor    Gestor principal del sistema
+     * @return Fila de cada entrada, o -1 si el número no corresponde a un
+     *         piloto inscrito
+     */
+    static int[] resolverFilas(ResultadoCarrera resultado, GestorFormula1 gestor) {
+        TablaResultados resultados = resultado.getGranPremio().getTablaResultados();
+        Map<Piloto, Integer> filasPorPiloto = new IdentityHashMap<>();
+        for (int fila = 0; fila < resultados.size(); fila++) {
+            filasPorPiloto.put(resultados.getPiloto(fila), fila);
+        }
+        int[] filas = new int[resultado.size()];
+        for (int entrada = 0; entrada < resultado.size(); entrada++) {
+            Piloto piloto = gestor.buscarPilotoPorNumero(resultado.getNumero(entrada));
+            Integer fila = piloto != null ? filasPorPiloto.get(piloto) : null;
+            filas[entrada] = fila != null ? fila : -1;
+        }
+        return filas;
+    }
+}
@@ -2,6 +2,11 @@ package modelo;
 
 /**
  * Clase que representa un circuito de Fórmula 1
+ * <p>
+ * El nombre y el país identifican al circuito en el diario de operaciones y
+ * en las temporadas archivadas, por lo que sus datos se modifican a través
+ * del gestor ({@link EdicionModelo} fuera del paquete).
+ * </p>
  */
 public class Circuito {
     private String nombre;
@@ -32,7 +37,7 @@ public class Circuito {
         return nombre;
     }
 
-    public void setNombre(String nombre) {
+    void setNombre(String nombre) {
         this.nombre = nombre;
     }
 
@@ -40,7 +45,7 @@ public class Circuito {
         return pais;
     }
 
-    public void setPais(Pais pais) {
+    void setPais(Pais pais) {
         this.pais = pais;
     }
 
@@ -48,7 +53,7 @@ public class Circuito {
         return longitud;
     }
 
-    public void setLongitud(double longitud) {
+    void setLongitud(double longitud) {
         this.longitud = longitud;
     }
 
@@ -56,7 +61,7 @@ public class Circuito {
         return numeroCurvas;
     }
 
-    public void setNumeroCurvas(int numeroCurvas) {
+    void setNumeroCurvas(int numeroCurvas) {
         this.numeroCurvas = numeroCurvas;
     }
 
@@ -64,7 +69,7 @@ public class Circuito {
         return tipo;
     }
 
-    public void setTipo(String tipo) {
+    void setTipo(String tipo) {
         this.tipo = tipo;
     }
 
@@ -0,0 +1,172 @@
+package modelo;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Acceso a las modificaciones del modelo que deben pasar por el gestor.
+ * <p>
+ * Los resultados de las carreras alimentan la clasificación incremental y el
+ * diario de operaciones, y los nombres de escuderías y circuitos y los
+ * planteles son claves de los índices del gestor, por lo que sus
+ * modificadores no son públicos: sólo se pueden invocar dentro del paquete o
+ * a través de esta clase. El gestor del sistema reclama la única instancia
+ * al inicializarse y la comparte con el resto del controlador (repositorio,
+ * persistencia, generador de datos, validador), de modo que las vistas
+ * modifican esos datos únicamente con los métodos del gestor.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public final class EdicionModelo {
+
+    private static final AtomicBoolean RECLAMADA = new AtomicBoolean();
+
+    private EdicionModelo() {
+    }
+
+    /**
+     * Entrega la única instancia del acceso de edición.
+     *
+     * @return Acceso de edición del modelo
+     * @throws IllegalStateException si ya fue reclamada
+     */
+    public static EdicionModelo reclamar() {
+        if (!RECLAMADA.compareAndSet(false, true)) {
+            throw new IllegalStateException("El acceso de edición del modelo ya fue reclamado");
+        }
+        return new EdicionModelo();
+    }
+
+    // ==================== ESCUDERÍAS ====================
+
+    public void setNombre(Escuderia escuderia, String nombre) {
+        escuderia.setNombre(nombre);
+    }
+
+    public void setPais(Escuderia escuderia, Pais pais) {
+        escuderia.setPais(pais);
+    }
+
+    public void agregarPiloto(Escuderia escuderia, Piloto piloto) {
+        escuderia.agregarPiloto(piloto);
+    }
+
+    public void removerPiloto(Escuderia escuderia, Piloto piloto) {
+        escuderia.removerPiloto(piloto);
+    }
+
+    public void agregarMecanico(Escuderia escuderia, Mecanico mecanico) {
+        escuderia.agregarMecanico(mecanico);
+    }
+
+    public void removerMecanico(Escuderia escuderia, Mecanico mecanico) {
+        escuderia.removerMecanico(mecanico);
+    }
+
+    // ==================== CIRCUITOS ====================
+
+    public void setNombre(Circuito circuito, String nombre) {
+        circuito.setNombre(nombre);
+    }
+
+    public void setPais(Circuito circuito, Pais pais) {
+        circuito.setPais(pais);
+    }
+
+    public void setLongitud(Circuito circuito, double longitud) {
+        circuito.setLongitud(longitud);
+    }
+
+    public void setNumeroCurvas(Circuito circuito, int numeroCurvas) {
+        circuito.setNumeroCurvas(numeroCurvas);
+    }
+
+    public void setTipo(Circuito circuito, String tipo) {
+        circuito.setTipo(tipo);
+    }
+
+    // ==================== MECÁNICOS ====================
+
+    public void agregarEspecialidad(Mecanico mecanico, Especialidad especialidad) {
+        mecanico.agregarEspecialidad(especialidad);
+    }
+
+    public void removerEspecialidad(Mecanico mecanico, Especialidad especialidad) {
+        mecanico.removerEspecialidad(especialidad);
+    }
+
+    // ==================== PARTICIPACIONES ====================
+
+    public void setAuto(Participacion participacion, Auto auto) {
+        participacion.setAuto(auto);
+    }
+
+    public void setPosicionFinal(Participacion participacion, int posicion) {
+        participacion.setPosicionFinal(posicion);
+    }
+
+    public void marcarAbandono(Participacion participacion, String motivo) {
+        participacion.marcarAbandono(motivo);
+    }
+
+    public void setVueltaRapida(Participacion participacion, boolean vueltaRapida) {
+        participacion.setVueltaRapida(vueltaRapida);
+    }
+
+    public void setMejorVuelta(Participacion participacion, Duration mejorVuelta) {
+        participacion.setMejorVuelta(mejorVuelta);
+    }
+
+    public void setTiemposVuelta(Participacion participacion, int[] milisegundos) {
+        participacion.setTiemposVuelta(milisegundos);
+    }
+
+    public void setPuntosObtenidos(Participacion participacion, int puntos) {
+        participacion.setPuntosObtenidos(puntos);
+    }
+
+    // ==================== TABLAS DE RESULTADOS ====================
+
+    public int agregarFila(TablaResultados tabla, Piloto piloto, Auto auto, Escuderia escuderia) {
+        return tabla.agregarFila(piloto, auto, escuderia);
+    }
+
+    public void setPosicion(TablaResultados tabla, int fila, int posicion) {
+        tabla.setPosicion(fila, posicion);
+    }
+
+    public void marcarAbandono(TablaResultados tabla, int fila, String motivo) {
+        tabla.marcarAbandono(fila, motivo);
+    }
+
+    public void setMotivoAbandono(TablaResultados tabla, int fila, String motivo) {
+        tabla.setMotivoAbandono(fila, motivo);
+    }
+
+    public void setPuntos(TablaResultados tabla, int fila, int puntos) {
+        tabla.setPuntos(fila, puntos);
+    }
+
+    public void setVueltaRapida(TablaResultados tabla, int fila, boolean vueltaRapida) {
+        tabla.setVueltaRapida(fila, vueltaRapida);
+    }
+
+    public void setMejorVueltaNanos(TablaResultados tabla, int fila, long nanos) {
+        tabla.setMejorVueltaNanos(fila, nanos);
+    }
+
+    public void setTiemposVuelta(TablaResultados tabla, int fila, int[] milisegundos) {
+        tabla.setTiemposVuelta(fila, milisegundos);
+    }
+
+    public void setVueltaRapidaManual(TablaResultados tabla, boolean vueltaRapidaManual) {
+        tabla.setVueltaRapidaManual(vueltaRapidaManual);
+    }
+
+    public int determinarVueltaRapida(TablaResultados tabla) {
+        return tabla.determinarVueltaRapida();
+    }
+}
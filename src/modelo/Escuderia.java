@@ -5,6 +5,13 @@ import java.util.List;
 
 /**
  * Clase que representa una escudería de Fórmula 1
+ * <p>
+ * El nombre identifica a la escudería en los índices del gestor, el diario
+ * de operaciones y las temporadas archivadas, y el plantel de pilotos y
+ * mecánicos también está indexado; por eso el nombre, el país y el plantel
+ * se modifican a través del gestor ({@link EdicionModelo} fuera del
+ * paquete).
+ * </p>
  */
 public class Escuderia {
     private String nombre;
@@ -32,7 +39,7 @@ public class Escuderia {
      * 
      * @param piloto Piloto a agregar
      */
-    public void agregarPiloto(Piloto piloto) {
+    void agregarPiloto(Piloto piloto) {
         if (!pilotos.contains(piloto)) {
             pilotos.add(piloto);
             piloto.setEscuderia(this);
@@ -44,7 +51,7 @@ public class Escuderia {
      * 
      * @param piloto Piloto a remover
      */
-    public void removerPiloto(Piloto piloto) {
+    void removerPiloto(Piloto piloto) {
         if (pilotos.remove(piloto)) {
             piloto.setEscuderia(null);
         }
@@ -55,7 +62,7 @@ public class Escuderia {
      * 
      * @param mecanico Mecánico a agregar
      */
-    public void agregarMecanico(Mecanico mecanico) {
+    void agregarMecanico(Mecanico mecanico) {
         if (!mecanicos.contains(mecanico)) {
             mecanicos.add(mecanico);
         }
@@ -66,7 +73,7 @@ public class Escuderia {
      * 
      * @param mecanico Mecánico a remover
      */
-    public void removerMecanico(Mecanico mecanico) {
+    void removerMecanico(Mecanico mecanico) {
         mecanicos.remove(mecanico);
     }
 
@@ -95,7 +102,7 @@ public class Escuderia {
         return nombre;
     }
 
-    public void setNombre(String nombre) {
+    void setNombre(String nombre) {
         this.nombre = nombre;
     }
 
@@ -103,7 +110,7 @@ public class Escuderia {
         return pais;
     }
 
-    public void setPais(Pais pais) {
+    void setPais(Pais pais) {
         this.pais = pais;
     }
 
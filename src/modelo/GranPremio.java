@@ -1,7 +1,6 @@
 package modelo;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,7 +10,7 @@ public class GranPremio {
     private String nombre;
     private LocalDateTime fechaHora;
     private Circuito circuito;
-    private List<Participacion> participaciones;
+    private TablaResultados resultados;
     private boolean finalizada;
 
     /**
@@ -25,7 +24,7 @@ public class GranPremio {
         this.nombre = nombre;
         this.fechaHora = fechaHora;
         this.circuito = circuito;
-        this.participaciones = new ArrayList<>();
+        this.resultados = new TablaResultados(this);
         this.finalizada = false;
     }
 
@@ -38,39 +37,52 @@ public class GranPremio {
      */
     public void agregarParticipacion(Participacion participacion) {
         // Verificar que el piloto no esté ya inscrito
-        for (Participacion p : participaciones) {
-            if (p.getPiloto().equals(participacion.getPiloto())) {
-                throw new IllegalArgumentException("El piloto ya está inscrito en este Gran Premio");
-            }
+        if (resultados.buscarPiloto(participacion.getPiloto()) >= 0) {
+            throw new IllegalArgumentException("El piloto ya está inscrito en este Gran Premio");
         }
-        participaciones.add(participacion);
+        resultados.incorporar(participacion);
     }
 
     /**
-     * Finaliza el Gran Premio y asigna los puntos según las posiciones
+     * Inscribe un piloto con un auto, creando la participación directamente
+     * en la tabla de resultados del Gran Premio.
+     *
+     * @param piloto Piloto a inscribir
+     * @param auto   Auto asignado
+     * @return Participación creada
+     * @throws IllegalArgumentException si el piloto ya está inscrito
      */
-    public void finalizar() {
-        if (finalizada) {
-            throw new IllegalStateException("El Gran Premio ya está finalizado");
+    public Participacion agregarParticipacion(Piloto piloto, Auto auto) {
+        if (resultados.buscarPiloto(piloto) >= 0) {
+            throw new IllegalArgumentException("El piloto ya está inscrito en este Gran Premio");
         }
+        return resultados.agregar(piloto, auto);
+    }
 
-        for (Participacion participacion : participaciones) {
-            int posicion = participacion.getPosicionFinal();
-            if (posicion > 0) {
-                // Usar el sistema de puntuación oficial
-                int puntosObtenidos = SistemaPuntuacion.getPuntosPorPosicion(posicion);
-
-                // Punto adicional por vuelta rápida si termina en top 10
-                if (participacion.isVueltaRapida() && posicion <= 10) {
-                    puntosObtenidos += 1;
-                }
-
-                participacion.setPuntosObtenidos(puntosObtenidos);
-                participacion.getPiloto().sumarPuntos(puntosObtenidos);
-            }
+    /**
+     * Remueve una participación del Gran Premio
+     * <p>
+     * Si la participación es una vista de esta tabla se usa su fila; si no,
+     * se busca al piloto en la columna de pilotos, sin crear las vistas de
+     * las demás filas.
+     * </p>
+     *
+     * @param participacion Participación a remover
+     * @return true si la participación estaba inscrita, false en caso contrario
+     */
+    public boolean removerParticipacion(Participacion participacion) {
+        if (participacion == null) {
+            return false;
         }
-
-        this.finalizada = true;
+        int fila = resultados.indiceDe(participacion);
+        if (fila < 0 && equals(participacion.getGranPremio()) && participacion.getPiloto() != null) {
+            fila = resultados.buscarPiloto(participacion.getPiloto());
+        }
+        if (fila < 0) {
+            return false;
+        }
+        resultados.separar(fila);
+        return true;
     }
 
     /**
@@ -79,7 +91,7 @@ public class GranPremio {
      * @return Lista de participaciones ordenadas
      */
     public List<Participacion> getResultados() {
-        return participaciones.stream()
+        return resultados.getParticipaciones().stream()
                 .filter(p -> p.getPosicionFinal() > 0)
                 .sorted((p1, p2) -> Integer.compare(p1.getPosicionFinal(), p2.getPosicionFinal()))
                 .toList();
@@ -111,7 +123,17 @@ public class GranPremio {
     }
 
     public List<Participacion> getParticipaciones() {
-        return new ArrayList<>(participaciones);
+        return resultados.getParticipaciones();
+    }
+
+    /**
+     * Obtiene la tabla columnar de resultados, pensada para recorridos
+     * agregados sin pasar por las vistas {@link Participacion}.
+     *
+     * @return Tabla de resultados del Gran Premio
+     */
+    public TablaResultados getTablaResultados() {
+        return resultados;
     }
 
     public boolean isFinalizada() {
@@ -120,6 +142,9 @@ public class GranPremio {
 
     public void setFinalizada(boolean finalizada) {
         this.finalizada = finalizada;
+        if (finalizada) {
+            resultados.ajustarCapacidad();
+        }
     }
 
     @Override
@@ -1,6 +1,7 @@
 package modelo;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -8,7 +9,8 @@ import java.util.List;
  * <p>
  * Un mecánico es un miembro del personal técnico de una escudería,
  * responsable del mantenimiento y configuración de los autos de carrera.
- * Puede tener múltiples especialidades técnicas.
+ * Puede tener múltiples especialidades técnicas, que una vez registrado se
+ * modifican a través del gestor.
  * </p>
  * 
  * @author Sistema de Gestión F1
@@ -46,6 +48,25 @@ public class Mecanico extends Persona {
         this.especialidades = new ArrayList<>();
     }
 
+    /**
+     * Constructor de la clase Mecanico con sus especialidades.
+     *
+     * @param dni            Documento Nacional de Identidad (no puede ser null
+     *                       o vacío)
+     * @param nombre         Nombre del mecánico (no puede ser null o vacío)
+     * @param apellido       Apellido del mecánico (no puede ser null o vacío)
+     * @param experiencia    Años de experiencia (debe ser no negativo)
+     * @param especialidades Especialidades técnicas (se ignoran las repetidas)
+     * @throws IllegalArgumentException si algún parámetro no es válido
+     */
+    public Mecanico(String dni, String nombre, String apellido, int experiencia,
+            Collection<Especialidad> especialidades) {
+        this(dni, nombre, apellido, experiencia);
+        for (Especialidad especialidad : especialidades) {
+            agregarEspecialidad(especialidad);
+        }
+    }
+
     // ==================== GESTIÓN DE ESPECIALIDADES ====================
 
     /**
@@ -57,7 +78,7 @@ public class Mecanico extends Persona {
      * @param especialidad Especialidad técnica a agregar
      * @throws IllegalArgumentException si la especialidad es null
      */
-    public void agregarEspecialidad(Especialidad especialidad) {
+    void agregarEspecialidad(Especialidad especialidad) {
         if (!especialidades.contains(especialidad)) {
             especialidades.add(especialidad);
         }
@@ -68,7 +89,7 @@ public class Mecanico extends Persona {
      * 
      * @param especialidad Especialidad a remover
      */
-    public void removerEspecialidad(Especialidad especialidad) {
+    void removerEspecialidad(Especialidad especialidad) {
         especialidades.remove(especialidad);
     }
 
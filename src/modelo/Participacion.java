@@ -1,38 +1,66 @@
 package modelo;
 
-import java.time.LocalTime;
+import java.time.Duration;
 
 /**
  * Clase que representa la participación de un piloto en un Gran Premio
+ * <p>
+ * Es una vista sobre una fila de la {@link TablaResultados} de su Gran
+ * Premio: los datos (piloto, auto, escudería, posición, puntos, vuelta
+ * rápida, mejor vuelta y abandono) se guardan en las columnas de la tabla.
+ * </p>
+ * <p>
+ * Los resultados se modifican a través del gestor, que recalcula los puntos
+ * y la clasificación; fuera del paquete los modificadores sólo están
+ * disponibles mediante {@link EdicionModelo}.
+ * </p>
  */
 public class Participacion {
-    private Piloto piloto;
-    private Auto auto;
-    private GranPremio granPremio;
-    private int posicionFinal;
-    private LocalTime mejorVuelta; // tiempo de la mejor vuelta
-    private boolean vueltaRapida; // si logró la vuelta más rápida de la carrera
-    private boolean podio; // si terminó en el podio (top 3)
-    private boolean abandono;
-    private String motivoAbandono;
-    private int puntosObtenidos;
+    private TablaResultados tabla;
+    private int fila;
 
     /**
      * Constructor de la clase Participacion
+     * <p>
+     * La escudería de la participación se toma de la escudería actual del
+     * piloto, de modo que los puntos de constructores se atribuyan al equipo
+     * por el que corrió aunque luego cambie de escudería.
+     * </p>
      * 
      * @param piloto     Piloto que participa
      * @param auto       Auto utilizado
      * @param granPremio Gran Premio en el que participa
      */
     public Participacion(Piloto piloto, Auto auto, GranPremio granPremio) {
-        this.piloto = piloto;
-        this.auto = auto;
-        this.granPremio = granPremio;
-        this.posicionFinal = 0; // 0 significa no terminó o no tiene posición asignada
-        this.vueltaRapida = false;
-        this.podio = false;
-        this.abandono = false;
-        this.puntosObtenidos = 0;
+        // Hasta que se agregue al Gran Premio, la participación vive en una tabla propia
+        this.tabla = TablaResultados.individual(this, piloto, auto,
+                piloto != null ? piloto.getEscuderia() : null, granPremio);
+        this.fila = 0;
+    }
+
+    /**
+     * Crea la vista de una fila ya reservada en una tabla.
+     */
+    Participacion(TablaResultados tabla, int fila) {
+        this.tabla = tabla;
+        this.fila = fila;
+    }
+
+    /**
+     * Apunta la vista a una fila de una tabla (al agregarse a un Gran Premio o
+     * al desplazarse las filas de la tabla).
+     */
+    void vincular(TablaResultados tabla, int fila) {
+        this.tabla = tabla;
+        this.fila = fila;
+    }
+
+    TablaResultados getTabla() {
+        return tabla;
+    }
+
+    int getFila() {
+        return fila;
     }
 
     /**
@@ -40,10 +68,8 @@ public class Participacion {
      * 
      * @param posicion Posición final (1-based)
      */
-    public void setPosicionFinal(int posicion) {
-        this.posicionFinal = posicion;
-        this.podio = (posicion >= 1 && posicion <= 3);
-        this.abandono = false; // Si tiene posición, no abandonó
+    void setPosicionFinal(int posicion) {
+        tabla.setPosicion(fila, posicion); // Si tiene posición, no abandonó
     }
 
     /**
@@ -51,80 +77,145 @@ public class Participacion {
      * 
      * @param motivo Motivo del abandono
      */
-    public void marcarAbandono(String motivo) {
-        this.abandono = true;
-        this.motivoAbandono = motivo;
-        this.posicionFinal = 0;
-        this.podio = false;
+    void marcarAbandono(String motivo) {
+        tabla.marcarAbandono(fila, motivo);
     }
 
     // Getters y Setters
     public Piloto getPiloto() {
-        return piloto;
+        return tabla.getPiloto(fila);
     }
 
-    public void setPiloto(Piloto piloto) {
-        this.piloto = piloto;
+    void setPiloto(Piloto piloto) {
+        tabla.setPiloto(fila, piloto);
     }
 
     public Auto getAuto() {
-        return auto;
+        return tabla.getAuto(fila);
     }
 
-    public void setAuto(Auto auto) {
-        this.auto = auto;
+    void setAuto(Auto auto) {
+        tabla.setAuto(fila, auto);
+    }
+
+    public Escuderia getEscuderia() {
+        return tabla.getEscuderia(fila);
+    }
+
+    void setEscuderia(Escuderia escuderia) {
+        tabla.setEscuderia(fila, escuderia);
     }
 
     public GranPremio getGranPremio() {
-        return granPremio;
+        return tabla.getGranPremio();
     }
 
-    public void setGranPremio(GranPremio granPremio) {
-        this.granPremio = granPremio;
+    /**
+     * Cambia el Gran Premio de una participación que todavía no fue agregada a
+     * ninguno.
+     *
+     * @param granPremio Gran Premio de la participación
+     * @throws IllegalStateException si la participación ya pertenece a la
+     *                               tabla de resultados de un Gran Premio
+     */
+    void setGranPremio(GranPremio granPremio) {
+        if (!tabla.isIndividual()) {
+            throw new IllegalStateException("La participación ya pertenece a un Gran Premio");
+        }
+        tabla.setGranPremio(granPremio);
     }
 
     public int getPosicionFinal() {
-        return posicionFinal;
+        return tabla.getPosicion(fila);
+    }
+
+    /**
+     * @return Tiempo de la mejor vuelta, o null si no se registró
+     */
+    public Duration getMejorVuelta() {
+        return tabla.getMejorVuelta(fila);
     }
 
-    public LocalTime getMejorVuelta() {
-        return mejorVuelta;
+    void setMejorVuelta(Duration mejorVuelta) {
+        tabla.setMejorVuelta(fila, mejorVuelta);
     }
 
-    public void setMejorVuelta(LocalTime mejorVuelta) {
-        this.mejorVuelta = mejorVuelta;
+    /**
+     * @return Copia de los tiempos de cada vuelta en milisegundos
+     */
+    public int[] getTiemposVuelta() {
+        return tabla.getTiemposVuelta(fila);
+    }
+
+    /**
+     * Registra los tiempos de cada vuelta; la mejor vuelta se deriva de
+     * ellos.
+     *
+     * @param milisegundos Tiempos en milisegundos (null para borrarlos)
+     */
+    void setTiemposVuelta(int[] milisegundos) {
+        tabla.setTiemposVuelta(fila, milisegundos);
+    }
+
+    public int getCantidadVueltas() {
+        return tabla.getCantidadVueltas(fila);
+    }
+
+    /**
+     * @param vuelta Vuelta (0-based)
+     * @return Tiempo de la vuelta en milisegundos
+     */
+    public int getTiempoVuelta(int vuelta) {
+        return tabla.getTiempoVuelta(fila, vuelta);
+    }
+
+    /**
+     * @param desde Primera vuelta del tramo (inclusive)
+     * @param hasta Vuelta siguiente a la última del tramo (exclusive)
+     * @return Tiempo del tramo en milisegundos
+     */
+    public long getTiempoTramo(int desde, int hasta) {
+        return tabla.getTiempoTramo(fila, desde, hasta);
+    }
+
+    /**
+     * @return Promedio de las vueltas en milisegundos, o 0 si no hay vueltas
+     */
+    public double getRitmoMedio() {
+        return tabla.getRitmoMedio(fila);
     }
 
     public boolean isVueltaRapida() {
-        return vueltaRapida;
+        return tabla.isVueltaRapida(fila);
     }
 
-    public void setVueltaRapida(boolean vueltaRapida) {
-        this.vueltaRapida = vueltaRapida;
+    void setVueltaRapida(boolean vueltaRapida) {
+        tabla.setVueltaRapida(fila, vueltaRapida);
     }
 
     public boolean isPodio() {
-        return podio;
+        int posicion = tabla.getPosicion(fila);
+        return posicion >= 1 && posicion <= 3;
     }
 
     public boolean isAbandono() {
-        return abandono;
+        return tabla.isAbandono(fila);
     }
 
     public String getMotivoAbandono() {
-        return motivoAbandono;
+        return tabla.getMotivoAbandono(fila);
     }
 
-    public void setMotivoAbandono(String motivoAbandono) {
-        this.motivoAbandono = motivoAbandono;
+    void setMotivoAbandono(String motivoAbandono) {
+        tabla.setMotivoAbandono(fila, motivoAbandono);
     }
 
     public int getPuntosObtenidos() {
-        return puntosObtenidos;
+        return tabla.getPuntos(fila);
     }
 
-    public void setPuntosObtenidos(int puntosObtenidos) {
-        this.puntosObtenidos = puntosObtenidos;
+    void setPuntosObtenidos(int puntosObtenidos) {
+        tabla.setPuntos(fila, puntosObtenidos);
     }
 
     /**
@@ -133,10 +224,11 @@ public class Participacion {
      * @return String descriptivo del resultado
      */
     public String getResultado() {
-        if (abandono) {
-            return "DNF - " + motivoAbandono;
+        int posicionFinal = getPosicionFinal();
+        if (isAbandono()) {
+            return "DNF - " + getMotivoAbandono();
         } else if (posicionFinal > 0) {
-            return "P" + posicionFinal + (vueltaRapida ? " + VR" : "");
+            return "P" + posicionFinal + (isVueltaRapida() ? " + VR" : "");
         } else {
             return "Sin clasificar";
         }
@@ -144,6 +236,8 @@ public class Participacion {
 
     @Override
     public String toString() {
+        Piloto piloto = getPiloto();
+        Auto auto = getAuto();
         String pilotoStr = piloto != null ? piloto.getNombreCompleto() : "Sin piloto";
         String autoStr = auto != null ? auto.getModelo() : "Sin auto";
         return pilotoStr + " - " + autoStr + " - " + getResultado();
@@ -156,13 +250,25 @@ public class Participacion {
         if (obj == null || getClass() != obj.getClass())
             return false;
         Participacion that = (Participacion) obj;
-        return piloto != null && piloto.equals(that.piloto) &&
-                granPremio != null && granPremio.equals(that.granPremio);
+        Piloto piloto = getPiloto();
+        GranPremio granPremio = getGranPremio();
+        return piloto != null && piloto.equals(that.getPiloto()) &&
+                granPremio != null && granPremio.equals(that.getGranPremio());
     }
 
+    /**
+     * Combina el hash del piloto (su número) con el de la fecha del Gran
+     * Premio, sin construir cadenas: es coherente con {@link #equals(Object)}
+     * y no reserva memoria.
+     */
     @Override
     public int hashCode() {
-        return ((piloto != null ? piloto.toString() : "") +
-                (granPremio != null ? granPremio.toString() : "")).hashCode();
+        Piloto piloto = getPiloto();
+        GranPremio granPremio = getGranPremio();
+        int hash = piloto != null ? piloto.hashCode() : 0;
+        if (granPremio != null && granPremio.getFechaHora() != null) {
+            hash = 31 * hash + granPremio.getFechaHora().hashCode();
+        }
+        return hash;
     }
 }
\ No newline at end of file
@@ -11,23 +11,40 @@ import java.time.format.DateTimeParseException;
  * Esta clase maneja el historial de afiliaciones de los pilotos
  * a diferentes escuderías a lo largo de su carrera.
  * </p>
+ * <p>
+ * Las fechas se reciben como texto en formato {@code yyyy-MM-dd} (también se
+ * acepta {@code dd/MM/yyyy}, el formato de las carreras) y se guardan ya
+ * convertidas a {@link LocalDate}, de modo que las consultas de vigencia no
+ * vuelven a interpretarlas.
+ * </p>
+ * <p>
+ * Las relaciones son inmutables: el gestor las indexa por piloto, escudería
+ * y período, y al finalizar un contrato registrado lo reemplaza por la copia
+ * que devuelve {@link #conHastaFecha(LocalDate)}.
+ * </p>
  * 
  * @author Sistema de Gestión F1
  * @version 1.0
  * @since 1.0
  */
-public class PilotoEscuderia {
+public final class PilotoEscuderia {
+    /** Formato de las fechas de contrato */
+    public static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    /** Formato alternativo aceptado al interpretar fechas */
+    private static final DateTimeFormatter FORMATO_FECHA_ALTERNATIVO = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
     /** Fecha de inicio en la escudería */
-    private String desdeFecha;
+    private final LocalDate desde;
 
-    /** Fecha de fin en la escudería */
-    private String hastaFecha;
+    /** Fecha de fin en la escudería (null si es indefinido) */
+    private final LocalDate hasta;
 
     /** Piloto asociado a la escudería */
-    private Piloto piloto;
+    private final Piloto piloto;
 
     /** Escudería asociada al piloto */
-    private Escuderia escuderia;
+    private final Escuderia escuderia;
 
     /**
      * Constructor para crear una nueva relación piloto-escudería.
@@ -37,10 +54,26 @@ public class PilotoEscuderia {
      *                   activo)
      * @param piloto     Piloto asociado (no puede ser null)
      * @param escuderia  Escudería asociada (no puede ser null)
-     * @throws IllegalArgumentException si algún parámetro requerido es null
+     * @throws IllegalArgumentException si algún parámetro requerido es null o
+     *                                  alguna fecha no tiene el formato
+     *                                  yyyy-MM-dd
      */
     public PilotoEscuderia(String desdeFecha, String hastaFecha, Piloto piloto, Escuderia escuderia) {
-        if (desdeFecha == null || desdeFecha.trim().isEmpty()) {
+        this(parsearDesde(desdeFecha), parsearHasta(hastaFecha), piloto, escuderia);
+    }
+
+    /**
+     * Constructor para crear una nueva relación piloto-escudería a partir de
+     * fechas ya interpretadas.
+     *
+     * @param desde     Fecha de inicio
+     * @param hasta     Fecha de fin (null si es indefinido)
+     * @param piloto    Piloto asociado (no puede ser null)
+     * @param escuderia Escudería asociada (no puede ser null)
+     * @throws IllegalArgumentException si algún parámetro requerido es null
+     */
+    public PilotoEscuderia(LocalDate desde, LocalDate hasta, Piloto piloto, Escuderia escuderia) {
+        if (desde == null) {
             throw new IllegalArgumentException("La fecha de inicio no puede estar vacía");
         }
         if (piloto == null) {
@@ -50,34 +83,51 @@ public class PilotoEscuderia {
             throw new IllegalArgumentException("La escudería no puede ser null");
         }
 
-        this.desdeFecha = desdeFecha.trim();
-        this.hastaFecha = hastaFecha != null ? hastaFecha.trim() : null;
+        this.desde = desde;
+        this.hasta = hasta;
         this.piloto = piloto;
         this.escuderia = escuderia;
     }
 
-    // ==================== GETTERS Y SETTERS ====================
+    // ==================== FECHAS ====================
 
     /**
-     * Obtiene la fecha de inicio en la escudería.
-     * 
-     * @return Fecha de inicio como String
+     * Interpreta una fecha de contrato en formato yyyy-MM-dd o dd/MM/yyyy.
+     *
+     * @param fecha Fecha en formato texto
+     * @return Fecha interpretada
+     * @throws IllegalArgumentException si la fecha no tiene ninguno de los
+     *                                  formatos aceptados
      */
-    public String getDesdeFecha() {
-        return desdeFecha;
+    public static LocalDate parsearFecha(String fecha) {
+        String texto = fecha.trim();
+        try {
+            return LocalDate.parse(texto, texto.indexOf('/') >= 0 ? FORMATO_FECHA_ALTERNATIVO : FORMATO_FECHA);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha inválida: " + texto + " (use el formato yyyy-MM-dd)");
+        }
     }
 
-    /**
-     * Establece la fecha de inicio en la escudería.
-     * 
-     * @param desdeFecha Nueva fecha de inicio (no puede ser null o vacía)
-     * @throws IllegalArgumentException si la fecha es null o vacía
-     */
-    public void setDesdeFecha(String desdeFecha) {
+    private static LocalDate parsearDesde(String desdeFecha) {
         if (desdeFecha == null || desdeFecha.trim().isEmpty()) {
             throw new IllegalArgumentException("La fecha de inicio no puede estar vacía");
         }
-        this.desdeFecha = desdeFecha.trim();
+        return parsearFecha(desdeFecha);
+    }
+
+    private static LocalDate parsearHasta(String hastaFecha) {
+        return hastaFecha != null ? parsearFecha(hastaFecha) : null;
+    }
+
+    // ==================== GETTERS ====================
+
+    /**
+     * Obtiene la fecha de inicio en la escudería.
+     * 
+     * @return Fecha de inicio como String
+     */
+    public String getDesdeFecha() {
+        return desde.format(FORMATO_FECHA);
     }
 
     /**
@@ -86,16 +136,18 @@ public class PilotoEscuderia {
      * @return Fecha de fin como String, null si está activo
      */
     public String getHastaFecha() {
-        return hastaFecha;
+        return hasta != null ? hasta.format(FORMATO_FECHA) : null;
+    }
+
+    public LocalDate getDesde() {
+        return desde;
     }
 
     /**
-     * Establece la fecha de fin en la escudería.
-     * 
-     * @param hastaFecha Nueva fecha de fin (puede ser null si está activo)
+     * @return Fecha de fin, o null si el contrato es indefinido
      */
-    public void setHastaFecha(String hastaFecha) {
-        this.hastaFecha = hastaFecha != null ? hastaFecha.trim() : null;
+    public LocalDate getHasta() {
+        return hasta;
     }
 
     /**
@@ -107,19 +159,6 @@ public class PilotoEscuderia {
         return piloto;
     }
 
-    /**
-     * Establece el piloto asociado.
-     * 
-     * @param piloto Nuevo piloto (no puede ser null)
-     * @throws IllegalArgumentException si el piloto es null
-     */
-    public void setPiloto(Piloto piloto) {
-        if (piloto == null) {
-            throw new IllegalArgumentException("El piloto no puede ser null");
-        }
-        this.piloto = piloto;
-    }
-
     /**
      * Obtiene la escudería asociada.
      * 
@@ -129,26 +168,13 @@ public class PilotoEscuderia {
         return escuderia;
     }
 
-    /**
-     * Establece la escudería asociada.
-     * 
-     * @param escuderia Nueva escudería (no puede ser null)
-     * @throws IllegalArgumentException si la escudería es null
-     */
-    public void setEscuderia(Escuderia escuderia) {
-        if (escuderia == null) {
-            throw new IllegalArgumentException("La escudería no puede ser null");
-        }
-        this.escuderia = escuderia;
-    }
-
     /**
      * Verifica si la relación está activa (no tiene fecha de fin).
      * 
      * @return true si está activa, false en caso contrario
      */
     public boolean estaActiva() {
-        return hastaFecha == null;
+        return hasta == null;
     }
 
     /**
@@ -159,18 +185,29 @@ public class PilotoEscuderia {
      * @return true si está vigente, false si ya expiró
      */
     public boolean estaVigente() {
-        if (hastaFecha == null) {
-            return true; // Contrato indefinido
-        }
+        return estaVigente(LocalDate.now());
+    }
 
-        try {
-            LocalDate fechaFin = LocalDate.parse(hastaFecha, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-            LocalDate hoy = LocalDate.now();
-            return fechaFin.isAfter(hoy) || fechaFin.isEqual(hoy);
-        } catch (DateTimeParseException e) {
-            // Si la fecha no se puede parsear, asumimos que está vigente
-            return true;
-        }
+    /**
+     * Verifica si el contrato sigue vigente en una fecha: no tiene fecha de
+     * fin o la fecha de fin no es anterior a la indicada.
+     *
+     * @param fecha Fecha de referencia
+     * @return true si está vigente en esa fecha
+     */
+    public boolean estaVigente(LocalDate fecha) {
+        return hasta == null || !hasta.isBefore(fecha);
+    }
+
+    /**
+     * Verifica si el contrato cubre una fecha (entre su inicio y su fin,
+     * ambos incluidos).
+     *
+     * @param fecha Fecha a consultar
+     * @return true si el piloto corría para la escudería en esa fecha
+     */
+    public boolean cubre(LocalDate fecha) {
+        return !desde.isAfter(fecha) && estaVigente(fecha);
     }
 
     /**
@@ -183,16 +220,13 @@ public class PilotoEscuderia {
     }
 
     /**
-     * Finaliza la relación estableciendo una fecha de fin.
-     * 
-     * @param fechaFin Fecha de finalización (no puede ser null o vacía)
-     * @throws IllegalArgumentException si la fecha es null o vacía
+     * Crea una copia de la relación con otra fecha de fin.
+     *
+     * @param fechaFin Fecha de finalización (null para un contrato indefinido)
+     * @return Nueva relación con la misma fecha de inicio, piloto y escudería
      */
-    public void finalizarRelacion(String fechaFin) {
-        if (fechaFin == null || fechaFin.trim().isEmpty()) {
-            throw new IllegalArgumentException("La fecha de finalización no puede estar vacía");
-        }
-        this.hastaFecha = fechaFin.trim();
+    public PilotoEscuderia conHastaFecha(LocalDate fechaFin) {
+        return new PilotoEscuderia(desde, fechaFin, piloto, escuderia);
     }
 
     /**
@@ -203,16 +237,16 @@ public class PilotoEscuderia {
     @Override
     public String toString() {
         String estado;
-        if (hastaFecha == null) {
+        if (hasta == null) {
             estado = "(Contrato Activo)";
         } else if (estaVigente()) {
-            estado = "hasta " + hastaFecha + " (Vigente)";
+            estado = "hasta " + getHastaFecha() + " (Vigente)";
         } else {
-            estado = "hasta " + hastaFecha + " (EXPIRADO)";
+            estado = "hasta " + getHastaFecha() + " (EXPIRADO)";
         }
 
         return piloto.toString() + " en " + escuderia.getNombre() +
-                " desde " + desdeFecha + " " + estado;
+                " desde " + getDesdeFecha() + " " + estado;
     }
 
     /**
@@ -0,0 +1,628 @@
+package modelo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Almacén columnar de los resultados de un Gran Premio.
+ * <p>
+ * Cada atributo de las participaciones se guarda en su propia columna
+ * (arreglos paralelos de primitivos y referencias, y un byte de marcas por
+ * fila para abandono y vuelta rápida), de modo que un resultado no ocupa un objeto propio con un
+ * {@link Duration} y varios campos sueltos, y los recorridos agregados
+ * (posiciones, puntos, autos inscritos) leen memoria contigua.
+ * </p>
+ * <p>
+ * Los tiempos de cada vuelta se guardan por fila como un arreglo de
+ * milisegundos. La mejor vuelta se deriva de ellos al cargarlos y se guarda
+ * en nanosegundos, sin otro límite que el de un {@code long}. La vuelta
+ * rápida de la carrera se determina con una pasada sobre la columna de
+ * mejores vueltas, salvo que se haya asignado a mano.
+ * </p>
+ * <p>
+ * Las {@link Participacion} son vistas livianas sobre una fila de la tabla.
+ * Se crean la primera vez que se piden y luego cada fila conserva siempre la
+ * misma vista, que se reubica si la fila se desplaza. Las filas que nadie
+ * consulta como objeto (por ejemplo, el historial cargado desde un snapshot)
+ * no tienen vista. Una participación creada fuera de un Gran Premio vive en
+ * una tabla propia de una sola fila hasta que se agrega a uno.
+ * </p>
+ * <p>
+ * Las consultas son públicas; las modificaciones sólo se hacen dentro del
+ * paquete o mediante {@link EdicionModelo}.
+ * </p>
+ *
+ * @author Sistema de Gestión F1
+ * @version 1.0
+ * @since 1.0
+ */
+public class TablaResultados {
+
+    /** Capacidad inicial: una parrilla completa */
+    private static final int CAPACIDAD_INICIAL = 20;
+
+    /** Valor de la columna de mejor vuelta cuando no se registró */
+    private static final long SIN_TIEMPO = -1L;
+
+    /** Bit de la columna de marcas que indica abandono */
+    private static final byte MARCA_ABANDONO = 1;
+
+    /** Bit de la columna de marcas que indica vuelta rápida */
+    private static final byte MARCA_VUELTA_RAPIDA = 2;
+
+    private GranPremio granPremio;
+    private final boolean individual;
+    private int filas;
+
+    // Columnas
+    private Participacion[] vistas;
+    private Piloto[] pilotos;
+    private Auto[] autos;
+    private Escuderia[] escuderias;
+    private int[] posiciones;
+    private int[] puntos;
+    private long[] mejoresVueltas;
+    private int[][] tiemposVuelta;
+    private String[] motivosAbandono;
+    private byte[] marcas;
+
+    /** La vuelta rápida se asignó a mano y no se deriva de los tiempos */
+    private boolean vueltaRapidaManual;
+
+    /**
+     * Cantidad de filas de cada escudería. Se crea con la primera consulta
+     * (mientras se arma la parrilla) y se descarta al ajustar la tabla.
+     */
+    private Map<Escuderia, int[]> filasPorEscuderia;
+
+    /**
+     * Crea una tabla vacía para un Gran Premio.
+     *
+     * @param granPremio Gran Premio al que pertenecen los resultados
+     */
+    TablaResultados(GranPremio granPremio) {
+        this(granPremio, CAPACIDAD_INICIAL, false);
+    }
+
+    private TablaResultados(GranPremio granPremio, int capacidad, boolean individual) {
+        this.granPremio = granPremio;
+        this.individual = individual;
+        this.filas = 0;
+        this.vistas = new Participacion[capacidad];
+        this.pilotos = new Piloto[capacidad];
+        this.autos = new Auto[capacidad];
+        this.escuderias = new Escuderia[capacidad];
+        this.posiciones = new int[capacidad];
+        this.puntos = new int[capacidad];
+        this.mejoresVueltas = new long[capacidad];
+        this.tiemposVuelta = new int[capacidad][];
+        this.motivosAbandono = new String[capacidad];
+        this.marcas = new byte[capacidad];
+    }
+
+    /**
+     * Crea la tabla de una sola fila de una participación que todavía no
+     * pertenece a ningún Gran Premio.
+     */
+    static TablaResultados individual(Participacion vista, Piloto piloto, Auto auto, Escuderia escuderia,
+                                      GranPremio granPremio) {
+        TablaResultados tabla = new TablaResultados(granPremio, 1, true);
+        tabla.nuevaFila(vista, piloto, auto, escuderia);
+        return tabla;
+    }
+
+    // ==================== ALTAS Y BAJAS ====================
+
+    /**
+     * Agrega una fila sin crear su vista. Pensado para cargas masivas, que
+     * completan el resultado con los modificadores por fila; no valida que el
+     * piloto no esté ya inscrito.
+     *
+     * @param piloto    Piloto inscrito
+     * @param auto      Auto asignado
+     * @param escuderia Escudería por la que corre
+     * @return Índice de la fila creada
+     */
+    int agregarFila(Piloto piloto, Auto auto, Escuderia escuderia) {
+        return nuevaFila(null, piloto, auto, escuderia);
+    }
+
+    private int nuevaFila(Participacion vista, Piloto piloto, Auto auto, Escuderia escuderia) {
+        if (filas == pilotos.length) {
+            redimensionar(Math.max(CAPACIDAD_INICIAL, filas * 2));
+        }
+        int fila = filas++;
+        vistas[fila] = vista;
+        pilotos[fila] = piloto;
+        autos[fila] = auto;
+        escuderias[fila] = escuderia;
+        posiciones[fila] = 0;
+        puntos[fila] = 0;
+        mejoresVueltas[fila] = SIN_TIEMPO;
+        tiemposVuelta[fila] = null;
+        motivosAbandono[fila] = null;
+        marcas[fila] = 0;
+        contarEscuderia(escuderia, 1);
+        return fila;
+    }
+
+    private void redimensionar(int capacidad) {
+        vistas = Arrays.copyOf(vistas, capacidad);
+        pilotos = Arrays.copyOf(pilotos, capacidad);
+        autos = Arrays.copyOf(autos, capacidad);
+        escuderias = Arrays.copyOf(escuderias, capacidad);
+        posiciones = Arrays.copyOf(posiciones, capacidad);
+        puntos = Arrays.copyOf(puntos, capacidad);
+        mejoresVueltas = Arrays.copyOf(mejoresVueltas, capacidad);
+        tiemposVuelta = Arrays.copyOf(tiemposVuelta, capacidad);
+        motivosAbandono = Arrays.copyOf(motivosAbandono, capacidad);
+        marcas = Arrays.copyOf(marcas, capacidad);
+    }
+
+    /**
+     * Ajusta las columnas a la cantidad exacta de filas. Se usa al finalizar
+     * la carrera, cuando la parrilla ya no cambia.
+     */
+    void ajustarCapacidad() {
+        if (filas < pilotos.length) {
+            redimensionar(filas);
+        }
+        filasPorEscuderia = null;
+    }
+
+    /**
+     * Agrega una fila nueva y crea su vista, sin pasar por una tabla
+     * individual.
+     *
+     * @param piloto Piloto inscrito
+     * @param auto   Auto asignado
+     * @return Vista de la fila creada
+     */
+    Participacion agregar(Piloto piloto, Auto auto) {
+        return getParticipacion(nuevaFila(null, piloto, auto, piloto != null ? piloto.getEscuderia() : null));
+    }
+
+    /**
+     * Mueve una participación a esta tabla, copiando su fila y apuntando la
+     * vista a la nueva posición.
+     *
+     * @param participacion Participación a incorporar
+     */
+    void incorporar(Participacion participacion) {
+        TablaResultados origen = participacion.getTabla();
+        int filaOrigen = participacion.getFila();
+        int fila = nuevaFila(participacion, origen.pilotos[filaOrigen], origen.autos[filaOrigen],
+                origen.escuderias[filaOrigen]);
+        copiarResultado(origen, filaOrigen, this, fila);
+        origen.quitarFila(filaOrigen);
+        participacion.vincular(this, fila);
+    }
+
+    /**
+     * Quita una fila de la tabla. La vista afectada pasa a una tabla
+     * individual con los mismos datos, de modo que sigue siendo consultable.
+     *
+     * @param fila Fila a quitar
+     */
+    void separar(int fila) {
+        Participacion vista = vistas[fila];
+        if (vista != null) {
+            TablaResultados propia = new TablaResultados(granPremio, 1, true);
+            propia.nuevaFila(vista, pilotos[fila], autos[fila], escuderias[fila]);
+            copiarResultado(this, fila, propia, 0);
+            vista.vincular(propia, 0);
+        }
+        quitarFila(fila);
+    }
+
+    private void quitarFila(int fila) {
+        contarEscuderia(escuderias[fila], -1);
+        int siguientes = filas - fila - 1;
+        System.arraycopy(vistas, fila + 1, vistas, fila, siguientes);
+        System.arraycopy(pilotos, fila + 1, pilotos, fila, siguientes);
+        System.arraycopy(autos, fila + 1, autos, fila, siguientes);
+        System.arraycopy(escuderias, fila + 1, escuderias, fila, siguientes);
+        System.arraycopy(posiciones, fila + 1, posiciones, fila, siguientes);
+        System.arraycopy(puntos, fila + 1, puntos, fila, siguientes);
+        System.arraycopy(mejoresVueltas, fila + 1, mejoresVueltas, fila, siguientes);
+        System.arraycopy(tiemposVuelta, fila + 1, tiemposVuelta, fila, siguientes);
+        System.arraycopy(motivosAbandono, fila + 1, motivosAbandono, fila, siguientes);
+        System.arraycopy(marcas, fila + 1, marcas, fila, siguientes);
+        for (int i = fila; i < filas - 1; i++) {
+            if (vistas[i] != null) {
+                vistas[i].vincular(this, i);
+            }
+        }
+        filas--;
+        vistas[filas] = null;
+        pilotos[filas] = null;
+        autos[filas] = null;
+        escuderias[filas] = null;
+        tiemposVuelta[filas] = null;
+        motivosAbandono[filas] = null;
+    }
+
+    private static void copiarResultado(TablaResultados origen, int filaOrigen, TablaResultados destino,
+                                        int filaDestino) {
+        destino.posiciones[filaDestino] = origen.posiciones[filaOrigen];
+        destino.puntos[filaDestino] = origen.puntos[filaOrigen];
+        destino.mejoresVueltas[filaDestino] = origen.mejoresVueltas[filaOrigen];
+        destino.tiemposVuelta[filaDestino] = origen.tiemposVuelta[filaOrigen];
+        destino.motivosAbandono[filaDestino] = origen.motivosAbandono[filaOrigen];
+        destino.marcas[filaDestino] = origen.marcas[filaOrigen];
+    }
+
+    // ==================== CONSULTAS ====================
+
+    public GranPremio getGranPremio() {
+        return granPremio;
+    }
+
+    void setGranPremio(GranPremio granPremio) {
+        this.granPremio = granPremio;
+    }
+
+    /**
+     * @return true si es la tabla propia de una participación que no
+     *         pertenece a ningún Gran Premio
+     */
+    boolean isIndividual() {
+        return individual;
+    }
+
+    /**
+     * @return Cantidad de filas (participaciones) de la tabla
+     */
+    public int size() {
+        return filas;
+    }
+
+    /**
+     * Obtiene la vista de una fila, creándola si todavía no existe.
+     *
+     * @param fila Fila a consultar
+     * @return Participación de la fila
+     */
+    public Participacion getParticipacion(int fila) {
+        if (fila < 0 || fila >= filas) {
+            throw new IndexOutOfBoundsException("Fila inexistente: " + fila);
+        }
+        Participacion vista = vistas[fila];
+        if (vista == null) {
+            vista = new Participacion(this, fila);
+            vistas[fila] = vista;
+        }
+        return vista;
+    }
+
+    /**
+     * Obtiene las participaciones en orden de inscripción.
+     *
+     * @return Nueva lista con las vistas de todas las filas
+     */
+    public List<Participacion> getParticipaciones() {
+        List<Participacion> participaciones = new ArrayList<>(filas);
+        for (int fila = 0; fila < filas; fila++) {
+            participaciones.add(getParticipacion(fila));
+        }
+        return participaciones;
+    }
+
+    /**
+     * Obtiene la fila de una participación de esta tabla.
+     *
+     * @param participacion Participación a buscar
+     * @return Fila de la participación, o -1 si pertenece a otra tabla
+     */
+    public int indiceDe(Participacion participacion) {
+        return participacion.getTabla() == this ? participacion.getFila() : -1;
+    }
+
+    /**
+     * Busca la fila de un piloto.
+     *
+     * @param piloto Piloto a buscar
+     * @return Fila del piloto, o -1 si no está inscrito
+     */
+    public int buscarPiloto(Piloto piloto) {
+        for (int fila = 0; fila < filas; fila++) {
+            if (pilotos[fila].equals(piloto)) {
+                return fila;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Indica si un auto ya está asignado en alguna fila.
+     *
+     * @param auto Auto a buscar
+     * @return true si algún participante usa el auto
+     */
+    public boolean contieneAuto(Auto auto) {
+        for (int fila = 0; fila < filas; fila++) {
+            if (auto.equals(autos[fila])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cuenta las filas que corren por una escudería.
+     * <p>
+     * La primera consulta arma un contador por escudería que luego se
+     * mantiene con cada alta, baja o cambio de escudería, de modo que validar
+     * el límite de autos de cada inscripción cuesta O(1).
+     * </p>
+     *
+     * @param escuderia Escudería a contar
+     * @return Cantidad de participantes de la escudería
+     */
+    public int getCantidadFilasEscuderia(Escuderia escuderia) {
+        if (filasPorEscuderia == null) {
+            filasPorEscuderia = new IdentityHashMap<>();
+            for (int fila = 0; fila < filas; fila++) {
+                contarEscuderia(escuderias[fila], 1);
+            }
+        }
+        int[] cantidad = filasPorEscuderia.get(escuderia);
+        return cantidad != null ? cantidad[0] : 0;
+    }
+
+    private void contarEscuderia(Escuderia escuderia, int delta) {
+        if (filasPorEscuderia == null || escuderia == null) {
+            return;
+        }
+        int[] cantidad = filasPorEscuderia.computeIfAbsent(escuderia, e -> new int[1]);
+        cantidad[0] += delta;
+        if (cantidad[0] == 0) {
+            filasPorEscuderia.remove(escuderia);
+        }
+    }
+
+    public Piloto getPiloto(int fila) {
+        return pilotos[fila];
+    }
+
+    public Auto getAuto(int fila) {
+        return autos[fila];
+    }
+
+    public Escuderia getEscuderia(int fila) {
+        return escuderias[fila];
+    }
+
+    public int getPosicion(int fila) {
+        return posiciones[fila];
+    }
+
+    public int getPuntos(int fila) {
+        return puntos[fila];
+    }
+
+    public boolean isAbandono(int fila) {
+        return (marcas[fila] & MARCA_ABANDONO) != 0;
+    }
+
+    public boolean isVueltaRapida(int fila) {
+        return (marcas[fila] & MARCA_VUELTA_RAPIDA) != 0;
+    }
+
+    public String getMotivoAbandono(int fila) {
+        return motivosAbandono[fila];
+    }
+
+    /**
+     * @param fila Fila a consultar
+     * @return Mejor vuelta en nanosegundos, o -1 si no se registró
+     */
+    public long getMejorVueltaNanos(int fila) {
+        return mejoresVueltas[fila];
+    }
+
+    /**
+     * @param fila Fila a consultar
+     * @return Mejor vuelta, o null si no se registró
+     */
+    public Duration getMejorVuelta(int fila) {
+        return mejoresVueltas[fila] != SIN_TIEMPO ? Duration.ofNanos(mejoresVueltas[fila]) : null;
+    }
+
+    /**
+     * @return true si la vuelta rápida de la carrera se asignó a mano y
+     *         {@link #determinarVueltaRapida()} no debe reemplazarla
+     */
+    public boolean isVueltaRapidaManual() {
+        return vueltaRapidaManual;
+    }
+
+    /**
+     * @param fila Fila a consultar
+     * @return Cantidad de vueltas con tiempo registrado
+     */
+    public int getCantidadVueltas(int fila) {
+        return tiemposVuelta[fila] != null ? tiemposVuelta[fila].length : 0;
+    }
+
+    /**
+     * @param fila   Fila a consultar
+     * @param vuelta Vuelta (0-based)
+     * @return Tiempo de la vuelta en milisegundos
+     */
+    public int getTiempoVuelta(int fila, int vuelta) {
+        if (vuelta < 0 || vuelta >= getCantidadVueltas(fila)) {
+            throw new IndexOutOfBoundsException("Vuelta inexistente: " + vuelta);
+        }
+        return tiemposVuelta[fila][vuelta];
+    }
+
+    /**
+     * @param fila Fila a consultar
+     * @return Copia de los tiempos de vuelta en milisegundos (vacía si no se
+     *         registraron)
+     */
+    public int[] getTiemposVuelta(int fila) {
+        return tiemposVuelta[fila] != null ? tiemposVuelta[fila].clone() : new int[0];
+    }
+
+    /**
+     * Suma los tiempos de un tramo de vueltas, por ejemplo una tanda entre
+     * dos paradas.
+     *
+     * @param fila  Fila a consultar
+     * @param desde Primera vuelta del tramo (0-based, inclusive)
+     * @param hasta Vuelta siguiente a la última del tramo (exclusive)
+     * @return Tiempo del tramo en milisegundos
+     */
+    public long getTiempoTramo(int fila, int desde, int hasta) {
+        if (desde < 0 || hasta > getCantidadVueltas(fila) || desde > hasta) {
+            throw new IndexOutOfBoundsException("Tramo inválido: " + desde + "-" + hasta);
+        }
+        int[] vueltas = tiemposVuelta[fila];
+        long total = 0;
+        for (int vuelta = desde; vuelta < hasta; vuelta++) {
+            total += vueltas[vuelta];
+        }
+        return total;
+    }
+
+    /**
+     * @param fila Fila a consultar
+     * @return Promedio de las vueltas en milisegundos, o 0 si no hay vueltas
+     */
+    public double getRitmoMedio(int fila) {
+        int cantidad = getCantidadVueltas(fila);
+        return cantidad > 0 ? (double) getTiempoTramo(fila, 0, cantidad) / cantidad : 0;
+    }
+
+    // ==================== MODIFICACIÓN ====================
+
+    void setPiloto(int fila, Piloto piloto) {
+        pilotos[fila] = piloto;
+    }
+
+    void setAuto(int fila, Auto auto) {
+        autos[fila] = auto;
+    }
+
+    void setEscuderia(int fila, Escuderia escuderia) {
+        contarEscuderia(escuderias[fila], -1);
+        escuderias[fila] = escuderia;
+        contarEscuderia(escuderia, 1);
+    }
+
+    void setPosicion(int fila, int posicion) {
+        posiciones[fila] = posicion;
+        marcas[fila] &= ~MARCA_ABANDONO;
+    }
+
+    void marcarAbandono(int fila, String motivo) {
+        marcas[fila] |= MARCA_ABANDONO;
+        motivosAbandono[fila] = motivo;
+        posiciones[fila] = 0;
+    }
+
+    void setMotivoAbandono(int fila, String motivo) {
+        motivosAbandono[fila] = motivo;
+    }
+
+    void setPuntos(int fila, int valor) {
+        puntos[fila] = valor;
+    }
+
+    void setVueltaRapida(int fila, boolean vueltaRapida) {
+        if (vueltaRapida) {
+            marcas[fila] |= MARCA_VUELTA_RAPIDA;
+        } else {
+            marcas[fila] &= ~MARCA_VUELTA_RAPIDA;
+        }
+    }
+
+    /**
+     * @param fila        Fila a modificar
+     * @param mejorVuelta Mejor vuelta (null para borrarla)
+     * @throws IllegalArgumentException si el tiempo no es positivo
+     * @throws ArithmeticException      si el tiempo no cabe en nanosegundos
+     */
+    void setMejorVuelta(int fila, Duration mejorVuelta) {
+        if (mejorVuelta != null && (mejorVuelta.isNegative() || mejorVuelta.isZero())) {
+            throw new IllegalArgumentException("La mejor vuelta debe ser positiva");
+        }
+        mejoresVueltas[fila] = mejorVuelta != null ? mejorVuelta.toNanos() : SIN_TIEMPO;
+    }
+
+    /**
+     * @param fila  Fila a modificar
+     * @param nanos Mejor vuelta en nanosegundos, o -1 si no se registró
+     */
+    void setMejorVueltaNanos(int fila, long nanos) {
+        mejoresVueltas[fila] = nanos >= 0 ? nanos : SIN_TIEMPO;
+    }
+
+    /**
+     * Registra los tiempos de cada vuelta y deriva de ellos la mejor vuelta.
+     * Sin vueltas se borran los tiempos y, si venía de ellos, la mejor
+     * vuelta.
+     *
+     * @param fila         Fila a modificar
+     * @param milisegundos Tiempo de cada vuelta en milisegundos (se copia;
+     *                     null o vacío para borrarlos)
+     * @throws IllegalArgumentException si algún tiempo no es positivo
+     */
+    void setTiemposVuelta(int fila, int[] milisegundos) {
+        if (milisegundos == null || milisegundos.length == 0) {
+            if (tiemposVuelta[fila] != null) {
+                mejoresVueltas[fila] = SIN_TIEMPO;
+            }
+            tiemposVuelta[fila] = null;
+            return;
+        }
+        int mejor = Integer.MAX_VALUE;
+        for (int tiempo : milisegundos) {
+            if (tiempo <= 0) {
+                throw new IllegalArgumentException("Los tiempos de vuelta deben ser positivos");
+            }
+            mejor = Math.min(mejor, tiempo);
+        }
+        tiemposVuelta[fila] = milisegundos.clone();
+        mejoresVueltas[fila] = mejor * 1_000_000L;
+    }
+
+    /**
+     * Indica si la vuelta rápida de la carrera se asignó a mano. Mientras lo
+     * esté, los tiempos de vuelta no la cambian.
+     *
+     * @param vueltaRapidaManual true si se asignó a mano
+     */
+    void setVueltaRapidaManual(boolean vueltaRapidaManual) {
+        this.vueltaRapidaManual = vueltaRapidaManual;
+    }
+
+    /**
+     * Determina la vuelta rápida de la carrera en una sola pasada: la marca
+     * en la fila con la mejor vuelta entre los que no abandonaron (la primera
+     * inscrita si hay empate) y la quita de las demás. No recalcula puntos.
+     *
+     * @return Fila con la vuelta rápida, o -1 si ningún piloto que terminó
+     *         tiene mejor vuelta
+     */
+    int determinarVueltaRapida() {
+        int elegida = -1;
+        for (int fila = 0; fila < filas; fila++) {
+            marcas[fila] &= ~MARCA_VUELTA_RAPIDA;
+            if (mejoresVueltas[fila] != SIN_TIEMPO && (marcas[fila] & MARCA_ABANDONO) == 0
+                    && (elegida < 0 || mejoresVueltas[fila] < mejoresVueltas[elegida])) {
+                elegida = fila;
+            }
+        }
+        if (elegida >= 0) {
+            marcas[elegida] |= MARCA_VUELTA_RAPIDA;
+        }
+        return elegida;
+    }
+}
@@ -0,0 +1,363 @@
+package vista;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.Component;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Ejecutor de cargas de reportes fuera del Event Dispatch Thread.
+ * <p>
+ * Cada carga calcula sus filas en un hilo de un pool acotado y las publica en
+ * la tabla por bloques, de modo que la ventana sigue respondiendo mientras se
+ * procesan muchos datos. Las cargas se identifican por su destino (el modelo
+ * de tabla o el panel que se completa): iniciar otra carga para el mismo
+ * destino cancela la anterior. Además cada carga pertenece a un grupo, por
+ * ejemplo la pestaña que la muestra, para cancelar juntas todas las de un
+ * grupo.
+ * </p>
+ * <p>
+ * Todos los métodos públicos de esta clase deben llamarse desde el Event
+ * Dispatch Thread.
+ * </p>
+ */
+class CargadorReportes {
+
+    /**
+     * Salida donde un cálculo entrega sus filas desde el hilo de trabajo.
+     */
+    interface Salida {
+        /** Agrega una fila al final de la tabla */
+        void agregar(Object[] fila);
+
+        /** Informa el avance del cálculo */
+        void progreso(int procesados, int total);
+
+        /** Indica si la carga fue cancelada y el cálculo debe terminar */
+        boolean isCancelada();
+    }
+
+    /**
+     * Cálculo de las filas de una tabla. Se ejecuta en un hilo de trabajo.
+     */
+    interface Filas {
+        void generar(Salida salida) throws Exception;
+    }
+
+    /** Hilos del pool: uno menos que los procesadores, al menos uno */
+    private static final int HILOS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static final AtomicInteger SECUENCIA_HILOS = new AtomicInteger();
+
+    private final ExecutorService ejecutor;
+
+    /** Carga en curso por destino */
+    private final Map<Object, Carga<?>> cargas;
+
+    /**
+     * Crea un cargador con su propio pool de hilos.
+     */
+    CargadorReportes() {
+        this.ejecutor = Executors.newFixedThreadPool(HILOS, tarea -> {
+            Thread hilo = new Thread(tarea, "reportes-" + SECUENCIA_HILOS.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        this.cargas = new IdentityHashMap<>();
+    }
+
+    /**
+     * Vacía una tabla y la vuelve a llenar en segundo plano.
+     *
+     * @param grupo    Grupo de la carga (por ejemplo, la pestaña)
+     * @param modelo   Tabla a llenar
+     * @param progreso Barra donde mostrar el avance (puede ser null)
+     * @param filas    Cálculo de las filas
+     */
+    void cargarTabla(Component grupo, DefaultTableModel modelo, JProgressBar progreso, Filas filas) {
+        modelo.setRowCount(0);
+        iniciar(new CargaTabla(grupo, modelo, progreso, filas));
+    }
+
+    /**
+     * Calcula un valor en segundo plano y lo muestra al terminar.
+     *
+     * @param grupo   Grupo de la carga (por ejemplo, la pestaña)
+     * @param destino Componente que muestra el valor
+     * @param calculo Cálculo del valor, en un hilo de trabajo
+     * @param mostrar Muestra el valor, en el Event Dispatch Thread
+     * @param <T>     Tipo del valor calculado
+     */
+    <T> void calcular(Component grupo, Object destino, Callable<T> calculo, Consumer<T> mostrar) {
+        calcular(grupo, destino, null, calculo, mostrar);
+    }
+
+    /**
+     * Calcula un valor en segundo plano mostrando una barra indeterminada
+     * mientras dura el cálculo.
+     *
+     * @param grupo    Grupo de la carga (por ejemplo, la pestaña)
+     * @param destino  Componente que muestra el valor
+     * @param progreso Barra a mostrar durante el cálculo (puede ser null)
+     * @param calculo  Cálculo del valor, en un hilo de trabajo
+     * @param mostrar  Muestra el valor, en el Event Dispatch Thread
+     * @param <T>      Tipo del valor calculado
+     */
+    <T> void calcular(Component grupo, Object destino, JProgressBar progreso, Callable<T> calculo,
+            Consumer<T> mostrar) {
+        iniciar(new CargaValor<>(grupo, destino, progreso, calculo, mostrar));
+    }
+
+    private void iniciar(Carga<?> carga) {
+        Carga<?> anterior = cargas.put(carga.destino, carga);
+        if (anterior != null) {
+            anterior.cancel(true);
+        }
+        ejecutor.execute(carga);
+    }
+
+    /**
+     * Cancela las cargas en curso de un grupo.
+     *
+     * @param grupo Grupo a cancelar
+     * @return true si había alguna carga en curso
+     */
+    boolean cancelar(Component grupo) {
+        boolean habia = false;
+        for (Carga<?> carga : new ArrayList<>(cargas.values())) {
+            if (carga.grupo == grupo) {
+                cancelar(carga);
+                habia = true;
+            }
+        }
+        return habia;
+    }
+
+    /**
+     * Cancela todas las cargas en curso y libera los hilos.
+     */
+    void cerrar() {
+        for (Carga<?> carga : new ArrayList<>(cargas.values())) {
+            cancelar(carga);
+        }
+        ejecutor.shutdownNow();
+    }
+
+    private void cancelar(Carga<?> carga) {
+        cargas.remove(carga.destino, carga);
+        carga.cancel(true);
+        carga.terminar();
+    }
+
+    private void finalizada(Carga<?> carga) {
+        cargas.remove(carga.destino, carga);
+    }
+
+    // ==================== CARGAS ====================
+
+    private abstract class Carga<V> extends SwingWorker<V, Object[]> {
+        final Component grupo;
+        final Object destino;
+
+        Carga(Component grupo, Object destino) {
+            this.grupo = grupo;
+            this.destino = destino;
+        }
+
+        /** Restablece los indicadores de avance */
+        void terminar() {
+        }
+
+        @Override
+        protected final void done() {
+            if (isCancelled()) {
+                return; // Ya la quitó quien la canceló
+            }
+            finalizada(this);
+            terminar();
+            try {
+                mostrar(get());
+            } catch (InterruptedException | CancellationException e) {
+                // La carga se canceló mientras terminaba
+            } catch (ExecutionException e) {
+                fallo(e.getCause());
+            }
+        }
+
+        abstract void mostrar(V valor);
+
+        /**
+         * Informa un error del cálculo en la barra de la carga o, si no tiene,
+         * con un mensaje sobre su grupo.
+         */
+        void fallo(Throwable causa) {
+            String mensaje = "Error al cargar el reporte: "
+                    + (causa.getMessage() != null ? causa.getMessage() : causa.getClass().getSimpleName());
+            JProgressBar barra = getBarra();
+            if (barra == null) {
+                JOptionPane.showMessageDialog(grupo, mensaje, "Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            // El detalle completo queda en la ayuda emergente de la barra
+            StringWriter detalle = new StringWriter();
+            causa.printStackTrace(new PrintWriter(detalle));
+            barra.setValue(0);
+            barra.setString(mensaje);
+            barra.setStringPainted(true);
+            barra.setToolTipText("<html><pre>" + detalle.toString().replace("&", "&amp;").replace("<", "&lt;")
+                    + "</pre></html>");
+            barra.setVisible(true);
+        }
+
+        /** Barra de avance de la carga, o null si no tiene */
+        abstract JProgressBar getBarra();
+    }
+
+    /**
+     * Prepara una barra para una carga nueva, quitando el error de una carga
+     * anterior.
+     */
+    private static void iniciarBarra(JProgressBar barra) {
+        barra.setStringPainted(false);
+        barra.setString(null);
+        barra.setToolTipText(null);
+        barra.setIndeterminate(true);
+        barra.setVisible(true);
+    }
+
+    private final class CargaTabla extends Carga<Void> implements Salida {
+        private final DefaultTableModel modelo;
+        private final JProgressBar barra;
+        private final Filas filas;
+
+        CargaTabla(Component grupo, DefaultTableModel modelo, JProgressBar barra, Filas filas) {
+            super(grupo, modelo);
+            this.modelo = modelo;
+            this.barra = barra;
+            this.filas = filas;
+            if (barra != null) {
+                barra.setValue(0);
+                iniciarBarra(barra);
+                addPropertyChangeListener(evento -> {
+                    if ("progress".equals(evento.getPropertyName()) && !isCancelled()) {
+                        barra.setIndeterminate(false);
+                        barra.setValue((Integer) evento.getNewValue());
+                    }
+                });
+            }
+        }
+
+        @Override
+        protected Void doInBackground() throws Exception {
+            filas.generar(this);
+            return null;
+        }
+
+        @Override
+        public void agregar(Object[] fila) {
+            publish(fila);
+        }
+
+        @Override
+        public void progreso(int procesados, int total) {
+            if (total > 0) {
+                setProgress(Math.min(100, (int) (100L * procesados / total)));
+            }
+        }
+
+        @Override
+        public boolean isCancelada() {
+            return isCancelled();
+        }
+
+        /**
+         * Agrega un bloque de filas publicadas con un solo evento de
+         * inserción.
+         */
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        protected void process(List<Object[]> bloque) {
+            if (isCancelled()) {
+                return;
+            }
+            int primera = modelo.getRowCount();
+            Vector datos = modelo.getDataVector();
+            for (Object[] fila : bloque) {
+                Vector<Object> celdas = new Vector<>(Arrays.asList(fila));
+                celdas.setSize(modelo.getColumnCount());
+                datos.add(celdas);
+            }
+            modelo.fireTableRowsInserted(primera, modelo.getRowCount() - 1);
+        }
+
+        @Override
+        void terminar() {
+            if (barra != null) {
+                barra.setIndeterminate(false);
+                barra.setVisible(false);
+            }
+        }
+
+        @Override
+        void mostrar(Void valor) {
+        }
+
+        @Override
+        JProgressBar getBarra() {
+            return barra;
+        }
+    }
+
+    private final class CargaValor<T> extends Carga<T> {
+        private final JProgressBar barra;
+        private final Callable<T> calculo;
+        private final Consumer<T> mostrar;
+
+        CargaValor(Component grupo, Object destino, JProgressBar barra, Callable<T> calculo, Consumer<T> mostrar) {
+            super(grupo, destino);
+            this.barra = barra;
+            this.calculo = calculo;
+            this.mostrar = mostrar;
+            if (barra != null) {
+                iniciarBarra(barra);
+            }
+        }
+
+        @Override
+        protected T doInBackground() throws Exception {
+            return calculo.call();
+        }
+
+        @Override
+        void terminar() {
+            if (barra != null) {
+                barra.setIndeterminate(false);
+                barra.setVisible(false);
+            }
+        }
+
+        @Override
+        void mostrar(T valor) {
+            mostrar.accept(valor);
+        }
+
+        @Override
+        JProgressBar getBarra() {
+            return barra;
+        }
+    }
+}
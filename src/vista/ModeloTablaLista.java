@@ -0,0 +1,164 @@
+package vista;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Modelo de tabla que muestra una lista de entidades del gestor.
+ * <p>
+ * Cada fila es una referencia a la entidad y cada columna una función que
+ * calcula el valor de la celda al pedirlo la tabla, de modo que sólo se
+ * calculan las celdas visibles y no se guarda una copia de los valores. Al
+ * reemplazar la lista se notifican sólo las filas agregadas o quitadas, y el
+ * resto como actualizadas, así la tabla conserva la selección.
+ * </p>
+ *
+ * @param <T> Tipo de entidad de cada fila
+ */
+class ModeloTablaLista<T> extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> columnas;
+    private final List<Function<? super T, ?>> valores;
+
+    /** Filas mostradas (no se copia la lista recibida) */
+    private List<? extends T> filas;
+
+    /** Fila de cada entidad mostrada (por identidad), reconstruida en {@link #setFilas} */
+    private Map<Object, Integer> indices;
+
+    /**
+     * Crea un modelo sin columnas ni filas.
+     */
+    ModeloTablaLista() {
+        this.columnas = new ArrayList<>();
+        this.valores = new ArrayList<>();
+        this.filas = Collections.emptyList();
+        this.indices = new IdentityHashMap<>();
+    }
+
+    /**
+     * Agrega una columna.
+     *
+     * @param nombre Encabezado de la columna
+     * @param valor  Calcula el valor de la celda a partir de la entidad
+     * @return Este modelo, para encadenar columnas
+     */
+    ModeloTablaLista<T> columna(String nombre, Function<? super T, ?> valor) {
+        columnas.add(nombre);
+        valores.add(valor);
+        return this;
+    }
+
+    /**
+     * Reemplaza las filas mostradas.
+     * <p>
+     * Las filas iguales (por identidad) al principio y al final de ambas
+     * listas se notifican como actualizadas; las del medio como insertadas,
+     * quitadas o actualizadas según cambie la cantidad.
+     * </p>
+     *
+     * @param nuevas Lista de entidades; el modelo la usa sin copiarla, así que
+     *               no debe modificarse después
+     */
+    void setFilas(List<? extends T> nuevas) {
+        List<? extends T> anteriores = filas;
+        filas = nuevas;
+        indices = new IdentityHashMap<>(nuevas.size());
+        for (int i = 0; i < nuevas.size(); i++) {
+            indices.putIfAbsent(nuevas.get(i), i);
+        }
+
+        int cantidadAnterior = anteriores.size();
+        int cantidadNueva = nuevas.size();
+        if (cantidadAnterior == cantidadNueva) {
+            if (cantidadNueva > 0) {
+                fireTableRowsUpdated(0, cantidadNueva - 1);
+            }
+            return;
+        }
+
+        // Prefijo y sufijo comunes
+        int limite = Math.min(cantidadAnterior, cantidadNueva);
+        int inicio = 0;
+        while (inicio < limite && anteriores.get(inicio) == nuevas.get(inicio)) {
+            inicio++;
+        }
+        int fin = 0;
+        while (fin < limite - inicio
+                && anteriores.get(cantidadAnterior - 1 - fin) == nuevas.get(cantidadNueva - 1 - fin)) {
+            fin++;
+        }
+
+        // El tramo del medio: lo que coincide en cantidad se actualiza, el resto se inserta o se quita
+        int medioAnterior = cantidadAnterior - inicio - fin;
+        int medioNuevo = cantidadNueva - inicio - fin;
+        int comun = Math.min(medioAnterior, medioNuevo);
+        if (medioNuevo > medioAnterior) {
+            fireTableRowsInserted(inicio + comun, inicio + medioNuevo - 1);
+        } else {
+            fireTableRowsDeleted(inicio + comun, inicio + medioAnterior - 1);
+        }
+        if (cantidadNueva > 0) {
+            fireTableRowsUpdated(0, cantidadNueva - 1);
+        }
+    }
+
+    /**
+     * Notifica que cambiaron los valores de una entidad mostrada.
+     *
+     * @param entidad Entidad modificada
+     */
+    void filaActualizada(T entidad) {
+        int fila = indiceDe(entidad);
+        if (fila >= 0) {
+            fireTableRowsUpdated(fila, fila);
+        }
+    }
+
+    /**
+     * Obtiene la entidad de una fila.
+     *
+     * @param fila Índice de la fila en el modelo
+     * @return Entidad de la fila
+     */
+    T getFila(int fila) {
+        return filas.get(fila);
+    }
+
+    /**
+     * Busca la fila de una entidad (por identidad).
+     *
+     * @param entidad Entidad a buscar
+     * @return Índice de la fila, o -1 si no se muestra
+     */
+    int indiceDe(T entidad) {
+        Integer fila = indices.get(entidad);
+        return fila != null ? fila : -1;
+    }
+
+    @Override
+    public int getRowCount() {
+        return filas.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnas.size();
+    }
+
+    @Override
+    public String getColumnName(int columna) {
+        return columnas.get(columna);
+    }
+
+    @Override
+    public Object getValueAt(int fila, int columna) {
+        return valores.get(columna).apply(filas.get(fila));
+    }
+}
@@ -222,18 +222,10 @@ public class VentanaAutos extends JFrame {
     private void actualizarTablaAutos() {
         modeloTabla.setRowCount(0);
         List<Auto> autos = gestor.getAutos();
-        List<Escuderia> escuderias = gestor.getEscuderias();
 
         for (Auto auto : autos) {
-            String escuderiaAsignada = "Libre";
-
-            // Buscar si el auto está asignado a alguna escudería
-            for (Escuderia escuderia : escuderias) {
-                if (escuderia.getAutos().contains(auto)) {
-                    escuderiaAsignada = escuderia.getNombre();
-                    break;
-                }
-            }
+            Escuderia escuderia = gestor.getEscuderiaDelAuto(auto);
+            String escuderiaAsignada = escuderia != null ? escuderia.getNombre() : "Libre";
 
             Object[] fila = {
                     auto.getModelo(),
@@ -268,15 +260,8 @@ public class VentanaAutos extends JFrame {
             txtPotencia.setText(String.valueOf(autoSeleccionado.getPotencia()));
 
             // Buscar la escudería asignada
-            String escuderiaAsignada = "Sin asignar";
-            List<Escuderia> escuderias = gestor.getEscuderias();
-            for (Escuderia escuderia : escuderias) {
-                if (escuderia.getAutos().contains(autoSeleccionado)) {
-                    escuderiaAsignada = escuderia.getNombre();
-                    break;
-                }
-            }
-            cmbEscuderia.setSelectedItem(escuderiaAsignada);
+            Escuderia escuderia = gestor.getEscuderiaDelAuto(autoSeleccionado);
+            cmbEscuderia.setSelectedItem(escuderia != null ? escuderia.getNombre() : "Sin asignar");
         }
     }
 
@@ -352,7 +337,7 @@ public class VentanaAutos extends JFrame {
         // Buscar la escudería
         Escuderia escuderia = buscarEscuderiaPorNombre(escuderiaSeleccionada);
         if (escuderia != null) {
-            escuderia.agregarAuto(autoSeleccionado);
+            gestor.asignarAutoAEscuderia(autoSeleccionado, escuderia);
 
             JOptionPane.showMessageDialog(this,
                     "Auto asignado exitosamente a " + escuderia.getNombre() + ".",
@@ -376,15 +361,7 @@ public class VentanaAutos extends JFrame {
         }
 
         // Buscar la escudería a la que está asignado el auto
-        Escuderia escuderiaAsignada = null;
-        List<Escuderia> escuderias = gestor.getEscuderias();
-
-        for (Escuderia escuderia : escuderias) {
-            if (escuderia.getAutos().contains(autoSeleccionado)) {
-                escuderiaAsignada = escuderia;
-                break;
-            }
-        }
+        Escuderia escuderiaAsignada = gestor.getEscuderiaDelAuto(autoSeleccionado);
 
         if (escuderiaAsignada == null) {
             JOptionPane.showMessageDialog(this,
@@ -400,7 +377,7 @@ public class VentanaAutos extends JFrame {
                 JOptionPane.YES_NO_OPTION);
 
         if (confirmacion == JOptionPane.YES_OPTION) {
-            escuderiaAsignada.removerAuto(autoSeleccionado);
+            gestor.removerAutoDeEscuderia(autoSeleccionado);
 
             JOptionPane.showMessageDialog(this,
                     "Auto desasignado exitosamente de " + escuderiaAsignada.getNombre() + ".",
@@ -416,13 +393,7 @@ public class VentanaAutos extends JFrame {
      * Verifica si un auto está asignado a alguna escudería
      */
     private boolean estaAutoAsignado(Auto auto) {
-        List<Escuderia> escuderias = gestor.getEscuderias();
-        for (Escuderia escuderia : escuderias) {
-            if (escuderia.getAutos().contains(auto)) {
-                return true;
-            }
-        }
-        return false;
+        return gestor.getEscuderiaDelAuto(auto) != null;
     }
 
     /**
@@ -1,12 +1,20 @@
 package vista;
 
+import controlador.CronometrajeEnVivo;
+import controlador.EstadoCronometraje;
+import controlador.EventoCambio;
 import controlador.GestorFormula1;
+import controlador.OyenteCambios;
+import controlador.SimuladorCarrera;
 import modelo.*;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.List;
@@ -15,15 +23,26 @@ import java.util.List;
  * Ventana para la gestión de carreras (Grandes Premios)
  */
 public class VentanaCarreras extends JFrame {
+    /** Formatos de la tabla de carreras, que calcula sus celdas al dibujarlas */
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter FORMATO_HORA = DateTimeFormatter.ofPattern("HH:mm");
+
+    /** Refrescos por segundo de la ventana de cronometraje en vivo */
+    private static final int CUADROS_POR_SEGUNDO = 10;
+
+    /** Velocidad de reproducción de los feeds respecto del tiempo de carrera */
+    private static final double VELOCIDAD_REPRODUCCION = 60;
+
     private GestorFormula1 gestor;
     private JTabbedPane pestanas;
     private JTable tablaCarreras;
-    private DefaultTableModel modeloTablaCarreras;
+    private ModeloTablaLista<GranPremio> modeloTablaCarreras;
     private JTable tablaParticipaciones;
     private DefaultTableModel modeloTablaParticipaciones;
     private JTextField txtNombreCarrera, txtFecha, txtHora;
     private JComboBox<Circuito> comboCircuitos;
     private GranPremio carreraSeleccionada;
+    private final OyenteCambios oyenteCambios = this::aplicarCambios;
 
     /**
      * Constructor de la ventana de carreras
@@ -35,6 +54,13 @@ public class VentanaCarreras extends JFrame {
         inicializarComponentes();
         configurarVentana();
         cargarDatos();
+        gestor.suscribirCambios(oyenteCambios, SwingUtilities::invokeLater);
+    }
+
+    @Override
+    public void dispose() {
+        gestor.desuscribirCambios(oyenteCambios);
+        super.dispose();
     }
 
     /**
@@ -155,14 +181,15 @@ public class VentanaCarreras extends JFrame {
         JPanel panelTablaCarreras = new JPanel(new BorderLayout());
         panelTablaCarreras.setBorder(BorderFactory.createTitledBorder("📋 Carreras del Campeonato"));
 
-        String[] columnasCarreras = { "Gran Premio", "Circuito", "País", "Fecha", "Hora", "Estado", "Pilotos",
-                "Ganador" };
-        modeloTablaCarreras = new DefaultTableModel(columnasCarreras, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        modeloTablaCarreras = new ModeloTablaLista<GranPremio>()
+                .columna("Gran Premio", GranPremio::getNombre)
+                .columna("Circuito", carrera -> carrera.getCircuito().getNombre())
+                .columna("País", carrera -> carrera.getCircuito().getPais().getNombre())
+                .columna("Fecha", carrera -> carrera.getFechaHora().format(FORMATO_FECHA))
+                .columna("Hora", carrera -> carrera.getFechaHora().format(FORMATO_HORA))
+                .columna("Estado", carrera -> carrera.isFinalizada() ? "✅ Finalizada" : "⏳ Programada")
+                .columna("Pilotos", carrera -> carrera.getParticipaciones().size())
+                .columna("Ganador", this::ganadorCarrera);
 
         tablaCarreras = new JTable(modeloTablaCarreras);
         tablaCarreras.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -500,9 +527,11 @@ public class VentanaCarreras extends JFrame {
         JButton btnEditarResultado = new JButton("✏️ Editar Resultado");
         JButton btnFinalizarCarrera = new JButton("🏁 Finalizar Carrera");
         JButton btnVerResultados = new JButton("📊 Ver Resultados");
+        JButton btnCronometraje = new JButton("📡 Cronometraje en Vivo");
 
         // Aplicar estilos estándar
         aplicarEstiloBoton(btnEstablecerResultadosRapido);
+        aplicarEstiloBoton(btnCronometraje);
         aplicarEstiloBoton(btnEditarResultado);
         aplicarEstiloBoton(btnFinalizarCarrera);
         aplicarEstiloBoton(btnVerResultados);
@@ -511,8 +540,10 @@ public class VentanaCarreras extends JFrame {
         btnEditarResultado.addActionListener(e -> editarResultadoParticipacion());
         btnFinalizarCarrera.addActionListener(e -> finalizarCarrera());
         btnVerResultados.addActionListener(e -> verResultadosFinales());
+        btnCronometraje.addActionListener(e -> iniciarCronometrajeEnVivo());
 
         panelBotonesRes.add(btnEstablecerResultadosRapido);
+        panelBotonesRes.add(btnCronometraje);
         panelBotonesRes.add(btnEditarResultado);
         panelBotonesRes.add(btnFinalizarCarrera);
         panelBotonesRes.add(btnVerResultados);
@@ -630,27 +661,66 @@ public class VentanaCarreras extends JFrame {
      * Actualiza la tabla de carreras mostrando información más detallada
      */
     private void actualizarTablaCarreras() {
-        modeloTablaCarreras.setRowCount(0);
-        for (GranPremio carrera : gestor.getGrandesPremios()) {
-            String ganador = "No finalizada";
-            if (carrera.isFinalizada() && !carrera.getResultados().isEmpty()) {
-                Participacion primerLugar = carrera.getResultados().get(0);
-                ganador = primerLugar.getPiloto().getNombreCompleto() +
-                        " (" + primerLugar.getPuntosObtenidos() + " pts)";
+        modeloTablaCarreras.setFilas(gestor.getGrandesPremios());
+    }
+
+    /**
+     * Aplica los cambios del gestor: las altas y bajas de carreras recargan la
+     * lista, los demás cambios redibujan sólo la fila de la carrera afectada y
+     * la tabla de participaciones se rearma una vez por lote si el cambio es
+     * de la carrera seleccionada.
+     */
+    private void aplicarCambios(List<EventoCambio> cambios) {
+        boolean recargar = false;
+        boolean seleccionadaModificada = false;
+        for (EventoCambio cambio : cambios) {
+            GranPremio carrera;
+            if (cambio.isParticipacion()) {
+                carrera = cambio.getCarrera();
+            } else if (cambio.getEntidad() instanceof GranPremio granPremio) {
+                carrera = granPremio;
+                if (cambio.getTipo() == EventoCambio.Tipo.AGREGADO
+                        || cambio.getTipo() == EventoCambio.Tipo.ELIMINADO) {
+                    recargar = true;
+                    continue;
+                }
+            } else {
+                continue;
+            }
+            modeloTablaCarreras.filaActualizada(carrera);
+            if (carrera == carreraSeleccionada) {
+                seleccionadaModificada = true;
             }
+        }
+        if (recargar) {
+            actualizarTablaCarreras();
+        }
+        if (seleccionadaModificada) {
+            actualizarTablaParticipaciones();
+            actualizarInformacionCarreraSeleccionada();
+        }
+    }
 
-            Object[] fila = {
-                    carrera.getNombre(),
-                    carrera.getCircuito().getNombre(),
-                    carrera.getCircuito().getPais().getNombre(),
-                    carrera.getFechaHora().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
-                    carrera.getFechaHora().format(DateTimeFormatter.ofPattern("HH:mm")),
-                    carrera.isFinalizada() ? "✅ Finalizada" : "⏳ Programada",
-                    carrera.getParticipaciones().size(),
-                    ganador
-            };
-            modeloTablaCarreras.addRow(fila);
+    /**
+     * Ganador de una carrera para la tabla de carreras
+     */
+    private String ganadorCarrera(GranPremio carrera) {
+        if (carrera.isFinalizada()) {
+            // Se recorre la tabla de resultados sin armar la clasificación ordenada
+            TablaResultados resultados = carrera.getTablaResultados();
+            int primerLugar = -1;
+            for (int fila = 0; fila < resultados.size(); fila++) {
+                int posicion = resultados.getPosicion(fila);
+                if (posicion > 0 && (primerLugar < 0 || posicion < resultados.getPosicion(primerLugar))) {
+                    primerLugar = fila;
+                }
+            }
+            if (primerLugar >= 0) {
+                return resultados.getPiloto(primerLugar).getNombreCompleto() +
+                        " (" + resultados.getPuntos(primerLugar) + " pts)";
+            }
         }
+        return "No finalizada";
     }
 
     /**
@@ -744,10 +814,7 @@ public class VentanaCarreras extends JFrame {
     private void cargarCarreraSeleccionada() {
         int filaSeleccionada = tablaCarreras.getSelectedRow();
         if (filaSeleccionada >= 0) {
-            String nombreCarrera = (String) modeloTablaCarreras.getValueAt(filaSeleccionada, 0);
-            carreraSeleccionada = gestor.getGrandesPremios().stream()
-                    .filter(c -> c.getNombre().equals(nombreCarrera))
-                    .findFirst().orElse(null);
+            carreraSeleccionada = modeloTablaCarreras.getFila(filaSeleccionada);
 
             if (carreraSeleccionada != null) {
                 // Cargar datos en el formulario
@@ -945,9 +1012,9 @@ public class VentanaCarreras extends JFrame {
             }
 
             // Validar que no haya conflicto de horario en el mismo circuito
-            boolean conflictoHorario = gestor.getGrandesPremios().stream()
-                    .anyMatch(gp -> gp.getCircuito().equals(circuito) &&
-                            Math.abs(java.time.Duration.between(gp.getFechaHora(), fechaHora).toHours()) < 24);
+            boolean conflictoHorario = gestor.getGrandesPremiosEntre(fechaHora.minusHours(24), fechaHora.plusHours(24))
+                    .stream()
+                    .anyMatch(gp -> gp.getCircuito().equals(circuito));
 
             if (conflictoHorario) {
                 int opcion = JOptionPane.showConfirmDialog(this,
@@ -979,8 +1046,6 @@ public class VentanaCarreras extends JFrame {
 
             GranPremio nuevaCarrera = new GranPremio(nombre, fechaHora, circuito);
             gestor.registrarGranPremio(nuevaCarrera);
-
-            actualizarTablaCarreras();
             limpiarFormularioPlanificacion();
 
             JOptionPane.showMessageDialog(this,
@@ -1062,12 +1127,7 @@ public class VentanaCarreras extends JFrame {
                 return;
             }
 
-            carreraSeleccionada.setNombre(nuevoNombre);
-            carreraSeleccionada.setCircuito(nuevoCircuito);
-            carreraSeleccionada.setFechaHora(nuevaFechaHora);
-
-            actualizarTablaCarreras();
-            actualizarInformacionCarreraSeleccionada();
+            gestor.modificarGranPremio(carreraSeleccionada, nuevoNombre, nuevoCircuito, nuevaFechaHora);
 
             JOptionPane.showMessageDialog(this,
                     "✅ Carrera modificada exitosamente\n\n" +
@@ -1143,10 +1203,9 @@ public class VentanaCarreras extends JFrame {
         String nombreCarrera = carreraSeleccionada.getNombre();
         int numParticipaciones = carreraSeleccionada.getParticipaciones().size();
 
-        gestor.getGrandesPremios().remove(carreraSeleccionada);
+        gestor.eliminarGranPremio(carreraSeleccionada);
         carreraSeleccionada = null;
 
-        actualizarTablaCarreras();
         actualizarTablaParticipaciones();
         limpiarFormularioPlanificacion();
 
@@ -1225,9 +1284,6 @@ public class VentanaCarreras extends JFrame {
 
             gestor.inscribirPilotoEnCarrera(piloto, auto, carreraSeleccionada);
 
-            actualizarTablaParticipaciones();
-            actualizarTablaCarreras();
-
             JOptionPane.showMessageDialog(this,
                     "✅ Piloto inscrito exitosamente\n\n" +
                             "🏎️ " + piloto.getNombreCompleto() + "\n" +
@@ -1274,9 +1330,7 @@ public class VentanaCarreras extends JFrame {
                 .findFirst().orElse(null);
 
         if (participacion != null) {
-            carreraSeleccionada.getParticipaciones().remove(participacion);
-            actualizarTablaParticipaciones();
-            actualizarTablaCarreras();
+            gestor.removerParticipacion(carreraSeleccionada, participacion);
 
             JOptionPane.showMessageDialog(this, "Participación removida exitosamente", "Éxito",
                     JOptionPane.INFORMATION_MESSAGE);
@@ -1345,7 +1399,7 @@ public class VentanaCarreras extends JFrame {
             txtPosicion.setText(String.valueOf(participacion.getPosicionFinal()));
         }
         if (participacion.getMejorVuelta() != null) {
-            txtPosicion.setText(participacion.getMejorVuelta().toString());
+            txtMejorVuelta.setText(formatearMilisegundos(participacion.getMejorVuelta().toMillis()));
         }
         chkVueltaRapida.setSelected(participacion.isVueltaRapida());
         chkAbandono.setSelected(participacion.isAbandono());
@@ -1420,8 +1474,7 @@ public class VentanaCarreras extends JFrame {
                     if (motivo.isEmpty()) {
                         motivo = "No especificado";
                     }
-                    participacion.marcarAbandono(motivo);
-                    participacion.setPuntosObtenidos(0); // Sin puntos por abandono
+                    gestor.marcarAbandono(participacion, motivo); // Sin puntos por abandono
                 } else {
                     String posicionText = txtPosicion.getText().trim();
                     if (posicionText.isEmpty()) {
@@ -1433,26 +1486,23 @@ public class VentanaCarreras extends JFrame {
                         throw new IllegalArgumentException("La posición debe estar entre 1 y 20");
                     }
 
-                    participacion.setPosicionFinal(posicion);
-                    participacion.setVueltaRapida(chkVueltaRapida.isSelected());
-
-                    controlador.ValidadorFormula1.actualizarPuntosParticipacion(participacion);
+                    gestor.establecerPosicionFinal(participacion, posicion);
+                    // Sólo un cambio del usuario fija la vuelta rápida a mano
+                    if (chkVueltaRapida.isSelected() != participacion.isVueltaRapida()) {
+                        gestor.asignarVueltaRapida(participacion, chkVueltaRapida.isSelected());
+                    }
                 }
 
                 // Mejor vuelta
                 String mejorVueltaText = txtMejorVuelta.getText().trim();
                 if (!mejorVueltaText.isEmpty()) {
                     try {
-                        LocalTime mejorVuelta = LocalTime.parse("00:" + mejorVueltaText);
-                        participacion.setMejorVuelta(mejorVuelta);
+                        gestor.establecerMejorVuelta(participacion, parsearVuelta(mejorVueltaText));
                     } catch (Exception ex) {
                         // Ignorar si el formato es incorrecto
                     }
                 }
 
-                actualizarTablaParticipaciones();
-                actualizarTablaCarreras();
-
                 String mensaje = String.format("Resultado guardado exitosamente!\n\n" +
                         "Piloto: %s\n" +
                         "Posición: %s\n" +
@@ -1588,9 +1638,6 @@ public class VentanaCarreras extends JFrame {
 
                 gestor.finalizarCarrera(carreraSeleccionada);
 
-                actualizarTablaCarreras();
-                actualizarTablaParticipaciones();
-
                 java.util.List<String> resultados = gestor.obtenerResumenResultados(carreraSeleccionada);
                 StringBuilder mensaje = new StringBuilder("🏁 ¡CARRERA FINALIZADA EXITOSAMENTE! 🏁\n\n");
                 mensaje.append("🏆 RESULTADOS OFICIALES:\n");
@@ -1784,7 +1831,8 @@ public class VentanaCarreras extends JFrame {
     }
 
     /**
-     * Establece resultados automáticos para testing rápido
+     * Establece resultados automáticos simulando la carrera vuelta a vuelta
+     * con los datos de circuito, autos y pilotos
      */
     private void establecerResultadosAutomaticos() {
         if (carreraSeleccionada == null) {
@@ -1807,30 +1855,35 @@ public class VentanaCarreras extends JFrame {
 
         int respuesta = JOptionPane.showConfirmDialog(this,
                 "¿Desea establecer resultados automáticos para esta carrera?\n" +
-                        "Esto asignará posiciones aleatorias a los participantes.",
+                        "Se simulará la carrera según los autos, los pilotos y el circuito.",
                 "Resultados Automáticos",
                 JOptionPane.YES_NO_OPTION);
 
         if (respuesta == JOptionPane.YES_OPTION) {
             try {
-                java.util.List<Participacion> listaParticipaciones = new java.util.ArrayList<>(participaciones);
-                java.util.Collections.shuffle(listaParticipaciones);
-
-                for (int i = 0; i < listaParticipaciones.size(); i++) {
-                    Participacion p = listaParticipaciones.get(i);
-                    p.setPosicionFinal(i + 1);
-                    controlador.ValidadorFormula1.actualizarPuntosParticipacion(p);
-                }
-
-                if (!listaParticipaciones.isEmpty()) {
-                    listaParticipaciones.get(0).setVueltaRapida(true);
-                    controlador.ValidadorFormula1.actualizarPuntosParticipacion(listaParticipaciones.get(0));
+                SimuladorCarrera simulador = new SimuladorCarrera();
+                simulador.preparar(carreraSeleccionada);
+                simulador.simular();
+
+                // Los participantes del simulador están en el orden de las participaciones.
+                // La mejor vuelta y la vuelta rápida se derivan de los tiempos de cada vuelta.
+                for (int i = 0; i < participaciones.size(); i++) {
+                    Participacion participacion = participaciones.get(i);
+                    if (simulador.isAbandono(i)) {
+                        gestor.marcarAbandono(participacion, simulador.getMotivoAbandono(i));
+                    } else {
+                        gestor.establecerPosicionFinal(participacion, simulador.getPosicion(i));
+                    }
+                    gestor.establecerTiemposVuelta(participacion, simulador.getTiemposVuelta(i));
                 }
 
-                actualizarTablaParticipaciones();
-
+                int primero = simulador.getParticipanteEnOrden(0);
+                String ganador = !simulador.isAbandono(primero)
+                        ? simulador.getPiloto(primero).getNombreCompleto()
+                        : "ninguno (todos abandonaron)";
                 JOptionPane.showMessageDialog(this,
                         "✅ Resultados automáticos establecidos!\n" +
+                                "Vueltas: " + simulador.getVueltas() + " - Ganador: " + ganador + "\n" +
                                 "Puede editarlos individualmente antes de finalizar la carrera.",
                         "Resultados Generados",
                         JOptionPane.INFORMATION_MESSAGE);
@@ -1842,6 +1895,193 @@ public class VentanaCarreras extends JFrame {
         }
     }
 
+    /**
+     * Cronometra la carrera seleccionada en vivo, desde una simulación o un
+     * feed grabado
+     */
+    private void iniciarCronometrajeEnVivo() {
+        if (carreraSeleccionada == null) {
+            JOptionPane.showMessageDialog(this, "Seleccione una carrera", "Advertencia", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        if (carreraSeleccionada.isFinalizada()) {
+            JOptionPane.showMessageDialog(this, "La carrera ya está finalizada", "Información",
+                    JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        if (carreraSeleccionada.getParticipaciones().isEmpty()) {
+            JOptionPane.showMessageDialog(this, "No hay participaciones en esta carrera", "Advertencia",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        String[] opciones = { "Simular carrera", "Abrir feed grabado...", "Cancelar" };
+        int opcion = JOptionPane.showOptionDialog(this,
+                "Seleccione la fuente del cronometraje.\n" +
+                        "El feed se reproduce a " + (int) VELOCIDAD_REPRODUCCION + "x del tiempo de carrera.",
+                "Cronometraje en Vivo",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, opciones, opciones[0]);
+        if (opcion != 0 && opcion != 1) {
+            return;
+        }
+
+        GranPremio carrera = carreraSeleccionada;
+        try {
+            CronometrajeEnVivo cronometraje = new CronometrajeEnVivo(gestor, carrera);
+            if (opcion == 0) {
+                SimuladorCarrera simulador = new SimuladorCarrera();
+                simulador.preparar(carrera);
+                simulador.simular();
+                StringBuilder feed = new StringBuilder();
+                CronometrajeEnVivo.grabar(simulador, feed);
+                cronometraje.iniciar(new ByteArrayInputStream(feed.toString().getBytes(StandardCharsets.UTF_8)),
+                        VELOCIDAD_REPRODUCCION);
+            } else {
+                JFileChooser selector = new JFileChooser();
+                if (selector.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+                    return;
+                }
+                cronometraje.iniciar(selector.getSelectedFile().toPath(), VELOCIDAD_REPRODUCCION);
+            }
+            mostrarCronometrajeEnVivo(carrera, cronometraje);
+
+        } catch (Exception e) {
+            JOptionPane.showMessageDialog(this, "Error al iniciar el cronometraje: " + e.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Muestra el orden de carrera en vivo. La tabla se refresca a
+     * CUADROS_POR_SEGUNDO, sin importar cuántos eventos lleguen del feed.
+     */
+    private void mostrarCronometrajeEnVivo(GranPremio carrera, CronometrajeEnVivo cronometraje) {
+        JDialog dialogo = new JDialog(this, "📡 En Vivo - " + carrera.getNombre(), false);
+        dialogo.setLayout(new BorderLayout());
+
+        String[] columnas = { "Pos", "Piloto", "Escudería", "Vueltas", "Última Vuelta", "Dif. Líder",
+                "Intervalo", "Estado" };
+        DefaultTableModel modelo = new DefaultTableModel(columnas, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable tabla = new JTable(modelo);
+        JScrollPane scroll = new JScrollPane(tabla);
+        scroll.setPreferredSize(new Dimension(850, 500));
+
+        JLabel lblEstado = new JLabel(" ");
+        JButton btnDetener = new JButton("⏹ Detener");
+        aplicarEstiloBoton(btnDetener);
+        btnDetener.addActionListener(e -> cronometraje.detener());
+
+        JPanel panelInferior = new JPanel(new BorderLayout());
+        panelInferior.setBorder(BorderFactory.createEmptyBorder(5, 10, 5, 10));
+        panelInferior.add(lblEstado, BorderLayout.CENTER);
+        panelInferior.add(btnDetener, BorderLayout.EAST);
+
+        Timer refresco = new Timer(1000 / CUADROS_POR_SEGUNDO, null);
+        refresco.addActionListener(e -> {
+            EstadoCronometraje estado = cronometraje.getEstado();
+            actualizarTablaEnVivo(modelo, estado);
+            lblEstado.setText(String.format("Eventos: %d | Descartados: %d | En cola: %d | Esperas: %d | %.1f µs/evento",
+                    estado.getEventosProcesados(), estado.getEventosDescartados(), estado.getEventosPendientes(),
+                    estado.getEsperasLector(), estado.getNanosPorEvento() / 1000));
+            if (estado.isTerminado()) {
+                refresco.stop();
+                btnDetener.setEnabled(false);
+                if (estado.getError() != null) {
+                    JOptionPane.showMessageDialog(dialogo, "El cronometraje se detuvo: " + estado.getError(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        });
+
+        dialogo.addWindowListener(new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowClosed(java.awt.event.WindowEvent e) {
+                refresco.stop();
+                cronometraje.detener();
+            }
+        });
+        dialogo.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        dialogo.add(scroll, BorderLayout.CENTER);
+        dialogo.add(panelInferior, BorderLayout.SOUTH);
+        dialogo.pack();
+        dialogo.setLocationRelativeTo(this);
+        refresco.start();
+        dialogo.setVisible(true);
+    }
+
+    private void actualizarTablaEnVivo(DefaultTableModel modelo, EstadoCronometraje estado) {
+        modelo.setRowCount(estado.size());
+        for (int fila = 0; fila < estado.size(); fila++) {
+            Participacion participacion = estado.getParticipacion(fila);
+            String diferencia;
+            String intervalo;
+            if (estado.getDiferenciaLider(fila) == EstadoCronometraje.SIN_DIFERENCIA) {
+                diferencia = fila == 0 && !estado.isAbandono(fila) ? "Líder" : "-";
+                intervalo = "-";
+            } else if (estado.getVueltasDetras(fila) > 0) {
+                diferencia = "+" + estado.getVueltasDetras(fila) + " V";
+                intervalo = "+" + formatearMilisegundos(estado.getIntervalo(fila));
+            } else {
+                diferencia = "+" + formatearMilisegundos(estado.getDiferenciaLider(fila));
+                intervalo = "+" + formatearMilisegundos(estado.getIntervalo(fila));
+            }
+            String situacion = estado.isAbandono(fila) ? "DNF"
+                    : estado.isTerminado(fila) ? "🏁 Terminó" : "En pista";
+
+            // Sólo se tocan las celdas que cambiaron, para no repintar la tabla entera
+            establecerCelda(modelo, fila, 0, estado.isAbandono(fila) ? "-" : String.valueOf(fila + 1));
+            establecerCelda(modelo, fila, 1, participacion.getPiloto().getNombreCompleto());
+            establecerCelda(modelo, fila, 2,
+                    participacion.getEscuderia() != null ? participacion.getEscuderia().getNombre() : "-");
+            establecerCelda(modelo, fila, 3, estado.getVueltas(fila));
+            establecerCelda(modelo, fila, 4,
+                    estado.getUltimaVuelta(fila) > 0 ? formatearMilisegundos(estado.getUltimaVuelta(fila)) : "-");
+            establecerCelda(modelo, fila, 5, diferencia);
+            establecerCelda(modelo, fila, 6, intervalo);
+            establecerCelda(modelo, fila, 7, situacion);
+        }
+    }
+
+    private static void establecerCelda(DefaultTableModel modelo, int fila, int columna, Object valor) {
+        if (!valor.equals(modelo.getValueAt(fila, columna))) {
+            modelo.setValueAt(valor, fila, columna);
+        }
+    }
+
+    /**
+     * Formatea milisegundos como m:ss.SSS, o s.SSS si no llega a un minuto
+     */
+    private static String formatearMilisegundos(long milisegundos) {
+        long minutos = milisegundos / 60_000;
+        long segundos = milisegundos / 1000 % 60;
+        long milis = milisegundos % 1000;
+        return minutos > 0 ? String.format("%d:%02d.%03d", minutos, segundos, milis)
+                : String.format("%d.%03d", segundos, milis);
+    }
+
+    /**
+     * Interpreta un tiempo de vuelta en formato m:ss.SSS o s.SSS
+     *
+     * @throws NumberFormatException si el texto no tiene ese formato
+     */
+    private static Duration parsearVuelta(String texto) {
+        int separador = texto.indexOf(':');
+        long minutos = separador >= 0 ? Long.parseLong(texto.substring(0, separador)) : 0;
+        BigDecimal segundos = new BigDecimal(texto.substring(separador + 1));
+        if (minutos < 0 || segundos.signum() < 0
+                || separador >= 0 && segundos.compareTo(BigDecimal.valueOf(60)) >= 0) {
+            throw new NumberFormatException("Tiempo de vuelta inválido: " + texto);
+        }
+        return Duration.ofMinutes(minutos).plusNanos(segundos.movePointRight(9).longValue());
+    }
+
     private void actualizarTablaPilotosDisponibles(DefaultTableModel modelo) {
         modelo.setRowCount(0);
 
@@ -1921,10 +2161,6 @@ public class VentanaCarreras extends JFrame {
             }
         }
 
-        // Actualizar interfaces
-        actualizarTablaParticipaciones();
-        actualizarTablaCarreras();
-
         // Obtener el modelo de la tabla para actualizarlo
         DefaultTableModel modelo = (DefaultTableModel) tablaPilotosDisponibles.getModel();
         actualizarTablaPilotosDisponibles(modelo);
@@ -2077,9 +2313,6 @@ public class VentanaCarreras extends JFrame {
             }
         }
 
-        actualizarTablaParticipaciones();
-        actualizarTablaCarreras();
-
         StringBuilder mensaje = new StringBuilder();
         mensaje.append("🏁 Inscripción masiva completada:\n\n");
         mensaje.append("✅ Pilotos inscritos: ").append(inscripcionesExitosas).append("\n");
@@ -2148,10 +2381,9 @@ public class VentanaCarreras extends JFrame {
 
         if (confirmacion == JOptionPane.YES_OPTION) {
             int participantesRemovidos = carreraSeleccionada.getParticipaciones().size();
-            carreraSeleccionada.getParticipaciones().clear();
-
-            actualizarTablaParticipaciones();
-            actualizarTablaCarreras();
+            for (Participacion participacion : carreraSeleccionada.getParticipaciones()) {
+                gestor.removerParticipacion(carreraSeleccionada, participacion);
+            }
 
             JOptionPane.showMessageDialog(this,
                     String.format("✅ Se removieron %d participaciones exitosamente", participantesRemovidos),
@@ -2196,8 +2428,14 @@ public class VentanaCarreras extends JFrame {
         for (Participacion participacion : participacionesSinAuto) {
             Auto autoDisponible = buscarAutoDisponible();
             if (autoDisponible != null) {
-                participacion.setAuto(autoDisponible);
-                asignacionesExitosas++;
+                try {
+                    gestor.cambiarAutoParticipacion(participacion, autoDisponible);
+                    asignacionesExitosas++;
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    errores.append("- ").append(participacion.getPiloto().getNombreCompleto()).append(": ")
+                            .append(e.getMessage()).append("\n");
+                    asignacionesFallidas++;
+                }
             } else {
                 errores.append("- ").append(participacion.getPiloto().getNombreCompleto())
                         .append(": No hay autos disponibles\n");
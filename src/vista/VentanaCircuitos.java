@@ -316,11 +316,9 @@ public class VentanaCircuitos extends JFrame {
                     .findFirst().orElse(null);
 
             if (circuito != null) {
-                circuito.setNombre(txtNombre.getText().trim());
-                circuito.setPais((Pais) comboPaises.getSelectedItem());
-                circuito.setLongitud(Double.parseDouble(txtLongitud.getText().trim()));
-                circuito.setNumeroCurvas(Integer.parseInt(txtNumeroCurvas.getText().trim()));
-                circuito.setTipo(txtTipo.getText().trim());
+                gestor.modificarCircuito(circuito, txtNombre.getText().trim(), (Pais) comboPaises.getSelectedItem(),
+                        Double.parseDouble(txtLongitud.getText().trim()),
+                        Integer.parseInt(txtNumeroCurvas.getText().trim()), txtTipo.getText().trim());
 
                 actualizarTablaCircuitos();
                 JOptionPane.showMessageDialog(this, "Circuito modificado exitosamente", "Éxito",
@@ -374,7 +372,7 @@ public class VentanaCircuitos extends JFrame {
 
         if (confirmacion == JOptionPane.YES_OPTION) {
             if (circuito != null) {
-                gestor.getCircuitos().remove(circuito);
+                gestor.eliminarCircuito(circuito);
                 actualizarTablaCircuitos();
                 limpiarFormulario();
 
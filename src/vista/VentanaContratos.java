@@ -1,11 +1,15 @@
 package vista;
 
+import controlador.EventoCambio;
 import controlador.GestorFormula1;
+import controlador.OyenteCambios;
+import controlador.ValidadorFormula1;
 import modelo.*;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -15,14 +19,19 @@ import java.util.List;
 public class VentanaContratos extends JFrame {
     private GestorFormula1 gestor;
     private JTable tablaContratos;
-    private DefaultTableModel modeloTablaContratos;
+    private ModeloTablaLista<PilotoEscuderia> modeloTablaContratos;
     private JTable tablaPilotosLibres;
-    private DefaultTableModel modeloTablaPilotosLibres;
+    private ModeloTablaLista<Piloto> modeloTablaPilotosLibres;
     private JTextArea areaDetallesContrato;
     private JComboBox<Escuderia> comboFiltroEscuderia;
     private JCheckBox chkMostrarExpirados;
     private JLabel lblEstadisticas;
 
+    /** Fecha con la que se calcula el estado de los contratos mostrados */
+    private LocalDate hoy = LocalDate.now();
+
+    private final OyenteCambios oyenteCambios = this::aplicarCambios;
+
     /**
      * Constructor de la ventana de contratos
      */
@@ -32,6 +41,13 @@ public class VentanaContratos extends JFrame {
         configurarVentana();
         cargarDatos();
         configurarEventos();
+        gestor.suscribirCambios(oyenteCambios, SwingUtilities::invokeLater);
+    }
+
+    @Override
+    public void dispose() {
+        gestor.desuscribirCambios(oyenteCambios);
+        super.dispose();
     }
 
     /**
@@ -141,13 +157,13 @@ public class VentanaContratos extends JFrame {
                 BorderFactory.createEmptyBorder(10, 10, 10, 10)));
 
         // Configurar tabla de contratos
-        String[] columnasContratos = { "Piloto", "DNI", "Escudería", "Desde", "Hasta", "Estado" };
-        modeloTablaContratos = new DefaultTableModel(columnasContratos, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        modeloTablaContratos = new ModeloTablaLista<PilotoEscuderia>()
+                .columna("Piloto", contrato -> contrato.getPiloto().getNombre() + " " + contrato.getPiloto().getApellido())
+                .columna("DNI", contrato -> contrato.getPiloto().getDni())
+                .columna("Escudería", contrato -> contrato.getEscuderia().getNombre())
+                .columna("Desde", PilotoEscuderia::getDesdeFecha)
+                .columna("Hasta", contrato -> contrato.getHastaFecha() != null ? contrato.getHastaFecha() : "Indefinido")
+                .columna("Estado", contrato -> contrato.estaVigente(hoy) ? "VIGENTE" : "EXPIRADO");
 
         tablaContratos = new JTable(modeloTablaContratos);
         configurarTabla(tablaContratos);
@@ -203,13 +219,20 @@ public class VentanaContratos extends JFrame {
                 BorderFactory.createEmptyBorder(10, 10, 10, 10)));
 
         // Configurar tabla de pilotos libres
-        String[] columnasPilotosLibres = { "Piloto", "DNI", "Última Escudería", "Contrato Finalizado" };
-        modeloTablaPilotosLibres = new DefaultTableModel(columnasPilotosLibres, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        modeloTablaPilotosLibres = new ModeloTablaLista<Piloto>()
+                .columna("Piloto", piloto -> piloto.getNombre() + " " + piloto.getApellido())
+                .columna("DNI", Piloto::getDni)
+                .columna("Última Escudería", piloto -> {
+                    PilotoEscuderia ultimo = ultimoContrato(piloto);
+                    return ultimo != null ? ultimo.getEscuderia().getNombre() : "Nunca tuvo contrato";
+                })
+                .columna("Contrato Finalizado", piloto -> {
+                    PilotoEscuderia ultimo = ultimoContrato(piloto);
+                    if (ultimo == null) {
+                        return "N/A";
+                    }
+                    return ultimo.getHastaFecha() != null ? ultimo.getHastaFecha() : "Finalizado";
+                });
 
         tablaPilotosLibres = new JTable(modeloTablaPilotosLibres);
         configurarTabla(tablaPilotosLibres);
@@ -330,69 +353,96 @@ public class VentanaContratos extends JFrame {
     private void actualizarTablas() {
         // Actualizar contratos primero
         gestor.actualizarEscuderiasSegunContratos();
+        recargarTablas();
+    }
 
-        // Limpiar tablas
-        modeloTablaContratos.setRowCount(0);
-        modeloTablaPilotosLibres.setRowCount(0);
-
-        // Cargar contratos
-        List<PilotoEscuderia> contratos = gestor.getPilotoEscuderias();
+    /**
+     * Vuelve a cargar ambas tablas sin revisar los vencimientos
+     */
+    private void recargarTablas() {
+        // Cargar contratos (sin expirados, sólo se recorren los vigentes del índice)
         Escuderia filtroEscuderia = (Escuderia) comboFiltroEscuderia.getSelectedItem();
         boolean mostrarExpirados = chkMostrarExpirados.isSelected();
+        List<PilotoEscuderia> contratos;
+        if (mostrarExpirados) {
+            contratos = new ArrayList<>(gestor.getPilotoEscuderias());
+        } else if (filtroEscuderia != null) {
+            contratos = gestor.getPilotosEscuderiaConFechas(filtroEscuderia);
+        } else {
+            contratos = gestor.getContratosVigentes();
+        }
+        hoy = LocalDate.now();
 
-        for (PilotoEscuderia contrato : contratos) {
-            // Aplicar filtros
-            if (filtroEscuderia != null && !contrato.getEscuderia().equals(filtroEscuderia)) {
-                continue;
-            }
-
-            if (!mostrarExpirados && contrato.haExpirado()) {
-                continue;
-            }
-
-            Object[] fila = {
-                    contrato.getPiloto().getNombre() + " " + contrato.getPiloto().getApellido(),
-                    contrato.getPiloto().getDni(),
-                    contrato.getEscuderia().getNombre(),
-                    contrato.getDesdeFecha(),
-                    contrato.getHastaFecha() != null ? contrato.getHastaFecha() : "Indefinido",
-                    contrato.estaVigente() ? "VIGENTE" : "EXPIRADO"
-            };
-            modeloTablaContratos.addRow(fila);
+        // Aplicar filtros
+        if (filtroEscuderia != null) {
+            contratos.removeIf(contrato -> !contrato.getEscuderia().equals(filtroEscuderia));
         }
+        modeloTablaContratos.setFilas(contratos);
 
         // Cargar pilotos libres
-        List<Piloto> pilotosLibres = gestor.getPilotosLibres();
-        for (Piloto piloto : pilotosLibres) {
-            List<PilotoEscuderia> historial = gestor.getHistorialPiloto(piloto);
-
-            String ultimaEscuderia = "Nunca tuvo contrato";
-            String fechaFinalizacion = "N/A";
+        modeloTablaPilotosLibres.setFilas(gestor.getPilotosLibres());
+    }
 
-            if (!historial.isEmpty()) {
-                PilotoEscuderia ultimoContrato = historial.get(historial.size() - 1);
-                ultimaEscuderia = ultimoContrato.getEscuderia().getNombre();
-                fechaFinalizacion = ultimoContrato.getHastaFecha() != null ? ultimoContrato.getHastaFecha()
-                        : "Finalizado";
+    /**
+     * Aplica los cambios del gestor. Los cambios de contratos y las altas y
+     * bajas de pilotos o escuderías recargan las tablas y las estadísticas;
+     * los cambios en los datos de un piloto sólo redibujan sus filas.
+     */
+    private void aplicarCambios(List<EventoCambio> cambios) {
+        boolean recargar = false;
+        boolean recargarEscuderias = false;
+        for (EventoCambio cambio : cambios) {
+            Object entidad = cambio.getEntidad();
+            boolean altaOBaja = cambio.getTipo() == EventoCambio.Tipo.AGREGADO
+                    || cambio.getTipo() == EventoCambio.Tipo.ELIMINADO;
+            if (entidad instanceof PilotoEscuderia) {
+                recargar = true;
+            } else if (entidad instanceof Escuderia && altaOBaja) {
+                recargarEscuderias = true;
+                recargar = true;
+            } else if (entidad instanceof Piloto piloto && !cambio.isParticipacion()) {
+                if (altaOBaja) {
+                    recargar = true;
+                } else {
+                    pilotoActualizado(piloto);
+                }
             }
+        }
+        if (recargarEscuderias) {
+            cargarEscuderiasEnFiltro();
+        }
+        if (recargar) {
+            recargarTablas();
+            actualizarEstadisticas();
+        }
+    }
 
-            Object[] fila = {
-                    piloto.getNombre() + " " + piloto.getApellido(),
-                    piloto.getDni(),
-                    ultimaEscuderia,
-                    fechaFinalizacion
-            };
-            modeloTablaPilotosLibres.addRow(fila);
+    /**
+     * Redibuja las filas que muestran datos de un piloto
+     */
+    private void pilotoActualizado(Piloto piloto) {
+        modeloTablaPilotosLibres.filaActualizada(piloto);
+        for (int fila = 0; fila < modeloTablaContratos.getRowCount(); fila++) {
+            if (modeloTablaContratos.getFila(fila).getPiloto() == piloto) {
+                modeloTablaContratos.fireTableRowsUpdated(fila, fila);
+            }
         }
     }
 
+    /**
+     * Último contrato de un piloto, o null si nunca tuvo uno
+     */
+    private PilotoEscuderia ultimoContrato(Piloto piloto) {
+        List<PilotoEscuderia> historial = gestor.getHistorialPiloto(piloto);
+        return historial.isEmpty() ? null : historial.get(historial.size() - 1);
+    }
+
     /**
      * Actualiza las estadísticas generales
      */
     private void actualizarEstadisticas() {
-        List<PilotoEscuderia> todosContratos = gestor.getPilotoEscuderias();
-        long contratosVigentes = todosContratos.stream().mapToLong(c -> c.estaVigente() ? 1 : 0).sum();
-        long contratosExpirados = todosContratos.size() - contratosVigentes;
+        long contratosVigentes = gestor.getContratosVigentes().size();
+        long contratosExpirados = gestor.getPilotoEscuderias().size() - contratosVigentes;
         int pilotosLibres = gestor.getPilotosLibres().size();
 
         String stats = String.format(
@@ -595,10 +645,22 @@ public class VentanaContratos extends JFrame {
                 if (fechaFin.isEmpty())
                     fechaFin = null;
 
+                // Advertir si el piloto ya tenía otro contrato en ese período
+                LocalDate desde = PilotoEscuderia.parsearFecha(fechaInicio);
+                LocalDate hasta = fechaFin != null ? PilotoEscuderia.parsearFecha(fechaFin) : null;
+                if (!ValidadorFormula1.validarContratoSinSolapamiento(piloto, desde, hasta, gestor)) {
+                    int opcion = JOptionPane.showConfirmDialog(dialogo,
+                            "El piloto ya tiene otro contrato que se superpone con ese período.\n"
+                                    + "¿Desea crear el contrato de todas formas?",
+                            "Contratos superpuestos", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                    if (opcion != JOptionPane.YES_OPTION) {
+                        return;
+                    }
+                }
+
                 gestor.asignarPilotoAEscuderia(piloto, escuderia, fechaInicio, fechaFin);
 
                 dialogo.dispose();
-                cargarDatos();
                 JOptionPane.showMessageDialog(this, "Contrato creado exitosamente",
                         "Éxito", JOptionPane.INFORMATION_MESSAGE);
 
@@ -648,7 +710,6 @@ public class VentanaContratos extends JFrame {
 
                 if (piloto != null) {
                     gestor.finalizarRelacionActivaPiloto(piloto, fechaFin.trim());
-                    cargarDatos();
                     JOptionPane.showMessageDialog(this, "Contrato finalizado exitosamente",
                             "Éxito", JOptionPane.INFORMATION_MESSAGE);
                 }
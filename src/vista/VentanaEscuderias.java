@@ -242,11 +242,9 @@ public class VentanaEscuderias extends JFrame {
             String nombre = txtNombre.getText().trim();
             String nombrePais = txtPais.getText().trim();
 
-            escuderiaSeleccionada.setNombre(nombre);
-
             // Crear o buscar país
             Pais pais = new Pais(nombrePais, nombrePais.substring(0, Math.min(3, nombrePais.length())).toUpperCase());
-            escuderiaSeleccionada.setPais(pais);
+            gestor.modificarEscuderia(escuderiaSeleccionada, nombre, pais);
 
             actualizarTablaEscuderias();
 
@@ -282,7 +280,7 @@ public class VentanaEscuderias extends JFrame {
 
         if (opcion == JOptionPane.YES_OPTION) {
             try {
-                gestor.getEscuderias().remove(escuderiaSeleccionada);
+                gestor.eliminarEscuderia(escuderiaSeleccionada);
                 actualizarTablaEscuderias();
                 limpiarFormulario();
 
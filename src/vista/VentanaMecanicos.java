@@ -279,18 +279,10 @@ public class VentanaMecanicos extends JFrame {
     private void actualizarTablaMecanicos() {
         modeloTabla.setRowCount(0);
         List<Mecanico> mecanicos = gestor.getMecanicos();
-        List<Escuderia> escuderias = gestor.getEscuderias();
 
         for (Mecanico mecanico : mecanicos) {
-            String escuderiaAsignada = "Libre";
-
-            // Buscar si el mecánico está asignado a alguna escudería
-            for (Escuderia escuderia : escuderias) {
-                if (escuderia.getMecanicos().contains(mecanico)) {
-                    escuderiaAsignada = escuderia.getNombre();
-                    break;
-                }
-            }
+            Escuderia escuderia = gestor.getEscuderiaDelMecanico(mecanico);
+            String escuderiaAsignada = escuderia != null ? escuderia.getNombre() : "Libre";
 
             String especialidades = String.join(", ",
                     mecanico.getEspecialidades().stream()
@@ -331,15 +323,8 @@ public class VentanaMecanicos extends JFrame {
             }
 
             // Buscar la escudería asignada
-            String escuderiaAsignada = "Sin asignar";
-            List<Escuderia> escuderias = gestor.getEscuderias();
-            for (Escuderia escuderia : escuderias) {
-                if (escuderia.getMecanicos().contains(mecanicoSeleccionado)) {
-                    escuderiaAsignada = escuderia.getNombre();
-                    break;
-                }
-            }
-            cmbEscuderia.setSelectedItem(escuderiaAsignada);
+            Escuderia escuderia = gestor.getEscuderiaDelMecanico(mecanicoSeleccionado);
+            cmbEscuderia.setSelectedItem(escuderia != null ? escuderia.getNombre() : "Sin asignar");
         }
     }
 
@@ -355,16 +340,8 @@ public class VentanaMecanicos extends JFrame {
             String apellido = txtApellido.getText().trim();
             int experiencia = Integer.parseInt(txtExperiencia.getText().trim());
 
-            Mecanico nuevoMecanico = new Mecanico(dni, nombre, apellido, experiencia);
-
-            // Agregar especialidades seleccionadas
-            for (int i = 0; i < modeloEspecialidades.getSize(); i++) {
-                String descripcionEsp = modeloEspecialidades.getElementAt(i);
-                Especialidad especialidad = buscarEspecialidadPorDescripcion(descripcionEsp);
-                if (especialidad != null) {
-                    nuevoMecanico.agregarEspecialidad(especialidad);
-                }
-            }
+            Mecanico nuevoMecanico = new Mecanico(dni, nombre, apellido, experiencia,
+                    especialidadesSeleccionadas());
 
             gestor.registrarMecanico(nuevoMecanico);
 
@@ -411,7 +388,7 @@ public class VentanaMecanicos extends JFrame {
         }
 
         // Verificar si el mecánico ya está asignado
-        if (estaMecanicoAsignado(mecanicoSeleccionado)) {
+        if (gestor.getEscuderiaDelMecanico(mecanicoSeleccionado) != null) {
             JOptionPane.showMessageDialog(this,
                     "El mecánico ya está asignado a una escudería.",
                     "Advertencia",
@@ -422,7 +399,7 @@ public class VentanaMecanicos extends JFrame {
         // Buscar la escudería
         Escuderia escuderia = buscarEscuderiaPorNombre(escuderiaSeleccionada);
         if (escuderia != null) {
-            escuderia.agregarMecanico(mecanicoSeleccionado);
+            gestor.asignarMecanicoAEscuderia(mecanicoSeleccionado, escuderia);
 
             JOptionPane.showMessageDialog(this,
                     "Mecánico asignado exitosamente a " + escuderia.getNombre() + ".",
@@ -446,15 +423,7 @@ public class VentanaMecanicos extends JFrame {
         }
 
         // Buscar la escudería a la que está asignado el mecánico
-        Escuderia escuderiaAsignada = null;
-        List<Escuderia> escuderias = gestor.getEscuderias();
-
-        for (Escuderia escuderia : escuderias) {
-            if (escuderia.getMecanicos().contains(mecanicoSeleccionado)) {
-                escuderiaAsignada = escuderia;
-                break;
-            }
-        }
+        Escuderia escuderiaAsignada = gestor.getEscuderiaDelMecanico(mecanicoSeleccionado);
 
         if (escuderiaAsignada == null) {
             JOptionPane.showMessageDialog(this,
@@ -470,7 +439,7 @@ public class VentanaMecanicos extends JFrame {
                 JOptionPane.YES_NO_OPTION);
 
         if (confirmacion == JOptionPane.YES_OPTION) {
-            escuderiaAsignada.removerMecanico(mecanicoSeleccionado);
+            gestor.removerMecanicoDeEscuderia(mecanicoSeleccionado);
 
             JOptionPane.showMessageDialog(this,
                     "Mecánico desasignado exitosamente de " + escuderiaAsignada.getNombre() + ".",
@@ -483,29 +452,30 @@ public class VentanaMecanicos extends JFrame {
     }
 
     /**
-     * Verifica si un mecánico está asignado a alguna escudería
+     * Busca una escudería por su nombre
      */
-    private boolean estaMecanicoAsignado(Mecanico mecanico) {
+    private Escuderia buscarEscuderiaPorNombre(String nombre) {
         List<Escuderia> escuderias = gestor.getEscuderias();
         for (Escuderia escuderia : escuderias) {
-            if (escuderia.getMecanicos().contains(mecanico)) {
-                return true;
+            if (escuderia.getNombre().equals(nombre)) {
+                return escuderia;
             }
         }
-        return false;
+        return null;
     }
 
     /**
-     * Busca una escudería por su nombre
+     * Obtiene las especialidades seleccionadas en la interfaz
      */
-    private Escuderia buscarEscuderiaPorNombre(String nombre) {
-        List<Escuderia> escuderias = gestor.getEscuderias();
-        for (Escuderia escuderia : escuderias) {
-            if (escuderia.getNombre().equals(nombre)) {
-                return escuderia;
+    private List<Especialidad> especialidadesSeleccionadas() {
+        List<Especialidad> especialidades = new ArrayList<>();
+        for (int i = 0; i < modeloEspecialidades.getSize(); i++) {
+            Especialidad especialidad = buscarEspecialidadPorDescripcion(modeloEspecialidades.getElementAt(i));
+            if (especialidad != null) {
+                especialidades.add(especialidad);
             }
         }
-        return null;
+        return especialidades;
     }
 
     /**
@@ -560,20 +530,8 @@ public class VentanaMecanicos extends JFrame {
         }
 
         try {
-            // Limpiar especialidades actuales del mecánico
-            List<Especialidad> especialidadesActuales = new ArrayList<>(mecanicoSeleccionado.getEspecialidades());
-            for (Especialidad esp : especialidadesActuales) {
-                mecanicoSeleccionado.removerEspecialidad(esp);
-            }
-
-            // Agregar las especialidades seleccionadas en la interfaz
-            for (int i = 0; i < modeloEspecialidades.getSize(); i++) {
-                String descripcionEsp = modeloEspecialidades.getElementAt(i);
-                Especialidad especialidad = buscarEspecialidadPorDescripcion(descripcionEsp);
-                if (especialidad != null) {
-                    mecanicoSeleccionado.agregarEspecialidad(especialidad);
-                }
-            }
+            // Reemplazar las especialidades por las seleccionadas en la interfaz
+            gestor.modificarEspecialidadesMecanico(mecanicoSeleccionado, especialidadesSeleccionadas());
 
             JOptionPane.showMessageDialog(this,
                     "Especialidades del mecánico actualizadas exitosamente.",
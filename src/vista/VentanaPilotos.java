@@ -1,13 +1,15 @@
 package vista;
 
+import controlador.EventoCambio;
 import controlador.GestorFormula1;
+import controlador.OyenteCambios;
 import modelo.*;
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.List;
 
 /**
  * Ventana moderna e intuitiva para la gestión de pilotos
@@ -15,11 +17,12 @@ import java.awt.event.MouseEvent;
 public class VentanaPilotos extends JFrame {
     private GestorFormula1 gestor;
     private JTable tablaPilotos;
-    private DefaultTableModel modeloTabla;
+    private ModeloTablaLista<Piloto> modeloTabla;
     private JTextField txtDNI, txtNombre, txtApellido, txtEdad, txtNacionalidad, txtNumero, txtExperiencia;
     private JLabel lblImagenPiloto, lblEstadisticas;
     private Piloto pilotoSeleccionado;
     private JButton btnAgregar, btnModificar, btnEliminar, btnLimpiar;
+    private final OyenteCambios oyenteCambios = this::aplicarCambios;
 
     /**
      * Constructor de la ventana de pilotos
@@ -30,6 +33,13 @@ public class VentanaPilotos extends JFrame {
         configurarVentana();
         cargarDatos();
         configurarEventos();
+        gestor.suscribirCambios(oyenteCambios, SwingUtilities::invokeLater);
+    }
+
+    @Override
+    public void dispose() {
+        gestor.desuscribirCambios(oyenteCambios);
+        super.dispose();
     }
 
     /**
@@ -219,14 +229,16 @@ public class VentanaPilotos extends JFrame {
         panelTitulo.add(leyenda, BorderLayout.SOUTH);
 
         // Configurar tabla
-        String[] columnas = { "Número", "DNI", "Nombre Completo", "Edad", "Nacionalidad", "Escudería", "Estado",
-                "Experiencia", "Puntos" };
-        modeloTabla = new DefaultTableModel(columnas, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        modeloTabla = new ModeloTablaLista<Piloto>()
+                .columna("Número", piloto -> "🏁 " + piloto.getNumero())
+                .columna("DNI", Piloto::getDni)
+                .columna("Nombre Completo", piloto -> "👤 " + piloto.getNombre() + " " + piloto.getApellido())
+                .columna("Edad", piloto -> piloto.getEdad() + " años")
+                .columna("Nacionalidad", piloto -> "🌍 " + piloto.getNacionalidad())
+                .columna("Escudería", piloto -> "🏢 " + escuderiaActual(piloto))
+                .columna("Estado", this::estadoPiloto)
+                .columna("Experiencia", piloto -> "⏱️ " + piloto.getExperiencia() + " años")
+                .columna("Puntos", piloto -> "🏆 " + piloto.getPuntosTotales() + " pts");
 
         tablaPilotos = new JTable(modeloTabla);
         configurarTabla();
@@ -405,42 +417,79 @@ public class VentanaPilotos extends JFrame {
      * Actualiza la tabla con los pilotos
      */
     private void actualizarTabla() {
-        modeloTabla.setRowCount(0);
-        for (Piloto piloto : gestor.getPilotos()) {
-            // Buscar escudería actual del piloto
-            String escuderiaActual = "Sin contrato";
-            String estado = "🔴 Libre";
-
-            // Buscar en los contratos activos
-            if (piloto.getEscuderia() != null) {
-                escuderiaActual = piloto.getEscuderia().getNombre();
-                estado = "🟢 Contratado";
-
-                // Verificar si el contrato está vigente
-                try {
-                    var relacionesActivas = gestor.getRelacionesActivasPiloto(piloto);
-                    if (relacionesActivas.isEmpty()) {
-                        estado = "🟡 Contrato expirado";
-                        escuderiaActual = "Contrato expirado";
-                    }
-                } catch (Exception e) {
-                    // Si hay error, mantener el estado básico
+        modeloTabla.setFilas(gestor.getPilotos());
+    }
+
+    /**
+     * Aplica los cambios del gestor: las altas y bajas de pilotos recargan la
+     * lista y el resto de los cambios sólo redibuja las filas afectadas.
+     */
+    private void aplicarCambios(List<EventoCambio> cambios) {
+        boolean recargar = false;
+        boolean seleccionadoModificado = false;
+        for (EventoCambio cambio : cambios) {
+            Object entidad = cambio.getEntidad();
+            if (entidad instanceof PilotoEscuderia contrato) {
+                // El estado del contrato se muestra en la fila del piloto
+                entidad = contrato.getPiloto();
+            }
+            if (!(entidad instanceof Piloto piloto)) {
+                continue;
+            }
+            if (cambio.isParticipacion()) {
+                continue; // Las carreras no se muestran en esta ventana
+            }
+            if (cambio.getTipo() == EventoCambio.Tipo.AGREGADO || cambio.getTipo() == EventoCambio.Tipo.ELIMINADO) {
+                recargar = true;
+            } else {
+                modeloTabla.filaActualizada(piloto);
+            }
+            if (piloto == pilotoSeleccionado) {
+                if (cambio.getTipo() == EventoCambio.Tipo.ELIMINADO) {
+                    limpiarFormulario();
+                } else {
+                    seleccionadoModificado = true;
                 }
             }
+        }
+        if (recargar) {
+            actualizarTabla();
+        }
+        if (seleccionadoModificado && pilotoSeleccionado != null) {
+            mostrarEstadisticasPiloto(pilotoSeleccionado);
+        }
+    }
 
-            Object[] fila = {
-                    "🏁 " + piloto.getNumero(),
-                    piloto.getDni(),
-                    "👤 " + piloto.getNombre() + " " + piloto.getApellido(),
-                    piloto.getEdad() + " años",
-                    "🌍 " + piloto.getNacionalidad(),
-                    "🏢 " + escuderiaActual,
-                    estado,
-                    "⏱️ " + piloto.getExperiencia() + " años",
-                    "🏆 " + piloto.getPuntosTotales() + " pts"
-            };
-            modeloTabla.addRow(fila);
+    /**
+     * Indica si el piloto tiene escudería asignada pero ningún contrato vigente
+     */
+    private boolean tieneContratoExpirado(Piloto piloto) {
+        try {
+            return gestor.getRelacionesActivasPiloto(piloto).isEmpty();
+        } catch (Exception e) {
+            // Si hay error, mantener el estado básico
+            return false;
+        }
+    }
+
+    /**
+     * Nombre de la escudería actual del piloto para la tabla
+     */
+    private String escuderiaActual(Piloto piloto) {
+        if (piloto.getEscuderia() == null) {
+            return "Sin contrato";
         }
+        return tieneContratoExpirado(piloto) ? "Contrato expirado" : piloto.getEscuderia().getNombre();
+    }
+
+    /**
+     * Estado del contrato del piloto para la tabla
+     */
+    private String estadoPiloto(Piloto piloto) {
+        if (piloto.getEscuderia() == null) {
+            return "🔴 Libre";
+        }
+        return tieneContratoExpirado(piloto) ? "🟡 Contrato expirado" : "🟢 Contratado";
     }
 
     /**
@@ -460,8 +509,6 @@ public class VentanaPilotos extends JFrame {
 
             Piloto nuevoPiloto = new Piloto(dni, nombre, apellido, edad, nacionalidad, numero, experiencia);
             gestor.registrarPiloto(nuevoPiloto);
-
-            actualizarTabla();
             limpiarFormulario();
 
             JOptionPane.showMessageDialog(this,
@@ -492,15 +539,11 @@ public class VentanaPilotos extends JFrame {
         try {
             validarCampos();
 
-            pilotoSeleccionado.setDni(txtDNI.getText().trim());
-            pilotoSeleccionado.setNombre(txtNombre.getText().trim());
-            pilotoSeleccionado.setApellido(txtApellido.getText().trim());
-            pilotoSeleccionado.setEdad(Integer.parseInt(txtEdad.getText().trim()));
-            pilotoSeleccionado.setNacionalidad(txtNacionalidad.getText().trim());
-            pilotoSeleccionado.setNumero(Integer.parseInt(txtNumero.getText().trim()));
-            pilotoSeleccionado.setExperiencia(Integer.parseInt(txtExperiencia.getText().trim()));
-
-            actualizarTabla();
+            gestor.modificarIdentificacionPiloto(pilotoSeleccionado, txtDNI.getText().trim(),
+                    Integer.parseInt(txtNumero.getText().trim()));
+            gestor.modificarDatosPiloto(pilotoSeleccionado, txtNombre.getText().trim(), txtApellido.getText().trim(),
+                    Integer.parseInt(txtEdad.getText().trim()), txtNacionalidad.getText().trim(),
+                    Integer.parseInt(txtExperiencia.getText().trim()));
             limpiarFormulario();
 
             JOptionPane.showMessageDialog(this,
@@ -536,14 +579,10 @@ public class VentanaPilotos extends JFrame {
                 JOptionPane.QUESTION_MESSAGE);
 
         if (confirmacion == JOptionPane.YES_OPTION) {
-            String nombrePiloto = (String) modeloTabla.getValueAt(filaSeleccionada, 1);
-            Piloto piloto = gestor.getPilotos().stream()
-                    .filter(p -> p.getNombreCompleto().equals(nombrePiloto))
-                    .findFirst().orElse(null);
+            Piloto piloto = modeloTabla.getFila(filaSeleccionada);
 
             if (piloto != null) {
-                gestor.getPilotos().remove(piloto);
-                actualizarTabla();
+                gestor.eliminarPiloto(piloto);
                 limpiarFormulario();
 
                 JOptionPane.showMessageDialog(this,
@@ -560,10 +599,7 @@ public class VentanaPilotos extends JFrame {
     private void seleccionarPiloto() {
         int filaSeleccionada = tablaPilotos.getSelectedRow();
         if (filaSeleccionada >= 0) {
-            String dni = (String) modeloTabla.getValueAt(filaSeleccionada, 1);
-            pilotoSeleccionado = gestor.getPilotos().stream()
-                    .filter(p -> p.getDni().equals(dni))
-                    .findFirst().orElse(null);
+            pilotoSeleccionado = modeloTabla.getFila(filaSeleccionada);
 
             if (pilotoSeleccionado != null) {
                 cargarDatosPiloto(pilotoSeleccionado);
@@ -1,10 +1,16 @@
 package vista;
 
+import controlador.DiarioOperaciones;
 import controlador.GestorFormula1;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Ventana principal de la aplicación de gestión de Fórmula 1.
@@ -19,24 +25,88 @@ import java.awt.event.ActionListener;
  * @since 1.0
  */
 public class VentanaPrincipal extends JFrame {
+    /** Archivo donde se guarda el estado del sistema entre sesiones */
+    private static final Path ARCHIVO_DATOS = Paths.get("formula1.dat");
+
+    /** Diario de las operaciones realizadas desde el último guardado */
+    private static final Path ARCHIVO_DIARIO = Paths.get("formula1.log");
+
     /** Controlador principal del sistema */
     private GestorFormula1 gestor;
 
+    /** Diario abierto sobre el gestor (null si no pudo abrirse) */
+    private DiarioOperaciones diario;
+
     /**
      * Constructor de la ventana principal.
      * <p>
-     * Inicializa el controlador, carga los datos de ejemplo y
-     * configura todos los componentes de la interfaz.
+     * Inicializa el controlador con los datos guardados en la sesión anterior
+     * (o con los datos de ejemplo si no hay ninguno), abre el diario de
+     * operaciones y configura todos los componentes de la interfaz.
      * </p>
      */
     public VentanaPrincipal() {
-        this.gestor = new GestorFormula1();
-        // Cargar datos de ejemplo
-        controlador.DatosEjemplo.cargarDatos(gestor);
+        this.gestor = cargarGestor();
+        abrirDiario();
         inicializarComponentes();
         configurarVentana();
     }
 
+    /**
+     * Recupera el estado guardado (último snapshot más el diario) o, si no
+     * existe o no puede leerse, carga los datos de ejemplo.
+     *
+     * @return Gestor inicializado
+     */
+    private GestorFormula1 cargarGestor() {
+        try {
+            GestorFormula1 recuperado = DiarioOperaciones.recuperar(ARCHIVO_DATOS, ARCHIVO_DIARIO);
+            if (recuperado != null) {
+                return recuperado;
+            }
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(null,
+                    "No se pudieron cargar los datos guardados: " + e.getMessage()
+                            + "\nSe cargarán los datos de ejemplo.",
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+        GestorFormula1 nuevo = new GestorFormula1();
+        // Cargar datos de ejemplo
+        controlador.DatosEjemplo.cargarDatos(nuevo);
+        return nuevo;
+    }
+
+    /**
+     * Abre el diario de operaciones para que los cambios sobrevivan a un
+     * cierre inesperado.
+     */
+    private void abrirDiario() {
+        try {
+            diario = DiarioOperaciones.abrir(gestor, ARCHIVO_DATOS, ARCHIVO_DIARIO);
+        } catch (IOException | IllegalStateException e) {
+            JOptionPane.showMessageDialog(null,
+                    "No se pudo abrir el diario de operaciones: " + e.getMessage()
+                            + "\nLos cambios no se guardarán.",
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Guarda el estado del sistema para la próxima sesión y cierra el diario.
+     */
+    private void guardarGestor() {
+        if (diario == null) {
+            return;
+        }
+        try {
+            diario.close();
+        } catch (IOException | IllegalStateException e) {
+            JOptionPane.showMessageDialog(this,
+                    "No se pudieron guardar los datos: " + e.getMessage(),
+                    "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
     /**
      * Inicializa y configura todos los componentes de la interfaz.
      * <p>
@@ -365,6 +435,12 @@ public class VentanaPrincipal extends JFrame {
     private void configurarVentana() {
         setTitle("ESCUDERÍAS UNIDAS - Sistema Fórmula 1");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                guardarGestor();
+            }
+        });
         setSize(1200, 800);
         setLocationRelativeTo(null);
         setResizable(true);
@@ -1,23 +1,46 @@
 package vista;
 
+import controlador.ArchivoTemporada;
+import controlador.EstadisticasPiloto;
 import controlador.GestorFormula1;
+import controlador.PrediccionCampeonato;
+import controlador.PredictorCampeonato;
 import modelo.*;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Comparator;
 
 /**
  * Ventana para la gestión de reportes y estadísticas
+ * <p>
+ * Las tablas se calculan en segundo plano con un {@link CargadorReportes}.
+ * Cada pestaña se carga al mostrarse por primera vez; al cambiar de pestaña
+ * se cancelan las cargas de las demás, que se retoman al volver a ellas.
+ * </p>
  */
 public class VentanaReportes extends JFrame {
     private GestorFormula1 gestor;
     private JTabbedPane pestanas;
 
+    /** Ejecutor de las cargas en segundo plano */
+    private final CargadorReportes cargador = new CargadorReportes();
+
+    /** Acción que vuelve a cargar cada pestaña */
+    private final Map<Component, Runnable> recargas = new IdentityHashMap<>();
+
+    /** Pestañas con una carga cancelada o todavía no hecha */
+    private final Set<Component> pendientes = new HashSet<>();
+
     /**
      * Constructor de la ventana de reportes
      * 
@@ -58,11 +81,58 @@ public class VentanaReportes extends JFrame {
         JPanel panelGenerales = crearPanelEstadisticasGenerales();
         pestanas.addTab("Estadísticas Generales", panelGenerales);
 
+        // Pestaña de predicción del campeonato (se calcula a pedido)
+        JPanel panelPrediccion = crearPanelPrediccion();
+        pestanas.addTab("Predicción Campeonato", panelPrediccion);
+
         // Panel de botones
         JPanel panelBotones = crearPanelBotones();
 
         add(pestanas, BorderLayout.CENTER);
         add(panelBotones, BorderLayout.SOUTH);
+
+        // Las pestañas con carga inicial se cargan al mostrarse
+        pendientes.add(panelRankings);
+        pendientes.add(panelHistorial);
+        pendientes.add(panelGenerales);
+        pestanas.addChangeListener(e -> cambiarPestana());
+        cambiarPestana();
+    }
+
+    /**
+     * Cancela las cargas de las pestañas ocultas y retoma la de la pestaña
+     * seleccionada si quedó pendiente
+     */
+    private void cambiarPestana() {
+        Component seleccionada = pestanas.getSelectedComponent();
+        for (int i = 0; i < pestanas.getTabCount(); i++) {
+            Component pestana = pestanas.getComponentAt(i);
+            if (pestana != seleccionada && cargador.cancelar(pestana)) {
+                pendientes.add(pestana);
+            }
+        }
+        if (seleccionada != null && pendientes.remove(seleccionada)) {
+            Runnable recarga = recargas.get(seleccionada);
+            if (recarga != null) {
+                recarga.run();
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        cargador.cerrar();
+        super.dispose();
+    }
+
+    /**
+     * Crea una barra de progreso oculta para las cargas de una pestaña
+     */
+    private JProgressBar crearBarraProgreso() {
+        JProgressBar barra = new JProgressBar(0, 100);
+        barra.setPreferredSize(new Dimension(150, 20));
+        barra.setVisible(false);
+        return barra;
     }
 
     /**
@@ -80,8 +150,11 @@ public class VentanaReportes extends JFrame {
         aplicarEstiloBoton(btnActualizar);
         aplicarEstiloBoton(btnExportar);
 
+        JProgressBar progreso = crearBarraProgreso();
+
         panelControles.add(btnActualizar);
         panelControles.add(btnExportar);
+        panelControles.add(progreso);
 
         // Panel con dos columnas para rankings
         JPanel panelRankings = new JPanel(new GridLayout(1, 2, 10, 10));
@@ -125,15 +198,13 @@ public class VentanaReportes extends JFrame {
         panelRankings.add(panelRankingPilotos);
         panelRankings.add(panelRankingEscuderias);
 
-        // Cargar datos
-        btnActualizar.addActionListener(e -> {
-            cargarRankingPilotos(modeloPilotos);
-            cargarRankingEscuderias(modeloEscuderias);
-        });
-
-        // Cargar inicial
-        cargarRankingPilotos(modeloPilotos);
-        cargarRankingEscuderias(modeloEscuderias);
+        // Cargar datos (la carga inicial se hace al mostrar la pestaña)
+        Runnable recarga = () -> {
+            cargarRankingPilotos(panel, modeloPilotos, progreso);
+            cargarRankingEscuderias(panel, modeloEscuderias);
+        };
+        btnActualizar.addActionListener(e -> recarga.run());
+        recargas.put(panel, recarga);
 
         panel.add(panelControles, BorderLayout.NORTH);
         panel.add(panelRankings, BorderLayout.CENTER);
@@ -161,9 +232,12 @@ public class VentanaReportes extends JFrame {
             comboPilotos.addItem(piloto);
         }
 
+        JProgressBar progreso = crearBarraProgreso();
+
         panelSeleccion.add(new JLabel("Piloto:"));
         panelSeleccion.add(comboPilotos);
         panelSeleccion.add(btnMostrarStats);
+        panelSeleccion.add(progreso);
 
         // Panel de estadísticas
         JPanel panelStats = new JPanel(new GridLayout(2, 1, 10, 10));
@@ -192,12 +266,17 @@ public class VentanaReportes extends JFrame {
         panelStats.add(panelInfo);
         panelStats.add(panelParticipaciones);
 
-        btnMostrarStats.addActionListener(e -> {
+        Runnable recarga = () -> {
             Piloto pilotoSeleccionado = (Piloto) comboPilotos.getSelectedItem();
             if (pilotoSeleccionado != null) {
-                mostrarEstadisticasPiloto(pilotoSeleccionado, panelInfo, modeloParticipaciones);
+                mostrarEstadisticasPiloto(panel, pilotoSeleccionado, panelInfo, modeloParticipaciones, progreso);
             }
-        });
+        };
+        btnMostrarStats.addActionListener(e -> recarga.run());
+        recargas.put(panel, recarga);
+
+        // Al cambiar de piloto se descarta la carga del anterior
+        comboPilotos.addActionListener(e -> cargador.cancelar(panel));
 
         panel.add(panelSeleccion, BorderLayout.NORTH);
         panel.add(panelStats, BorderLayout.CENTER);
@@ -225,9 +304,12 @@ public class VentanaReportes extends JFrame {
             comboEscuderias.addItem(escuderia);
         }
 
+        JProgressBar progreso = crearBarraProgreso();
+
         panelSeleccion.add(new JLabel("Escudería:"));
         panelSeleccion.add(comboEscuderias);
         panelSeleccion.add(btnMostrarStats);
+        panelSeleccion.add(progreso);
 
         // Panel principal con pestañas internas
         JTabbedPane pestanasEscuderia = new JTabbedPane();
@@ -271,13 +353,18 @@ public class VentanaReportes extends JFrame {
         pestanasEscuderia.addTab("Rendimiento Pilotos", panelRendimientoPilotos);
         pestanasEscuderia.addTab("Recursos", panelRecursos);
 
-        btnMostrarStats.addActionListener(e -> {
+        Runnable recarga = () -> {
             Escuderia escuderiaSeleccionada = (Escuderia) comboEscuderias.getSelectedItem();
             if (escuderiaSeleccionada != null) {
-                mostrarEstadisticasEscuderia(escuderiaSeleccionada, panelInfoEscuderia,
-                        modeloPilotosEscuderia, modeloAutos, modeloMecanicos);
+                mostrarEstadisticasEscuderia(panel, escuderiaSeleccionada, panelInfoEscuderia,
+                        modeloPilotosEscuderia, modeloAutos, modeloMecanicos, progreso);
             }
-        });
+        };
+        btnMostrarStats.addActionListener(e -> recarga.run());
+        recargas.put(panel, recarga);
+
+        // Al cambiar de escudería se descarta la carga de la anterior
+        comboEscuderias.addActionListener(e -> cargador.cancelar(panel));
 
         panel.add(panelSeleccion, BorderLayout.NORTH);
         panel.add(pestanasEscuderia, BorderLayout.CENTER);
@@ -300,8 +387,11 @@ public class VentanaReportes extends JFrame {
         aplicarEstiloBoton(btnActualizar);
         aplicarEstiloBoton(btnVerDetalles);
 
+        JProgressBar progreso = crearBarraProgreso();
+
         panelControles.add(btnActualizar);
         panelControles.add(btnVerDetalles);
+        panelControles.add(progreso);
 
         // Tabla de carreras
         JPanel panelTabla = new JPanel(new BorderLayout());
@@ -322,7 +412,9 @@ public class VentanaReportes extends JFrame {
 
         panelTabla.add(scrollCarreras, BorderLayout.CENTER);
 
-        btnActualizar.addActionListener(e -> cargarHistorialCarreras(modeloCarreras));
+        Runnable recarga = () -> cargarHistorialCarreras(panel, modeloCarreras, progreso);
+        btnActualizar.addActionListener(e -> recarga.run());
+        recargas.put(panel, recarga);
 
         btnVerDetalles.addActionListener(e -> {
             int filaSeleccionada = tablaCarreras.getSelectedRow();
@@ -335,9 +427,6 @@ public class VentanaReportes extends JFrame {
             }
         });
 
-        // Cargar datos inicial
-        cargarHistorialCarreras(modeloCarreras);
-
         panel.add(panelControles, BorderLayout.NORTH);
         panel.add(panelTabla, BorderLayout.CENTER);
 
@@ -357,7 +446,10 @@ public class VentanaReportes extends JFrame {
         // Aplicar estilo al botón
         aplicarEstiloBoton(btnActualizar);
 
+        JProgressBar progreso = crearBarraProgreso();
+
         panelControles.add(btnActualizar);
+        panelControles.add(progreso);
 
         // Panel principal con estadísticas
         JPanel panelEstadisticas = new JPanel(new GridLayout(2, 2, 10, 10));
@@ -411,18 +503,81 @@ public class VentanaReportes extends JFrame {
         panelEstadisticas.add(panelCircuitos);
         panelEstadisticas.add(panelModelos);
 
-        btnActualizar.addActionListener(e -> {
-            cargarEstadisticasGenerales(panelTotales, modeloPaises, modeloCircuitos, modeloModelos);
-        });
+        Runnable recarga = () -> cargarEstadisticasGenerales(panel, panelTotales, modeloPaises, modeloCircuitos,
+                modeloModelos, progreso);
+        btnActualizar.addActionListener(e -> recarga.run());
+        recargas.put(panel, recarga);
 
-        // Cargar datos inicial
-        cargarEstadisticasGenerales(panelTotales, modeloPaises, modeloCircuitos, modeloModelos);
         panel.add(panelControles, BorderLayout.NORTH);
         panel.add(panelEstadisticas, BorderLayout.CENTER);
 
         return panel;
     }
 
+    /**
+     * Crea el panel de predicción del campeonato
+     */
+    private JPanel crearPanelPrediccion() {
+        JPanel panel = new JPanel(new BorderLayout());
+
+        // Panel de controles
+        JPanel panelControles = new JPanel(new FlowLayout());
+        JComboBox<Integer> comboTemporadas = new JComboBox<>(new Integer[] { 10_000, 100_000, 1_000_000 });
+        comboTemporadas.setSelectedIndex(1);
+        JButton btnSimular = new JButton("Simular");
+
+        // Aplicar estilo al botón
+        aplicarEstiloBoton(btnSimular);
+
+        JProgressBar progreso = crearBarraProgreso();
+        JLabel lblResumen = new JLabel(" ");
+
+        panelControles.add(new JLabel("Temporadas a simular:"));
+        panelControles.add(comboTemporadas);
+        panelControles.add(btnSimular);
+        panelControles.add(progreso);
+        panelControles.add(lblResumen);
+
+        // Panel con dos columnas para las probabilidades
+        JPanel panelTablas = new JPanel(new GridLayout(1, 2, 10, 10));
+
+        JPanel panelPilotos = new JPanel(new BorderLayout());
+        panelPilotos.setBorder(BorderFactory.createTitledBorder("Campeonato de Pilotos"));
+        DefaultTableModel modeloPilotos = new DefaultTableModel(
+                new String[] { "Pos", "Piloto", "Escudería", "Puntos", "Puntos Esperados", "Prob. Título" }, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        panelPilotos.add(new JScrollPane(new JTable(modeloPilotos)), BorderLayout.CENTER);
+
+        JPanel panelEscuderias = new JPanel(new BorderLayout());
+        panelEscuderias.setBorder(BorderFactory.createTitledBorder("Campeonato de Constructores"));
+        DefaultTableModel modeloEscuderias = new DefaultTableModel(
+                new String[] { "Pos", "Escudería", "Puntos", "Puntos Esperados", "Prob. Título" }, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        panelEscuderias.add(new JScrollPane(new JTable(modeloEscuderias)), BorderLayout.CENTER);
+
+        panelTablas.add(panelPilotos);
+        panelTablas.add(panelEscuderias);
+
+        // No se carga al mostrarse: simular es costoso y se pide con el botón
+        Runnable recarga = () -> cargarPrediccion(panel, (Integer) comboTemporadas.getSelectedItem(),
+                modeloPilotos, modeloEscuderias, lblResumen, progreso);
+        btnSimular.addActionListener(e -> recarga.run());
+        recargas.put(panel, recarga);
+
+        panel.add(panelControles, BorderLayout.NORTH);
+        panel.add(panelTablas, BorderLayout.CENTER);
+
+        return panel;
+    }
+
     /**
      * Crea el panel de botones principales
      */
@@ -453,67 +608,66 @@ public class VentanaReportes extends JFrame {
     /**
      * Carga el ranking de pilotos
      */
-    private void cargarRankingPilotos(DefaultTableModel modelo) {
-        modelo.setRowCount(0);
-
-        List<Piloto> pilotosOrdenados = gestor.getPilotos().stream()
-                .sorted((p1, p2) -> Integer.compare(p2.getPuntosTotales(), p1.getPuntosTotales()))
-                .toList();
-
-        int posicion = 1;
-        for (Piloto piloto : pilotosOrdenados) {
-            int carreras = contarCarrerasPiloto(piloto);
-            int podios = contarPodiosPiloto(piloto);
-            int victorias = contarVictoriasPiloto(piloto);
-
-            Object[] fila = {
-                    posicion++,
-                    piloto.getNombreCompleto(),
-                    piloto.getEscuderia() != null ? piloto.getEscuderia().getNombre() : "Sin escudería",
-                    piloto.getPuntosTotales(),
-                    carreras,
-                    podios,
-                    victorias
-            };
-            modelo.addRow(fila);
-        }
+    private void cargarRankingPilotos(Component pestana, DefaultTableModel modelo, JProgressBar progreso) {
+        cargador.cargarTabla(pestana, modelo, progreso, salida -> {
+            List<Piloto> pilotosOrdenados = gestor.getPilotos().stream()
+                    .sorted((p1, p2) -> Integer.compare(p2.getPuntosTotales(), p1.getPuntosTotales()))
+                    .toList();
+
+            int posicion = 1;
+            for (Piloto piloto : pilotosOrdenados) {
+                if (salida.isCancelada()) {
+                    return;
+                }
+                int puesto = posicion;
+                // Cada fila se arma sobre un mismo estado del gestor
+                Object[] fila = gestor.consultar(() -> {
+                    EstadisticasPiloto estadisticas = gestor.getEstadisticasPiloto(piloto);
+                    return new Object[] {
+                            puesto,
+                            piloto.getNombreCompleto(),
+                            piloto.getEscuderia() != null ? piloto.getEscuderia().getNombre() : "Sin escudería",
+                            piloto.getPuntosTotales(),
+                            estadisticas.getCarreras(),
+                            estadisticas.getPodios(),
+                            estadisticas.getVictorias()
+                    };
+                });
+                salida.agregar(fila);
+                salida.progreso(posicion++, pilotosOrdenados.size());
+            }
+        });
     }
 
     /**
      * Carga el ranking de escuderías
      */
-    private void cargarRankingEscuderias(DefaultTableModel modelo) {
-        modelo.setRowCount(0);
-
-        List<Escuderia> escuderiasOrdenadas = gestor.getEscuderias().stream()
-                .sorted((e1, e2) -> {
-                    int puntosE1 = e1.getPilotos().stream().mapToInt(Piloto::getPuntosTotales).sum();
-                    int puntosE2 = e2.getPilotos().stream().mapToInt(Piloto::getPuntosTotales).sum();
-                    return Integer.compare(puntosE2, puntosE1);
-                })
-                .toList();
-
-        int posicion = 1;
-        for (Escuderia escuderia : escuderiasOrdenadas) {
-            int puntosTotales = escuderia.getPilotos().stream().mapToInt(Piloto::getPuntosTotales).sum();
-
-            Object[] fila = {
-                    posicion++,
-                    escuderia.getNombre(),
-                    escuderia.getPais().getNombre(),
-                    puntosTotales,
-                    escuderia.getPilotos().size(),
-                    escuderia.getAutos().size(),
-                    escuderia.getMecanicos().size()
-            };
-            modelo.addRow(fila);
-        }
+    private void cargarRankingEscuderias(Component pestana, DefaultTableModel modelo) {
+        cargador.cargarTabla(pestana, modelo, null, salida -> {
+            List<Escuderia> escuderiasOrdenadas = gestor.getRankingEscuderias();
+
+            int posicion = 1;
+            for (Escuderia escuderia : escuderiasOrdenadas) {
+                int puesto = posicion++;
+                Object[] fila = gestor.consultar(() -> new Object[] {
+                        puesto,
+                        escuderia.getNombre(),
+                        escuderia.getPais().getNombre(),
+                        gestor.getPuntosEscuderia(escuderia),
+                        escuderia.getPilotos().size(),
+                        escuderia.getAutos().size(),
+                        escuderia.getMecanicos().size()
+                });
+                salida.agregar(fila);
+            }
+        });
     }
 
     /**
      * Muestra estadísticas detalladas de un piloto
      */
-    private void mostrarEstadisticasPiloto(Piloto piloto, JPanel panelInfo, DefaultTableModel modeloParticipaciones) {
+    private void mostrarEstadisticasPiloto(Component pestana, Piloto piloto, JPanel panelInfo,
+            DefaultTableModel modeloParticipaciones, JProgressBar progreso) {
         // Limpiar panel de información
         panelInfo.removeAll();
 
@@ -542,9 +696,10 @@ public class VentanaReportes extends JFrame {
                 gbc);
 
         // Estadísticas
-        int carreras = contarCarrerasPiloto(piloto);
-        int podios = contarPodiosPiloto(piloto);
-        int victorias = contarVictoriasPiloto(piloto);
+        EstadisticasPiloto estadisticas = gestor.getEstadisticasPiloto(piloto);
+        int carreras = estadisticas.getCarreras();
+        int podios = estadisticas.getPodios();
+        int victorias = estadisticas.getVictorias();
 
         gbc.gridx = 0;
         gbc.gridy = 3;
@@ -571,7 +726,7 @@ public class VentanaReportes extends JFrame {
         panelInfo.add(new JLabel(String.valueOf(victorias)), gbc);
 
         // Cargar participaciones
-        cargarParticipacionesPiloto(piloto, modeloParticipaciones);
+        cargarParticipacionesPiloto(pestana, piloto, modeloParticipaciones, progreso);
 
         panelInfo.revalidate();
         panelInfo.repaint();
@@ -580,8 +735,9 @@ public class VentanaReportes extends JFrame {
     /**
      * Muestra estadísticas detalladas de una escudería
      */
-    private void mostrarEstadisticasEscuderia(Escuderia escuderia, JPanel panelInfo, DefaultTableModel modeloPilotos,
-            DefaultListModel<Auto> modeloAutos, DefaultListModel<Mecanico> modeloMecanicos) {
+    private void mostrarEstadisticasEscuderia(Component pestana, Escuderia escuderia, JPanel panelInfo,
+            DefaultTableModel modeloPilotos, DefaultListModel<Auto> modeloAutos,
+            DefaultListModel<Mecanico> modeloMecanicos, JProgressBar progreso) {
 
         // Limpiar panel de información
         panelInfo.removeAll();
@@ -604,7 +760,7 @@ public class VentanaReportes extends JFrame {
         panelInfo.add(new JLabel(escuderia.getPais().getNombre()), gbc);
 
         // Estadísticas
-        int puntosTotales = escuderia.getPilotos().stream().mapToInt(Piloto::getPuntosTotales).sum();
+        int puntosTotales = gestor.getPuntosEscuderia(escuderia);
 
         gbc.gridx = 0;
         gbc.gridy = 2;
@@ -631,7 +787,7 @@ public class VentanaReportes extends JFrame {
         panelInfo.add(new JLabel(String.valueOf(escuderia.getMecanicos().size())), gbc);
 
         // Cargar datos en las tablas
-        cargarRendimientoPilotos(escuderia, modeloPilotos);
+        cargarRendimientoPilotos(pestana, escuderia, modeloPilotos, progreso);
         cargarRecursosEscuderia(escuderia, modeloAutos, modeloMecanicos);
 
         panelInfo.revalidate();
@@ -640,195 +796,322 @@ public class VentanaReportes extends JFrame {
 
     /**
      * Carga el historial de carreras
+     * <p>
+     * El calendario del gestor y las temporadas archivadas ya están en orden
+     * cronológico, así que se intercalan desde el final en lugar de ordenar
+     * todas las filas.
+     * </p>
      */
-    private void cargarHistorialCarreras(DefaultTableModel modelo) {
-        modelo.setRowCount(0);
-
-        List<GranPremio> carrerasOrdenadas = gestor.getGrandesPremios().stream()
-                .sorted((c1, c2) -> c2.getFechaHora().compareTo(c1.getFechaHora()))
-                .toList();
+    private void cargarHistorialCarreras(Component pestana, DefaultTableModel modelo, JProgressBar progreso) {
+        cargador.cargarTabla(pestana, modelo, progreso, salida -> {
+            List<Map.Entry<LocalDateTime, Object[]>> filas = new ArrayList<>();
+            for (GranPremio carrera : gestor.getCalendario()) {
+                if (salida.isCancelada()) {
+                    return;
+                }
+                filas.add(gestor.consultar(() -> filaHistorial(carrera)));
+            }
 
-        for (GranPremio carrera : carrerasOrdenadas) {
-            String ganador = "TBD";
-            String escuderiaGanadora = "TBD";
+            List<Map.Entry<LocalDateTime, Object[]>> filasArchivadas = new ArrayList<>();
+            for (ArchivoTemporada temporada : gestor.getTemporadasArchivadas()) {
+                if (salida.isCancelada()) {
+                    return;
+                }
+                // Ganador de cada carrera archivada, en una sola pasada por las filas
+                String[] ganadores = new String[temporada.getCantidadCarreras()];
+                String[] escuderiasGanadoras = new String[temporada.getCantidadCarreras()];
+                for (int piloto = 0; piloto < temporada.getCantidadPilotos(); piloto++) {
+                    for (int i = temporada.getPrimeraFila(piloto); i < temporada.getFinFilas(piloto); i++) {
+                        if (temporada.getPosicion(i) == 1 && !temporada.isAbandono(i)) {
+                            int carrera = temporada.getCarrera(i);
+                            int escuderia = temporada.getEscuderia(i);
+                            ganadores[carrera] = temporada.getNombrePiloto(piloto);
+                            escuderiasGanadoras[carrera] = escuderia >= 0 ? temporada.getNombreEscuderia(escuderia)
+                                    : "Sin escudería";
+                        }
+                    }
+                }
+                for (int carrera = 0; carrera < temporada.getCantidadCarreras(); carrera++) {
+                    Object[] fila = {
+                            temporada.getFechaCarrera(carrera).format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+                            temporada.getNombreCarrera(carrera),
+                            temporada.getNombreCircuito(carrera),
+                            temporada.getNombrePaisCircuito(carrera),
+                            ganadores[carrera] != null ? ganadores[carrera] : "TBD",
+                            escuderiasGanadoras[carrera] != null ? escuderiasGanadoras[carrera] : "TBD",
+                            temporada.getParticipantesCarrera(carrera),
+                            "Archivada"
+                    };
+                    filasArchivadas.add(Map.entry(temporada.getFechaCarrera(carrera), fila));
+                }
+            }
 
-            if (carrera.isFinalizada() && !carrera.getParticipaciones().isEmpty()) {
-                List<Participacion> resultados = carrera.getResultados();
-                if (!resultados.isEmpty()) {
-                    Participacion ganadorParticipacion = resultados.get(0);
-                    ganador = ganadorParticipacion.getPiloto().getNombreCompleto();
-                    escuderiaGanadora = ganadorParticipacion.getPiloto().getEscuderia() != null
-                            ? ganadorParticipacion.getPiloto().getEscuderia().getNombre()
-                            : "Sin escudería";
+            // De la más reciente a la más antigua
+            int total = filas.size() + filasArchivadas.size();
+            int enCurso = filas.size() - 1;
+            int archivada = filasArchivadas.size() - 1;
+            while (enCurso >= 0 || archivada >= 0) {
+                if (archivada < 0 || (enCurso >= 0
+                        && !filas.get(enCurso).getKey().isBefore(filasArchivadas.get(archivada).getKey()))) {
+                    salida.agregar(filas.get(enCurso--).getValue());
+                } else {
+                    salida.agregar(filasArchivadas.get(archivada--).getValue());
                 }
+                salida.progreso(total - enCurso - archivada - 2, total);
             }
+        });
+    }
 
-            Object[] fila = {
-                    carrera.getFechaHora().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
-                    carrera.getNombre(),
-                    carrera.getCircuito().getNombre(),
-                    carrera.getCircuito().getPais().getNombre(),
-                    ganador,
-                    escuderiaGanadora,
-                    carrera.getParticipaciones().size(),
-                    carrera.isFinalizada() ? "Finalizada" : "Programada"
-            };
-            modelo.addRow(fila);
+    /**
+     * Fila del historial para una carrera en curso, con su fecha para intercalarla
+     */
+    private Map.Entry<LocalDateTime, Object[]> filaHistorial(GranPremio carrera) {
+        String ganador = "TBD";
+        String escuderiaGanadora = "TBD";
+
+        if (carrera.isFinalizada() && !carrera.getParticipaciones().isEmpty()) {
+            List<Participacion> resultados = carrera.getResultados();
+            if (!resultados.isEmpty()) {
+                Participacion ganadorParticipacion = resultados.get(0);
+                ganador = ganadorParticipacion.getPiloto().getNombreCompleto();
+                escuderiaGanadora = ganadorParticipacion.getPiloto().getEscuderia() != null
+                        ? ganadorParticipacion.getPiloto().getEscuderia().getNombre()
+                        : "Sin escudería";
+            }
         }
+
+        Object[] fila = {
+                carrera.getFechaHora().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+                carrera.getNombre(),
+                carrera.getCircuito().getNombre(),
+                carrera.getCircuito().getPais().getNombre(),
+                ganador,
+                escuderiaGanadora,
+                carrera.getParticipaciones().size(),
+                carrera.isFinalizada() ? "Finalizada" : "Programada"
+        };
+        return Map.entry(carrera.getFechaHora(), fila);
     }
 
     /**
      * Carga estadísticas generales del sistema
      */
-    private void cargarEstadisticasGenerales(JPanel panelTotales, DefaultTableModel modeloPaises,
-            DefaultTableModel modeloCircuitos, DefaultTableModel modeloModelos) { // Limpiar panel de totales
-        panelTotales.removeAll();
-
-        GridBagConstraints gbc = new GridBagConstraints();
-        gbc.insets = new Insets(10, 10, 10, 10);
-
-        // Totales generales
-        gbc.gridx = 0;
-        gbc.gridy = 0;
-        gbc.anchor = GridBagConstraints.WEST;
-        panelTotales.add(new JLabel("Pilotos Registrados:"), gbc);
-        gbc.gridx = 1;
-        panelTotales.add(new JLabel(String.valueOf(gestor.getPilotos().size())), gbc);
+    private void cargarEstadisticasGenerales(Component pestana, JPanel panelTotales, DefaultTableModel modeloPaises,
+            DefaultTableModel modeloCircuitos, DefaultTableModel modeloModelos, JProgressBar progreso) {
+        // Los totales se cuentan en segundo plano y se muestran al terminar
+        cargador.calcular(pestana, panelTotales, () -> gestor.consultar(() -> {
+            List<ArchivoTemporada> temporadas = gestor.getTemporadasArchivadas();
+            int carrerasArchivadas = temporadas.stream().mapToInt(ArchivoTemporada::getCantidadCarreras).sum();
+            long carrerasFinalizadas = gestor.getGrandesPremios().stream().filter(GranPremio::isFinalizada).count()
+                    + carrerasArchivadas;
+            return new long[] {
+                    gestor.getPilotos().size(),
+                    gestor.getEscuderias().size(),
+                    gestor.getAutos().size(),
+                    gestor.getMecanicos().size(),
+                    gestor.getCircuitos().size(),
+                    gestor.getGrandesPremios().size() + carrerasArchivadas,
+                    carrerasFinalizadas,
+                    temporadas.size()
+            };
+        }), totales -> mostrarTotales(panelTotales, totales));
 
-        gbc.gridx = 0;
-        gbc.gridy = 1;
-        panelTotales.add(new JLabel("Escuderías Registradas:"), gbc);
-        gbc.gridx = 1;
-        panelTotales.add(new JLabel(String.valueOf(gestor.getEscuderias().size())), gbc);
+        // Cargar estadísticas de países
+        cargarEstadisticasPaises(pestana, modeloPaises);
 
-        gbc.gridx = 0;
-        gbc.gridy = 2;
-        panelTotales.add(new JLabel("Autos Registrados:"), gbc);
-        gbc.gridx = 1;
-        panelTotales.add(new JLabel(String.valueOf(gestor.getAutos().size())), gbc);
+        // Cargar estadísticas de circuitos
+        cargarEstadisticasCircuitos(pestana, modeloCircuitos, progreso);
 
-        gbc.gridx = 0;
-        gbc.gridy = 3;
-        panelTotales.add(new JLabel("Mecánicos Registrados:"), gbc);
-        gbc.gridx = 1;
-        panelTotales.add(new JLabel(String.valueOf(gestor.getMecanicos().size())), gbc);
+        // Cargar estadísticas de modelos
+        cargarEstadisticasModelos(pestana, modeloModelos);
+    }
 
-        gbc.gridx = 0;
-        gbc.gridy = 4;
-        panelTotales.add(new JLabel("Circuitos Disponibles:"), gbc);
-        gbc.gridx = 1;
-        panelTotales.add(new JLabel(String.valueOf(gestor.getCircuitos().size())), gbc);
+    /**
+     * Muestra los totales generales en el panel de resumen
+     */
+    private void mostrarTotales(JPanel panelTotales, long[] totales) {
+        // Limpiar panel de totales
+        panelTotales.removeAll();
 
-        gbc.gridx = 0;
-        gbc.gridy = 5;
-        panelTotales.add(new JLabel("Grandes Premios:"), gbc);
-        gbc.gridx = 1;
-        panelTotales.add(new JLabel(String.valueOf(gestor.getGrandesPremios().size())), gbc);
+        String[] etiquetas = { "Pilotos Registrados:", "Escuderías Registradas:", "Autos Registrados:",
+                "Mecánicos Registrados:", "Circuitos Disponibles:", "Grandes Premios:", "Carreras Finalizadas:",
+                "Temporadas Archivadas:" };
 
-        long carrerasFinalizadas = gestor.getGrandesPremios().stream().filter(GranPremio::isFinalizada).count();
-        gbc.gridx = 0;
-        gbc.gridy = 6;
-        panelTotales.add(new JLabel("Carreras Finalizadas:"), gbc);
-        gbc.gridx = 1;
-        panelTotales.add(new JLabel(String.valueOf(carrerasFinalizadas)), gbc);
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(10, 10, 10, 10);
+        gbc.anchor = GridBagConstraints.WEST;
+        for (int i = 0; i < etiquetas.length; i++) {
+            gbc.gridx = 0;
+            gbc.gridy = i;
+            panelTotales.add(new JLabel(etiquetas[i]), gbc);
+            gbc.gridx = 1;
+            panelTotales.add(new JLabel(String.valueOf(totales[i])), gbc);
+        }
 
         panelTotales.revalidate();
         panelTotales.repaint();
-
-        // Cargar estadísticas de países
-        cargarEstadisticasPaises(modeloPaises);
-
-        // Cargar estadísticas de circuitos
-        cargarEstadisticasCircuitos(modeloCircuitos);
-
-        // Cargar estadísticas de modelos
-        cargarEstadisticasModelos(modeloModelos);
     }
 
-    // Métodos auxiliares para cálculos estadísticos
-
-    private int contarCarrerasPiloto(Piloto piloto) {
-        return (int) gestor.getGrandesPremios().stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto))
-                .count();
+    /**
+     * Simula el resto del campeonato y muestra las probabilidades de título
+     */
+    private void cargarPrediccion(Component pestana, int temporadas, DefaultTableModel modeloPilotos,
+            DefaultTableModel modeloEscuderias, JLabel lblResumen, JProgressBar progreso) {
+        lblResumen.setText("Simulando " + temporadas + " temporadas...");
+        cargador.calcular(pestana, modeloPilotos, progreso, () -> {
+            long inicio = System.nanoTime();
+            PrediccionCampeonato prediccion = new PredictorCampeonato(gestor).predecir(temporadas,
+                    System.nanoTime());
+            long milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+
+            // Las filas se arman con los puntos actuales, sobre un mismo estado del gestor
+            return gestor.consultar(() -> {
+                List<Object[]> filasPilotos = new ArrayList<>();
+                int posicion = 1;
+                for (Piloto piloto : prediccion.getPilotos()) {
+                    filasPilotos.add(new Object[] {
+                            posicion++,
+                            piloto.getNombreCompleto(),
+                            piloto.getEscuderia() != null ? piloto.getEscuderia().getNombre() : "Sin escudería",
+                            piloto.getPuntosTotales(),
+                            String.format("%.1f", prediccion.getPuntosEsperados(piloto)),
+                            formatearProbabilidad(prediccion.getProbabilidadTitulo(piloto))
+                    });
+                }
+                List<Object[]> filasEscuderias = new ArrayList<>();
+                posicion = 1;
+                for (Escuderia escuderia : prediccion.getEscuderias()) {
+                    filasEscuderias.add(new Object[] {
+                            posicion++,
+                            escuderia.getNombre(),
+                            gestor.getPuntosEscuderia(escuderia),
+                            String.format("%.1f", prediccion.getPuntosEsperados(escuderia)),
+                            formatearProbabilidad(prediccion.getProbabilidadTitulo(escuderia))
+                    });
+                }
+                String resumen = prediccion.getCarrerasRestantes() == 0
+                        ? "No quedan carreras por disputar"
+                        : String.format("%d temporadas de %d carreras restantes en %d ms",
+                                prediccion.getTemporadas(), prediccion.getCarrerasRestantes(), milisegundos);
+                return new TablasPrediccion(filasPilotos, filasEscuderias, resumen);
+            });
+        }, tablas -> {
+            modeloPilotos.setRowCount(0);
+            tablas.pilotos.forEach(modeloPilotos::addRow);
+            modeloEscuderias.setRowCount(0);
+            tablas.escuderias.forEach(modeloEscuderias::addRow);
+            lblResumen.setText(tablas.resumen);
+        });
     }
 
-    private int contarPodiosPiloto(Piloto piloto) {
-        return (int) gestor.getGrandesPremios().stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto) && p.getPosicionFinal() > 0 && p.getPosicionFinal() <= 3)
-                .count();
+    /**
+     * Filas de las tablas de predicción calculadas en segundo plano
+     */
+    private static final class TablasPrediccion {
+        private final List<Object[]> pilotos;
+        private final List<Object[]> escuderias;
+        private final String resumen;
+
+        private TablasPrediccion(List<Object[]> pilotos, List<Object[]> escuderias, String resumen) {
+            this.pilotos = pilotos;
+            this.escuderias = escuderias;
+            this.resumen = resumen;
+        }
     }
 
-    private int contarVictoriasPiloto(Piloto piloto) {
-        return (int) gestor.getGrandesPremios().stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto) && p.getPosicionFinal() == 1)
-                .count();
+    private static String formatearProbabilidad(double probabilidad) {
+        return String.format("%.2f %%", probabilidad * 100);
     }
 
-    private void cargarParticipacionesPiloto(Piloto piloto, DefaultTableModel modelo) {
-        modelo.setRowCount(0);
-
-        gestor.getGrandesPremios().stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto))
-                .sorted((p1, p2) -> {
-                    // Buscar el gran premio de cada participación para ordenar por fecha
-                    GranPremio gp1 = gestor.getGrandesPremios().stream()
-                            .filter(gp -> gp.getParticipaciones().contains(p1))
-                            .findFirst().orElse(null);
-                    GranPremio gp2 = gestor.getGrandesPremios().stream()
-                            .filter(gp -> gp.getParticipaciones().contains(p2))
-                            .findFirst().orElse(null);
+    // Métodos auxiliares para cálculos estadísticos
 
-                    if (gp1 != null && gp2 != null) {
-                        return gp2.getFechaHora().compareTo(gp1.getFechaHora());
-                    }
-                    return 0;
-                })
-                .forEach(participacion -> {
-                    GranPremio carrera = gestor.getGrandesPremios().stream()
-                            .filter(gp -> gp.getParticipaciones().contains(participacion))
-                            .findFirst().orElse(null);
-
-                    if (carrera != null) {
-                        String posicion = participacion.isAbandono() ? "DNF"
-                                : (participacion.getPosicionFinal() > 0 ? "P" + participacion.getPosicionFinal()
-                                        : "No terminó");
-
-                        Object[] fila = {
-                                carrera.getNombre(),
-                                carrera.getCircuito().getNombre(),
-                                carrera.getFechaHora().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
-                                posicion,
-                                participacion.getPuntosObtenidos(),
-                                participacion.isVueltaRapida() ? "Sí" : "No"
-                        };
-                        modelo.addRow(fila);
-                    }
-                });
-    }
+    private void cargarParticipacionesPiloto(Component pestana, Piloto piloto, DefaultTableModel modelo,
+            JProgressBar progreso) {
+        cargador.cargarTabla(pestana, modelo, progreso, salida -> {
+            List<Map.Entry<LocalDateTime, Object[]>> filas = new ArrayList<>();
+            List<ArchivoTemporada> temporadas = gestor.getTemporadasArchivadas();
+            for (int t = 0; t < temporadas.size(); t++) {
+                if (salida.isCancelada()) {
+                    return;
+                }
+                salida.progreso(t, temporadas.size() + 1);
+                ArchivoTemporada temporada = temporadas.get(t);
+                int indice = temporada.buscarPiloto(piloto.getDni());
+                if (indice < 0) {
+                    continue;
+                }
+                for (int i = temporada.getPrimeraFila(indice); i < temporada.getFinFilas(indice); i++) {
+                    int carrera = temporada.getCarrera(i);
+                    String posicion = temporada.isAbandono(i) ? "DNF"
+                            : (temporada.getPosicion(i) > 0 ? "P" + temporada.getPosicion(i) : "No terminó");
+
+                    Object[] fila = {
+                            temporada.getNombreCarrera(carrera),
+                            temporada.getNombreCircuito(carrera),
+                            temporada.getFechaCarrera(carrera).format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+                            posicion,
+                            temporada.getPuntos(i),
+                            temporada.isVueltaRapida(i) ? "Sí" : "No"
+                    };
+                    filas.add(Map.entry(temporada.getFechaCarrera(carrera), fila));
+                }
+            }
 
-    private void cargarRendimientoPilotos(Escuderia escuderia, DefaultTableModel modelo) {
-        modelo.setRowCount(0);
+            gestor.consultar(() -> {
+                for (Participacion participacion : gestor.getHistorialCarrerasPiloto(piloto)) {
+                    GranPremio carrera = participacion.getGranPremio();
+
+                    String posicion = participacion.isAbandono() ? "DNF"
+                            : (participacion.getPosicionFinal() > 0 ? "P" + participacion.getPosicionFinal()
+                                    : "No terminó");
+
+                    Object[] fila = {
+                            carrera.getNombre(),
+                            carrera.getCircuito().getNombre(),
+                            carrera.getFechaHora().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+                            posicion,
+                            participacion.getPuntosObtenidos(),
+                            participacion.isVueltaRapida() ? "Sí" : "No"
+                    };
+                    filas.add(Map.entry(carrera.getFechaHora(), fila));
+                }
+                return null;
+            });
 
-        for (Piloto piloto : escuderia.getPilotos()) {
-            int carreras = contarCarrerasPiloto(piloto);
-            int mejorPosicion = obtenerMejorPosicion(piloto);
-            double promedioPosicion = calcularPromedioPosicion(piloto);
+            // Se muestran de la más reciente a la más antigua
+            filas.sort((f1, f2) -> f2.getKey().compareTo(f1.getKey()));
+            for (Map.Entry<LocalDateTime, Object[]> fila : filas) {
+                salida.agregar(fila.getValue());
+            }
+        });
+    }
 
-            Object[] fila = {
-                    piloto.getNombreCompleto(),
-                    piloto.getNumero(),
-                    piloto.getPuntosTotales(),
-                    carreras,
-                    mejorPosicion > 0 ? "P" + mejorPosicion : "N/A",
-                    carreras > 0 ? String.format("%.1f", promedioPosicion) : "N/A"
-            };
-            modelo.addRow(fila);
-        }
+    private void cargarRendimientoPilotos(Component pestana, Escuderia escuderia, DefaultTableModel modelo,
+            JProgressBar progreso) {
+        cargador.cargarTabla(pestana, modelo, progreso, salida -> {
+            List<Piloto> pilotos = gestor.consultar(escuderia::getPilotos);
+            for (int i = 0; i < pilotos.size(); i++) {
+                if (salida.isCancelada()) {
+                    return;
+                }
+                Piloto piloto = pilotos.get(i);
+                Object[] fila = gestor.consultar(() -> {
+                    EstadisticasPiloto estadisticas = gestor.getEstadisticasPiloto(piloto);
+                    int carreras = estadisticas.getCarreras();
+                    int mejorPosicion = estadisticas.getMejorPosicion();
+                    return new Object[] {
+                            piloto.getNombreCompleto(),
+                            piloto.getNumero(),
+                            piloto.getPuntosTotales(),
+                            carreras,
+                            mejorPosicion > 0 ? "P" + mejorPosicion : "N/A",
+                            carreras > 0 ? String.format("%.1f", estadisticas.getPromedioPosicion()) : "N/A"
+                    };
+                });
+                salida.agregar(fila);
+                salida.progreso(i + 1, pilotos.size());
+            }
+        });
     }
 
     private void cargarRecursosEscuderia(Escuderia escuderia, DefaultListModel<Auto> modeloAutos,
@@ -845,86 +1128,88 @@ public class VentanaReportes extends JFrame {
         }
     }
 
-    private int obtenerMejorPosicion(Piloto piloto) {
-        return gestor.getGrandesPremios().stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto) && p.getPosicionFinal() > 0)
-                .mapToInt(Participacion::getPosicionFinal)
-                .min()
-                .orElse(0);
-    }
-
-    private double calcularPromedioPosicion(Piloto piloto) {
-        return gestor.getGrandesPremios().stream()
-                .flatMap(gp -> gp.getParticipaciones().stream())
-                .filter(p -> p.getPiloto().equals(piloto) && p.getPosicionFinal() > 0)
-                .mapToInt(Participacion::getPosicionFinal)
-                .average()
-                .orElse(0.0);
-    }
-
-    private void cargarEstadisticasPaises(DefaultTableModel modelo) {
-        modelo.setRowCount(0);
-
-        Map<String, Integer> escuderiasPorPais = gestor.getEscuderias().stream()
-                .collect(Collectors.groupingBy(e -> e.getPais().getNombre(),
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)));
+    private void cargarEstadisticasPaises(Component pestana, DefaultTableModel modelo) {
+        cargador.cargarTabla(pestana, modelo, null, salida -> {
+            Map<String, Integer> escuderiasPorPais = gestor.getEscuderias().stream()
+                    .collect(Collectors.groupingBy(e -> e.getPais().getNombre(),
+                            Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)));
 
-        Map<String, Integer> pilotosPorPais = gestor.getPilotos().stream()
-                .filter(p -> p.getEscuderia() != null)
-                .collect(Collectors.groupingBy(p -> p.getEscuderia().getPais().getNombre(),
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)));
+            Map<String, Integer> pilotosPorPais = gestor.consultar(() -> gestor.getPilotos().stream()
+                    .filter(p -> p.getEscuderia() != null)
+                    .collect(Collectors.groupingBy(p -> p.getEscuderia().getPais().getNombre(),
+                            Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact))));
 
-        Map<String, Integer> circuitosPorPais = gestor.getCircuitos().stream()
-                .collect(Collectors.groupingBy(c -> c.getPais().getNombre(),
-                        Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)));
+            Map<String, Integer> circuitosPorPais = gestor.getCircuitos().stream()
+                    .collect(Collectors.groupingBy(c -> c.getPais().getNombre(),
+                            Collectors.collectingAndThen(Collectors.counting(), Math::toIntExact)));
 
-        escuderiasPorPais.forEach((pais, escuderias) -> {
-            int pilotos = pilotosPorPais.getOrDefault(pais, 0);
-            int circuitos = circuitosPorPais.getOrDefault(pais, 0);
+            escuderiasPorPais.forEach((pais, escuderias) -> {
+                int pilotos = pilotosPorPais.getOrDefault(pais, 0);
+                int circuitos = circuitosPorPais.getOrDefault(pais, 0);
 
-            Object[] fila = { pais, escuderias, pilotos, circuitos };
-            modelo.addRow(fila);
+                Object[] fila = { pais, escuderias, pilotos, circuitos };
+                salida.agregar(fila);
+            });
         });
     }
 
-    private void cargarEstadisticasCircuitos(DefaultTableModel modelo) {
-        modelo.setRowCount(0);
-
-        for (Circuito circuito : gestor.getCircuitos()) {
-            long carrerasCelebradas = gestor.getGrandesPremios().stream()
-                    .filter(gp -> gp.getCircuito().equals(circuito))
-                    .count();
-
-            String ultimoGP = gestor.getGrandesPremios().stream()
-                    .filter(gp -> gp.getCircuito().equals(circuito))
-                    .max(Comparator.comparing(GranPremio::getFechaHora))
-                    .map(gp -> gp.getFechaHora().format(DateTimeFormatter.ofPattern("dd/MM/yyyy")))
-                    .orElse("Nunca");
-
-            Object[] fila = {
-                    circuito.getNombre(),
-                    circuito.getPais().getNombre(),
-                    carrerasCelebradas,
-                    ultimoGP
-            };
-            modelo.addRow(fila);
-        }
+    private void cargarEstadisticasCircuitos(Component pestana, DefaultTableModel modelo, JProgressBar progreso) {
+        cargador.cargarTabla(pestana, modelo, progreso, salida -> {
+            List<Circuito> circuitos = gestor.getCircuitos();
+            for (int i = 0; i < circuitos.size(); i++) {
+                if (salida.isCancelada()) {
+                    return;
+                }
+                Circuito circuito = circuitos.get(i);
+                long carrerasCelebradas = gestor.getGrandesPremios().stream()
+                        .filter(gp -> gp.getCircuito().equals(circuito))
+                        .count();
+
+                LocalDateTime ultimaFecha = gestor.getGrandesPremios().stream()
+                        .filter(gp -> gp.getCircuito().equals(circuito))
+                        .map(GranPremio::getFechaHora)
+                        .max(Comparator.naturalOrder())
+                        .orElse(null);
+
+                for (ArchivoTemporada temporada : gestor.getTemporadasArchivadas()) {
+                    for (int carrera = 0; carrera < temporada.getCantidadCarreras(); carrera++) {
+                        if (temporada.esCircuito(carrera, circuito)) {
+                            carrerasCelebradas++;
+                            if (ultimaFecha == null || temporada.getFechaCarrera(carrera).isAfter(ultimaFecha)) {
+                                ultimaFecha = temporada.getFechaCarrera(carrera);
+                            }
+                        }
+                    }
+                }
+                String ultimoGP = ultimaFecha != null
+                        ? ultimaFecha.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
+                        : "Nunca";
+
+                Object[] fila = {
+                        circuito.getNombre(),
+                        circuito.getPais().getNombre(),
+                        carrerasCelebradas,
+                        ultimoGP
+                };
+                salida.agregar(fila);
+                salida.progreso(i + 1, circuitos.size());
+            }
+        });
     }
 
-    private void cargarEstadisticasModelos(DefaultTableModel modelo) {
-        modelo.setRowCount(0);
-
-        Map<String, Long> autosPorModelo = gestor.getAutos().stream()
-                .collect(Collectors.groupingBy(Auto::getModelo, Collectors.counting()));
+    private void cargarEstadisticasModelos(Component pestana, DefaultTableModel modelo) {
+        cargador.cargarTabla(pestana, modelo, null, salida -> {
+            Map<String, Long> autosPorModelo = gestor.getAutos().stream()
+                    .collect(Collectors.groupingBy(Auto::getModelo, Collectors.counting()));
 
-        autosPorModelo.forEach((modeloAuto, cantidad) -> {
-            long escuderias = gestor.getEscuderias().stream()
-                    .filter(e -> e.getAutos().stream().anyMatch(a -> a.getModelo().equals(modeloAuto)))
-                    .count();
+            autosPorModelo.forEach((modeloAuto, cantidad) -> {
+                long escuderias = gestor.consultar(() -> gestor.getEscuderias().stream()
+                        .filter(e -> e.getAutos().stream().anyMatch(a -> a.getModelo().equals(modeloAuto)))
+                        .count());
 
-            Object[] fila = { modeloAuto, cantidad, escuderias };
-            modelo.addRow(fila);
+                Object[] fila = { modeloAuto, cantidad, escuderias };
+                salida.agregar(fila);
+            });
         });
     }
 